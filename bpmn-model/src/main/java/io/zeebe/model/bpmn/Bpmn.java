@@ -21,6 +21,7 @@ import static io.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN20_NS;
 import io.zeebe.model.bpmn.builder.ProcessBuilder;
 import io.zeebe.model.bpmn.impl.BpmnImpl;
 import io.zeebe.model.bpmn.impl.BpmnParser;
+import io.zeebe.model.bpmn.impl.NonValidatingBpmnParser;
 import io.zeebe.model.bpmn.impl.instance.ActivationConditionImpl;
 import io.zeebe.model.bpmn.impl.instance.ActivityImpl;
 import io.zeebe.model.bpmn.impl.instance.ArtifactImpl;
@@ -248,6 +249,9 @@ public class Bpmn {
   /** the parser used by the Bpmn implementation. */
   private final BpmnParser bpmnParser = new BpmnParser();
 
+  /** the parser used for models which were validated before. */
+  private final NonValidatingBpmnParser nonValidatingBpmnParser = new NonValidatingBpmnParser();
+
   private final ModelBuilder bpmnModelBuilder;
 
   /** The {@link Model} */
@@ -275,6 +279,19 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance} from an {@link InputStream} without validating it
+   * against the BPMN schema. This is considerably faster for big models but should only be used
+   * for models which were validated before.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   */
+  public static BpmnModelInstance readModelFromStreamWithoutValidation(InputStream stream) {
+    return INSTANCE.doReadModelFromInputStreamWithoutValidation(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -387,6 +404,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadModelFromInputStreamWithoutValidation(InputStream is) {
+    return nonValidatingBpmnParser.parseModelFromStream(is);
+  }
+
   protected void doWriteModelToFile(File file, BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
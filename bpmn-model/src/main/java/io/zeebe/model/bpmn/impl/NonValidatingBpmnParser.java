@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.model.bpmn.impl;
+
+import io.zeebe.model.bpmn.Bpmn;
+import java.io.InputStream;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.camunda.bpm.model.xml.impl.ModelImpl;
+import org.camunda.bpm.model.xml.impl.parser.AbstractModelParser;
+import org.camunda.bpm.model.xml.instance.DomDocument;
+
+/**
+ * Parses BPMN files without validating them against the BPMN schema. Since no schema is
+ * registered, the model is not validated after parsing either.
+ *
+ * <p>Should only be used for resources which were validated before, e.g. deployed workflows which
+ * are read again from the state.
+ */
+public class NonValidatingBpmnParser extends AbstractModelParser {
+
+  @Override
+  protected void configureFactory(DocumentBuilderFactory dbf) {
+    super.configureFactory(dbf);
+    dbf.setValidating(false);
+  }
+
+  @Override
+  protected BpmnModelInstanceImpl createModelInstance(DomDocument document) {
+    return new BpmnModelInstanceImpl(
+        (ModelImpl) Bpmn.INSTANCE.getBpmnModel(), Bpmn.INSTANCE.getBpmnModelBuilder(), document);
+  }
+
+  @Override
+  public BpmnModelInstanceImpl parseModelFromStream(InputStream inputStream) {
+    return (BpmnModelInstanceImpl) super.parseModelFromStream(inputStream);
+  }
+}
@@ -18,6 +18,11 @@ package io.zeebe.model.bpmn;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.model.bpmn.instance.FlowNode;
+import io.zeebe.model.bpmn.instance.ServiceTask;
+import io.zeebe.model.bpmn.instance.zeebe.ZeebeTaskDefinition;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 
 /** @author Sebastian Menski */
@@ -27,4 +32,27 @@ public class BpmnTest {
   public void testBpmn() {
     assertThat(Bpmn.INSTANCE).isNotNull();
   }
+
+  @Test
+  public void shouldReadModelWithoutValidation() {
+    // given
+    final BpmnModelInstance modelInstance =
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask("task", t -> t.zeebeTaskType("type"))
+            .endEvent()
+            .done();
+
+    final byte[] xml = Bpmn.convertToString(modelInstance).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final BpmnModelInstance readModel =
+        Bpmn.readModelFromStreamWithoutValidation(new ByteArrayInputStream(xml));
+
+    // then
+    final ServiceTask task = readModel.getModelElementById("task");
+    assertThat(task.getSingleExtensionElement(ZeebeTaskDefinition.class).getType())
+        .isEqualTo("type");
+    assertThat(readModel.getModelElementsByType(FlowNode.class)).hasSize(3);
+  }
 }
@@ -41,11 +41,25 @@ public class ListSnapshotsResponse
   private final ListSnapshotsResponseEncoder bodyEncoder = new ListSnapshotsResponseEncoder();
 
   private final List<SnapshotMetadata> snapshots = new ArrayList<>();
+  private long firstLogPosition = -1L;
 
   public List<SnapshotMetadata> getSnapshots() {
     return snapshots;
   }
 
+  /**
+   * @return the position of the first event which is retained in the log of the leader, or -1 if
+   *     it is unknown
+   */
+  public long getFirstLogPosition() {
+    return firstLogPosition;
+  }
+
+  public ListSnapshotsResponse setFirstLogPosition(final long firstLogPosition) {
+    this.firstLogPosition = firstLogPosition;
+    return this;
+  }
+
   public ListSnapshotsResponse addSnapshot(
       final String name, final long logPosition, final byte[] checksum, final long length) {
     this.snapshots.add(new SnapshotMetadata(name, logPosition, checksum, length));
@@ -56,6 +70,7 @@ public class ListSnapshotsResponse
   public void reset() {
     super.reset();
     this.snapshots.clear();
+    this.firstLogPosition = -1L;
   }
 
   @Override
@@ -71,6 +86,12 @@ public class ListSnapshotsResponse
   @Override
   public void wrap(DirectBuffer buffer, int offset, int length) {
     super.wrap(buffer, offset, length);
+
+    final long firstLogPosition = bodyDecoder.firstLogPosition();
+    if (firstLogPosition != ListSnapshotsResponseDecoder.firstLogPositionNullValue()) {
+      this.firstLogPosition = firstLogPosition;
+    }
+
     bodyDecoder.snapshots().forEach((decoder) -> snapshots.add(new SnapshotMetadata(decoder)));
   }
 
@@ -84,6 +105,8 @@ public class ListSnapshotsResponse
   public void write(MutableDirectBuffer buffer, int offset) {
     super.write(buffer, offset);
 
+    bodyEncoder.firstLogPosition(firstLogPosition);
+
     final int snapshotsCount = snapshots.size();
     final SnapshotsEncoder encoder = bodyEncoder.snapshotsCount(snapshotsCount);
     snapshots.forEach((snapshot) -> snapshot.encode(encoder));
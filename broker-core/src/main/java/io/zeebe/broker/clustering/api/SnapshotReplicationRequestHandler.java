@@ -19,6 +19,9 @@ package io.zeebe.broker.clustering.api;
 
 import io.zeebe.broker.clustering.base.partitions.Partition;
 import io.zeebe.clustering.management.ErrorResponseCode;
+import io.zeebe.logstreams.log.BufferedLogStreamReader;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.spi.ReadableSnapshot;
 import io.zeebe.logstreams.spi.SnapshotMetadata;
 import io.zeebe.logstreams.spi.SnapshotStorage;
@@ -89,7 +92,8 @@ public class SnapshotReplicationRequestHandler {
     }
 
     final SnapshotStorage storage = partition.getSnapshotStorage();
-    return () -> handleListSnapshots(storage);
+    final LogStream logStream = partition.getLogStream();
+    return () -> handleListSnapshots(storage, logStream);
   }
 
   Supplier<BufferWriter> handleFetchSnapshotChunkAsync(
@@ -110,10 +114,12 @@ public class SnapshotReplicationRequestHandler {
     return () -> handleFetchSnapshotChunk(storage, name, chunkOffset, maxChunkLength);
   }
 
-  private BufferWriter handleListSnapshots(final SnapshotStorage storage) {
+  private BufferWriter handleListSnapshots(
+      final SnapshotStorage storage, final LogStream logStream) {
     final List<SnapshotMetadata> snapshots = storage.listSnapshots();
 
     listSnapshotsResponse.reset();
+    listSnapshotsResponse.setFirstLogPosition(getFirstLogPosition(logStream));
     for (final SnapshotMetadata snapshot : snapshots) {
       if (snapshot.isReplicable()) {
         listSnapshotsResponse.addSnapshot(
@@ -124,6 +130,26 @@ public class SnapshotReplicationRequestHandler {
     return listSnapshotsResponse;
   }
 
+  /**
+   * The followers must not delete their log beyond the first retained event of the leader, since
+   * the log before it may still be required, e.g. by an exporter.
+   */
+  private long getFirstLogPosition(final LogStream logStream) {
+    if (logStream == null) {
+      return -1L;
+    }
+
+    try (LogStreamReader reader = new BufferedLogStreamReader(logStream)) {
+      reader.seekToFirstEvent();
+
+      if (reader.hasNext()) {
+        return reader.next().getPosition();
+      } else {
+        return -1L;
+      }
+    }
+  }
+
   private BufferWriter handleFetchSnapshotChunk(
       final SnapshotStorage storage,
       final String name,
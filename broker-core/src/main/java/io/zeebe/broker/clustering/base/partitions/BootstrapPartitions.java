@@ -18,6 +18,7 @@
 package io.zeebe.broker.clustering.base.partitions;
 
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.partitionInstallServiceName;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.STATE_RESOURCES_SERVICE;
 import static io.zeebe.broker.transport.TransportServiceNames.REPLICATION_API_CLIENT_NAME;
 import static io.zeebe.broker.transport.TransportServiceNames.clientTransport;
 
@@ -110,6 +111,7 @@ public class BootstrapPartitions implements Service<Void> {
         .dependency(
             clientTransport(REPLICATION_API_CLIENT_NAME),
             partitionInstallService.getClientTransportInjector())
+        .dependency(STATE_RESOURCES_SERVICE, partitionInstallService.getStateResourcesInjector())
         .install();
   }
 
@@ -35,9 +35,11 @@ import io.zeebe.broker.logstreams.SnapshotStorageService;
 import io.zeebe.broker.logstreams.state.StateStorageFactory;
 import io.zeebe.broker.logstreams.state.StateStorageFactoryService;
 import io.zeebe.broker.system.configuration.BrokerCfg;
+import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.logstreams.LogStreams;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.spi.SnapshotStorage;
+import io.zeebe.logstreams.state.StateResources;
 import io.zeebe.raft.Raft;
 import io.zeebe.raft.RaftStateListener;
 import io.zeebe.raft.controller.MemberReplicateLogController;
@@ -48,9 +50,11 @@ import io.zeebe.servicecontainer.Service;
 import io.zeebe.servicecontainer.ServiceName;
 import io.zeebe.servicecontainer.ServiceStartContext;
 import io.zeebe.transport.ClientTransport;
+import io.zeebe.util.DurationUtil;
 import io.zeebe.util.sched.channel.OneToOneRingBufferChannel;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.time.Duration;
 import java.util.Collection;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.ringbuffer.RingBufferDescriptor;
@@ -67,6 +71,7 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
 
   private final BrokerCfg brokerCfg;
   private final Injector<ClientTransport> clientTransportInjector = new Injector<>();
+  private final Injector<StateResources> stateResourcesInjector = new Injector<>();
   private final RaftPersistentConfiguration configuration;
   private final PartitionInfo partitionInfo;
 
@@ -106,10 +111,15 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
 
     final String snapshotPath = configuration.getSnapshotsDirectory().getAbsolutePath();
 
+    final DataCfg dataCfg = brokerCfg.getData();
+    final Duration logFlushDelay =
+        dataCfg.isLogFlushEnabled() ? DurationUtil.parse(dataCfg.getLogFlushDelay()) : null;
+
     logStreamServiceName =
         LogStreams.createFsLogStream(partitionId)
             .logDirectory(configuration.getLogDirectory().getAbsolutePath())
             .logSegmentSize((int) configuration.getLogSegmentSize())
+            .logFlushDelay(logFlushDelay)
             .logName(logName)
             .snapshotStorage(LogStreams.createFsSnapshotStore(snapshotPath).build())
             .buildWith(partitionInstall);
@@ -119,7 +129,8 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
     partitionInstall.createService(snapshotStorageServiceName, snapshotStorageService).install();
 
     final StateStorageFactoryService stateStorageFactoryService =
-        new StateStorageFactoryService(configuration.getStatesDirectory());
+        new StateStorageFactoryService(
+            configuration.getStatesDirectory(), stateResourcesInjector.getValue());
     stateStorageFactoryServiceName = stateStorageFactoryServiceName(logName);
     partitionInstall
         .createService(stateStorageFactoryServiceName, stateStorageFactoryService)
@@ -273,4 +284,8 @@ public class PartitionInstallService implements Service<Void>, RaftStateListener
   public Injector<ClientTransport> getClientTransportInjector() {
     return clientTransportInjector;
   }
+
+  public Injector<StateResources> getStateResourcesInjector() {
+    return stateResourcesInjector;
+  }
 }
@@ -88,6 +88,9 @@ public class SnapshotReplicationService extends Actor
   private ListSnapshotsResponse.SnapshotMetadata currentReplicatingSnapshot;
   private long chunkOffset;
 
+  // read by the follower log compaction
+  private volatile long leaderFirstLogPosition = -1L;
+
   public SnapshotReplicationService(final Duration pollInterval) {
     this.pollInterval = pollInterval;
   }
@@ -115,6 +118,14 @@ public class SnapshotReplicationService extends Actor
     return this;
   }
 
+  /**
+   * @return the position of the first event which was retained in the log of the leader on the
+   *     last poll, or -1 if it is unknown
+   */
+  public long getLeaderFirstLogPosition() {
+    return leaderFirstLogPosition;
+  }
+
   @Override
   protected void onActorStarted() {
     this.pollLeaderForSnapshots();
@@ -189,6 +200,7 @@ public class SnapshotReplicationService extends Actor
     }
 
     listSnapshotsResponse.wrap(buffer);
+    leaderFirstLogPosition = listSnapshotsResponse.getFirstLogPosition();
 
     for (ListSnapshotsResponse.SnapshotMetadata metadata : listSnapshotsResponse.getSnapshots()) {
       if (!partition
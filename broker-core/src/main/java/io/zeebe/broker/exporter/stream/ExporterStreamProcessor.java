@@ -26,6 +26,7 @@ import io.zeebe.broker.logstreams.processor.NoopSnapshotSupport;
 import io.zeebe.exporter.context.Controller;
 import io.zeebe.exporter.record.Record;
 import io.zeebe.exporter.spi.Exporter;
+import io.zeebe.exporter.spi.ExporterBackpressureException;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LoggedEvent;
@@ -86,6 +87,21 @@ public class ExporterStreamProcessor implements StreamProcessor {
     return new StateSnapshotController(state, storage);
   }
 
+  /**
+   * Returns the lowest position which was exported by all exporters. Records up to this position
+   * are not exported again and are not required anymore.
+   */
+  @Override
+  public long getLowestRequiredPosition() {
+    long lowestPosition = Long.MAX_VALUE;
+
+    for (final ExporterContainer container : containers) {
+      lowestPosition = Math.min(lowestPosition, container.position);
+    }
+
+    return lowestPosition;
+  }
+
   @Override
   public EventProcessor onEvent(LoggedEvent event) {
     final EventProcessor processor;
@@ -158,7 +174,7 @@ public class ExporterStreamProcessor implements StreamProcessor {
 
     private final ExporterContext context;
     private final Exporter exporter;
-    private long position;
+    private volatile long position;
 
     ExporterContainer(ExporterDescriptor descriptor) {
       context =
@@ -246,6 +262,10 @@ public class ExporterStreamProcessor implements StreamProcessor {
           }
 
           exporterIndex++;
+        } catch (final ExporterBackpressureException ex) {
+          // the exporter can't accept more records yet, yield and try again later
+          container.context.getLogger().trace("Exporter applied backpressure: {}", ex.getMessage());
+          return false;
         } catch (final Exception ex) {
           container.context.getLogger().error("Error exporting record {}", record, ex);
           return false;
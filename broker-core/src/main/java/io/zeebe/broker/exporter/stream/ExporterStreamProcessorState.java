@@ -45,7 +45,7 @@ public class ExporterStreamProcessorState extends StateController {
     final byte[] value = ofLong(longBuffer, position);
 
     try {
-      getDb().put(exporterId, value);
+      getDb().put(getWriteOptions(), exporterId, value);
     } catch (RocksDBException e) {
       LangUtil.rethrowUnchecked(e);
     }
@@ -63,7 +63,7 @@ public class ExporterStreamProcessorState extends StateController {
     final byte[] value = ofLong(longBuffer, position);
 
     try {
-      getDb().merge(exporterId, value);
+      getDb().merge(getWriteOptions(), exporterId, value);
     } catch (final RocksDBException e) {
       LangUtil.rethrowUnchecked(e);
     }
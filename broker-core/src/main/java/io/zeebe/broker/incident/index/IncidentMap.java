@@ -22,7 +22,9 @@ import static org.agrona.BitUtil.SIZE_OF_SHORT;
 
 import io.zeebe.logstreams.snapshot.ZbMapSnapshotSupport;
 import io.zeebe.map.Long2BytesZbMap;
+import io.zeebe.map.iterator.Long2BytesZbMapEntry;
 import java.nio.ByteOrder;
+import java.util.Iterator;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -120,6 +122,35 @@ public class IncidentMap {
     return this;
   }
 
+  /**
+   * Iterates over all incidents.
+   *
+   * @return the lowest incident or failure event position of all incidents, or {@link
+   *     Long#MAX_VALUE} if there is no incident
+   */
+  public long getLowestEventPosition() {
+    long lowestPosition = Long.MAX_VALUE;
+
+    final Iterator<Long2BytesZbMapEntry> iterator = map.iterator();
+    while (iterator.hasNext()) {
+      final DirectBuffer value = iterator.next().getValue();
+
+      lowestPosition =
+          lowestEventPosition(
+              lowestPosition, value.getLong(INCIDENT_EVENT_POSITION_OFFSET, BYTE_ORDER));
+      lowestPosition =
+          lowestEventPosition(
+              lowestPosition, value.getLong(FAILURE_EVENT_POSITION_OFFSET, BYTE_ORDER));
+    }
+
+    return lowestPosition;
+  }
+
+  private static long lowestEventPosition(long lowestPosition, long position) {
+    // the failure event position is not set for all incidents
+    return position >= 0 ? Math.min(lowestPosition, position) : lowestPosition;
+  }
+
   private void ensureRead() {
     if (!isRead) {
       throw new IllegalStateException("must call wrap() before");
@@ -22,6 +22,7 @@ import io.zeebe.broker.incident.data.IncidentRecord;
 import io.zeebe.broker.incident.index.IncidentMap;
 import io.zeebe.broker.logstreams.processor.CommandProcessor;
 import io.zeebe.broker.logstreams.processor.KeyGenerator;
+import io.zeebe.broker.logstreams.processor.StreamProcessorLifecycleAware;
 import io.zeebe.broker.logstreams.processor.TypedEventStreamProcessorBuilder;
 import io.zeebe.broker.logstreams.processor.TypedRecord;
 import io.zeebe.broker.logstreams.processor.TypedRecordProcessor;
@@ -54,6 +55,11 @@ public class IncidentStreamProcessor {
   private final IncidentMap incidentMap = new IncidentMap();
   private final Long2LongZbMap resolvingEvents = new Long2LongZbMap();
 
+  // the lowest position of the events which are read again to resolve or delete the incidents, so
+  // that they are not deleted from the log; -1 until the incidents are recovered
+  private volatile long lowestRequiredPosition = -1L;
+  private boolean isRecovered;
+
   public TypedStreamProcessor createStreamProcessor(TypedStreamEnvironment env) {
     TypedEventStreamProcessorBuilder builder =
         env.newStreamProcessor()
@@ -61,7 +67,9 @@ public class IncidentStreamProcessor {
             .withStateResource(activityInstanceMap)
             .withStateResource(failedJobMap)
             .withStateResource(incidentMap.getMap())
-            .withStateResource(resolvingEvents);
+            .withStateResource(resolvingEvents)
+            .lowestRequiredPosition(() -> lowestRequiredPosition)
+            .withListener(new LowestRequiredPositionListener());
 
     // incident events
     builder =
@@ -125,6 +133,26 @@ public class IncidentStreamProcessor {
     return builder.build();
   }
 
+  private void updateLowestRequiredPosition() {
+    if (isRecovered) {
+      lowestRequiredPosition = incidentMap.getLowestEventPosition();
+    }
+  }
+
+  private final class LowestRequiredPositionListener implements StreamProcessorLifecycleAware {
+    @Override
+    public void onOpen(TypedStreamProcessor streamProcessor) {
+      isRecovered = false;
+      lowestRequiredPosition = -1L;
+    }
+
+    @Override
+    public void onRecovered(TypedStreamProcessor streamProcessor) {
+      isRecovered = true;
+      updateLowestRequiredPosition();
+    }
+  }
+
   private final class CreateIncidentProcessor implements CommandProcessor<IncidentRecord> {
 
     @Override
@@ -154,6 +182,8 @@ public class IncidentStreamProcessor {
           .setIncidentEventPosition(command.getPosition())
           .setFailureEventPosition(incidentEvent.getFailureEventPosition())
           .write();
+
+      updateLowestRequiredPosition();
     }
   }
 
@@ -269,6 +299,7 @@ public class IncidentStreamProcessor {
             command.getKey(), IncidentIntent.DELETED, priorIncidentEvent.getValue());
 
         incidentMap.remove(command.getKey());
+        updateLowestRequiredPosition();
       } else {
         streamWriter.writeRejection(
             command, RejectionType.NOT_APPLICABLE, "Incident does not exist");
@@ -320,6 +351,7 @@ public class IncidentStreamProcessor {
               incidentKey, IncidentIntent.RESOLVED, incidentEvent.getValue());
 
           incidentMap.remove(incidentEvent.getKey());
+          updateLowestRequiredPosition();
           activityInstanceMap.remove(incidentEvent.getValue().getActivityInstanceKey(), -1L);
           resolvingEvents.remove(event.getSourcePosition(), -1);
         } else {
@@ -21,9 +21,11 @@ import static io.zeebe.logstreams.rocksdb.ZeebeStateConstants.STATE_BYTE_ORDER;
 import static io.zeebe.util.StringUtil.getBytes;
 import static io.zeebe.util.buffer.BufferUtil.contentsEqual;
 
+import io.zeebe.broker.util.DeadlineScheduler;
 import io.zeebe.broker.util.KeyStateController;
 import io.zeebe.logstreams.rocksdb.ZbRocksDb;
 import io.zeebe.logstreams.rocksdb.ZbRocksDb.IteratorControl;
+import io.zeebe.logstreams.rocksdb.ZbRocksIterator;
 import io.zeebe.logstreams.rocksdb.ZbWriteBatch;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.util.buffer.BufferWriter;
@@ -37,9 +39,9 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.DBOptions;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
-import org.rocksdb.WriteOptions;
 
 public class JobStateController extends KeyStateController {
   private static final byte[] STATES_COLUMN_FAMILY_NAME = getBytes("states");
@@ -64,6 +66,7 @@ public class JobStateController extends KeyStateController {
   private MutableDirectBuffer valueBuffer;
 
   private ZbRocksDb db;
+  private ZbWriteBatch batch;
 
   @Override
   public RocksDB open(final File dbDirectory, final boolean reopen) throws Exception {
@@ -71,6 +74,7 @@ public class JobStateController extends KeyStateController {
         Stream.of(COLUMN_FAMILY_NAMES).collect(Collectors.toList());
 
     final RocksDB rocksDB = super.open(dbDirectory, reopen, columnFamilyNames);
+    batch = getWriteBatch();
     keyBuffer = new ExpandableArrayBuffer();
     valueBuffer = new ExpandableArrayBuffer();
 
@@ -95,22 +99,17 @@ public class JobStateController extends KeyStateController {
     DirectBuffer keyBuffer;
     DirectBuffer valueBuffer;
 
-    try (WriteOptions options = new WriteOptions();
-        ZbWriteBatch batch = new ZbWriteBatch()) {
-      keyBuffer = getDefaultKey(key);
-      valueBuffer = writeValue(record);
-      batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
+    keyBuffer = getDefaultKey(key);
+    valueBuffer = writeValue(record);
+    batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
 
-      valueBuffer = writeStatesValue(State.ACTIVATABLE);
-      batch.put(statesColumnFamily, keyBuffer, valueBuffer);
+    valueBuffer = writeStatesValue(State.ACTIVATABLE);
+    batch.put(statesColumnFamily, keyBuffer, valueBuffer);
 
-      keyBuffer = getActivatableKey(key, type);
-      batch.put(activatableColumnFamily, keyBuffer, NULL);
+    keyBuffer = getActivatableKey(key, type);
+    batch.put(activatableColumnFamily, keyBuffer, NULL);
 
-      db.write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
-    }
+    write(batch);
   }
 
   public void activate(final long key, final JobRecord record) {
@@ -120,25 +119,20 @@ public class JobStateController extends KeyStateController {
     DirectBuffer keyBuffer;
     DirectBuffer valueBuffer;
 
-    try (WriteOptions options = new WriteOptions();
-        ZbWriteBatch batch = new ZbWriteBatch()) {
-      keyBuffer = getDefaultKey(key);
-      valueBuffer = writeValue(record);
-      batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
+    keyBuffer = getDefaultKey(key);
+    valueBuffer = writeValue(record);
+    batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
 
-      valueBuffer = writeStatesValue(State.ACTIVATED);
-      batch.put(statesColumnFamily, keyBuffer, valueBuffer);
+    valueBuffer = writeStatesValue(State.ACTIVATED);
+    batch.put(statesColumnFamily, keyBuffer, valueBuffer);
 
-      keyBuffer = getActivatableKey(key, type);
-      batch.delete(activatableColumnFamily, keyBuffer);
+    keyBuffer = getActivatableKey(key, type);
+    batch.delete(activatableColumnFamily, keyBuffer);
 
-      keyBuffer = getDeadlinesKey(key, deadline);
-      batch.put(deadlinesColumnFamily, keyBuffer, NULL);
+    keyBuffer = getDeadlinesKey(key, deadline);
+    batch.put(deadlinesColumnFamily, keyBuffer, NULL);
 
-      db.write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
-    }
+    write(batch);
   }
 
   public void timeout(final long key, final JobRecord record) {
@@ -146,49 +140,38 @@ public class JobStateController extends KeyStateController {
     DirectBuffer valueBuffer;
     DirectBuffer keyBuffer;
 
-    try (WriteOptions options = new WriteOptions();
-        ZbWriteBatch batch = new ZbWriteBatch()) {
-
-      keyBuffer = getDefaultKey(key);
-      valueBuffer = writeValue(record);
-      batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
+    keyBuffer = getDefaultKey(key);
+    valueBuffer = writeValue(record);
+    batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
 
-      valueBuffer = writeStatesValue(State.ACTIVATABLE);
-      batch.put(statesColumnFamily, keyBuffer, valueBuffer);
+    valueBuffer = writeStatesValue(State.ACTIVATABLE);
+    batch.put(statesColumnFamily, keyBuffer, valueBuffer);
 
-      keyBuffer = getActivatableKey(key, type);
-      batch.put(activatableColumnFamily, keyBuffer, NULL);
+    keyBuffer = getActivatableKey(key, type);
+    batch.put(activatableColumnFamily, keyBuffer, NULL);
 
-      keyBuffer = getDeadlinesKey(key, record.getDeadline());
-      batch.delete(deadlinesColumnFamily, keyBuffer);
+    keyBuffer = getDeadlinesKey(key, record.getDeadline());
+    batch.delete(deadlinesColumnFamily, keyBuffer);
 
-      db.write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
-    }
+    write(batch);
   }
 
   public void delete(long key, JobRecord record) {
     final DirectBuffer type = record.getType();
     DirectBuffer keyBuffer;
 
-    try (WriteOptions options = new WriteOptions();
-        ZbWriteBatch batch = new ZbWriteBatch()) {
-      keyBuffer = getDefaultKey(key);
-      batch.delete(defaultColumnFamily, keyBuffer);
+    keyBuffer = getDefaultKey(key);
+    batch.delete(defaultColumnFamily, keyBuffer);
 
-      batch.delete(statesColumnFamily, keyBuffer);
+    batch.delete(statesColumnFamily, keyBuffer);
 
-      final DirectBuffer activatableKey = getActivatableKey(key, type);
-      batch.delete(activatableColumnFamily, activatableKey);
+    final DirectBuffer activatableKey = getActivatableKey(key, type);
+    batch.delete(activatableColumnFamily, activatableKey);
 
-      keyBuffer = getDeadlinesKey(key, record.getDeadline());
-      batch.delete(deadlinesColumnFamily, keyBuffer);
+    keyBuffer = getDeadlinesKey(key, record.getDeadline());
+    batch.delete(deadlinesColumnFamily, keyBuffer);
 
-      db.write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
-    }
+    write(batch);
   }
 
   public void fail(long key, JobRecord updatedValue) {
@@ -196,29 +179,24 @@ public class JobStateController extends KeyStateController {
     DirectBuffer valueBuffer;
     DirectBuffer keyBuffer;
 
-    try (WriteOptions options = new WriteOptions();
-        ZbWriteBatch batch = new ZbWriteBatch()) {
-      keyBuffer = getDefaultKey(key);
-      valueBuffer = writeValue(updatedValue);
-      batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
+    keyBuffer = getDefaultKey(key);
+    valueBuffer = writeValue(updatedValue);
+    batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
 
-      final State newState = updatedValue.getRetries() > 0 ? State.ACTIVATABLE : State.FAILED;
+    final State newState = updatedValue.getRetries() > 0 ? State.ACTIVATABLE : State.FAILED;
 
-      valueBuffer = writeStatesValue(newState);
-      batch.put(statesColumnFamily, keyBuffer, valueBuffer);
+    valueBuffer = writeStatesValue(newState);
+    batch.put(statesColumnFamily, keyBuffer, valueBuffer);
 
-      if (newState == State.ACTIVATABLE) {
-        keyBuffer = getActivatableKey(key, type);
-        batch.put(activatableColumnFamily, keyBuffer, NULL);
-      }
+    if (newState == State.ACTIVATABLE) {
+      keyBuffer = getActivatableKey(key, type);
+      batch.put(activatableColumnFamily, keyBuffer, NULL);
+    }
 
-      keyBuffer = getDeadlinesKey(key, updatedValue.getDeadline());
-      batch.delete(deadlinesColumnFamily, keyBuffer);
+    keyBuffer = getDeadlinesKey(key, updatedValue.getDeadline());
+    batch.delete(deadlinesColumnFamily, keyBuffer);
 
-      db.write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
-    }
+    write(batch);
   }
 
   public void resolve(long key, final JobRecord updatedValue) {
@@ -226,36 +204,65 @@ public class JobStateController extends KeyStateController {
     DirectBuffer valueBuffer;
     DirectBuffer keyBuffer;
 
-    try (WriteOptions options = new WriteOptions();
-        ZbWriteBatch batch = new ZbWriteBatch()) {
-      keyBuffer = getDefaultKey(key);
-      valueBuffer = writeValue(updatedValue);
-      batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
+    keyBuffer = getDefaultKey(key);
+    valueBuffer = writeValue(updatedValue);
+    batch.put(defaultColumnFamily, keyBuffer, valueBuffer);
 
-      valueBuffer = writeStatesValue(State.ACTIVATABLE);
-      batch.put(statesColumnFamily, keyBuffer, valueBuffer);
+    valueBuffer = writeStatesValue(State.ACTIVATABLE);
+    batch.put(statesColumnFamily, keyBuffer, valueBuffer);
 
-      keyBuffer = getActivatableKey(key, type);
-      batch.put(activatableColumnFamily, keyBuffer, NULL);
+    keyBuffer = getActivatableKey(key, type);
+    batch.put(activatableColumnFamily, keyBuffer, NULL);
 
-      db.write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
-    }
+    write(batch);
   }
 
-  public void forEachTimedOutEntry(final long upperBound, final IteratorConsumer callback) {
-    db.forEach(
-        deadlinesColumnFamily,
-        (e, c) -> {
-          final long deadline = e.getKey().getLong(0, STATE_BYTE_ORDER);
-          if (deadline < upperBound) {
-            final DirectBuffer keyBuffer = new UnsafeBuffer(e.getKey(), Long.BYTES, Long.BYTES);
-            callback.accept(keyBuffer.getLong(0, STATE_BYTE_ORDER), getJob(keyBuffer), c);
-          } else {
-            c.stop();
-          }
-        });
+  /**
+   * Iterates over the activated jobs with a deadline before the given upper bound, ordered by their
+   * deadline.
+   *
+   * @return the deadline of the first job which is not timed out yet, or {@link
+   *     DeadlineScheduler#NO_DEADLINE} if there is none or the iteration was stopped by the
+   *     callback
+   */
+  public long forEachTimedOutEntry(final long upperBound, final IteratorConsumer callback) {
+    return forEachTimedOutEntry(upperBound, 0L, 0L, callback);
+  }
+
+  /**
+   * Same as {@link #forEachTimedOutEntry(long, IteratorConsumer)}, but starts the iteration at the
+   * job with the given deadline and key, or the next one after it. The jobs before are skipped.
+   */
+  public long forEachTimedOutEntry(
+      final long upperBound,
+      final long fromDeadline,
+      final long fromKey,
+      final IteratorConsumer callback) {
+    final int fromKeyLength = getDeadlinesKey(fromKey, fromDeadline).capacity();
+    final IteratorControl control = new IteratorControl();
+
+    try (ReadOptions options = new ReadOptions().setTotalOrderSeek(true);
+        ZbRocksIterator iterator = db.newIterator(deadlinesColumnFamily, options)) {
+
+      for (iterator.seek(keyBuffer.byteArray(), fromKeyLength);
+          iterator.isValid();
+          iterator.next()) {
+        final DirectBuffer entryKey = iterator.keyBuffer();
+        final long deadline = entryKey.getLong(0, STATE_BYTE_ORDER);
+        if (deadline >= upperBound) {
+          return deadline;
+        }
+
+        final DirectBuffer jobKey = new UnsafeBuffer(entryKey, Long.BYTES, Long.BYTES);
+        callback.accept(jobKey.getLong(0, STATE_BYTE_ORDER), getJob(jobKey), control);
+
+        if (control.shouldStop()) {
+          break;
+        }
+      }
+    }
+
+    return DeadlineScheduler.NO_DEADLINE;
   }
 
   public boolean exists(long jobKey) {
@@ -36,6 +36,7 @@ import io.zeebe.broker.logstreams.processor.TypedStreamEnvironment;
 import io.zeebe.broker.logstreams.processor.TypedStreamProcessor;
 import io.zeebe.broker.logstreams.processor.TypedStreamWriter;
 import io.zeebe.broker.transport.clientapi.SubscribedRecordWriter;
+import io.zeebe.broker.util.DeadlineScheduler;
 import io.zeebe.logstreams.state.StateSnapshotController;
 import io.zeebe.logstreams.state.StateStorage;
 import io.zeebe.protocol.clientapi.RecordType;
@@ -46,7 +47,6 @@ import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.intent.JobBatchIntent;
 import io.zeebe.protocol.intent.JobIntent;
-import io.zeebe.util.sched.ScheduledTimer;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -60,7 +60,14 @@ public class JobStreamProcessor implements StreamProcessorLifecycleAware {
   private SubscribedRecordWriter subscribedEventWriter;
   private int partitionId;
 
-  private ScheduledTimer timer;
+  private final DeadlineScheduler timeOutScheduler =
+      new DeadlineScheduler(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
+
+  // the deadline and key of the next job which can time out - a TIME_OUT command is already written
+  // for the timed out jobs before, which are removed from the deadlines when it is processed
+  private long timeOutDeadline;
+  private long timeOutKey;
+
   private TypedCommandWriter writer;
   private JobSubscriptionProcessor jobSubscriptionProcessor;
   private KeyGenerator jobKeyGenerator;
@@ -71,20 +78,15 @@ public class JobStreamProcessor implements StreamProcessorLifecycleAware {
 
   @Override
   public void onRecovered(TypedStreamProcessor streamProcessor) {
-    timer =
-        streamProcessor
-            .getActor()
-            .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
     writer = streamProcessor.getEnvironment().buildCommandWriter();
+    resetTimeOuts();
+    timeOutScheduler.start(streamProcessor.getActor());
     subscriptionManager.addPartition(partitionId, jobSubscriptionProcessor);
   }
 
   @Override
   public void onClose() {
-    if (timer != null) {
-      timer.cancel();
-      timer = null;
-    }
+    timeOutScheduler.stop();
 
     subscriptionManager.removePartition(partitionId);
   }
@@ -122,19 +124,40 @@ public class JobStreamProcessor implements StreamProcessorLifecycleAware {
     return new StateSnapshotController(state, storage);
   }
 
-  private void deactivateTimedOutJobs() {
-    final long now = currentTimeMillis();
-    state.forEachTimedOutEntry(
+  private long deactivateTimedOutJobs(long now) {
+    return state.forEachTimedOutEntry(
         now,
+        timeOutDeadline,
+        timeOutKey,
         (key, record, control) -> {
           writer.writeFollowUpCommand(
               key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
-          writer.flush();
-          // we don't have to check for write errors as the job will then be picked up again
-          // on the next iteration of this timer
+
+          if (writer.flush() > 0) {
+            timeOutDeadline = record.getDeadline();
+            timeOutKey = key + 1;
+          } else {
+            // try again on the next polling interval
+            control.stop();
+          }
         });
   }
 
+  private void activate(long key, JobRecord job) {
+    state.activate(key, job);
+
+    if (job.getDeadline() <= timeOutDeadline) {
+      // the job would be skipped by the next check
+      resetTimeOuts();
+    }
+    timeOutScheduler.onDeadlineAdded(job.getDeadline());
+  }
+
+  private void resetTimeOuts() {
+    timeOutDeadline = 0L;
+    timeOutKey = 0L;
+  }
+
   private class CreateProcessor implements CommandProcessor<JobRecord> {
     @Override
     public void onCommand(
@@ -162,7 +185,7 @@ public class JobStreamProcessor implements StreamProcessorLifecycleAware {
         TypedStreamWriter streamWriter,
         Consumer<SideEffectProducer> sideEffect) {
       if (state.isInState(record.getKey(), State.ACTIVATABLE)) {
-        state.activate(record.getKey(), record.getValue());
+        activate(record.getKey(), record.getValue());
         streamWriter.writeFollowUpEvent(record.getKey(), JobIntent.ACTIVATED, record.getValue());
         pushToSubscription(record, sideEffect);
       } else {
@@ -343,7 +366,7 @@ public class JobStreamProcessor implements StreamProcessorLifecycleAware {
             job.setDeadline(deadline).setWorker(value.getWorker());
 
             // update state and write follow up event for job record
-            state.activate(key, job);
+            activate(key, job);
             batchWriter.addFollowUpEvent(key, JobIntent.ACTIVATED, job);
           }
 
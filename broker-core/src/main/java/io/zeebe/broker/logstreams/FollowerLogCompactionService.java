@@ -0,0 +1,171 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.broker.clustering.base.snapshots.SnapshotReplicationService;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.spi.SnapshotMetadata;
+import io.zeebe.logstreams.state.StateSnapshotMetadata;
+import io.zeebe.logstreams.state.StateStorage;
+import io.zeebe.servicecontainer.Injector;
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.servicecontainer.ServiceStopContext;
+import io.zeebe.util.sched.Actor;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+
+/**
+ * Periodically deletes the log of a follower partition up to the lowest position which is still
+ * required if the follower becomes leader. This is the lowest of
+ *
+ * <ul>
+ *   <li>the commit position, since the uncommitted part of the log can still be truncated
+ *   <li>the first position which is retained by the leader, which covers the positions which are
+ *       not exported yet or not replicated to all followers
+ *   <li>the latest recoverable snapshot position of every stream processor which has a state on
+ *       this node, and the latest position of every replicated snapshot
+ * </ul>
+ *
+ * <p>If this node has no snapshot of the stream processors, then they are recovered from the
+ * complete log, so the log is not deleted.
+ */
+public class FollowerLogCompactionService extends Actor
+    implements Service<FollowerLogCompactionService> {
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
+
+  private final Injector<Partition> partitionInjector = new Injector<>();
+  private final Injector<SnapshotReplicationService> snapshotReplicationInjector =
+      new Injector<>();
+
+  private final Duration compactionPeriod;
+
+  private Partition partition;
+  private LogStream logStream;
+  private SnapshotReplicationService snapshotReplication;
+  private String actorName;
+
+  public FollowerLogCompactionService(final Duration compactionPeriod) {
+    this.compactionPeriod = compactionPeriod;
+  }
+
+  @Override
+  public void start(final ServiceStartContext startContext) {
+    partition = partitionInjector.getValue();
+    logStream = partition.getLogStream();
+    snapshotReplication = snapshotReplicationInjector.getValue();
+    actorName =
+        String.format("partition-%d-follower-compaction", partition.getInfo().getPartitionId());
+
+    startContext.async(startContext.getScheduler().submitActor(this));
+  }
+
+  @Override
+  public void stop(final ServiceStopContext stopContext) {
+    stopContext.async(actor.close());
+  }
+
+  @Override
+  public FollowerLogCompactionService get() {
+    return this;
+  }
+
+  @Override
+  public String getName() {
+    return actorName == null ? super.getName() : actorName;
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(compactionPeriod, this::compactLog);
+  }
+
+  private void compactLog() {
+    final long commitPosition = logStream.getCommitPosition();
+    final long leaderPosition = snapshotReplication.getLeaderFirstLogPosition();
+
+    if (commitPosition > 0 && leaderPosition > 0) {
+      final long snapshotPosition = getLowestSnapshotPosition(commitPosition);
+      final long position = Math.min(snapshotPosition, Math.min(commitPosition, leaderPosition));
+
+      if (position > 0) {
+        deleteLog(position);
+      }
+    }
+  }
+
+  private long getLowestSnapshotPosition(final long commitPosition) {
+    final List<StateStorage> stateStorages = partition.getStateStorageFactory().list();
+    if (stateStorages.isEmpty()) {
+      // the stream processors must be recovered from the complete log
+      return -1L;
+    }
+
+    long lowestPosition = Long.MAX_VALUE;
+    for (final StateStorage stateStorage : stateStorages) {
+      final long position = getLatestSnapshotPosition(stateStorage, commitPosition);
+
+      if (position < 0) {
+        return -1L;
+      }
+
+      lowestPosition = Math.min(lowestPosition, position);
+    }
+
+    for (final SnapshotMetadata snapshot : partition.getSnapshotStorage().listSnapshots()) {
+      lowestPosition = Math.min(lowestPosition, snapshot.getPosition());
+    }
+
+    return lowestPosition;
+  }
+
+  private long getLatestSnapshotPosition(
+      final StateStorage stateStorage, final long commitPosition) {
+    long latestPosition = -1L;
+
+    for (final StateSnapshotMetadata snapshot : stateStorage.listRecoverable(commitPosition)) {
+      latestPosition =
+          Math.max(latestPosition, snapshot.getLastSuccessfulProcessedEventPosition());
+    }
+
+    return latestPosition;
+  }
+
+  private void deleteLog(final long position) {
+    LOG.debug("Delete log {} of follower up to position {}", logStream.getLogName(), position);
+
+    actor.runOnCompletion(
+        logStream.delete(position),
+        (v, error) -> {
+          if (error != null) {
+            LOG.error("Failed to delete log {}", logStream.getLogName(), error);
+          }
+        });
+  }
+
+  public Injector<Partition> getPartitionInjector() {
+    return partitionInjector;
+  }
+
+  public Injector<SnapshotReplicationService> getSnapshotReplicationInjector() {
+    return snapshotReplicationInjector;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.snapshotReplicationServiceName;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.followerLogCompactionServiceName;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.logCompactionServiceName;
+import static io.zeebe.logstreams.impl.service.LogStreamServiceNames.streamProcessorGroupName;
+import static io.zeebe.raft.RaftServiceNames.raftServiceName;
+
+import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceGroupReference;
+import io.zeebe.servicecontainer.ServiceName;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import java.time.Duration;
+
+/**
+ * Installs a {@link LogCompactionService} for each leader partition and a {@link
+ * FollowerLogCompactionService} for each follower partition.
+ */
+public class LogCompactionInstallService implements Service<LogCompactionInstallService> {
+  private final ServiceGroupReference<Partition> leaderPartitionsGroupReference =
+      ServiceGroupReference.<Partition>create().onAdd(this::onLeaderPartitionAdded).build();
+  private final ServiceGroupReference<Partition> followerPartitionsGroupReference =
+      ServiceGroupReference.<Partition>create().onAdd(this::onFollowerPartitionAdded).build();
+
+  private final Duration compactionPeriod;
+
+  private ServiceStartContext startContext;
+
+  public LogCompactionInstallService(final Duration compactionPeriod) {
+    this.compactionPeriod = compactionPeriod;
+  }
+
+  @Override
+  public void start(final ServiceStartContext startContext) {
+    this.startContext = startContext;
+  }
+
+  @Override
+  public LogCompactionInstallService get() {
+    return this;
+  }
+
+  private void onLeaderPartitionAdded(
+      final ServiceName<Partition> partitionServiceName, final Partition partition) {
+    final String logName = partition.getLogStream().getLogName();
+    final ServiceName<LogCompactionService> serviceName = logCompactionServiceName(logName);
+
+    if (!startContext.hasService(serviceName)) {
+      final LogCompactionService service = new LogCompactionService(compactionPeriod);
+
+      startContext
+          .createService(serviceName, service)
+          .dependency(partitionServiceName, service.getPartitionInjector())
+          .dependency(raftServiceName(logName), service.getRaftInjector())
+          .groupReference(
+              streamProcessorGroupName(logName), service.getStreamProcessorsGroupReference())
+          .install();
+    }
+  }
+
+  private void onFollowerPartitionAdded(
+      final ServiceName<Partition> partitionServiceName, final Partition partition) {
+    final String logName = partition.getLogStream().getLogName();
+    final ServiceName<FollowerLogCompactionService> serviceName =
+        followerLogCompactionServiceName(logName);
+
+    if (!startContext.hasService(serviceName)) {
+      final FollowerLogCompactionService service =
+          new FollowerLogCompactionService(compactionPeriod);
+
+      startContext
+          .createService(serviceName, service)
+          .dependency(partitionServiceName, service.getPartitionInjector())
+          .dependency(
+              snapshotReplicationServiceName(partition), service.getSnapshotReplicationInjector())
+          .install();
+    }
+  }
+
+  public ServiceGroupReference<Partition> getLeaderPartitionsGroupReference() {
+    return leaderPartitionsGroupReference;
+  }
+
+  public ServiceGroupReference<Partition> getFollowerPartitionsGroupReference() {
+    return followerPartitionsGroupReference;
+  }
+}
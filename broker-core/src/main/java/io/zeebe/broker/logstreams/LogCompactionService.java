@@ -0,0 +1,167 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.broker.clustering.base.partitions.Partition;
+import io.zeebe.logstreams.impl.service.StreamProcessorService;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.raft.Raft;
+import io.zeebe.servicecontainer.Injector;
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceGroupReference;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.servicecontainer.ServiceStopContext;
+import io.zeebe.util.sched.Actor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+
+/**
+ * Periodically deletes the log of a leader partition up to the lowest position which is still
+ * required, i.e. which is needed by a stream processor to recover from its latest snapshot, which
+ * is not exported yet or which is not replicated to all followers.
+ */
+public class LogCompactionService extends Actor implements Service<LogCompactionService> {
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
+
+  private final Injector<Partition> partitionInjector = new Injector<>();
+  private final Injector<Raft> raftInjector = new Injector<>();
+
+  private final ServiceGroupReference<StreamProcessorService> streamProcessorsGroupReference =
+      ServiceGroupReference.<StreamProcessorService>create()
+          .onAdd((name, service) -> addStreamProcessor(service))
+          .onRemove((name, service) -> removeStreamProcessor(service))
+          .build();
+
+  private final List<StreamProcessorService> streamProcessors = new ArrayList<>();
+
+  private final Duration compactionPeriod;
+
+  private LogStream logStream;
+  private Raft raft;
+  private String actorName;
+
+  public LogCompactionService(final Duration compactionPeriod) {
+    this.compactionPeriod = compactionPeriod;
+  }
+
+  @Override
+  public void start(final ServiceStartContext startContext) {
+    final Partition partition = partitionInjector.getValue();
+    logStream = partition.getLogStream();
+    raft = raftInjector.getValue();
+    actorName = String.format("partition-%d-compaction", partition.getInfo().getPartitionId());
+
+    startContext.async(startContext.getScheduler().submitActor(this));
+  }
+
+  @Override
+  public void stop(final ServiceStopContext stopContext) {
+    stopContext.async(actor.close());
+  }
+
+  @Override
+  public LogCompactionService get() {
+    return this;
+  }
+
+  @Override
+  public String getName() {
+    return actorName == null ? super.getName() : actorName;
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(compactionPeriod, this::compactLog);
+  }
+
+  private void compactLog() {
+    final long processorPosition = getLowestRequiredProcessorPosition();
+
+    if (processorPosition > 0) {
+      actor.runOnCompletion(
+          raft.getLowestMemberMatchPosition(),
+          (matchPosition, error) -> {
+            if (error != null) {
+              LOG.error(
+                  "Failed to get replicated position of log {}", logStream.getLogName(), error);
+            } else {
+              final long position = Math.min(processorPosition, matchPosition);
+
+              if (position > 0) {
+                deleteLog(position);
+              }
+            }
+          });
+    }
+  }
+
+  private long getLowestRequiredProcessorPosition() {
+    if (streamProcessors.isEmpty()) {
+      return -1L;
+    }
+
+    long lowestPosition = Long.MAX_VALUE;
+    for (final StreamProcessorService streamProcessor : streamProcessors) {
+      final long position = streamProcessor.getController().getLowestRequiredPosition();
+
+      if (position < 0) {
+        // the processor must be recovered from the complete log
+        return -1L;
+      }
+
+      lowestPosition = Math.min(lowestPosition, position);
+    }
+
+    return lowestPosition;
+  }
+
+  private void deleteLog(final long position) {
+    LOG.debug("Delete log {} up to position {}", logStream.getLogName(), position);
+
+    actor.runOnCompletion(
+        logStream.delete(position),
+        (v, error) -> {
+          if (error != null) {
+            LOG.error("Failed to delete log {}", logStream.getLogName(), error);
+          }
+        });
+  }
+
+  private void addStreamProcessor(final StreamProcessorService streamProcessor) {
+    actor.submit(() -> streamProcessors.add(streamProcessor));
+  }
+
+  private void removeStreamProcessor(final StreamProcessorService streamProcessor) {
+    actor.submit(() -> streamProcessors.remove(streamProcessor));
+  }
+
+  public Injector<Partition> getPartitionInjector() {
+    return partitionInjector;
+  }
+
+  public Injector<Raft> getRaftInjector() {
+    return raftInjector;
+  }
+
+  public ServiceGroupReference<StreamProcessorService> getStreamProcessorsGroupReference() {
+    return streamProcessorsGroupReference;
+  }
+}
@@ -20,6 +20,7 @@ package io.zeebe.broker.logstreams;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
 import io.zeebe.broker.logstreams.state.StateStorageFactory;
 import io.zeebe.logstreams.spi.SnapshotStorage;
+import io.zeebe.logstreams.state.StateResources;
 import io.zeebe.servicecontainer.ServiceName;
 
 public class LogStreamServiceNames {
@@ -38,4 +39,24 @@ public class LogStreamServiceNames {
     return ServiceName.newServiceName(
         String.format("%s.rocksdb.storage", partitionName), StateStorageFactory.class);
   }
+
+  public static final ServiceName<StateResources> STATE_RESOURCES_SERVICE =
+      ServiceName.newServiceName("logstreams.rocksdb.resources", StateResources.class);
+
+  public static final ServiceName<LogCompactionInstallService> LOG_COMPACTION_INSTALL_SERVICE =
+      ServiceName.newServiceName(
+          "logstreams.compaction.install", LogCompactionInstallService.class);
+
+  public static final ServiceName<LogCompactionService> logCompactionServiceName(
+      String partitionName) {
+    return ServiceName.newServiceName(
+        String.format("%s.log.compaction", partitionName), LogCompactionService.class);
+  }
+
+  public static final ServiceName<FollowerLogCompactionService> followerLogCompactionServiceName(
+      String partitionName) {
+    return ServiceName.newServiceName(
+        String.format("%s.log.follower.compaction", partitionName),
+        FollowerLogCompactionService.class);
+  }
 }
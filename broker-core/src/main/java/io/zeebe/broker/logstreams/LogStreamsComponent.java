@@ -17,14 +17,19 @@
  */
 package io.zeebe.broker.logstreams;
 
+import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.FOLLOWER_PARTITION_GROUP_NAME;
 import static io.zeebe.broker.clustering.base.ClusterBaseLayerServiceNames.LEADER_PARTITION_GROUP_NAME;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.LOG_COMPACTION_INSTALL_SERVICE;
+import static io.zeebe.broker.logstreams.LogStreamServiceNames.STATE_RESOURCES_SERVICE;
 import static io.zeebe.broker.logstreams.LogStreamServiceNames.STREAM_PROCESSOR_SERVICE_FACTORY;
 
 import io.zeebe.broker.event.TopicSubscriptionServiceNames;
 import io.zeebe.broker.event.processor.TopicSubscriptionService;
 import io.zeebe.broker.logstreams.processor.StreamProcessorServiceFactory;
+import io.zeebe.broker.logstreams.state.StateResourcesService;
 import io.zeebe.broker.system.Component;
 import io.zeebe.broker.system.SystemContext;
+import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.broker.transport.TransportServiceNames;
 import io.zeebe.servicecontainer.ServiceContainer;
 import io.zeebe.util.DurationUtil;
@@ -50,12 +55,29 @@ public class LogStreamsComponent implements Component {
             LEADER_PARTITION_GROUP_NAME, topicSubscriptionService.getPartitionsGroupReference())
         .install();
 
-    final Duration snapshotPeriod =
-        DurationUtil.parse(context.getBrokerConfiguration().getData().getSnapshotPeriod());
+    final DataCfg dataCfg = context.getBrokerConfiguration().getData();
+    final Duration snapshotPeriod = DurationUtil.parse(dataCfg.getSnapshotPeriod());
     final StreamProcessorServiceFactory streamProcessorFactory =
-        new StreamProcessorServiceFactory(serviceContainer, snapshotPeriod);
+        new StreamProcessorServiceFactory(
+            serviceContainer, snapshotPeriod, dataCfg.getProcessingBatchSize());
     serviceContainer
         .createService(STREAM_PROCESSOR_SERVICE_FACTORY, streamProcessorFactory)
         .install();
+
+    final StateResourcesService stateResourcesService = new StateResourcesService(dataCfg);
+    serviceContainer.createService(STATE_RESOURCES_SERVICE, stateResourcesService).install();
+
+    final Duration logCompactionPeriod = DurationUtil.parse(dataCfg.getLogCompactionPeriod());
+    final LogCompactionInstallService logCompactionInstallService =
+        new LogCompactionInstallService(logCompactionPeriod);
+    serviceContainer
+        .createService(LOG_COMPACTION_INSTALL_SERVICE, logCompactionInstallService)
+        .groupReference(
+            LEADER_PARTITION_GROUP_NAME,
+            logCompactionInstallService.getLeaderPartitionsGroupReference())
+        .groupReference(
+            FOLLOWER_PARTITION_GROUP_NAME,
+            logCompactionInstallService.getFollowerPartitionsGroupReference())
+        .install();
   }
 }
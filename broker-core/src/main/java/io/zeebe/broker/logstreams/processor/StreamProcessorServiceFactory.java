@@ -42,11 +42,14 @@ import java.util.List;
 public class StreamProcessorServiceFactory implements Service<StreamProcessorServiceFactory> {
   private final ServiceContainer serviceContainer;
   private final Duration snapshotPeriod;
+  private final int processingBatchSize;
   private ActorScheduler actorScheduler;
 
-  public StreamProcessorServiceFactory(ServiceContainer serviceContainer, Duration snapshotPeriod) {
+  public StreamProcessorServiceFactory(
+      ServiceContainer serviceContainer, Duration snapshotPeriod, int processingBatchSize) {
     this.serviceContainer = serviceContainer;
     this.snapshotPeriod = snapshotPeriod;
+    this.processingBatchSize = processingBatchSize;
   }
 
   @Override
@@ -145,6 +148,7 @@ public class StreamProcessorServiceFactory implements Service<StreamProcessorSer
           .logStream(logStream)
           .eventFilter(eventFilter)
           .readOnly(readOnly)
+          .processingBatchSize(processingBatchSize)
           .additionalDependencies(additionalDependencies)
           .build();
     }
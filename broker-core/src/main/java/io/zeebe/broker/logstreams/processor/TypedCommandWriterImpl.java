@@ -19,6 +19,7 @@ package io.zeebe.broker.logstreams.processor;
 
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.zeebe.logstreams.log.LogStreamBatchWriterImpl;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LogStreamWriter;
@@ -42,13 +43,16 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
   protected final LogStream stream;
 
   protected LogStreamRecordWriter writer;
-  protected LogStreamBatchWriter batchWriter;
+  protected LogStreamBatchWriterImpl batchWriter;
 
   protected int producerId;
   protected long sourceRecordPosition = -1;
 
   protected LogStreamWriter stagedWriter;
 
+  private long stagedKey;
+  private UnpackedObject stagedValue;
+
   public TypedCommandWriterImpl(
       LogStream stream, Map<ValueType, Class<? extends UnpackedObject>> eventRegistry) {
     this.stream = stream;
@@ -112,6 +116,9 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
     }
 
     writer.metadataWriter(metadata).valueWriter(value);
+
+    stagedKey = key;
+    stagedValue = value;
   }
 
   @Override
@@ -134,6 +141,35 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
     stagedWriter = null;
   }
 
+  /**
+   * Adds the staged records to the given batch instead of writing them. The records get the
+   * producer id and the source record position of the batch.
+   *
+   * @return true if the records are added or no record is staged, false if the records don't fit
+   *     into the batch
+   */
+  public boolean addTo(LogStreamBatchWriter targetBatchWriter) {
+    if (stagedWriter == null) {
+      return true;
+    } else if (stagedWriter == batchWriter) {
+      return batchWriter.addEventsTo(targetBatchWriter);
+    } else if (targetBatchWriter.canWriteAdditionalEvent(
+        metadata.getLength() + stagedValue.getLength())) {
+      final LogEntryBuilder logEntryBuilder = targetBatchWriter.event();
+
+      if (stagedKey >= 0) {
+        logEntryBuilder.key(stagedKey);
+      } else {
+        logEntryBuilder.keyNull();
+      }
+
+      logEntryBuilder.metadataWriter(metadata).valueWriter(stagedValue).done();
+      return true;
+    } else {
+      return false;
+    }
+  }
+
   public long flush() {
     if (stagedWriter != null) {
       return stagedWriter.tryWrite();
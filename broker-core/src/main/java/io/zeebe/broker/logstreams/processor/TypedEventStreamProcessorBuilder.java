@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 
 public class TypedEventStreamProcessorBuilder {
@@ -45,6 +46,7 @@ public class TypedEventStreamProcessorBuilder {
   protected List<StreamProcessorLifecycleAware> lifecycleListeners = new ArrayList<>();
 
   private KeyGenerator keyGenerator;
+  private LongSupplier lowestRequiredPosition = () -> Long.MAX_VALUE;
 
   public TypedEventStreamProcessorBuilder(TypedStreamEnvironment environment) {
     this.environment = environment;
@@ -110,6 +112,16 @@ public class TypedEventStreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Only required if the processors read records of the log stream by their position, which must
+   * not be deleted. The supplier is called concurrently to the processing.
+   */
+  public TypedEventStreamProcessorBuilder lowestRequiredPosition(
+      LongSupplier lowestRequiredPosition) {
+    this.lowestRequiredPosition = lowestRequiredPosition;
+    return this;
+  }
+
   public TypedEventStreamProcessorBuilder withStateController(
       final StateController stateController) {
     this.stateController = stateController;
@@ -165,6 +177,7 @@ public class TypedEventStreamProcessorBuilder {
         lifecycleListeners,
         environment.getEventRegistry(),
         keyGenerator,
+        lowestRequiredPosition,
         environment);
   }
 
@@ -18,6 +18,7 @@
 package io.zeebe.broker.logstreams.processor;
 
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.logstreams.processor.EventProcessor;
@@ -35,6 +36,8 @@ import io.zeebe.util.sched.future.ActorFuture;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 @SuppressWarnings({"unchecked"})
 public class TypedStreamProcessor implements StreamProcessor {
@@ -47,6 +50,7 @@ public class TypedStreamProcessor implements StreamProcessor {
   protected final RecordProcessorMap recordProcessors;
   protected final List<StreamProcessorLifecycleAware> lifecycleListeners = new ArrayList<>();
   private final KeyGenerator keyGenerator;
+  private final LongSupplier lowestRequiredPosition;
 
   protected final RecordMetadata metadata = new RecordMetadata();
   protected final EnumMap<ValueType, Class<? extends UnpackedObject>> eventRegistry;
@@ -57,6 +61,7 @@ public class TypedStreamProcessor implements StreamProcessor {
 
   protected DelegatingEventProcessor eventProcessorWrapper;
   protected ActorControl actor;
+  private TypedStreamProcessorMetrics metrics;
   private StreamProcessorContext streamProcessorContext;
 
   public TypedStreamProcessor(
@@ -67,12 +72,14 @@ public class TypedStreamProcessor implements StreamProcessor {
       final List<StreamProcessorLifecycleAware> lifecycleListeners,
       final EnumMap<ValueType, Class<? extends UnpackedObject>> eventRegistry,
       final KeyGenerator keyGenerator,
+      final LongSupplier lowestRequiredPosition,
       final TypedStreamEnvironment environment) {
     this.stateController = stateController;
     this.snapshotSupport = snapshotSupport;
     this.output = output;
     this.recordProcessors = recordProcessors;
     this.keyGenerator = keyGenerator;
+    this.lowestRequiredPosition = lowestRequiredPosition;
     recordProcessors.values().forEachRemaining(p -> this.lifecycleListeners.add(p));
 
     this.lifecycleListeners.addAll(lifecycleListeners);
@@ -86,9 +93,16 @@ public class TypedStreamProcessor implements StreamProcessor {
 
   @Override
   public void onOpen(final StreamProcessorContext context) {
+    final LogStream logStream = context.getLogStream();
+    this.metrics =
+        new TypedStreamProcessorMetrics(
+            context.getActorScheduler().getMetricsManager(),
+            context.getName(),
+            logStream.getPartitionId());
+
     this.eventProcessorWrapper =
         new DelegatingEventProcessor(
-            context.getId(), output, context.getLogStream(), eventRegistry, keyGenerator);
+            context.getId(), output, logStream, eventRegistry, keyGenerator, metrics);
 
     this.actor = context.getActorControl();
     this.streamProcessorContext = context;
@@ -103,6 +117,7 @@ public class TypedStreamProcessor implements StreamProcessor {
   @Override
   public void onClose() {
     lifecycleListeners.forEach(e -> e.onClose());
+    metrics.close();
   }
 
   @Override
@@ -115,6 +130,11 @@ public class TypedStreamProcessor implements StreamProcessor {
     return stateController;
   }
 
+  @Override
+  public long getLowestRequiredPosition() {
+    return lowestRequiredPosition.getAsLong();
+  }
+
   @Override
   public EventProcessor onEvent(final LoggedEvent event) {
     metadata.reset();
@@ -152,21 +172,25 @@ public class TypedStreamProcessor implements StreamProcessor {
     protected final LogStream logStream;
     protected final TypedStreamWriterImpl writer;
     protected final TypedResponseWriterImpl responseWriter;
+    private final TypedStreamProcessorMetrics metrics;
 
     protected TypedRecordProcessor<?> eventProcessor;
     protected TypedEventImpl event;
     private SideEffectProducer sideEffectProducer;
+    private long processingStartNanos;
 
     public DelegatingEventProcessor(
         final int streamProcessorId,
         final ServerOutput output,
         final LogStream logStream,
         final EnumMap<ValueType, Class<? extends UnpackedObject>> eventRegistry,
-        final KeyGenerator keyGenerator) {
+        final KeyGenerator keyGenerator,
+        final TypedStreamProcessorMetrics metrics) {
       this.streamProcessorId = streamProcessorId;
       this.logStream = logStream;
       this.writer = new TypedStreamWriterImpl(logStream, eventRegistry, keyGenerator);
       this.responseWriter = new TypedResponseWriterImpl(output, logStream.getPartitionId());
+      this.metrics = metrics;
     }
 
     public void wrap(final TypedRecordProcessor<?> eventProcessor, final TypedEventImpl event) {
@@ -176,6 +200,8 @@ public class TypedStreamProcessor implements StreamProcessor {
 
     @Override
     public void processEvent() {
+      processingStartNanos = System.nanoTime();
+
       writer.reset();
       responseWriter.reset();
 
@@ -200,6 +226,18 @@ public class TypedStreamProcessor implements StreamProcessor {
     public long writeEvent(final LogStreamRecordWriter writer) {
       return this.writer.flush();
     }
+
+    @Override
+    public boolean addEvents(final LogStreamBatchWriter batchWriter) {
+      return writer.addTo(batchWriter);
+    }
+
+    @Override
+    public void updateState() {
+      metrics.recordProcessingLatency(
+          event.getMetadata().getValueType(),
+          TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - processingStartNanos));
+    }
   }
 
   public ActorControl getActor() {
@@ -0,0 +1,70 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.processor;
+
+import io.zeebe.protocol.clientapi.ValueType;
+import io.zeebe.util.metrics.Histogram;
+import io.zeebe.util.metrics.MetricsManager;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class TypedStreamProcessorMetrics implements AutoCloseable {
+  private static final long[] PROCESSING_LATENCY_BUCKETS = Histogram.exponentialBuckets(10, 2, 18);
+
+  private final MetricsManager metricsManager;
+  private final String processorName;
+  private final String partitionId;
+
+  // histograms are created for the value types which are actually processed
+  private final Map<ValueType, Histogram> processingLatencyHistograms =
+      new EnumMap<>(ValueType.class);
+
+  public TypedStreamProcessorMetrics(
+      final MetricsManager metricsManager, final String processorName, final int partitionId) {
+    this.metricsManager = metricsManager;
+    this.processorName = processorName;
+    this.partitionId = Integer.toString(partitionId);
+  }
+
+  public void recordProcessingLatency(final ValueType valueType, final long latencyMicros) {
+    Histogram histogram = processingLatencyHistograms.get(valueType);
+    if (histogram == null) {
+      histogram = newProcessingLatencyHistogram(valueType);
+      processingLatencyHistograms.put(valueType, histogram);
+    }
+
+    histogram.record(latencyMicros);
+  }
+
+  private Histogram newProcessingLatencyHistogram(final ValueType valueType) {
+    return metricsManager
+        .newHistogram("streamprocessor_processing_latency_micros")
+        .description("Time from processing a record until its state is updated")
+        .buckets(PROCESSING_LATENCY_BUCKETS)
+        .label("processor", processorName)
+        .label("partition", partitionId)
+        .label("valueType", valueType.name())
+        .create();
+  }
+
+  @Override
+  public void close() {
+    processingLatencyHistograms.values().forEach(Histogram::close);
+    processingLatencyHistograms.clear();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.logstreams.state;
+
+import io.zeebe.broker.system.configuration.DataCfg;
+import io.zeebe.logstreams.state.StateResources;
+import io.zeebe.servicecontainer.Service;
+import io.zeebe.servicecontainer.ServiceStartContext;
+import io.zeebe.servicecontainer.ServiceStopContext;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.metrics.Metric;
+import io.zeebe.util.metrics.MetricsManager;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorPriority;
+import java.time.Duration;
+
+/**
+ * Provides the RocksDB resources (e.g. block cache) which are shared by the state databases of all
+ * partitions of the broker and periodically reports their metrics.
+ */
+public class StateResourcesService extends Actor implements Service<StateResources> {
+  private static final Duration METRICS_UPDATE_INTERVAL = Duration.ofSeconds(1);
+
+  private final long blockCacheSize;
+  private final long writeBufferSize;
+
+  private StateResources resources;
+  private MetricsManager metricsManager;
+  private Metric blockCacheHitsMetric;
+  private Metric blockCacheMissesMetric;
+
+  public StateResourcesService(final DataCfg dataCfg) {
+    this.blockCacheSize = new ByteValue(dataCfg.getStateBlockCacheSize()).toBytes();
+    this.writeBufferSize = new ByteValue(dataCfg.getStateWriteBufferSize()).toBytes();
+  }
+
+  @Override
+  public void start(final ServiceStartContext startContext) {
+    resources = new StateResources(blockCacheSize, writeBufferSize);
+    metricsManager = startContext.getScheduler().getMetricsManager();
+
+    startContext.async(startContext.getScheduler().submitActor(this));
+  }
+
+  @Override
+  public void stop(final ServiceStopContext stopContext) {
+    stopContext.async(actor.close());
+  }
+
+  @Override
+  public StateResources get() {
+    return resources;
+  }
+
+  @Override
+  public String getName() {
+    return "state-resources";
+  }
+
+  @Override
+  protected void onActorStarting() {
+    actor.setPriority(ActorPriority.LOW);
+
+    blockCacheHitsMetric =
+        metricsManager
+            .newMetric("state_block_cache_count")
+            .type("counter")
+            .label("result", "hit")
+            .create();
+
+    blockCacheMissesMetric =
+        metricsManager
+            .newMetric("state_block_cache_count")
+            .type("counter")
+            .label("result", "miss")
+            .create();
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(METRICS_UPDATE_INTERVAL, this::updateMetrics);
+  }
+
+  private void updateMetrics() {
+    blockCacheHitsMetric.setOrdered(resources.getBlockCacheHits());
+    blockCacheMissesMetric.setOrdered(resources.getBlockCacheMisses());
+  }
+
+  @Override
+  protected void onActorClosing() {
+    blockCacheHitsMetric.close();
+    blockCacheMissesMetric.close();
+
+    // the service is stopped after all services which depend on the resources
+    resources.close();
+  }
+}
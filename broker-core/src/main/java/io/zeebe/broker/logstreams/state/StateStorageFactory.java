@@ -18,23 +18,32 @@
 package io.zeebe.broker.logstreams.state;
 
 import io.zeebe.logstreams.processor.StreamProcessorContext;
+import io.zeebe.logstreams.state.StateResources;
 import io.zeebe.logstreams.state.StateStorage;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class may eventually be superseded by a more accurate StateStorage class local to the broker
- * core module if it ever needs more functionality than strictly creating stream processor specific
- * storage classes (e.g. listing all of them for regular maintenance jobs). If you find yourself
- * adding such functionality consider refactoring the whole thing.
+ * core module if it ever needs more functionality than creating and listing stream processor
+ * specific storage classes. If you find yourself adding such functionality consider refactoring the
+ * whole thing.
  */
 public class StateStorageFactory {
   public static final String DEFAULT_RUNTIME_PATH = "runtime";
   public static final String DEFAULT_SNAPSHOTS_PATH = "snapshots";
 
   private final File rootDirectory;
+  private final StateResources resources;
 
   public StateStorageFactory(final File rootDirectory) {
+    this(rootDirectory, null);
+  }
+
+  public StateStorageFactory(final File rootDirectory, final StateResources resources) {
     this.rootDirectory = rootDirectory;
+    this.resources = resources;
   }
 
   public StateStorage create(final int processorId, final String processorName) {
@@ -52,10 +61,27 @@ public class StateStorageFactory {
       snapshotsDirectory.mkdir();
     }
 
-    return new StateStorage(runtimeDirectory, snapshotsDirectory);
+    return new StateStorage(runtimeDirectory, snapshotsDirectory, resources);
   }
 
   public StateStorage create(final StreamProcessorContext context) {
     return create(context.getId(), context.getName());
   }
+
+  /** @return the storages of all stream processors which were created before */
+  public List<StateStorage> list() {
+    final List<StateStorage> storages = new ArrayList<>();
+    final File[] processorDirectories = rootDirectory.listFiles(File::isDirectory);
+
+    if (processorDirectories != null) {
+      for (final File processorDirectory : processorDirectories) {
+        final File runtimeDirectory = new File(processorDirectory, DEFAULT_RUNTIME_PATH);
+        final File snapshotsDirectory = new File(processorDirectory, DEFAULT_SNAPSHOTS_PATH);
+
+        storages.add(new StateStorage(runtimeDirectory, snapshotsDirectory, resources));
+      }
+    }
+
+    return storages;
+  }
 }
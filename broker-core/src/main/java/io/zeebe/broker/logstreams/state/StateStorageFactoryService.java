@@ -17,14 +17,15 @@
  */
 package io.zeebe.broker.logstreams.state;
 
+import io.zeebe.logstreams.state.StateResources;
 import io.zeebe.servicecontainer.Service;
 import java.io.File;
 
 public class StateStorageFactoryService implements Service<StateStorageFactory> {
   private StateStorageFactory storageFactory;
 
-  public StateStorageFactoryService(final File rootDirectory) {
-    this.storageFactory = new StateStorageFactory(rootDirectory);
+  public StateStorageFactoryService(final File rootDirectory, final StateResources resources) {
+    this.storageFactory = new StateStorageFactory(rootDirectory, resources);
   }
 
   @Override
@@ -23,6 +23,8 @@ import io.zeebe.broker.subscription.CorrelateWorkflowInstanceSubscriptionDecoder
 import io.zeebe.broker.subscription.MessageHeaderDecoder;
 import io.zeebe.broker.subscription.OpenMessageSubscriptionDecoder;
 import io.zeebe.broker.subscription.OpenWorkflowInstanceSubscriptionDecoder;
+import io.zeebe.broker.subscription.SubscriptionCommandBatchDecoder;
+import io.zeebe.broker.subscription.command.SubscriptionCommandBatch.CommandConsumer;
 import io.zeebe.broker.subscription.message.data.MessageSubscriptionRecord;
 import io.zeebe.broker.subscription.message.data.WorkflowInstanceSubscriptionRecord;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
@@ -57,6 +59,12 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
   private final CorrelateMessageSubscriptionCommand correlateMessageSubscriptionCommand =
       new CorrelateMessageSubscriptionCommand();
 
+  private final SubscriptionCommandBatch commandBatch = new SubscriptionCommandBatch();
+  private final CommandConsumer commandConsumer = this::onCommand;
+
+  // the commands of a postponed batch which were already written
+  private int writtenBatchCommands;
+
   private final LogStreamRecordWriter logStreamWriter = new LogStreamWriterImpl();
   private final RecordMetadata recordMetadata = new RecordMetadata();
 
@@ -82,6 +90,31 @@ public class SubscriptionApiCommandMessageHandler implements ServerMessageHandle
 
     messageHeaderDecoder.wrap(buffer, offset);
 
+    if (messageHeaderDecoder.schemaId() == SubscriptionCommandBatchDecoder.SCHEMA_ID
+        && messageHeaderDecoder.templateId() == SubscriptionCommandBatchDecoder.TEMPLATE_ID) {
+      return onCommandBatch(buffer, offset, length);
+    } else {
+      return onCommand(buffer, offset, length);
+    }
+  }
+
+  private boolean onCommandBatch(DirectBuffer buffer, int offset, int length) {
+    commandBatch.wrap(buffer, offset, length);
+
+    final int nextCommand = commandBatch.forEachCommand(writtenBatchCommands, commandConsumer);
+    if (nextCommand < commandBatch.getCommandCount()) {
+      // the batch is postponed and handled again, without the commands which are written already
+      writtenBatchCommands = nextCommand;
+      return false;
+    } else {
+      writtenBatchCommands = 0;
+      return true;
+    }
+  }
+
+  private boolean onCommand(DirectBuffer buffer, int offset, int length) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
     if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
 
       switch (messageHeaderDecoder.templateId()) {
@@ -0,0 +1,138 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.subscription.command;
+
+import static io.zeebe.broker.subscription.SubscriptionCommandBatchDecoder.commandsHeaderLength;
+
+import io.zeebe.broker.subscription.SubscriptionCommandBatchDecoder;
+import io.zeebe.broker.subscription.SubscriptionCommandBatchEncoder;
+import io.zeebe.broker.util.SbeBufferWriterReader;
+import io.zeebe.util.buffer.BufferWriter;
+import java.nio.ByteOrder;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Multiple subscription commands for the same partition which are sent as one message. Each command
+ * is encoded as a complete message, prefixed by its length.
+ */
+public class SubscriptionCommandBatch
+    extends SbeBufferWriterReader<
+        SubscriptionCommandBatchEncoder, SubscriptionCommandBatchDecoder> {
+
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+  private static final int LENGTH_PREFIX = Integer.BYTES;
+
+  private final SubscriptionCommandBatchEncoder encoder = new SubscriptionCommandBatchEncoder();
+  private final SubscriptionCommandBatchDecoder decoder = new SubscriptionCommandBatchDecoder();
+
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer commands = new UnsafeBuffer(0, 0);
+  private int commandCount;
+  private int commandsLength;
+
+  /** Appends the given command to the batch. */
+  public void add(final BufferWriter command) {
+    final int length = command.getLength();
+
+    writeBuffer.putInt(commandsLength, length, BYTE_ORDER);
+    command.write(writeBuffer, commandsLength + LENGTH_PREFIX);
+
+    commandsLength += LENGTH_PREFIX + length;
+    commandCount += 1;
+    commands.wrap(writeBuffer, 0, commandsLength);
+  }
+
+  public boolean isEmpty() {
+    return commandCount == 0;
+  }
+
+  public int getCommandCount() {
+    return commandCount;
+  }
+
+  /**
+   * Passes the commands of the batch to the consumer, starting with the command at the given
+   * index, until the consumer doesn't accept a command.
+   *
+   * @return the index of the first command which was not accepted, or the command count if all
+   *     commands were accepted
+   */
+  public int forEachCommand(final int startIndex, final CommandConsumer consumer) {
+    int offset = 0;
+    for (int i = 0; i < commandCount; i++) {
+      final int length = commands.getInt(offset, BYTE_ORDER);
+      offset += LENGTH_PREFIX;
+
+      if (i >= startIndex && !consumer.accept(commands, offset, length)) {
+        return i;
+      }
+      offset += length;
+    }
+    return commandCount;
+  }
+
+  @Override
+  protected SubscriptionCommandBatchEncoder getBodyEncoder() {
+    return encoder;
+  }
+
+  @Override
+  protected SubscriptionCommandBatchDecoder getBodyDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength() + commandsHeaderLength() + commandsLength;
+  }
+
+  @Override
+  public void write(MutableDirectBuffer buffer, int offset) {
+    super.write(buffer, offset);
+
+    encoder.commandCount(commandCount).putCommands(commands, 0, commandsLength);
+  }
+
+  @Override
+  public void wrap(DirectBuffer buffer, int offset, int length) {
+    super.wrap(buffer, offset, length);
+
+    commandCount = decoder.commandCount();
+
+    offset = decoder.limit();
+
+    offset += commandsHeaderLength();
+    commandsLength = (int) decoder.commandsLength();
+    commands.wrap(buffer, offset, commandsLength);
+  }
+
+  @Override
+  public void reset() {
+    commandCount = 0;
+    commandsLength = 0;
+    commands.wrap(0, 0);
+  }
+
+  @FunctionalInterface
+  public interface CommandConsumer {
+    boolean accept(DirectBuffer buffer, int offset, int length);
+  }
+}
@@ -50,9 +50,15 @@ import org.agrona.collections.IntArrayList;
  * |                              Workflow Instance Partition                                 |
  * +------------------------------------------------------------------------------------------+
  * <pre>
+ *
+ * <p>The commands are not sent immediately but collected per receiver partition. The collected
+ * commands are sent together as one batch after the current actor job, or when the batch reaches
+ * {@link #MAX_BATCH_LENGTH}.
  */
 public class SubscriptionCommandSender {
 
+  public static final int MAX_BATCH_LENGTH = 32 * 1024;
+
   private final OpenMessageSubscriptionCommand openMessageSubscriptionCommand =
       new OpenMessageSubscriptionCommand();
 
@@ -69,8 +75,12 @@ public class SubscriptionCommandSender {
   private final ClientTransport subscriptionClient;
   private final IntArrayList partitionIds;
 
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> batches = new Int2ObjectHashMap<>();
+  private boolean isFlushScheduled;
+
   private int partitionId;
   private TopologyPartitionListenerImpl partitionListener;
+  private ActorControl actor;
 
   public SubscriptionCommandSender(
       final ClusterCfg clusterCfg, final ClientTransport subscriptionClient) {
@@ -82,6 +92,7 @@ public class SubscriptionCommandSender {
   public void init(
       final TopologyManager topologyManager, final ActorControl actor, final LogStream logStream) {
     this.partitionId = logStream.getPartitionId();
+    this.actor = actor;
 
     this.partitionListener = new TopologyPartitionListenerImpl(actor);
     topologyManager.addTopologyPartitionListener(partitionListener);
@@ -167,14 +178,63 @@ public class SubscriptionCommandSender {
   private boolean sendSubscriptionCommand(
       final int receiverPartitionId, final BufferWriter command) {
 
+    SubscriptionCommandBatch batch = batches.get(receiverPartitionId);
+    if (batch == null) {
+      batch = new SubscriptionCommandBatch();
+      batches.put(receiverPartitionId, batch);
+    }
+
+    if (!batch.isEmpty() && batch.getLength() + command.getLength() > MAX_BATCH_LENGTH) {
+      if (!sendBatch(receiverPartitionId, batch)) {
+        return false;
+      }
+    }
+
+    batch.add(command);
+
+    if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      actor.runUntilDone(this::flushBatches);
+    }
+
+    return true;
+  }
+
+  private void flushBatches() {
+    boolean isFlushed = true;
+
+    for (int i = 0; i < partitionIds.size(); i++) {
+      final int receiverPartitionId = partitionIds.getInt(i);
+      final SubscriptionCommandBatch batch = batches.get(receiverPartitionId);
+
+      if (batch != null && !batch.isEmpty()) {
+        isFlushed &= sendBatch(receiverPartitionId, batch);
+      }
+    }
+
+    if (isFlushed) {
+      isFlushScheduled = false;
+      actor.done();
+    } else {
+      actor.yield();
+    }
+  }
+
+  private boolean sendBatch(final int receiverPartitionId, final SubscriptionCommandBatch batch) {
     final Int2ObjectHashMap<NodeInfo> partitionLeaders = partitionListener.getPartitionLeaders();
     final NodeInfo partitionLeader = partitionLeaders.get(receiverPartitionId);
     if (partitionLeader == null) {
-      // retry when no leader is known
+      // drop the commands when no leader is known, they are sent again if they are not acknowledged
+      batch.reset();
       return true;
     }
 
-    return subscriptionClient.getOutput().sendMessage(partitionLeader.getNodeId(), command);
+    final boolean isSent =
+        subscriptionClient.getOutput().sendMessage(partitionLeader.getNodeId(), batch);
+    if (isSent) {
+      batch.reset();
+    }
+    return isSent;
   }
 
   public boolean hasPartitionIds() {
@@ -45,6 +45,8 @@ public class MessageStreamProcessor implements StreamProcessorLifecycleAware {
   private final TopologyManager topologyManager;
   private final SubscriptionCommandSender subscriptionCommandSender;
 
+  private MessageTimeToLiveChecker timeToLiveChecker;
+
   public MessageStreamProcessor(
       SubscriptionCommandSender subscriptionCommandSender, TopologyManager topologyManager) {
     this.subscriptionCommandSender = subscriptionCommandSender;
@@ -52,6 +54,9 @@ public class MessageStreamProcessor implements StreamProcessorLifecycleAware {
   }
 
   public TypedStreamProcessor createStreamProcessors(TypedStreamEnvironment env) {
+    timeToLiveChecker =
+        new MessageTimeToLiveChecker(
+            env.buildCommandWriter(), messageStateController, MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL);
 
     return env.newStreamProcessor()
         .keyGenerator(
@@ -60,7 +65,8 @@ public class MessageStreamProcessor implements StreamProcessorLifecycleAware {
         .onCommand(
             ValueType.MESSAGE,
             MessageIntent.PUBLISH,
-            new PublishMessageProcessor(messageStateController, subscriptionCommandSender))
+            new PublishMessageProcessor(
+                messageStateController, subscriptionCommandSender, timeToLiveChecker))
         .onCommand(
             ValueType.MESSAGE,
             MessageIntent.DELETE,
@@ -91,15 +97,19 @@ public class MessageStreamProcessor implements StreamProcessorLifecycleAware {
 
     subscriptionCommandSender.init(topologyManager, actor, logStream);
 
-    final MessageTimeToLiveChecker timeToLiveChecker =
-        new MessageTimeToLiveChecker(env.buildCommandWriter(), messageStateController);
-    streamProcessor
-        .getActor()
-        .runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
-
     final PendingMessageSubscriptionChecker pendingSubscriptionChecker =
         new PendingMessageSubscriptionChecker(
             subscriptionCommandSender, messageStateController, SUBSCRIPTION_TIMEOUT.toMillis());
     actor.runAtFixedRate(SUBSCRIPTION_CHECK_INTERVAL, pendingSubscriptionChecker);
   }
+
+  @Override
+  public void onRecovered(TypedStreamProcessor streamProcessor) {
+    timeToLiveChecker.start(streamProcessor.getActor());
+  }
+
+  @Override
+  public void onClose() {
+    timeToLiveChecker.stop();
+  }
 }
@@ -20,27 +20,64 @@ package io.zeebe.broker.subscription.message.processor;
 import io.zeebe.broker.logstreams.processor.TypedCommandWriter;
 import io.zeebe.broker.subscription.message.state.Message;
 import io.zeebe.broker.subscription.message.state.MessageStateController;
+import io.zeebe.broker.util.DeadlineScheduler;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.intent.MessageIntent;
-import io.zeebe.util.sched.clock.ActorClock;
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
 
-public class MessageTimeToLiveChecker implements Runnable {
+public class MessageTimeToLiveChecker {
 
   private final TypedCommandWriter writer;
   private final MessageStateController messageStateController;
+  private final DeadlineScheduler scheduler;
 
   private final MessageRecord deleteMessageCommand = new MessageRecord();
 
+  // the deadline and key of the next message which can expire - a DELETE command is already written
+  // for the expired messages before, which are removed from the deadlines when it is processed
+  private long expireDeadline;
+  private long expireKey;
+
   public MessageTimeToLiveChecker(
-      TypedCommandWriter writer, MessageStateController messageStateController) {
+      TypedCommandWriter writer,
+      MessageStateController messageStateController,
+      Duration pollingInterval) {
     this.writer = writer;
     this.messageStateController = messageStateController;
+    this.scheduler = new DeadlineScheduler(pollingInterval, this::deleteExpiredMessages);
+  }
+
+  /** Runs the first check. Must be called in the actor's context. */
+  public void start(ActorControl actor) {
+    expireDeadline = 0L;
+    expireKey = 0L;
+    scheduler.start(actor);
   }
 
-  @Override
-  public void run() {
-    messageStateController.findMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+  public void stop() {
+    scheduler.stop();
+  }
+
+  /** Must be called in the actor's context when a message with a time-to-live is stored. */
+  public void onMessageAdded(Message message) {
+    if (message.getDeadline() <= expireDeadline) {
+      // the message would be skipped by the next check
+      expireDeadline = 0L;
+      expireKey = 0L;
+    }
+    scheduler.onDeadlineAdded(message.getDeadline());
+  }
+
+  /**
+   * Writes a delete command for each message with an expired time-to-live, which has no delete
+   * command yet.
+   *
+   * @return the deadline of the next message which expires
+   */
+  public long deleteExpiredMessages(long now) {
+    return messageStateController.findMessagesWithDeadlineBefore(
+        now, expireDeadline, expireKey, this::writeDeleteMessageCommand);
   }
 
   private boolean writeDeleteMessageCommand(Message message) {
@@ -58,6 +95,12 @@ public class MessageTimeToLiveChecker implements Runnable {
     writer.writeFollowUpCommand(message.getKey(), MessageIntent.DELETE, deleteMessageCommand);
 
     final long position = writer.flush();
-    return position > 0;
+    if (position > 0) {
+      expireDeadline = message.getDeadline();
+      expireKey = message.getKey() + 1;
+      return true;
+    } else {
+      return false;
+    }
   }
 }
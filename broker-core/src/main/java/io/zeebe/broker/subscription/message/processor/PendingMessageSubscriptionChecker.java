@@ -21,7 +21,6 @@ import io.zeebe.broker.subscription.command.SubscriptionCommandSender;
 import io.zeebe.broker.subscription.message.state.MessageStateController;
 import io.zeebe.broker.subscription.message.state.MessageSubscription;
 import io.zeebe.util.sched.clock.ActorClock;
-import java.util.List;
 
 public class PendingMessageSubscriptionChecker implements Runnable {
 
@@ -41,18 +40,16 @@ public class PendingMessageSubscriptionChecker implements Runnable {
 
   @Override
   public void run() {
+    messageStateController.visitSubscriptionBefore(
+        ActorClock.currentTimeMillis() - subscriptionTimeout, this::sendCommandAgain);
+  }
 
-    final List<MessageSubscription> pendingSubscriptions =
-        messageStateController.findSubscriptionBefore(
-            ActorClock.currentTimeMillis() - subscriptionTimeout);
-
-    for (MessageSubscription subscription : pendingSubscriptions) {
-      if (sendCommand(subscription)) {
-        messageStateController.updateCommandSentTime(subscription);
-      } else {
-        return;
-      }
+  private boolean sendCommandAgain(MessageSubscription subscription) {
+    final boolean isSent = sendCommand(subscription);
+    if (isSent) {
+      messageStateController.updateCommandSentTime(subscription);
     }
+    return isSent;
   }
 
   private boolean sendCommand(MessageSubscription subscription) {
@@ -29,26 +29,37 @@ import io.zeebe.broker.subscription.command.SubscriptionCommandSender;
 import io.zeebe.broker.subscription.message.state.Message;
 import io.zeebe.broker.subscription.message.state.MessageStateController;
 import io.zeebe.broker.subscription.message.state.MessageSubscription;
+import io.zeebe.broker.subscription.message.state.SubscriptionState.SubscriptionVisitor;
 import io.zeebe.protocol.clientapi.RejectionType;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.intent.MessageIntent;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import org.agrona.ExpandableArrayBuffer;
 
 public class PublishMessageProcessor implements TypedRecordProcessor<MessageRecord> {
 
   private final MessageStateController messageStateController;
   private final SubscriptionCommandSender commandSender;
+  private final MessageTimeToLiveChecker timeToLiveChecker;
 
   private TypedResponseWriter responseWriter;
   private MessageRecord messageRecord;
-  private List<MessageSubscription> matchingSubscriptions;
+
+  // pooled copies of the subscriptions which match the published message
+  private final List<MatchingSubscription> matchingSubscriptions = new ArrayList<>();
+  private int matchingSubscriptionCount;
+  private final SubscriptionVisitor<MessageSubscription> matchingSubscriptionCollector =
+      this::addMatchingSubscription;
 
   public PublishMessageProcessor(
       MessageStateController messageStateController,
-      final SubscriptionCommandSender commandSender) {
+      final SubscriptionCommandSender commandSender,
+      final MessageTimeToLiveChecker timeToLiveChecker) {
     this.messageStateController = messageStateController;
     this.commandSender = commandSender;
+    this.timeToLiveChecker = timeToLiveChecker;
   }
 
   @Override
@@ -78,13 +89,11 @@ public class PublishMessageProcessor implements TypedRecordProcessor<MessageReco
       final long key = batchWriter.addNewEvent(MessageIntent.PUBLISHED, command.getValue());
       responseWriter.writeEventOnCommand(key, MessageIntent.PUBLISHED, command.getValue(), command);
 
-      matchingSubscriptions =
-          messageStateController.findSubscriptions(
-              messageRecord.getName(), messageRecord.getCorrelationKey());
-
-      for (final MessageSubscription sub : matchingSubscriptions) {
-        sub.setMessagePayload(messageRecord.getPayload());
-      }
+      matchingSubscriptionCount = 0;
+      messageStateController.visitSubscriptions(
+          messageRecord.getName(),
+          messageRecord.getCorrelationKey(),
+          matchingSubscriptionCollector);
 
       sideEffect.accept(this::correlateMessage);
 
@@ -98,6 +107,7 @@ public class PublishMessageProcessor implements TypedRecordProcessor<MessageReco
                 messageRecord.getMessageId(),
                 messageRecord.getTimeToLive());
         messageStateController.put(message);
+        timeToLiveChecker.onMessageAdded(message);
 
       } else {
         // don't add the message to the store to avoid that it can be correlated afterwards
@@ -106,8 +116,20 @@ public class PublishMessageProcessor implements TypedRecordProcessor<MessageReco
     }
   }
 
+  private boolean addMatchingSubscription(final MessageSubscription subscription) {
+    if (matchingSubscriptionCount == matchingSubscriptions.size()) {
+      matchingSubscriptions.add(new MatchingSubscription());
+    }
+
+    final MessageSubscription sub =
+        matchingSubscriptions.get(matchingSubscriptionCount++).copyOf(subscription);
+    sub.setMessagePayload(messageRecord.getPayload());
+    return true;
+  }
+
   private boolean correlateMessage() {
-    for (final MessageSubscription sub : matchingSubscriptions) {
+    for (int i = 0; i < matchingSubscriptionCount; i++) {
+      final MessageSubscription sub = matchingSubscriptions.get(i).subscription;
       final boolean success =
           commandSender.correlateWorkflowInstanceSubscription(
               sub.getWorkflowInstancePartitionId(),
@@ -126,4 +148,15 @@ public class PublishMessageProcessor implements TypedRecordProcessor<MessageReco
 
     return responseWriter.flush();
   }
+
+  private static final class MatchingSubscription {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final MessageSubscription subscription = new MessageSubscription();
+
+    private MessageSubscription copyOf(final MessageSubscription other) {
+      other.write(buffer, 0);
+      subscription.wrap(buffer, 0, other.getLength());
+      return subscription;
+    }
+  }
 }
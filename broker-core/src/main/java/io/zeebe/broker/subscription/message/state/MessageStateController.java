@@ -21,12 +21,17 @@ import static io.zeebe.broker.workflow.state.PersistenceHelper.EXISTENCE;
 import static io.zeebe.logstreams.rocksdb.ZeebeStateConstants.STATE_BYTE_ORDER;
 
 import io.zeebe.broker.subscription.message.data.MessageSubscriptionRecord;
+import io.zeebe.broker.subscription.message.state.SubscriptionState.SubscriptionVisitor;
+import io.zeebe.broker.util.DeadlineScheduler;
 import io.zeebe.broker.util.KeyStateController;
 import io.zeebe.logstreams.rocksdb.ZbRocksDb;
+import io.zeebe.logstreams.rocksdb.ZbRocksDb.IteratorCallback;
+import io.zeebe.logstreams.rocksdb.ZbRocksDb.IteratorControl;
+import io.zeebe.logstreams.rocksdb.ZbRocksEntry;
+import io.zeebe.logstreams.rocksdb.ZbRocksIterator;
 import io.zeebe.logstreams.rocksdb.ZbWriteBatch;
 import java.io.File;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.agrona.DirectBuffer;
@@ -35,9 +40,9 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.DBOptions;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
-import org.rocksdb.WriteOptions;
 
 public class MessageStateController extends KeyStateController {
 
@@ -52,6 +57,8 @@ public class MessageStateController extends KeyStateController {
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
   private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
   private final UnsafeBuffer iterateKeyBuffer = new UnsafeBuffer(0, 0);
+  private final ExpandableArrayBuffer prefixBuffer = new ExpandableArrayBuffer();
+  private final IteratorCallback firstMessageCallback = this::readFirstMessage;
 
   private final Message message = new Message();
 
@@ -79,6 +86,10 @@ public class MessageStateController extends KeyStateController {
   private SubscriptionState<MessageSubscription> subscriptionState;
 
   private ZbRocksDb db;
+  private ZbWriteBatch batch;
+
+  private int prefixLength;
+  private boolean isMessageFound;
 
   @Override
   public RocksDB open(final File dbDirectory, final boolean reopen) throws Exception {
@@ -88,13 +99,14 @@ public class MessageStateController extends KeyStateController {
             .collect(Collectors.toList());
 
     final RocksDB rocksDB = super.open(dbDirectory, reopen, columnFamilyNames);
+    batch = getWriteBatch();
 
     defaultColumnFamily = rocksDB.getDefaultColumnFamily();
     messageColumnFamily = getColumnFamilyHandle(MESSAGE_COLUMN_FAMILY_NAME);
     deadlineColumnFamily = getColumnFamilyHandle(DEADLINE_COLUMN_FAMILY_NAME);
     messageIdColumnFamily = getColumnFamilyHandle(MESSAGE_ID_COLUMN_FAMILY_NAME);
 
-    subscriptionState = new SubscriptionState<>(this, MessageSubscription.class);
+    subscriptionState = new SubscriptionState<>(this, db, MessageSubscription.class);
 
     return rocksDB;
   }
@@ -108,49 +120,44 @@ public class MessageStateController extends KeyStateController {
   }
 
   public void put(final Message message) {
-    try (final WriteOptions options = new WriteOptions();
-        final ZbWriteBatch batch = new ZbWriteBatch()) {
-
-      message.write(valueBuffer, 0);
-      batch.put(
-          defaultColumnFamily, message.getKey(), valueBuffer.byteArray(), message.getLength());
-
-      int length = writeMessageKey(keyBuffer, message);
-      batch.put(messageColumnFamily, keyBuffer.byteArray(), length, EXISTENCE, EXISTENCE.length);
+    message.write(valueBuffer, 0);
+    batch.put(defaultColumnFamily, message.getKey(), valueBuffer.byteArray(), message.getLength());
 
-      length = writeDeadlineKey(keyBuffer, message);
-      batch.put(deadlineColumnFamily, keyBuffer.byteArray(), length, EXISTENCE, EXISTENCE.length);
+    int length = writeMessageKey(keyBuffer, message);
+    batch.put(messageColumnFamily, keyBuffer.byteArray(), length, EXISTENCE, EXISTENCE.length);
 
-      if (message.getId().capacity() > 0) {
-        length =
-            writeMessageIdKey(
-                keyBuffer, message.getName(), message.getCorrelationKey(), message.getId());
-        batch.put(
-            messageIdColumnFamily, keyBuffer.byteArray(), length, EXISTENCE, EXISTENCE.length);
-      }
+    length = writeDeadlineKey(keyBuffer, message);
+    batch.put(deadlineColumnFamily, keyBuffer.byteArray(), length, EXISTENCE, EXISTENCE.length);
 
-      db.write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
+    if (message.getId().capacity() > 0) {
+      length =
+          writeMessageIdKey(
+              keyBuffer, message.getName(), message.getCorrelationKey(), message.getId());
+      batch.put(messageIdColumnFamily, keyBuffer.byteArray(), length, EXISTENCE, EXISTENCE.length);
     }
+
+    write(batch);
   }
 
   private int writeMessageKey(MutableDirectBuffer buffer, final Message message) {
+    int offset = writeMessagePrefix(buffer, message.getName(), message.getCorrelationKey());
+
+    buffer.putLong(offset, message.getKey(), STATE_BYTE_ORDER);
+    offset += Long.BYTES;
+
+    return offset;
+  }
+
+  private int writeMessagePrefix(
+      MutableDirectBuffer buffer, final DirectBuffer name, final DirectBuffer correlationKey) {
     int offset = 0;
 
-    final DirectBuffer name = message.getName();
     buffer.putBytes(offset, name, 0, name.capacity());
     offset += name.capacity();
 
-    final DirectBuffer correlationKey = message.getCorrelationKey();
     buffer.putBytes(offset, correlationKey, 0, correlationKey.capacity());
     offset += correlationKey.capacity();
 
-    buffer.putLong(offset, message.getKey(), STATE_BYTE_ORDER);
-    offset += Long.BYTES;
-
-    assert (name.capacity() + correlationKey.capacity() + Long.BYTES) == offset
-        : "Offset problem: offset is not equal to expected key length";
     return offset;
   }
 
@@ -186,36 +193,28 @@ public class MessageStateController extends KeyStateController {
   }
 
   public Message findFirstMessage(final DirectBuffer name, final DirectBuffer correlationKey) {
-    int offset = 0;
-    final int prefixLength = name.capacity() + correlationKey.capacity();
-    final MutableDirectBuffer prefixBuffer = new UnsafeBuffer(new byte[prefixLength]);
-
-    prefixBuffer.putBytes(offset, name, 0, name.capacity());
-    offset += name.capacity();
-
-    prefixBuffer.putBytes(offset, correlationKey, 0, correlationKey.capacity());
-
-    final AtomicBoolean found = new AtomicBoolean();
+    prefixLength = writeMessagePrefix(prefixBuffer, name, correlationKey);
+    isMessageFound = false;
 
     db.forEachPrefixed(
-        messageColumnFamily,
-        prefixBuffer,
-        (entry, control) -> {
-          iterateKeyBuffer.wrap(entry.getKey());
-
-          final long messageKey = iterateKeyBuffer.getLong(prefixLength, STATE_BYTE_ORDER);
-          found.set(readMessage(messageKey, message));
-
-          control.stop();
-        });
+        messageColumnFamily, prefixBuffer.byteArray(), prefixLength, firstMessageCallback);
 
-    if (found.get()) {
+    if (isMessageFound) {
       return message;
     } else {
       return null;
     }
   }
 
+  private void readFirstMessage(final ZbRocksEntry entry, final IteratorControl control) {
+    iterateKeyBuffer.wrap(entry.getKey());
+
+    final long messageKey = iterateKeyBuffer.getLong(prefixLength, STATE_BYTE_ORDER);
+    isMessageFound = readMessage(messageKey, message);
+
+    control.stop();
+  }
+
   private boolean readMessage(long key, Message message) {
     final int readBytes = db.get(defaultColumnFamily, key, valueBuffer);
 
@@ -227,25 +226,52 @@ public class MessageStateController extends KeyStateController {
     }
   }
 
-  public void findMessagesWithDeadlineBefore(final long timestamp, IteratorConsumer consumer) {
-
-    db.forEach(
-        deadlineColumnFamily,
-        (entry, control) -> {
-          iterateKeyBuffer.wrap(entry.getKey());
-          final long deadline = iterateKeyBuffer.getLong(0, STATE_BYTE_ORDER);
-
-          boolean consumed = false;
-          if (deadline <= timestamp) {
-            final long messageKey = iterateKeyBuffer.getLong(Long.BYTES, STATE_BYTE_ORDER);
-
-            readMessage(messageKey, message);
-            consumed = consumer.accept(message);
-          }
-          if (!consumed) {
-            control.stop();
-          }
-        });
+  /**
+   * Iterates over the messages with a deadline before or equal to the given timestamp, ordered by
+   * their deadline, until the consumer doesn't accept a message.
+   *
+   * @return the deadline of the first message which is not expired yet, or {@link
+   *     DeadlineScheduler#NO_DEADLINE} if there is none or the consumer didn't accept a message
+   */
+  public long findMessagesWithDeadlineBefore(final long timestamp, IteratorConsumer consumer) {
+    return findMessagesWithDeadlineBefore(timestamp, 0L, 0L, consumer);
+  }
+
+  /**
+   * Same as {@link #findMessagesWithDeadlineBefore(long, IteratorConsumer)}, but starts the
+   * iteration at the message with the given deadline and key, or the next one after it. The
+   * messages before are skipped.
+   */
+  public long findMessagesWithDeadlineBefore(
+      final long timestamp,
+      final long fromDeadline,
+      final long fromKey,
+      final IteratorConsumer consumer) {
+    keyBuffer.putLong(0, fromDeadline, STATE_BYTE_ORDER);
+    keyBuffer.putLong(Long.BYTES, fromKey, STATE_BYTE_ORDER);
+
+    try (ReadOptions options = new ReadOptions().setTotalOrderSeek(true);
+        ZbRocksIterator iterator = db.newIterator(deadlineColumnFamily, options)) {
+
+      for (iterator.seek(keyBuffer.byteArray(), 2 * Long.BYTES);
+          iterator.isValid();
+          iterator.next()) {
+        iterateKeyBuffer.wrap(iterator.key());
+        final long deadline = iterateKeyBuffer.getLong(0, STATE_BYTE_ORDER);
+        if (deadline > timestamp) {
+          return deadline;
+        }
+
+        final long messageKey = iterateKeyBuffer.getLong(Long.BYTES, STATE_BYTE_ORDER);
+        readMessage(messageKey, message);
+
+        if (!consumer.accept(message)) {
+          break;
+        }
+      }
+    }
+
+    return DeadlineScheduler.NO_DEADLINE;
   }
 
   public boolean exist(
@@ -261,27 +287,22 @@ public class MessageStateController extends KeyStateController {
       return;
     }
 
-    try (final WriteOptions options = new WriteOptions();
-        final ZbWriteBatch batch = new ZbWriteBatch()) {
+    batch.delete(defaultColumnFamily, key);
 
-      batch.delete(defaultColumnFamily, key);
+    int length = writeMessageKey(keyBuffer, message);
+    batch.delete(messageColumnFamily, keyBuffer.byteArray(), length);
 
-      int length = writeMessageKey(keyBuffer, message);
-      batch.delete(messageColumnFamily, keyBuffer.byteArray(), length);
+    length = writeDeadlineKey(keyBuffer, message);
+    batch.delete(deadlineColumnFamily, keyBuffer.byteArray(), length);
 
-      length = writeDeadlineKey(keyBuffer, message);
-      batch.delete(deadlineColumnFamily, keyBuffer.byteArray(), length);
-
-      if (message.getId().capacity() > 0) {
-        length =
-            writeMessageIdKey(
-                keyBuffer, message.getName(), message.getCorrelationKey(), message.getId());
-        batch.delete(messageIdColumnFamily, keyBuffer.byteArray(), length);
-      }
-      db.write(options, batch);
-    } catch (RocksDBException e) {
-      throw new RuntimeException(e);
+    if (message.getId().capacity() > 0) {
+      length =
+          writeMessageIdKey(
+              keyBuffer, message.getName(), message.getCorrelationKey(), message.getId());
+      batch.delete(messageIdColumnFamily, keyBuffer.byteArray(), length);
     }
+
+    write(batch);
   }
 
   public void put(final MessageSubscription subscription) {
@@ -297,10 +318,22 @@ public class MessageStateController extends KeyStateController {
     return subscriptionState.findSubscriptions(messageName, correlationKey);
   }
 
+  public void visitSubscriptions(
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey,
+      final SubscriptionVisitor<MessageSubscription> visitor) {
+    subscriptionState.visitSubscriptions(messageName, correlationKey, visitor);
+  }
+
   public List<MessageSubscription> findSubscriptionBefore(final long deadline) {
     return subscriptionState.findSubscriptionBefore(deadline);
   }
 
+  public void visitSubscriptionBefore(
+      final long deadline, final SubscriptionVisitor<MessageSubscription> visitor) {
+    subscriptionState.visitSubscriptionBefore(deadline, visitor);
+  }
+
   public boolean exist(final MessageSubscription subscription) {
     return subscriptionState.exist(subscription);
   }
@@ -21,12 +21,19 @@ import static io.zeebe.broker.workflow.state.PersistenceHelper.EXISTENCE;
 import static io.zeebe.logstreams.rocksdb.ZeebeStateConstants.STATE_BYTE_ORDER;
 
 import io.zeebe.broker.workflow.state.PersistenceHelper;
+import io.zeebe.logstreams.rocksdb.ZbRocksDb;
+import io.zeebe.logstreams.rocksdb.ZbRocksDb.IteratorCallback;
+import io.zeebe.logstreams.rocksdb.ZbRocksDb.IteratorControl;
+import io.zeebe.logstreams.rocksdb.ZbRocksEntry;
+import io.zeebe.logstreams.rocksdb.ZbRocksIterator;
 import io.zeebe.logstreams.state.StateController;
+import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.util.ArrayList;
 import java.util.List;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 
@@ -37,31 +44,81 @@ public class SubscriptionState<T extends Subscription> {
 
   private static final byte[] SUB_NAME = "subscription".getBytes();
   private static final byte[] SUB_SEND_TIME_NAME = "subSendTime".getBytes();
+  static final byte[] SUB_NAME_AND_CORRELATION_KEY_NAME =
+      "subNameAndCorrelationKey".getBytes();
 
-  public static final byte[][] COLUMN_FAMILY_NAMES = {SUB_NAME, SUB_SEND_TIME_NAME};
+  public static final byte[][] COLUMN_FAMILY_NAMES = {
+    SUB_NAME, SUB_SEND_TIME_NAME, SUB_NAME_AND_CORRELATION_KEY_NAME
+  };
 
   private final StateController rocksDbWrapper;
+  private final ZbRocksDb db;
 
   private final ExpandableArrayBuffer keyBuffer;
   private final ExpandableArrayBuffer valueBuffer;
+  private final ExpandableArrayBuffer nameAndCorrelationKeyBuffer = new ExpandableArrayBuffer();
   private final UnsafeBuffer iterateKeyBuffer = new UnsafeBuffer(0, 0);
 
+  // separate buffers for the visit of the subscriptions by message name and correlation key, since
+  // the visitor may update the visited subscription
+  private final ExpandableArrayBuffer prefixBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer visitValueBuffer = new ExpandableArrayBuffer();
+  private final IteratorCallback visitSubscriptionCallback = this::visitSubscription;
+  private int prefixLength;
+  private SubscriptionVisitor<T> subscriptionVisitor;
+
   private final ColumnFamilyHandle subscriptionHandle;
   private final ColumnFamilyHandle subSendTimeHandle;
+  private final ColumnFamilyHandle subNameAndCorrelationKeyHandle;
 
   private final Class<T> clazz;
+  private final T iterateSubscription;
   private final PersistenceHelper persistenceHelper;
 
-  public SubscriptionState(StateController rocksDbWrapper, Class<T> clazz) {
+  public SubscriptionState(StateController rocksDbWrapper, ZbRocksDb db, Class<T> clazz) {
     this.rocksDbWrapper = rocksDbWrapper;
+    this.db = db;
     this.persistenceHelper = new PersistenceHelper(rocksDbWrapper);
     this.clazz = clazz;
 
+    try {
+      iterateSubscription = clazz.newInstance();
+    } catch (Exception ex) {
+      throw new RuntimeException(ex);
+    }
+
     keyBuffer = new ExpandableArrayBuffer();
     valueBuffer = new ExpandableArrayBuffer();
 
     subscriptionHandle = rocksDbWrapper.getColumnFamilyHandle(SUB_NAME);
     subSendTimeHandle = rocksDbWrapper.getColumnFamilyHandle(SUB_SEND_TIME_NAME);
+    subNameAndCorrelationKeyHandle =
+        rocksDbWrapper.getColumnFamilyHandle(SUB_NAME_AND_CORRELATION_KEY_NAME);
+
+    rebuildNameAndCorrelationKeyIndexIfMissing();
+  }
+
+  /**
+   * The index by message name and correlation key doesn't exist in the state of a previous version,
+   * so it is built from the stored subscriptions once the state of such a snapshot is opened.
+   */
+  private void rebuildNameAndCorrelationKeyIndexIfMissing() {
+    if (isEmpty(subNameAndCorrelationKeyHandle) && !isEmpty(subscriptionHandle)) {
+      db.forEach(
+          subscriptionHandle,
+          (entry, control) -> {
+            final DirectBuffer value = entry.getValue();
+            iterateSubscription.wrap(value, 0, value.capacity());
+            putNameAndCorrelationKey(iterateSubscription);
+          });
+    }
+  }
+
+  private boolean isEmpty(final ColumnFamilyHandle handle) {
+    try (ZbRocksIterator iterator = db.newIterator(handle)) {
+      iterator.seekToFirst();
+      return !iterator.isValid();
+    }
   }
 
   public void put(final T subscription) {
@@ -74,6 +131,44 @@ public class SubscriptionState<T extends Subscription> {
     final int keyLengthWithTimePrefix = TIME_LENGTH + keyLength;
     writeKeyWithValue(subscriptionHandle, keyLength, subscriptionLength);
     writeKeyWithTimePrefix(subSendTimeHandle, keyLengthWithTimePrefix);
+
+    putNameAndCorrelationKey(subscription);
+  }
+
+  private void putNameAndCorrelationKey(final T subscription) {
+    final int nameAndCorrelationKeyLength = writeNameAndCorrelationKey(subscription);
+    rocksDbWrapper.put(
+        subNameAndCorrelationKeyHandle,
+        nameAndCorrelationKeyBuffer.byteArray(),
+        0,
+        nameAndCorrelationKeyLength,
+        EXISTENCE,
+        0,
+        EXISTENCE.length);
+  }
+
+  /**
+   * Writes the key of the subscription prefixed by its message name and correlation key.
+   *
+   * @return the length of the written key
+   */
+  private int writeNameAndCorrelationKey(final T subscription) {
+    final int offset =
+        writeNameAndCorrelationKeyPrefix(
+            nameAndCorrelationKeyBuffer,
+            subscription.getMessageName(),
+            subscription.getCorrelationKey());
+    subscription.writeKey(nameAndCorrelationKeyBuffer, offset);
+
+    return offset + subscription.getKeyLength();
+  }
+
+  private static int writeNameAndCorrelationKeyPrefix(
+      final MutableDirectBuffer buffer,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    final int offset = BufferUtil.writeIntoBuffer(buffer, 0, messageName);
+    return BufferUtil.writeIntoBuffer(buffer, offset, correlationKey);
   }
 
   public void updateCommandSentTime(final T subscription) {
@@ -113,29 +208,101 @@ public class SubscriptionState<T extends Subscription> {
       final DirectBuffer messageName, final DirectBuffer correlationKey) {
     final List<T> subscriptionsList = new ArrayList<>();
 
-    rocksDbWrapper.foreach(
-        subscriptionHandle,
-        (key, value) -> {
-          try {
-            final T subscription = clazz.newInstance();
-            subscription.wrap(new UnsafeBuffer(value), 0, value.length);
-
-            final boolean isEqual =
-                messageName.equals(subscription.getMessageName())
-                    && correlationKey.equals(subscription.getCorrelationKey());
-            if (isEqual) {
-              subscriptionsList.add(subscription);
-            }
-          } catch (Exception ex) {
-            throw new RuntimeException(ex);
-          }
+    visitSubscriptions(
+        messageName,
+        correlationKey,
+        subscription -> {
+          subscriptionsList.add(copySubscription(subscription));
+          return true;
         });
 
     return subscriptionsList;
   }
 
+  private T copySubscription(final T subscription) {
+    final int length = subscription.getLength();
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[length]);
+    subscription.write(buffer, 0);
+
+    try {
+      final T copy = clazz.newInstance();
+      copy.wrap(buffer, 0, length);
+      return copy;
+    } catch (Exception ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  /**
+   * Visits the subscriptions for the given message name and correlation key until the visitor
+   * doesn't accept a subscription. The subscriptions are looked up by their message name and
+   * correlation key prefix. The visited subscription instance is reused, so the visitor must copy
+   * it if it needs it after the visit.
+   */
+  public void visitSubscriptions(
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey,
+      final SubscriptionVisitor<T> visitor) {
+    prefixLength = writeNameAndCorrelationKeyPrefix(prefixBuffer, messageName, correlationKey);
+    subscriptionVisitor = visitor;
+
+    try {
+      db.forEachPrefixed(
+          subNameAndCorrelationKeyHandle,
+          prefixBuffer.byteArray(),
+          prefixLength,
+          visitSubscriptionCallback);
+    } finally {
+      subscriptionVisitor = null;
+    }
+  }
+
+  private void visitSubscription(final ZbRocksEntry entry, final IteratorControl control) {
+    final DirectBuffer key = entry.getKey();
+    final int keyOffset = key.wrapAdjustment() + prefixLength;
+    final int keyLength = key.capacity() - prefixLength;
+
+    final int valueLength = readSubscription(key.byteArray(), keyOffset, keyLength);
+    if (valueLength > 0) {
+      iterateSubscription.wrap(visitValueBuffer, 0, valueLength);
+
+      if (!subscriptionVisitor.visit(iterateSubscription)) {
+        control.stop();
+      }
+    }
+  }
+
+  private int readSubscription(final byte[] key, final int keyOffset, final int keyLength) {
+    final int valueLength = visitValueBuffer.capacity();
+    final int readBytes =
+        rocksDbWrapper.get(
+            subscriptionHandle,
+            key,
+            keyOffset,
+            keyLength,
+            visitValueBuffer.byteArray(),
+            0,
+            valueLength);
+
+    if (readBytes > valueLength) {
+      visitValueBuffer.checkLimit(readBytes);
+      return readSubscription(key, keyOffset, keyLength);
+    }
+    return readBytes;
+  }
+
   public List<T> findSubscriptionBefore(final long deadline) {
     final List<T> subscriptionsList = new ArrayList<>();
+    visitSubscriptionBefore(deadline, subscriptionsList::add);
+    return subscriptionsList;
+  }
+
+  /**
+   * Visits the subscriptions whose command was sent before the given deadline, ordered by the send
+   * time, until the visitor doesn't accept a subscription. The visitor may update the send time of
+   * the visited subscriptions.
+   */
+  public void visitSubscriptionBefore(final long deadline, final SubscriptionVisitor<T> visitor) {
     rocksDbWrapper.whileTrue(
         subSendTimeHandle,
         (key, value) -> {
@@ -145,12 +312,11 @@ public class SubscriptionState<T extends Subscription> {
           final boolean isDue = time > 0 && time < deadline;
           if (isDue) {
             final int keyLengthWithoutTime = key.length - KEY_OFFSET;
-            subscriptionsList.add(
+            return visitor.visit(
                 getSubscription(iterateKeyBuffer, KEY_OFFSET, keyLengthWithoutTime));
           }
-          return isDue;
+          return false;
         });
-    return subscriptionsList;
   }
 
   public boolean exist(final T subscription) {
@@ -170,5 +336,17 @@ public class SubscriptionState<T extends Subscription> {
     final int keyLengthWithTimePrefix = TIME_LENGTH + keyLength;
     rocksDbWrapper.remove(
         subSendTimeHandle, keyBuffer.byteArray(), TIME_OFFSET, keyLengthWithTimePrefix);
+
+    final int nameAndCorrelationKeyLength = writeNameAndCorrelationKey(subscription);
+    rocksDbWrapper.remove(
+        subNameAndCorrelationKeyHandle,
+        nameAndCorrelationKeyBuffer.byteArray(),
+        0,
+        nameAndCorrelationKeyLength);
+  }
+
+  @FunctionalInterface
+  public interface SubscriptionVisitor<T> {
+    boolean visit(T subscription);
   }
 }
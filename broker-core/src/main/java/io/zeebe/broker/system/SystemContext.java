@@ -27,6 +27,7 @@ import io.zeebe.broker.system.configuration.TomlConfigurationReader;
 import io.zeebe.servicecontainer.ServiceContainer;
 import io.zeebe.servicecontainer.impl.ServiceContainerImpl;
 import io.zeebe.util.metrics.MetricsManager;
+import io.zeebe.util.sched.ActorIdleStrategy;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
@@ -158,15 +159,23 @@ public class SystemContext implements AutoCloseable {
 
     final int cpuThreads = cfg.getCpuThreadCount();
     final int ioThreads = cfg.getIoThreadCount();
+    final ActorIdleStrategy cpuIdleStrategy = cfg.getCpuIdleStrategyType();
+    final ActorIdleStrategy ioIdleStrategy = cfg.getIoIdleStrategyType();
 
     Loggers.SYSTEM_LOGGER.info(
-        "Scheduler configuration: Threads{cpu-bound: {}, io-bound: {}}.", cpuThreads, ioThreads);
+        "Scheduler configuration: Threads{cpu-bound: {} ({}), io-bound: {} ({})}.",
+        cpuThreads,
+        cpuIdleStrategy,
+        ioThreads,
+        ioIdleStrategy);
 
     return ActorScheduler.newActorScheduler()
         .setActorClock(clock)
         .setMetricsManager(metricsManager)
         .setCpuBoundActorThreadCount(cpuThreads)
+        .setCpuBoundIdleStrategy(cpuIdleStrategy)
         .setIoBoundActorThreadCount(ioThreads)
+        .setIoBoundIdleStrategy(ioIdleStrategy)
         .setSchedulerName(brokerId)
         .build();
   }
@@ -32,6 +32,18 @@ public class DataCfg implements ConfigurationEntry {
 
   private String snapshotReplicationPeriod = "5m";
 
+  private String logCompactionPeriod = "15m";
+
+  private int processingBatchSize = 1;
+
+  private boolean logFlushEnabled = false;
+
+  private String logFlushDelay = "1ms";
+
+  private String stateBlockCacheSize = "512M";
+
+  private String stateWriteBufferSize = "64M";
+
   @Override
   public void init(BrokerCfg globalConfig, String brokerBase, Environment environment) {
     applyEnvironment(environment);
@@ -74,6 +86,54 @@ public class DataCfg implements ConfigurationEntry {
     this.snapshotReplicationPeriod = snapshotReplicationPeriod;
   }
 
+  public String getLogCompactionPeriod() {
+    return logCompactionPeriod;
+  }
+
+  public void setLogCompactionPeriod(String logCompactionPeriod) {
+    this.logCompactionPeriod = logCompactionPeriod;
+  }
+
+  public int getProcessingBatchSize() {
+    return processingBatchSize;
+  }
+
+  public void setProcessingBatchSize(int processingBatchSize) {
+    this.processingBatchSize = processingBatchSize;
+  }
+
+  public boolean isLogFlushEnabled() {
+    return logFlushEnabled;
+  }
+
+  public void setLogFlushEnabled(boolean logFlushEnabled) {
+    this.logFlushEnabled = logFlushEnabled;
+  }
+
+  public String getLogFlushDelay() {
+    return logFlushDelay;
+  }
+
+  public void setLogFlushDelay(String logFlushDelay) {
+    this.logFlushDelay = logFlushDelay;
+  }
+
+  public String getStateBlockCacheSize() {
+    return stateBlockCacheSize;
+  }
+
+  public void setStateBlockCacheSize(String stateBlockCacheSize) {
+    this.stateBlockCacheSize = stateBlockCacheSize;
+  }
+
+  public String getStateWriteBufferSize() {
+    return stateWriteBufferSize;
+  }
+
+  public void setStateWriteBufferSize(String stateWriteBufferSize) {
+    this.stateWriteBufferSize = stateWriteBufferSize;
+  }
+
   @Override
   public String toString() {
     return "DataCfg{"
@@ -88,6 +148,22 @@ public class DataCfg implements ConfigurationEntry {
         + ", snapshotReplicationPeriod='"
         + snapshotReplicationPeriod
         + '\''
+        + ", logCompactionPeriod='"
+        + logCompactionPeriod
+        + '\''
+        + ", processingBatchSize="
+        + processingBatchSize
+        + ", logFlushEnabled="
+        + logFlushEnabled
+        + ", logFlushDelay='"
+        + logFlushDelay
+        + '\''
+        + ", stateBlockCacheSize='"
+        + stateBlockCacheSize
+        + '\''
+        + ", stateWriteBufferSize='"
+        + stateWriteBufferSize
+        + '\''
         + '}';
   }
 }
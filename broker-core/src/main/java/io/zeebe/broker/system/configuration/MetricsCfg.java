@@ -21,12 +21,24 @@ import io.zeebe.util.DurationUtil;
 import java.time.Duration;
 
 public class MetricsCfg implements ConfigurationEntry {
+  public static final int DEFAULT_HTTP_PORT = 9600;
+
   private String reportingInterval = "5s";
   private String file = "metrics/zeebe.prom";
 
+  private boolean httpEnabled = false;
+  private String httpHost;
+  private int httpPort = DEFAULT_HTTP_PORT;
+
   @Override
   public void init(BrokerCfg brokerCfg, String brokerBase, Environment environment) {
     file = ConfigurationUtil.toAbsolutePath(file, brokerBase);
+
+    final NetworkCfg networkCfg = brokerCfg.getNetwork();
+    if (httpHost == null) {
+      httpHost = networkCfg.getHost();
+    }
+    httpPort += networkCfg.getPortOffset() * 10;
   }
 
   public Duration getReportingIntervalDuration() {
@@ -49,6 +61,30 @@ public class MetricsCfg implements ConfigurationEntry {
     this.file = metricsFile;
   }
 
+  public boolean isHttpEnabled() {
+    return httpEnabled;
+  }
+
+  public void setHttpEnabled(boolean httpEnabled) {
+    this.httpEnabled = httpEnabled;
+  }
+
+  public String getHttpHost() {
+    return httpHost;
+  }
+
+  public void setHttpHost(String httpHost) {
+    this.httpHost = httpHost;
+  }
+
+  public int getHttpPort() {
+    return httpPort;
+  }
+
+  public void setHttpPort(int httpPort) {
+    this.httpPort = httpPort;
+  }
+
   @Override
   public String toString() {
     return "MetricsCfg{"
@@ -58,6 +94,13 @@ public class MetricsCfg implements ConfigurationEntry {
         + ", file='"
         + file
         + '\''
+        + ", httpEnabled="
+        + httpEnabled
+        + ", httpHost='"
+        + httpHost
+        + '\''
+        + ", httpPort="
+        + httpPort
         + '}';
   }
 }
@@ -21,6 +21,7 @@ public class SocketBindingGatewayCfg extends SocketBindingCfg {
 
   public static final int DEFAULT_PORT = 26500;
   private boolean enabled = true;
+  private String longPollingTimeout = "0s";
 
   public SocketBindingGatewayCfg() {
     port = DEFAULT_PORT;
@@ -34,6 +35,14 @@ public class SocketBindingGatewayCfg extends SocketBindingCfg {
     this.enabled = enabled;
   }
 
+  public String getLongPollingTimeout() {
+    return longPollingTimeout;
+  }
+
+  public void setLongPollingTimeout(final String longPollingTimeout) {
+    this.longPollingTimeout = longPollingTimeout;
+  }
+
   @Override
   public String toString() {
     return "SocketBindingGatewayCfg{"
@@ -47,6 +56,9 @@ public class SocketBindingGatewayCfg extends SocketBindingCfg {
         + ", sendBufferSize='"
         + sendBufferSize
         + '\''
+        + ", longPollingTimeout='"
+        + longPollingTimeout
+        + '\''
         + '}';
   }
 }
@@ -17,9 +17,14 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import io.zeebe.util.sched.ActorIdleStrategy;
+import java.util.Locale;
+
 public class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private String cpuIdleStrategy = ActorIdleStrategy.BACKOFF.name();
+  private String ioIdleStrategy = ActorIdleStrategy.BACKOFF.name();
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -37,6 +42,34 @@ public class ThreadsCfg implements ConfigurationEntry {
     this.ioThreadCount = ioThreads;
   }
 
+  public String getCpuIdleStrategy() {
+    return cpuIdleStrategy;
+  }
+
+  public ActorIdleStrategy getCpuIdleStrategyType() {
+    return toIdleStrategy(cpuIdleStrategy);
+  }
+
+  public void setCpuIdleStrategy(String cpuIdleStrategy) {
+    this.cpuIdleStrategy = cpuIdleStrategy;
+  }
+
+  public String getIoIdleStrategy() {
+    return ioIdleStrategy;
+  }
+
+  public ActorIdleStrategy getIoIdleStrategyType() {
+    return toIdleStrategy(ioIdleStrategy);
+  }
+
+  public void setIoIdleStrategy(String ioIdleStrategy) {
+    this.ioIdleStrategy = ioIdleStrategy;
+  }
+
+  private static ActorIdleStrategy toIdleStrategy(String idleStrategy) {
+    return ActorIdleStrategy.valueOf(idleStrategy.toUpperCase(Locale.ENGLISH).replace('-', '_'));
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -44,6 +77,12 @@ public class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", cpuIdleStrategy='"
+        + cpuIdleStrategy
+        + '\''
+        + ", ioIdleStrategy='"
+        + ioIdleStrategy
+        + '\''
         + '}';
   }
 }
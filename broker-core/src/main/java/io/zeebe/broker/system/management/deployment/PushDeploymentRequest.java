@@ -22,8 +22,10 @@ import static io.zeebe.clustering.management.PushDeploymentRequestDecoder.deploy
 import io.zeebe.broker.util.SbeBufferWriterReader;
 import io.zeebe.clustering.management.PushDeploymentRequestDecoder;
 import io.zeebe.clustering.management.PushDeploymentRequestEncoder;
+import io.zeebe.clustering.management.PushDeploymentRequestEncoder.PartitionIdsEncoder;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class PushDeploymentRequest
@@ -32,17 +34,18 @@ public class PushDeploymentRequest
   private final PushDeploymentRequestEncoder bodyEncoder = new PushDeploymentRequestEncoder();
   private final PushDeploymentRequestDecoder bodyDecoder = new PushDeploymentRequestDecoder();
 
-  private int partitionId = PushDeploymentRequestEncoder.partitionIdNullValue();
+  private final IntArrayList partitionIds = new IntArrayList();
   private long deploymentKey = PushDeploymentRequestEncoder.deploymentKeyNullValue();
   private final DirectBuffer deployment = new UnsafeBuffer(0, 0);
 
-  public PushDeploymentRequest partitionId(final int partitionId) {
-    this.partitionId = partitionId;
+  public PushDeploymentRequest partitionIds(final IntArrayList partitionIds) {
+    this.partitionIds.clear();
+    this.partitionIds.addAll(partitionIds);
     return this;
   }
 
-  public int partitionId() {
-    return this.partitionId;
+  public IntArrayList partitionIds() {
+    return this.partitionIds;
   }
 
   public PushDeploymentRequest deploymentKey(final long deploymentKey) {
@@ -77,8 +80,8 @@ public class PushDeploymentRequest
   public void wrap(final DirectBuffer buffer, final int offset, final int length) {
     super.wrap(buffer, offset, length);
 
-    partitionId = bodyDecoder.partitionId();
     deploymentKey = bodyDecoder.deploymentKey();
+    bodyDecoder.partitionIds().forEach(decoder -> partitionIds.addInt(decoder.partitionId()));
 
     deployment.wrap(
         buffer, bodyDecoder.limit() + deploymentHeaderLength(), bodyDecoder.deploymentLength());
@@ -87,6 +90,8 @@ public class PushDeploymentRequest
   @Override
   public int getLength() {
     return super.getLength()
+        + PartitionIdsEncoder.sbeHeaderSize()
+        + partitionIds.size() * PartitionIdsEncoder.sbeBlockLength()
         + PushDeploymentRequestEncoder.deploymentHeaderLength()
         + deployment.capacity();
   }
@@ -95,16 +100,19 @@ public class PushDeploymentRequest
   public void write(final MutableDirectBuffer buffer, final int offset) {
     super.write(buffer, offset);
 
-    bodyEncoder
-        .partitionId(partitionId)
-        .deploymentKey(deploymentKey)
-        .putDeployment(deployment, 0, deployment.capacity());
+    final PartitionIdsEncoder partitionIdsEncoder =
+        bodyEncoder.deploymentKey(deploymentKey).partitionIdsCount(partitionIds.size());
+    for (int i = 0; i < partitionIds.size(); i++) {
+      partitionIdsEncoder.next().partitionId(partitionIds.getInt(i));
+    }
+
+    bodyEncoder.putDeployment(deployment, 0, deployment.capacity());
   }
 
   public void reset() {
     super.reset();
 
-    partitionId = PushDeploymentRequestEncoder.partitionIdNullValue();
+    partitionIds.clear();
     deploymentKey = PushDeploymentRequestEncoder.deploymentKeyNullValue();
     deployment.wrap(0, 0);
   }
@@ -34,6 +34,7 @@ import io.zeebe.transport.ServerResponse;
 import io.zeebe.util.sched.ActorControl;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
 import org.slf4j.Logger;
 
 public class PushDeploymentRequestHandler {
@@ -63,52 +64,72 @@ public class PushDeploymentRequestHandler {
     final PushDeploymentRequest pushDeploymentRequest = new PushDeploymentRequest();
     pushDeploymentRequest.wrap(buffer, offset, length);
     final long deploymentKey = pushDeploymentRequest.deploymentKey();
-    final int partitionId = pushDeploymentRequest.partitionId();
+    final IntArrayList partitionIds = pushDeploymentRequest.partitionIds();
     final DirectBuffer deployment = pushDeploymentRequest.deployment();
 
     LOG.debug("Got deployment push request for deployment {}.", deploymentKey);
 
-    final Partition partition = leaderPartitions.get(partitionId);
-    if (partition != null) {
-      LOG.trace("Leader for partition {}, handle deployment.", partitionId);
-      handlePushDeploymentRequest(
-          output, remoteAddress, requestId, deployment, deploymentKey, partitionId);
+    final IntArrayList leaderPartitionIds = new IntArrayList();
+    for (int i = 0; i < partitionIds.size(); i++) {
+      final int partitionId = partitionIds.getInt(i);
+      if (leaderPartitions.containsKey(partitionId)) {
+        LOG.trace("Leader for partition {}, handle deployment.", partitionId);
+        leaderPartitionIds.addInt(partitionId);
+      } else {
+        LOG.debug("Not leader for partition {}", partitionId);
+      }
+    }
 
-    } else {
-      LOG.debug("Not leader for partition {}", partitionId);
+    if (leaderPartitionIds.isEmpty()) {
       return false;
     }
 
+    handlePushDeploymentRequest(
+        output, remoteAddress, requestId, deployment, deploymentKey, leaderPartitionIds);
+
     return true;
   }
 
+  /**
+   * Writes the deployment to all given partitions and responds with the partitions it was written
+   * to. Partitions which are not led by this broker anymore are left out of the response, so that
+   * the deployment is pushed again to the new leader.
+   */
   private void handlePushDeploymentRequest(
       final ServerOutput output,
       final RemoteAddress remoteAddress,
       final long requestId,
       final DirectBuffer deployment,
       final long deploymentKey,
-      final int partitionId) {
+      final IntArrayList partitionIds) {
 
     final DeploymentRecord deploymentRecord = new DeploymentRecord();
     deploymentRecord.wrap(deployment);
 
+    final IntArrayList writtenPartitionIds = new IntArrayList();
+
     actor.runUntilDone(
         () -> {
-          final Partition partition = leaderPartitions.get(partitionId);
-          if (partition == null) {
-            LOG.debug("Leader change on partition {}, ignore push deployment request", partitionId);
-            actor.done();
-            return;
+          for (int i = partitionIds.size() - 1; i >= 0; i--) {
+            final int partitionId = partitionIds.getInt(i);
+            final Partition partition = leaderPartitions.get(partitionId);
+
+            if (partition == null) {
+              LOG.debug(
+                  "Leader change on partition {}, ignore push deployment request", partitionId);
+              partitionIds.fastUnorderedRemove(i);
+
+            } else if (writeCreatingDeployment(partition, deploymentKey, deploymentRecord)) {
+              LOG.debug("Deployment CREATE command was written on partition {}", partitionId);
+              partitionIds.fastUnorderedRemove(i);
+              writtenPartitionIds.addInt(partitionId);
+            }
           }
 
-          final boolean success =
-              writeCreatingDeployment(partition, deploymentKey, deploymentRecord);
-          if (success) {
-            LOG.debug("Deployment CREATE command was written on partition {}", partitionId);
+          if (partitionIds.isEmpty()) {
             actor.done();
 
-            sendResponse(output, remoteAddress, requestId, deploymentKey, partitionId);
+            sendResponse(output, remoteAddress, requestId, deploymentKey, writtenPartitionIds);
           } else {
             actor.yield();
           }
@@ -120,11 +141,11 @@ public class PushDeploymentRequestHandler {
       final RemoteAddress remoteAddress,
       final long requestId,
       final long deploymentKey,
-      final int partitionId) {
+      final IntArrayList partitionIds) {
 
     final PushDeploymentResponse pushResponse = new PushDeploymentResponse();
     pushResponse.deploymentKey(deploymentKey);
-    pushResponse.partitionId(partitionId);
+    pushResponse.partitionIds(partitionIds);
 
     final ServerResponse serverResponse =
         new ServerResponse().writer(pushResponse).requestId(requestId).remoteAddress(remoteAddress);
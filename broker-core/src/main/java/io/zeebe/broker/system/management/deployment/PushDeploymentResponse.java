@@ -18,11 +18,12 @@
 package io.zeebe.broker.system.management.deployment;
 
 import io.zeebe.broker.util.SbeBufferWriterReader;
-import io.zeebe.clustering.management.PushDeploymentRequestEncoder;
 import io.zeebe.clustering.management.PushDeploymentResponseDecoder;
 import io.zeebe.clustering.management.PushDeploymentResponseEncoder;
+import io.zeebe.clustering.management.PushDeploymentResponseEncoder.PartitionIdsEncoder;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
 
 public class PushDeploymentResponse
     extends SbeBufferWriterReader<PushDeploymentResponseEncoder, PushDeploymentResponseDecoder> {
@@ -30,16 +31,17 @@ public class PushDeploymentResponse
   private final PushDeploymentResponseEncoder bodyEncoder = new PushDeploymentResponseEncoder();
   private final PushDeploymentResponseDecoder bodyDecoder = new PushDeploymentResponseDecoder();
 
-  private int partitionId = PushDeploymentResponseEncoder.partitionIdNullValue();
+  private final IntArrayList partitionIds = new IntArrayList();
   private long deploymentKey = PushDeploymentResponseEncoder.deploymentKeyNullValue();
 
-  public PushDeploymentResponse partitionId(final int partitionId) {
-    this.partitionId = partitionId;
+  public PushDeploymentResponse partitionIds(final IntArrayList partitionIds) {
+    this.partitionIds.clear();
+    this.partitionIds.addAll(partitionIds);
     return this;
   }
 
-  public int partitionId() {
-    return this.partitionId;
+  public IntArrayList partitionIds() {
+    return this.partitionIds;
   }
 
   public PushDeploymentResponse deploymentKey(final long deploymentKey) {
@@ -65,21 +67,32 @@ public class PushDeploymentResponse
   public void wrap(final DirectBuffer buffer, final int offset, final int length) {
     super.wrap(buffer, offset, length);
 
-    partitionId = bodyDecoder.partitionId();
     deploymentKey = bodyDecoder.deploymentKey();
+    bodyDecoder.partitionIds().forEach(decoder -> partitionIds.addInt(decoder.partitionId()));
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength()
+        + PartitionIdsEncoder.sbeHeaderSize()
+        + partitionIds.size() * PartitionIdsEncoder.sbeBlockLength();
   }
 
   @Override
   public void write(final MutableDirectBuffer buffer, final int offset) {
     super.write(buffer, offset);
 
-    bodyEncoder.partitionId(partitionId).deploymentKey(deploymentKey);
+    final PartitionIdsEncoder partitionIdsEncoder =
+        bodyEncoder.deploymentKey(deploymentKey).partitionIdsCount(partitionIds.size());
+    for (int i = 0; i < partitionIds.size(); i++) {
+      partitionIdsEncoder.next().partitionId(partitionIds.getInt(i));
+    }
   }
 
   public void reset() {
     super.reset();
 
-    partitionId = PushDeploymentResponseEncoder.partitionIdNullValue();
-    deploymentKey = PushDeploymentRequestEncoder.deploymentKeyNullValue();
+    partitionIds.clear();
+    deploymentKey = PushDeploymentResponseEncoder.deploymentKeyNullValue();
   }
 }
@@ -0,0 +1,90 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.zeebe.broker.Loggers;
+import io.zeebe.util.metrics.MetricsManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import org.agrona.ExpandableArrayBuffer;
+import org.slf4j.Logger;
+
+/**
+ * Embedded HTTP server which serves the current metrics in the prometheus text format, so that they
+ * can be scraped instead of being read from the metrics file.
+ */
+public class MetricsHttpServer {
+  private static final Logger LOG = Loggers.SYSTEM_LOGGER;
+
+  public static final String METRICS_PATH = "/metrics";
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final MetricsManager metricsManager;
+  private final InetSocketAddress address;
+  private final ExpandableArrayBuffer dumpBuffer = new ExpandableArrayBuffer();
+
+  private HttpServer server;
+
+  public MetricsHttpServer(InetSocketAddress address, MetricsManager metricsManager) {
+    this.address = address;
+    this.metricsManager = metricsManager;
+  }
+
+  public void start() throws IOException {
+    // requests are handled sequentially by the server's dispatcher thread
+    server = HttpServer.create(address, 0);
+    server.createContext(METRICS_PATH, this::handleRequest);
+    server.start();
+
+    LOG.debug("Serving metrics on http://{}{}", address, METRICS_PATH);
+  }
+
+  public void stop() {
+    if (server != null) {
+      server.stop(0);
+      server = null;
+    }
+  }
+
+  public InetSocketAddress getAddress() {
+    return server != null ? server.getAddress() : address;
+  }
+
+  private void handleRequest(HttpExchange exchange) throws IOException {
+    try {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+
+      final int length = metricsManager.dump(dumpBuffer, 0, System.currentTimeMillis());
+
+      exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, length);
+
+      try (OutputStream body = exchange.getResponseBody()) {
+        body.write(dumpBuffer.byteArray(), 0, length);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+}
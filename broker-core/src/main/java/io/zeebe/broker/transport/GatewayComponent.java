@@ -23,6 +23,7 @@ import io.zeebe.broker.system.configuration.NetworkCfg;
 import io.zeebe.broker.system.configuration.SocketBindingClientApiCfg;
 import io.zeebe.broker.system.configuration.SocketBindingGatewayCfg;
 import io.zeebe.gateway.Gateway;
+import io.zeebe.util.DurationUtil;
 import java.io.IOException;
 
 public class GatewayComponent implements Component {
@@ -37,6 +38,7 @@ public class GatewayComponent implements Component {
         final Gateway gateway = new Gateway(gatewayCfg.getHost(), gatewayCfg.getPort());
         // TODO(menski): help this is horrible
         gateway.setBrokerContactPoint(clientApiCfg.toSocketAddress().toString());
+        gateway.setLongPollingTimeout(DurationUtil.parse(gatewayCfg.getLongPollingTimeout()));
         gateway.start();
         context.addResourceReleasingDelegate(gateway::stop);
       } catch (final IOException e) {
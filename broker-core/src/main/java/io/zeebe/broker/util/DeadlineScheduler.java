@@ -0,0 +1,108 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.util;
+
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ScheduledTimer;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Runs a deadline check when the earliest known deadline is reached, instead of polling the state
+ * at a fixed rate.
+ *
+ * <p>The deadlines are stored in the state, ordered by their time. The check is given the current
+ * time, handles all entries with an expired deadline and returns the next deadline which is not
+ * expired yet (or {@link #NO_DEADLINE}). Whenever a deadline is added to the state, {@link
+ * #onDeadlineAdded(long)} reschedules the check if the deadline is earlier than the scheduled one.
+ *
+ * <p>The check runs at least once per polling interval to retry entries which could not be handled,
+ * e.g. because of back pressure.
+ */
+public class DeadlineScheduler {
+  public static final long NO_DEADLINE = -1L;
+
+  private final Duration pollingInterval;
+  private final LongUnaryOperator deadlineCheck;
+
+  private ActorControl actor;
+  private ScheduledTimer timer;
+  private long scheduledDeadline = Long.MAX_VALUE;
+
+  /**
+   * @param pollingInterval the max interval between two checks
+   * @param deadlineCheck handles the entries with a deadline before the given time and returns the
+   *     next deadline or {@link #NO_DEADLINE}
+   */
+  public DeadlineScheduler(Duration pollingInterval, LongUnaryOperator deadlineCheck) {
+    this.pollingInterval = pollingInterval;
+    this.deadlineCheck = deadlineCheck;
+  }
+
+  /** Runs the first check and schedules the next one. Must be called in the actor's context. */
+  public void start(ActorControl actor) {
+    this.actor = actor;
+    runCheck();
+  }
+
+  public void stop() {
+    cancelTimer();
+    actor = null;
+  }
+
+  /** Must be called in the actor's context. Has no effect if the scheduler is not started. */
+  public void onDeadlineAdded(long deadline) {
+    if (actor != null && deadline < scheduledDeadline) {
+      schedule(deadline);
+    }
+  }
+
+  private void runCheck() {
+    timer = null;
+    scheduledDeadline = Long.MAX_VALUE;
+
+    final long now = ActorClock.currentTimeMillis();
+    final long nextDeadline = deadlineCheck.applyAsLong(now);
+    final long nextPolling = now + pollingInterval.toMillis();
+
+    if (nextDeadline != NO_DEADLINE && nextDeadline < nextPolling) {
+      schedule(nextDeadline);
+    } else {
+      schedule(nextPolling);
+    }
+  }
+
+  private void schedule(long deadline) {
+    cancelTimer();
+
+    // wait at least one millisecond to avoid a busy loop if the deadline is the current time
+    final long delay = Math.max(1, deadline - ActorClock.currentTimeMillis());
+
+    scheduledDeadline = deadline;
+    timer = actor.runDelayed(Duration.ofMillis(delay), this::runCheck);
+  }
+
+  private void cancelTimer() {
+    if (timer != null) {
+      timer.cancel();
+      timer = null;
+    }
+    scheduledDeadline = Long.MAX_VALUE;
+  }
+}
@@ -51,6 +51,7 @@ public class DeploymentDistributeProcessor implements TypedRecordProcessor<Deplo
   private ActorControl actor;
   private TopologyPartitionListenerImpl partitionListener;
   private DeploymentDistributor deploymentDistributor;
+  private DeploymentDistributionMetrics metrics;
   private int streamProcessorId;
 
   public DeploymentDistributeProcessor(
@@ -74,13 +75,27 @@ public class DeploymentDistributeProcessor implements TypedRecordProcessor<Deplo
     partitionListener = new TopologyPartitionListenerImpl(streamProcessor.getActor());
     topologyManager.addTopologyPartitionListener(partitionListener);
 
+    metrics =
+        new DeploymentDistributionMetrics(
+            streamProcessor.getStreamProcessorContext().getActorScheduler().getMetricsManager());
+
     deploymentDistributor =
         new DeploymentDistributor(
-            clusterCfg, managementApi, partitionListener, deploymentsStateController, actor);
+            clusterCfg,
+            managementApi,
+            partitionListener,
+            deploymentsStateController,
+            actor,
+            metrics);
 
     actor.submit(this::reprocessPendingDeployments);
   }
 
+  @Override
+  public void onClose() {
+    metrics.close();
+  }
+
   private void reprocessPendingDeployments() {
     deploymentsStateController.foreachPending(
         ((key, pendingDeploymentDistribution) -> {
@@ -0,0 +1,69 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.workflow.deployment.distribute.processor;
+
+import io.zeebe.util.metrics.Histogram;
+import io.zeebe.util.metrics.Metric;
+import io.zeebe.util.metrics.MetricsManager;
+
+public class DeploymentDistributionMetrics implements AutoCloseable {
+  private final Histogram distributionLatency;
+  private final Metric pendingDistributions;
+  private final Metric pushRequests;
+
+  public DeploymentDistributionMetrics(final MetricsManager metricsManager) {
+    distributionLatency =
+        metricsManager
+            .newHistogram("deployment_distribution_latency_millis")
+            .description("Time from distributing a deployment until all partitions received it")
+            .create();
+
+    pendingDistributions =
+        metricsManager
+            .newMetric("deployment_distribution_pending")
+            .type("gauge")
+            .description("Number of deployments which are not received by all partitions yet")
+            .create();
+
+    pushRequests =
+        metricsManager
+            .newMetric("deployment_distribution_push_requests_count")
+            .type("counter")
+            .description("Number of push requests, each carries a deployment to one broker")
+            .create();
+  }
+
+  public void setPendingDistributions(final int count) {
+    pendingDistributions.setOrdered(count);
+  }
+
+  public void onPushRequestSent() {
+    pushRequests.incrementOrdered();
+  }
+
+  public void onDistributed(final long latencyMillis) {
+    distributionLatency.record(latencyMillis);
+  }
+
+  @Override
+  public void close() {
+    distributionLatency.close();
+    pendingDistributions.close();
+    pushRequests.close();
+  }
+}
@@ -28,16 +28,27 @@ import io.zeebe.protocol.Protocol;
 import io.zeebe.transport.ClientResponse;
 import io.zeebe.transport.ClientTransport;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
-import java.util.Iterator;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntArrayList;
+import org.agrona.collections.IntHashSet;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.slf4j.Logger;
 
+/**
+ * Pushes deployments to all other partitions. The partitions are grouped by their leader, so that
+ * one request per broker carries the deployment to all partitions it leads. Each partition
+ * acknowledges the deployment separately, so only the partitions which are not acknowledged are
+ * pushed again, e.g. after a leader change.
+ *
+ * <p>Multiple deployments can be distributed at the same time. Only the partitions which are not
+ * acknowledged yet are kept in memory; the deployment itself is read from the state when a request
+ * is sent.
+ */
 public class DeploymentDistributor {
 
   private static final Logger LOG = Loggers.WORKFLOW_REPOSITORY_LOGGER;
@@ -50,8 +61,9 @@ public class DeploymentDistributor {
   private final ClientTransport managementApi;
   private final TopologyPartitionListenerImpl partitionListener;
   private final ActorControl actor;
+  private final DeploymentDistributionMetrics metrics;
 
-  private final transient Long2ObjectHashMap<ActorFuture<Void>> pendingDeploymentFutures =
+  private final transient Long2ObjectHashMap<PendingPush> pendingPushes =
       new Long2ObjectHashMap<>();
   private final DeploymentsStateController deploymentsStateController;
 
@@ -62,11 +74,13 @@ public class DeploymentDistributor {
       final ClientTransport managementApi,
       final TopologyPartitionListenerImpl partitionListener,
       final DeploymentsStateController deploymentsStateController,
-      final ActorControl actor) {
+      final ActorControl actor,
+      final DeploymentDistributionMetrics metrics) {
     this.managementApi = managementApi;
     this.partitionListener = partitionListener;
     this.actor = actor;
     this.deploymentsStateController = deploymentsStateController;
+    this.metrics = metrics;
     partitionsToDistributeTo = partitionsToDistributeTo(clusterCfg);
   }
 
@@ -86,9 +100,22 @@ public class DeploymentDistributor {
     final PendingDeploymentDistribution pendingDeploymentDistribution =
         new PendingDeploymentDistribution(buffer, position);
     deploymentsStateController.putPendingDeployment(key, pendingDeploymentDistribution);
-    pendingDeploymentFutures.put(key, pushedFuture);
 
-    pushDeploymentToPartitions(key);
+    if (partitionsToDistributeTo.isEmpty()) {
+      LOG.trace("No other partitions to distribute deployment.");
+      LOG.trace("Deployment finished.");
+      pushedFuture.complete(null);
+    } else {
+      LOG.trace("Distribute deployment to other partitions.");
+
+      final PendingPush pendingPush = new PendingPush(pushedFuture, partitionsToDistributeTo);
+      pendingPushes.put(key, pendingPush);
+      metrics.setPendingDistributions(pendingPushes.size());
+
+      final IntArrayList partitions = new IntArrayList();
+      partitions.addAll(partitionsToDistributeTo);
+      distributeDeployment(key, partitions);
+    }
 
     return pushedFuture;
   }
@@ -97,36 +124,13 @@ public class DeploymentDistributor {
     return deploymentsStateController.removePendingDeployment(key);
   }
 
-  private void pushDeploymentToPartitions(final long key) {
-    if (!partitionsToDistributeTo.isEmpty()) {
-      deployOnMultiplePartitions(key);
-    } else {
-      LOG.trace("No other partitions to distribute deployment.");
-      LOG.trace("Deployment finished.");
-      pendingDeploymentFutures.remove(key).complete(null);
+  private void distributeDeployment(final long key, final IntArrayList partitionsToDistribute) {
+    if (!pendingPushes.containsKey(key)) {
+      return;
     }
-  }
-
-  private void deployOnMultiplePartitions(final long key) {
-    LOG.trace("Distribute deployment to other partitions.");
-
-    final PendingDeploymentDistribution pendingDeploymentDistribution =
-        deploymentsStateController.getPendingDeployment(key);
-    final DirectBuffer directBuffer = pendingDeploymentDistribution.getDeployment();
-    pendingDeploymentDistribution.setDistributionCount(partitionsToDistributeTo.size());
-
-    pushDeploymentRequest.reset();
-    pushDeploymentRequest.deployment(directBuffer).deploymentKey(key);
-
-    final IntArrayList modifiablePartitionsList = new IntArrayList();
-    modifiablePartitionsList.addAll(partitionsToDistributeTo);
 
-    distributeDeployment(modifiablePartitionsList);
-  }
-
-  private void distributeDeployment(final IntArrayList partitionsToDistribute) {
     final IntArrayList remainingPartitions =
-        distributeDeploymentToPartitions(partitionsToDistribute);
+        distributeDeploymentToPartitions(key, partitionsToDistribute);
 
     if (remainingPartitions.isEmpty()) {
       LOG.trace("Pushed deployment to all partitions");
@@ -136,75 +140,136 @@ public class DeploymentDistributor {
     actor.runDelayed(
         PARTITION_LEADER_RESOLVE_RETRY,
         () -> {
-          distributeDeployment(remainingPartitions);
+          distributeDeployment(key, remainingPartitions);
         });
   }
 
-  private IntArrayList distributeDeploymentToPartitions(final IntArrayList remainingPartitions) {
+  /** @return the partitions which have no known leader */
+  private IntArrayList distributeDeploymentToPartitions(
+      final long key, final IntArrayList partitionsToDistribute) {
     final Int2ObjectHashMap<NodeInfo> currentPartitionLeaders =
         partitionListener.getPartitionLeaders();
 
-    final Iterator<Integer> iterator = remainingPartitions.iterator();
-    while (iterator.hasNext()) {
-      final Integer partitionId = iterator.next();
+    final Int2ObjectHashMap<IntArrayList> partitionsByLeader = new Int2ObjectHashMap<>();
+    final IntArrayList remainingPartitions = new IntArrayList();
+
+    for (int i = 0; i < partitionsToDistribute.size(); i++) {
+      final int partitionId = partitionsToDistribute.getInt(i);
       final NodeInfo leader = currentPartitionLeaders.get(partitionId);
       if (leader != null) {
-        iterator.remove();
-        pushDeploymentToPartition(leader.getNodeId(), partitionId);
+        partitionsByLeader
+            .computeIfAbsent(leader.getNodeId(), nodeId -> new IntArrayList())
+            .addInt(partitionId);
+      } else {
+        remainingPartitions.addInt(partitionId);
       }
     }
+
+    if (!partitionsByLeader.isEmpty()) {
+      final PendingDeploymentDistribution pendingDeploymentDistribution =
+          deploymentsStateController.getPendingDeployment(key);
+
+      pushDeploymentRequest.reset();
+      pushDeploymentRequest
+          .deployment(pendingDeploymentDistribution.getDeployment())
+          .deploymentKey(key);
+
+      partitionsByLeader.forEach(
+          (nodeId, partitions) -> pushDeploymentToNode(key, nodeId, partitions));
+    }
+
     return remainingPartitions;
   }
 
-  private void pushDeploymentToPartition(final int partitionLeaderId, final int partition) {
-    pushDeploymentRequest.partitionId(partition);
+  private void pushDeploymentToNode(
+      final long key, final int nodeId, final IntArrayList partitions) {
+    pushDeploymentRequest.partitionIds(partitions);
+
+    // a not leader response is accepted, the partitions are pushed again to their current leaders
     final ActorFuture<ClientResponse> pushResponseFuture =
         managementApi
             .getOutput()
             .sendRequestWithRetry(
-                () -> partitionLeaderId,
-                (response) -> !pushDeploymentResponse.tryWrap(response),
-                pushDeploymentRequest,
-                PUSH_REQUEST_TIMEOUT);
+                () -> nodeId, (response) -> false, pushDeploymentRequest, PUSH_REQUEST_TIMEOUT);
+    metrics.onPushRequestSent();
 
-    LOG.debug("Deployment pushed to partition {} (node id: {}).", partition, partitionLeaderId);
+    LOG.debug("Deployment pushed to partitions {} (node id: {}).", partitions, nodeId);
     actor.runOnCompletion(
         pushResponseFuture,
         (response, throwable) -> {
           if (throwable == null) {
-            handlePushResponse(response);
+            handlePushResponse(key, partitions, response);
           } else {
             LOG.error(
-                "Error on pushing deployment to partition {}. Retry request. ",
-                partition,
+                "Error on pushing deployment to partitions {}. Retry request. ",
+                partitions,
                 throwable);
 
-            final Int2ObjectHashMap<NodeInfo> partitionLeaders =
-                partitionListener.getPartitionLeaders();
-            final NodeInfo currentLeader = partitionLeaders.get(partition);
-            if (currentLeader != null) {
-              pushDeploymentToPartition(currentLeader.getNodeId(), partition);
-            } else {
-              pushDeploymentToPartition(partitionLeaderId, partition);
-            }
+            distributeDeployment(key, partitions);
           }
         });
   }
 
-  private void handlePushResponse(final ClientResponse response) {
-    pushDeploymentResponse.wrap(response.getResponseBuffer());
-    final long deploymentKey = pushDeploymentResponse.deploymentKey();
-    final PendingDeploymentDistribution pendingDeploymentDistribution =
-        deploymentsStateController.getPendingDeployment(deploymentKey);
+  private void handlePushResponse(
+      final long key, final IntArrayList pushedPartitions, final ClientResponse response) {
+    final PendingPush pendingPush = pendingPushes.get(key);
+    if (pendingPush == null) {
+      return;
+    }
 
-    final long remainingPartitions = pendingDeploymentDistribution.decrementCount();
-    if (remainingPartitions == 0) {
-      LOG.debug("Deployment pushed to all partitions successfully.");
-      pendingDeploymentFutures.remove(deploymentKey).complete(null);
+    final DirectBuffer responseBuffer = response.getResponseBuffer();
+    if (pushDeploymentResponse.tryWrap(responseBuffer)) {
+      pushDeploymentResponse.wrap(responseBuffer);
     } else {
-      LOG.trace(
-          "Deployment was pushed to partition {} successfully.",
-          pushDeploymentResponse.partitionId());
+      // not leader of any of the partitions
+      pushDeploymentResponse.reset();
+    }
+    final IntArrayList acknowledgedPartitions = pushDeploymentResponse.partitionIds();
+
+    final IntArrayList notAcknowledgedPartitions = new IntArrayList();
+    for (int i = 0; i < pushedPartitions.size(); i++) {
+      final int partitionId = pushedPartitions.getInt(i);
+
+      if (acknowledgedPartitions.containsInt(partitionId)) {
+        LOG.trace("Deployment was pushed to partition {} successfully.", partitionId);
+        pendingPush.remainingPartitions.remove(partitionId);
+      } else {
+        notAcknowledgedPartitions.addInt(partitionId);
+      }
+    }
+
+    if (pendingPush.remainingPartitions.isEmpty()) {
+      LOG.debug("Deployment pushed to all partitions successfully.");
+      pendingPushes.remove(key);
+
+      metrics.setPendingDistributions(pendingPushes.size());
+      metrics.onDistributed(ActorClock.currentTimeMillis() - pendingPush.startTime);
+
+      pendingPush.future.complete(null);
+
+    } else if (!notAcknowledgedPartitions.isEmpty()) {
+      LOG.debug(
+          "Deployment was not received by partitions {}, push it to their new leaders.",
+          notAcknowledgedPartitions);
+
+      actor.runDelayed(
+          PARTITION_LEADER_RESOLVE_RETRY,
+          () -> distributeDeployment(key, notAcknowledgedPartitions));
+    }
+  }
+
+  private static final class PendingPush {
+    private final ActorFuture<Void> future;
+    private final IntHashSet remainingPartitions;
+    private final long startTime = ActorClock.currentTimeMillis();
+
+    PendingPush(final ActorFuture<Void> future, final IntArrayList partitions) {
+      this.future = future;
+
+      remainingPartitions = new IntHashSet(partitions.size());
+      for (int i = 0; i < partitions.size(); i++) {
+        remainingPartitions.add(partitions.getInt(i));
+      }
     }
   }
 }
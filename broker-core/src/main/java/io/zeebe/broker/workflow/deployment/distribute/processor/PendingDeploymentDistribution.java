@@ -34,21 +34,12 @@ public class PendingDeploymentDistribution implements BufferReader, BufferWriter
 
   private final DirectBuffer deployment;
   private long sourcePosition;
-  private long distributionCount;
 
   public PendingDeploymentDistribution(DirectBuffer deployment, long sourcePosition) {
     this.deployment = deployment;
     this.sourcePosition = sourcePosition;
   }
 
-  public void setDistributionCount(long distributionCount) {
-    this.distributionCount = distributionCount;
-  }
-
-  public long decrementCount() {
-    return --distributionCount;
-  }
-
   public DirectBuffer getDeployment() {
     return deployment;
   }
@@ -19,6 +19,8 @@ package io.zeebe.broker.workflow.deployment.transform;
 
 import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import io.zeebe.broker.workflow.model.ExecutableWorkflow;
+import io.zeebe.broker.workflow.model.transformation.BpmnTransformer;
 import io.zeebe.broker.workflow.model.yaml.BpmnYamlParser;
 import io.zeebe.broker.workflow.state.WorkflowState;
 import io.zeebe.model.bpmn.Bpmn;
@@ -34,15 +36,23 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.io.DirectBufferInputStream;
 
 public class DeploymentTransformer {
 
   private final BpmnValidator validator = new BpmnValidator();
   private final BpmnYamlParser yamlParser = new BpmnYamlParser();
+  private final BpmnTransformer bpmnTransformer = new BpmnTransformer();
   private final WorkflowState workflowState;
 
+  // the executable workflows of the last transformed deployment by their workflow key, so that the
+  // validated model is not parsed again when the workflows are accessed after the deployment
+  private final Long2ObjectHashMap<ExecutableWorkflow> executableWorkflows =
+      new Long2ObjectHashMap<>();
+
   // internal changes during processing
   private RejectionType rejectionType;
   private String rejectionReason;
@@ -52,6 +62,8 @@ public class DeploymentTransformer {
   }
 
   public boolean transform(final DeploymentRecord deploymentEvent) {
+    executableWorkflows.clear();
+
     final StringBuilder validationErrors = new StringBuilder();
     boolean success = true;
     final Iterator<DeploymentResource> resourceIterator = deploymentEvent.resources().iterator();
@@ -108,6 +120,7 @@ public class DeploymentTransformer {
       final BpmnModelInstance definition) {
     final Collection<Process> processes =
         definition.getDefinitions().getChildElementsByType(Process.class);
+    final List<ExecutableWorkflow> executables = bpmnTransformer.transformDefinitions(definition);
 
     for (final Process workflow : processes) {
       if (workflow.isExecutable()) {
@@ -123,12 +136,26 @@ public class DeploymentTransformer {
             .setVersion(version)
             .setKey(key)
             .setResourceName(deploymentResource.getResourceName());
+
+        executableWorkflows.put(key, findExecutableWorkflow(executables, bpmnProcessId));
       }
     }
 
     transformYamlWorkflowResource(deploymentResource, definition);
   }
 
+  private ExecutableWorkflow findExecutableWorkflow(
+      final List<ExecutableWorkflow> executables, final String bpmnProcessId) {
+    final DirectBuffer id = BufferUtil.wrapString(bpmnProcessId);
+
+    for (final ExecutableWorkflow executable : executables) {
+      if (BufferUtil.equals(id, executable.getId())) {
+        return executable;
+      }
+    }
+    return null;
+  }
+
   private BpmnModelInstance readWorkflowDefinition(final DeploymentResource deploymentResource) {
     final DirectBuffer resource = deploymentResource.getResource();
     final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
@@ -161,6 +188,14 @@ public class DeploymentTransformer {
     return stacktraceWriter.toString();
   }
 
+  /**
+   * @return the executable workflows of the last transformed deployment by their workflow key,
+   *     which are built from the already parsed and validated model of the resources
+   */
+  public Long2ObjectHashMap<ExecutableWorkflow> getExecutableWorkflows() {
+    return executableWorkflows;
+  }
+
   public RejectionType getRejectionType() {
     return rejectionType;
   }
@@ -17,7 +17,7 @@
  */
 package io.zeebe.broker.workflow.model;
 
-import io.zeebe.msgpack.mapping.Mapping;
+import io.zeebe.msgpack.mapping.MappingPlan;
 
 public class ExecutableEndEvent extends ExecutableFlowNode {
 
@@ -25,13 +25,13 @@ public class ExecutableEndEvent extends ExecutableFlowNode {
     super(id);
   }
 
-  private Mapping[] payloadMappings = new Mapping[0];
+  private MappingPlan payloadMappings = MappingPlan.EMPTY;
 
-  public void setPayloadMappings(Mapping[] payloadMappings) {
+  public void setPayloadMappings(MappingPlan payloadMappings) {
     this.payloadMappings = payloadMappings;
   }
 
-  public Mapping[] getPayloadMappings() {
+  public MappingPlan getPayloadMappings() {
     return payloadMappings;
   }
 }
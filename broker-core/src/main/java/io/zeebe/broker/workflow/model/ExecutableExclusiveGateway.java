@@ -17,6 +17,9 @@
  */
 package io.zeebe.broker.workflow.model;
 
+import io.zeebe.msgpack.el.JsonCondition;
+import io.zeebe.msgpack.el.JsonConditionFactory;
+import io.zeebe.msgpack.el.JsonConditionPaths;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,6 +28,7 @@ public class ExecutableExclusiveGateway extends ExecutableFlowNode {
   private ExecutableSequenceFlow defaultFlow;
 
   private List<ExecutableSequenceFlow> outgoingWithCondition = new ArrayList<>();
+  private JsonConditionPaths conditionPaths = JsonConditionFactory.indexJsonPaths();
 
   public ExecutableExclusiveGateway(String id) {
     super(id);
@@ -43,10 +47,27 @@ public class ExecutableExclusiveGateway extends ExecutableFlowNode {
     super.addOutgoing(flow);
     if (flow.getCondition() != null) {
       outgoingWithCondition.add(flow);
+
+      indexConditionPaths();
     }
   }
 
+  private void indexConditionPaths() {
+    final JsonCondition[] conditions =
+        outgoingWithCondition
+            .stream()
+            .map(f -> f.getCondition().getCondition())
+            .toArray(JsonCondition[]::new);
+
+    conditionPaths = JsonConditionFactory.indexJsonPaths(conditions);
+  }
+
   public List<ExecutableSequenceFlow> getOutgoingWithCondition() {
     return outgoingWithCondition;
   }
+
+  /** @return the JSON paths of all outgoing conditions, which are resolved together */
+  public JsonConditionPaths getConditionPaths() {
+    return conditionPaths;
+  }
 }
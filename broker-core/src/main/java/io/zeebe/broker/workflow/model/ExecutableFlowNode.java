@@ -18,7 +18,7 @@
 package io.zeebe.broker.workflow.model;
 
 import io.zeebe.model.bpmn.instance.zeebe.ZeebeOutputBehavior;
-import io.zeebe.msgpack.mapping.Mapping;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,8 +27,8 @@ public class ExecutableFlowNode extends ExecutableFlowElement {
   private List<ExecutableSequenceFlow> incoming = new ArrayList<>();
   private List<ExecutableSequenceFlow> outgoing = new ArrayList<>();
 
-  private Mapping[] inputMappings = new Mapping[0];
-  private Mapping[] outputMappings = new Mapping[0];
+  private MappingPlan inputMappings = MappingPlan.EMPTY;
+  private MappingPlan outputMappings = MappingPlan.EMPTY;
 
   private ZeebeOutputBehavior outputBehavior;
 
@@ -52,19 +52,19 @@ public class ExecutableFlowNode extends ExecutableFlowElement {
     this.incoming.add(flow);
   }
 
-  public Mapping[] getInputMappings() {
+  public MappingPlan getInputMappings() {
     return inputMappings;
   }
 
-  public void setInputMappings(Mapping[] inputMappings) {
+  public void setInputMappings(MappingPlan inputMappings) {
     this.inputMappings = inputMappings;
   }
 
-  public void setOutputMappings(Mapping[] outputMappings) {
+  public void setOutputMappings(MappingPlan outputMappings) {
     this.outputMappings = outputMappings;
   }
 
-  public Mapping[] getOutputMappings() {
+  public MappingPlan getOutputMappings() {
     return outputMappings;
   }
 
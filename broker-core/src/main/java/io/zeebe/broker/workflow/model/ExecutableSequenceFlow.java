@@ -18,14 +18,14 @@
 package io.zeebe.broker.workflow.model;
 
 import io.zeebe.msgpack.el.CompiledJsonCondition;
-import io.zeebe.msgpack.mapping.Mapping;
+import io.zeebe.msgpack.mapping.MappingPlan;
 
 public class ExecutableSequenceFlow extends ExecutableFlowElement {
 
   private ExecutableFlowNode target;
   private CompiledJsonCondition condition;
 
-  private Mapping[] payloadMappings = new Mapping[0];
+  private MappingPlan payloadMappings = MappingPlan.EMPTY;
 
   public ExecutableSequenceFlow(String id) {
     super(id);
@@ -47,11 +47,11 @@ public class ExecutableSequenceFlow extends ExecutableFlowElement {
     return condition;
   }
 
-  public void setPayloadMappings(Mapping[] payloadMappings) {
+  public void setPayloadMappings(MappingPlan payloadMappings) {
     this.payloadMappings = payloadMappings;
   }
 
-  public Mapping[] getPayloadMappings() {
+  public MappingPlan getPayloadMappings() {
     return payloadMappings;
   }
 }
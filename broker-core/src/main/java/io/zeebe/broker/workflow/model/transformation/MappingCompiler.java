@@ -23,11 +23,11 @@ import io.zeebe.model.bpmn.instance.zeebe.ZeebePayloadMappings;
 import io.zeebe.msgpack.mapping.Mapping;
 import io.zeebe.msgpack.mapping.Mapping.Type;
 import io.zeebe.msgpack.mapping.MappingBuilder;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import java.util.EnumMap;
 
 public class MappingCompiler {
 
-  private static final Mapping[] NO_MAPPINGS = new Mapping[0];
   private static final EnumMap<ZeebeMappingType, Mapping.Type> TYPE_MAP =
       new EnumMap<>(ZeebeMappingType.class);
 
@@ -38,7 +38,7 @@ public class MappingCompiler {
 
   private final MappingBuilder mappingBuilder = new MappingBuilder();
 
-  public Mapping[] compilePayloadMappings(BaseElement element) {
+  public MappingPlan compilePayloadMappings(BaseElement element) {
     final ZeebePayloadMappings mappings =
         element.getSingleExtensionElement(ZeebePayloadMappings.class);
 
@@ -48,9 +48,9 @@ public class MappingCompiler {
           .forEach(
               m -> mappingBuilder.mapping(m.getSource(), m.getTarget(), TYPE_MAP.get(m.getType())));
 
-      return mappingBuilder.build();
+      return mappingBuilder.buildPlan();
     } else {
-      return NO_MAPPINGS;
+      return MappingPlan.EMPTY;
     }
   }
 }
@@ -24,7 +24,7 @@ import io.zeebe.broker.workflow.model.transformation.MappingCompiler;
 import io.zeebe.broker.workflow.model.transformation.ModelElementTransformer;
 import io.zeebe.broker.workflow.model.transformation.TransformContext;
 import io.zeebe.model.bpmn.instance.EndEvent;
-import io.zeebe.msgpack.mapping.Mapping;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import io.zeebe.protocol.intent.WorkflowInstanceIntent;
 
 public class EndEventHandler implements ModelElementTransformer<EndEvent> {
@@ -47,7 +47,7 @@ public class EndEventHandler implements ModelElementTransformer<EndEvent> {
   private void compilePayloadMappings(
       EndEvent element, ExecutableEndEvent endEvent, TransformContext context) {
     final MappingCompiler mappingCompiler = context.getMappingCompiler();
-    final Mapping[] mappings = mappingCompiler.compilePayloadMappings(element);
+    final MappingPlan mappings = mappingCompiler.compilePayloadMappings(element);
     endEvent.setPayloadMappings(mappings);
   }
 
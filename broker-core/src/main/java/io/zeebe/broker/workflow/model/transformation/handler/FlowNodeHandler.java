@@ -26,8 +26,8 @@ import io.zeebe.model.bpmn.instance.FlowNode;
 import io.zeebe.model.bpmn.instance.zeebe.ZeebeInput;
 import io.zeebe.model.bpmn.instance.zeebe.ZeebeIoMapping;
 import io.zeebe.model.bpmn.instance.zeebe.ZeebeOutput;
-import io.zeebe.msgpack.mapping.Mapping;
 import io.zeebe.msgpack.mapping.MappingBuilder;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import java.util.Collection;
 
 public class FlowNodeHandler implements ModelElementTransformer<FlowNode> {
@@ -71,11 +71,11 @@ public class FlowNodeHandler implements ModelElementTransformer<FlowNode> {
       final Collection<ZeebeInput> inputs = ioMapping.getInputs();
       inputs.forEach(i -> mappingBuilder.mapping(i.getSource(), i.getTarget()));
 
-      final Mapping[] inputMappings = mappingBuilder.build();
+      final MappingPlan inputMappings = mappingBuilder.buildPlan();
 
       final Collection<ZeebeOutput> outputs = ioMapping.getOutputs();
       outputs.forEach(o -> mappingBuilder.mapping(o.getSource(), o.getTarget()));
-      final Mapping[] outputMappings = mappingBuilder.build();
+      final MappingPlan outputMappings = mappingBuilder.buildPlan();
 
       flowNode.setInputMappings(inputMappings);
       flowNode.setOutputMappings(outputMappings);
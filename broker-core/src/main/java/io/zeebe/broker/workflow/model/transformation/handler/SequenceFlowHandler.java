@@ -37,6 +37,7 @@ import io.zeebe.msgpack.el.CompiledJsonCondition;
 import io.zeebe.msgpack.el.JsonConditionFactory;
 import io.zeebe.msgpack.mapping.Mapping;
 import io.zeebe.msgpack.mapping.Mapping.Type;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import io.zeebe.protocol.intent.WorkflowInstanceIntent;
 import java.util.EnumMap;
 
@@ -121,7 +122,7 @@ public class SequenceFlowHandler implements ModelElementTransformer<SequenceFlow
       SequenceFlow element, ExecutableSequenceFlow sequenceFlow, TransformContext context) {
 
     final MappingCompiler mappingCompiler = context.getMappingCompiler();
-    final Mapping[] mappings = mappingCompiler.compilePayloadMappings(element);
+    final MappingPlan mappings = mappingCompiler.compilePayloadMappings(element);
     sequenceFlow.setPayloadMappings(mappings);
   }
 }
@@ -22,8 +22,8 @@ import io.zeebe.broker.logstreams.processor.TypedRecord;
 import io.zeebe.broker.workflow.model.ExecutableFlowNode;
 import io.zeebe.broker.workflow.processor.BpmnStepContext;
 import io.zeebe.broker.workflow.processor.BpmnStepHandler;
-import io.zeebe.msgpack.mapping.Mapping;
 import io.zeebe.msgpack.mapping.MappingException;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import io.zeebe.msgpack.mapping.MsgPackMergeTool;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.intent.WorkflowInstanceIntent;
@@ -39,12 +39,12 @@ public class InputMappingHandler implements BpmnStepHandler<ExecutableFlowNode>
     final WorkflowInstanceRecord activityEvent = context.getValue();
     final DirectBuffer sourcePayload = activityEvent.getPayload();
 
-    final Mapping[] inputMappings = context.getElement().getInputMappings();
+    final MappingPlan inputMappings = context.getElement().getInputMappings();
 
     MappingException mappingException = null;
 
     // only if we have no default mapping we have to use the mapping processor
-    if (inputMappings.length > 0) {
+    if (!inputMappings.isEmpty()) {
       try {
         payloadMergeTool.reset();
         payloadMergeTool.mergeDocumentStrictly(sourcePayload, inputMappings);
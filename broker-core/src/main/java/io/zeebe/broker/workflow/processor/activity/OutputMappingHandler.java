@@ -24,8 +24,8 @@ import io.zeebe.broker.workflow.processor.BpmnStepContext;
 import io.zeebe.broker.workflow.processor.BpmnStepHandler;
 import io.zeebe.broker.workflow.state.ElementInstance;
 import io.zeebe.model.bpmn.instance.zeebe.ZeebeOutputBehavior;
-import io.zeebe.msgpack.mapping.Mapping;
 import io.zeebe.msgpack.mapping.MappingException;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import io.zeebe.msgpack.mapping.MsgPackMergeTool;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.intent.WorkflowInstanceIntent;
@@ -57,7 +57,7 @@ public class OutputMappingHandler implements BpmnStepHandler<ExecutableFlowNode>
         payloadMergeTool.mergeDocument(scopeInstancePayload);
       }
 
-      final Mapping[] outputMappings = element.getOutputMappings();
+      final MappingPlan outputMappings = element.getOutputMappings();
       final DirectBuffer jobPayload = activityEvent.getPayload();
 
       try {
@@ -51,7 +51,8 @@ public class TransformingDeploymentCreateProcessor
     final boolean accepted = deploymentTransformer.transform(deploymentEvent);
     if (accepted) {
       final long key = streamWriter.getKeyGenerator().nextKey();
-      if (workflowState.putDeployment(key, deploymentEvent)) {
+      if (workflowState.putDeployment(
+          key, deploymentEvent, deploymentTransformer.getExecutableWorkflows())) {
         responseWriter.writeEventOnCommand(key, DeploymentIntent.CREATED, deploymentEvent, command);
         streamWriter.writeFollowUpEvent(key, DeploymentIntent.CREATED, deploymentEvent);
       } else {
@@ -27,7 +27,7 @@ import io.zeebe.broker.workflow.processor.EventOutput;
 import io.zeebe.broker.workflow.state.ElementInstance;
 import io.zeebe.broker.workflow.state.IndexedRecord;
 import io.zeebe.broker.workflow.state.WorkflowState;
-import io.zeebe.msgpack.mapping.Mapping;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import io.zeebe.msgpack.mapping.MsgPackMergeTool;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.intent.WorkflowInstanceIntent;
@@ -82,9 +82,9 @@ public class ConsumeTokenHandler implements BpmnStepHandler<ExecutableFlowNode>
       final WorkflowInstanceRecord mergingValue = record.getValue();
       final ExecutableFlowElement element = workflow.getElementById(mergingValue.getActivityId());
       if (element instanceof ExecutableEndEvent) {
-        final Mapping[] mappings = ((ExecutableEndEvent) element).getPayloadMappings();
+        final MappingPlan mappings = ((ExecutableEndEvent) element).getPayloadMappings();
 
-        if (mappings.length > 0) {
+        if (!mappings.isEmpty()) {
           payloadMergeTool.mergeDocument(mergingValue.getPayload(), mappings);
         }
       }
@@ -73,12 +73,15 @@ public class ExclusiveSplitHandler implements BpmnStepHandler<ExecutableExclusiv
   private ExecutableSequenceFlow getSequenceFlowWithFulfilledCondition(
       ExecutableExclusiveGateway exclusiveGateway, DirectBuffer payload) {
     final List<ExecutableSequenceFlow> sequenceFlows = exclusiveGateway.getOutgoingWithCondition();
+
+    // resolve the JSON paths of all conditions in one pass over the payload
+    conditionInterpreter.wrap(payload, exclusiveGateway.getConditionPaths());
+
     for (int s = 0; s < sequenceFlows.size(); s++) {
       final ExecutableSequenceFlow sequenceFlow = sequenceFlows.get(s);
 
       final CompiledJsonCondition compiledCondition = sequenceFlow.getCondition();
-      final boolean isFulFilled =
-          conditionInterpreter.eval(compiledCondition.getCondition(), payload);
+      final boolean isFulFilled = conditionInterpreter.eval(compiledCondition.getCondition());
 
       if (isFulFilled) {
         return sequenceFlow;
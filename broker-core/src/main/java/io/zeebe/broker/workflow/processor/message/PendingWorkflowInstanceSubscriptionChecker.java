@@ -21,7 +21,6 @@ import io.zeebe.broker.subscription.command.SubscriptionCommandSender;
 import io.zeebe.broker.workflow.state.WorkflowState;
 import io.zeebe.broker.workflow.state.WorkflowSubscription;
 import io.zeebe.util.sched.clock.ActorClock;
-import java.util.List;
 
 public class PendingWorkflowInstanceSubscriptionChecker implements Runnable {
 
@@ -41,19 +40,19 @@ public class PendingWorkflowInstanceSubscriptionChecker implements Runnable {
 
   @Override
   public void run() {
+    workflowState.visitSubscriptionsBefore(
+        ActorClock.currentTimeMillis() - subscriptionTimeout, this::sendCommandAgain);
+  }
 
-    final List<WorkflowSubscription> pendingSubscriptions =
-        workflowState.findSubscriptionsBefore(ActorClock.currentTimeMillis() - subscriptionTimeout);
-
-    for (WorkflowSubscription subscription : pendingSubscriptions) {
-      if (subscription.isNotOpen()) {
-        if (sendCommand(subscription)) {
-          workflowState.updateCommandSendTime(subscription);
-        } else {
-          return;
-        }
+  private boolean sendCommandAgain(WorkflowSubscription subscription) {
+    if (subscription.isNotOpen()) {
+      final boolean isSent = sendCommand(subscription);
+      if (isSent) {
+        workflowState.updateCommandSendTime(subscription);
       }
+      return isSent;
     }
+    return true;
   }
 
   private boolean sendCommand(WorkflowSubscription subscription) {
@@ -25,7 +25,7 @@ import io.zeebe.broker.workflow.processor.EventOutput;
 import io.zeebe.broker.workflow.state.ElementInstance;
 import io.zeebe.broker.workflow.state.IndexedRecord;
 import io.zeebe.broker.workflow.state.WorkflowState;
-import io.zeebe.msgpack.mapping.Mapping;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import io.zeebe.msgpack.mapping.MsgPackMergeTool;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.intent.WorkflowInstanceIntent;
@@ -81,11 +81,11 @@ public class ParallelMergeHandler implements BpmnStepHandler<ExecutableSequenceF
 
     // apply mappings
     for (Map.Entry<ExecutableSequenceFlow, IndexedRecord> entry : records.entrySet()) {
-      final Mapping[] mappings = entry.getKey().getPayloadMappings();
+      final MappingPlan mappings = entry.getKey().getPayloadMappings();
       final DirectBuffer payload = entry.getValue().getValue().getPayload();
 
       // don't merge the document a second time
-      if (mappings.length > 0) {
+      if (!mappings.isEmpty()) {
         mergeTool.mergeDocument(payload, mappings);
       }
     }
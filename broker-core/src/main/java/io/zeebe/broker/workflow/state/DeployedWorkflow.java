@@ -18,15 +18,31 @@
 package io.zeebe.broker.workflow.state;
 
 import io.zeebe.broker.workflow.model.ExecutableWorkflow;
+import java.util.function.Function;
 import org.agrona.DirectBuffer;
 
 public class DeployedWorkflow {
-  private final ExecutableWorkflow workflow;
   private final PersistedWorkflow persistedWorkflow;
+  private final Function<PersistedWorkflow, ExecutableWorkflow> transformer;
+
+  private ExecutableWorkflow workflow;
+  private long lastAccess;
 
   public DeployedWorkflow(final ExecutableWorkflow workflow, PersistedWorkflow persistedWorkflow) {
     this.workflow = workflow;
     this.persistedWorkflow = persistedWorkflow;
+    this.transformer = null;
+  }
+
+  /**
+   * Creates a deployed workflow which transforms the executable workflow on the first access, for
+   * callers that are only interested in the metadata.
+   */
+  public DeployedWorkflow(
+      PersistedWorkflow persistedWorkflow,
+      Function<PersistedWorkflow, ExecutableWorkflow> transformer) {
+    this.persistedWorkflow = persistedWorkflow;
+    this.transformer = transformer;
   }
 
   public DirectBuffer getResourceName() {
@@ -34,9 +50,20 @@ public class DeployedWorkflow {
   }
 
   public ExecutableWorkflow getWorkflow() {
+    if (workflow == null && transformer != null) {
+      workflow = transformer.apply(persistedWorkflow);
+    }
     return workflow;
   }
 
+  long getLastAccess() {
+    return lastAccess;
+  }
+
+  void setLastAccess(long lastAccess) {
+    this.lastAccess = lastAccess;
+  }
+
   public int getVersion() {
     return persistedWorkflow.getVersion();
   }
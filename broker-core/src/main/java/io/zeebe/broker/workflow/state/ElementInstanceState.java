@@ -21,6 +21,7 @@ import static io.zeebe.logstreams.rocksdb.ZeebeStateConstants.STATE_BYTE_ORDER;
 
 import io.zeebe.broker.logstreams.processor.TypedRecord;
 import io.zeebe.broker.workflow.state.StoredRecord.Purpose;
+import io.zeebe.logstreams.rocksdb.ZbWriteBatch;
 import io.zeebe.logstreams.state.StateController;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.intent.WorkflowInstanceIntent;
@@ -28,7 +29,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import org.agrona.BitUtil;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -108,31 +108,27 @@ public class ElementInstanceState {
     return instance;
   }
 
-  private void writeElementInstance(ElementInstance instance) {
-    final int parentKeyOffset = 0;
-    instance.writeParentKey(keyBuffer, parentKeyOffset);
-    final int instanceKeyOffset = instance.getParentKeyLength();
-    instance.writeKey(keyBuffer, instanceKeyOffset);
+  private void writeElementInstance(ZbWriteBatch batch, ElementInstance instance) {
+    final int keyLength = instance.getKeyLength();
+    instance.writeKey(longKeyBuffer, 0);
     instance.write(valueBuffer, 0);
 
-    final int keyLength = instance.getKeyLength();
-    rocksDbWrapper.put(
+    batch.put(
         elementInstanceHandle,
-        keyBuffer.byteArray(),
-        instanceKeyOffset,
+        longKeyBuffer.byteArray(),
         keyLength,
         valueBuffer.byteArray(),
-        0,
         instance.getLength());
 
+    instance.writeParentKey(keyBuffer, 0);
+    instance.writeKey(keyBuffer, instance.getParentKeyLength());
+
     final int compositeKeyLength = keyLength + instance.getParentKeyLength();
-    rocksDbWrapper.put(
+    batch.put(
         elementParentChildHandle,
         keyBuffer.byteArray(),
-        parentKeyOffset,
         compositeKeyLength,
         PersistenceHelper.EXISTENCE,
-        0,
         PersistenceHelper.EXISTENCE.length);
   }
 
@@ -186,7 +182,9 @@ public class ElementInstanceState {
   }
 
   void updateInstance(ElementInstance scopeInstance) {
-    writeElementInstance(scopeInstance);
+    final ZbWriteBatch batch = rocksDbWrapper.getWriteBatch();
+    writeElementInstance(batch, scopeInstance);
+    rocksDbWrapper.write(batch);
   }
 
   public List<ElementInstance> getChildren(long parentKey) {
@@ -313,10 +311,18 @@ public class ElementInstanceState {
     return new UnsafeBuffer(array, offset, Long.BYTES).getLong(0, STATE_BYTE_ORDER);
   }
 
+  /** Writes all cached element instances together in one batch. */
   public void flushDirtyState() {
-    for (Entry<Long, ElementInstance> entry : cachedInstances.entrySet()) {
-      updateInstance(entry.getValue());
+    if (cachedInstances.isEmpty()) {
+      return;
     }
+
+    final ZbWriteBatch batch = rocksDbWrapper.getWriteBatch();
+    for (ElementInstance instance : cachedInstances.values()) {
+      writeElementInstance(batch, instance);
+    }
+    rocksDbWrapper.write(batch);
+
     cachedInstances.clear();
   }
 }
@@ -27,9 +27,11 @@ import io.zeebe.model.bpmn.BpmnModelInstance;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
+import io.zeebe.util.EnsureUtil;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,10 +40,18 @@ import org.agrona.ExpandableArrayBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 import org.rocksdb.ColumnFamilyHandle;
 
+/**
+ * Persists the deployed workflows and caches their executable form. The cache holds up to the given
+ * capacity of workflows and evicts the least recently used ones, which are transformed again from
+ * their persisted resource on the next access.
+ */
 public class WorkflowPersistenceCache {
+  public static final int DEFAULT_CACHE_CAPACITY = 1024;
+
   private static final byte[] WORKFLOWS_FAMILY_NAME = "workflows".getBytes();
   private static final byte[] WORKFLOWS_BY_ID_AND_VERSION_FAMILY_NAME =
       "workflowsByIdAndVersion".getBytes();
@@ -51,6 +61,9 @@ public class WorkflowPersistenceCache {
     WORKFLOWS_FAMILY_NAME, WORKFLOWS_BY_ID_AND_VERSION_FAMILY_NAME, LATEST_WORKFLOWS_FAMILY_NAME
   };
 
+  private static final Long2ObjectHashMap<ExecutableWorkflow> EMPTY_EXECUTABLE_WORKFLOWS =
+      new Long2ObjectHashMap<>();
+
   private final BpmnTransformer transformer = new BpmnTransformer();
 
   private final Map<DirectBuffer, Int2ObjectHashMap<DeployedWorkflow>>
@@ -68,8 +81,19 @@ public class WorkflowPersistenceCache {
   private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
   private final PersistenceHelper persistenceHelper;
 
+  private final int cacheCapacity;
+  private long accessCounter;
+
   public WorkflowPersistenceCache(StateController rocksDbWrapper) throws Exception {
+    this(rocksDbWrapper, DEFAULT_CACHE_CAPACITY);
+  }
+
+  public WorkflowPersistenceCache(StateController rocksDbWrapper, int cacheCapacity)
+      throws Exception {
+    EnsureUtil.ensureGreaterThan("cache capacity", cacheCapacity, 0);
+
     this.rocksDbWrapper = rocksDbWrapper;
+    this.cacheCapacity = cacheCapacity;
     persistenceHelper = new PersistenceHelper(rocksDbWrapper);
 
     workflowsHandle = rocksDbWrapper.getColumnFamilyHandle(WORKFLOWS_FAMILY_NAME);
@@ -83,6 +107,18 @@ public class WorkflowPersistenceCache {
 
   protected boolean putDeployment(
       final long deploymentKey, final DeploymentRecord deploymentRecord) {
+    return putDeployment(deploymentKey, deploymentRecord, EMPTY_EXECUTABLE_WORKFLOWS);
+  }
+
+  /**
+   * Persists the workflows of the deployment. The given executable workflows, which are already
+   * transformed from the deployed resources, are cached right away, so that these resources are not
+   * parsed again on the first access.
+   */
+  protected boolean putDeployment(
+      final long deploymentKey,
+      final DeploymentRecord deploymentRecord,
+      final Long2ObjectHashMap<ExecutableWorkflow> executableWorkflows) {
     final boolean isNewDeployment = !deployments.contains(deploymentKey);
     if (isNewDeployment) {
       for (final Workflow workflow : deploymentRecord.workflows()) {
@@ -90,7 +126,14 @@ public class WorkflowPersistenceCache {
         final DirectBuffer resourceName = workflow.getResourceName();
         for (final DeploymentResource resource : deploymentRecord.resources()) {
           if (resource.getResourceName().equals(resourceName)) {
-            persistWorkflow(workflowKey, workflow, resource);
+            final PersistedWorkflow persistedWorkflow =
+                persistWorkflow(workflowKey, workflow, resource);
+
+            final ExecutableWorkflow executableWorkflow = executableWorkflows.get(workflowKey);
+            if (executableWorkflow != null) {
+              addWorkflowToInMemoryState(
+                  new DeployedWorkflow(executableWorkflow, persistedWorkflow));
+            }
           }
         }
       }
@@ -99,7 +142,7 @@ public class WorkflowPersistenceCache {
     return isNewDeployment;
   }
 
-  private void persistWorkflow(
+  private PersistedWorkflow persistWorkflow(
       final long workflowKey, final Workflow workflow, final DeploymentResource resource) {
     final PersistedWorkflow persistedWorkflow =
         new PersistedWorkflow(
@@ -133,21 +176,13 @@ public class WorkflowPersistenceCache {
         keyBuffer.byteArray(),
         versionOffset,
         Integer.BYTES);
+
+    return persistedWorkflow;
   }
 
   // is called on getters, if workflow is not in memory
   private DeployedWorkflow updateInMemoryState(PersistedWorkflow persistedWorkflow) {
-
-    final BpmnModelInstance modelInstance =
-        Bpmn.readModelFromStream(new DirectBufferInputStream(persistedWorkflow.getResource()));
-    final List<ExecutableWorkflow> definitions = transformer.transformDefinitions(modelInstance);
-
-    final ExecutableWorkflow executableWorkflow =
-        definitions
-            .stream()
-            .filter((w) -> BufferUtil.equals(persistedWorkflow.getBpmnProcessId(), w.getId()))
-            .findFirst()
-            .get();
+    final ExecutableWorkflow executableWorkflow = transformWorkflow(persistedWorkflow);
 
     final DeployedWorkflow deployedWorkflow =
         new DeployedWorkflow(executableWorkflow, persistedWorkflow);
@@ -157,9 +192,27 @@ public class WorkflowPersistenceCache {
     return deployedWorkflow;
   }
 
+  private ExecutableWorkflow transformWorkflow(PersistedWorkflow persistedWorkflow) {
+    final BpmnModelInstance modelInstance =
+        Bpmn.readModelFromStreamWithoutValidation(
+            new DirectBufferInputStream(persistedWorkflow.getResource()));
+    final List<ExecutableWorkflow> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions
+        .stream()
+        .filter((w) -> BufferUtil.equals(persistedWorkflow.getBpmnProcessId(), w.getId()))
+        .findFirst()
+        .get();
+  }
+
   private void addWorkflowToInMemoryState(final DeployedWorkflow deployedWorkflow) {
+    if (workflowsByKey.size() >= cacheCapacity) {
+      evictLeastRecentlyUsedWorkflows();
+    }
+
     final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
     workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
+    touch(deployedWorkflow);
 
     Int2ObjectHashMap<DeployedWorkflow> versionMap =
         workflowsByProcessIdAndVersion.get(bpmnProcessId);
@@ -173,6 +226,40 @@ public class WorkflowPersistenceCache {
     versionMap.put(version, deployedWorkflow);
   }
 
+  /** Evicts a quarter of the cached workflows at once, so that the sorting is amortized. */
+  private void evictLeastRecentlyUsedWorkflows() {
+    final List<DeployedWorkflow> cachedWorkflows = new ArrayList<>(workflowsByKey.values());
+    cachedWorkflows.sort(Comparator.comparingLong(DeployedWorkflow::getLastAccess));
+
+    final int evictionCount = Math.max(1, cachedWorkflows.size() / 4);
+    for (int i = 0; i < evictionCount; i++) {
+      removeWorkflowFromInMemoryState(cachedWorkflows.get(i));
+    }
+  }
+
+  private void removeWorkflowFromInMemoryState(final DeployedWorkflow deployedWorkflow) {
+    final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
+    workflowsByKey.remove(deployedWorkflow.getKey());
+
+    final Int2ObjectHashMap<DeployedWorkflow> versionMap =
+        workflowsByProcessIdAndVersion.get(bpmnProcessId);
+
+    if (versionMap != null) {
+      versionMap.remove(deployedWorkflow.getVersion());
+
+      if (versionMap.isEmpty()) {
+        workflowsByProcessIdAndVersion.remove(bpmnProcessId);
+      }
+    }
+  }
+
+  private DeployedWorkflow touch(final DeployedWorkflow deployedWorkflow) {
+    if (deployedWorkflow != null) {
+      deployedWorkflow.setLastAccess(++accessCounter);
+    }
+    return deployedWorkflow;
+  }
+
   public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
     final Int2ObjectHashMap<DeployedWorkflow> versionMap =
         workflowsByProcessIdAndVersion.get(processId);
@@ -191,7 +278,7 @@ public class WorkflowPersistenceCache {
     if (versionMap == null) {
       deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(processId, latestVersion);
     } else {
-      deployedWorkflow = versionMap.get(latestVersion.getValue());
+      deployedWorkflow = touch(versionMap.get(latestVersion.getValue()));
       if (deployedWorkflow == null) {
         deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(processId, latestVersion);
       }
@@ -226,7 +313,7 @@ public class WorkflowPersistenceCache {
         workflowsByProcessIdAndVersion.get(processId);
 
     if (versionMap != null) {
-      final DeployedWorkflow deployedWorkflow = versionMap.get(version);
+      final DeployedWorkflow deployedWorkflow = touch(versionMap.get(version));
       return deployedWorkflow != null
           ? deployedWorkflow
           : lookupPersistenceState(processId, version);
@@ -261,7 +348,7 @@ public class WorkflowPersistenceCache {
   }
 
   public DeployedWorkflow getWorkflowByKey(final long key) {
-    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
+    final DeployedWorkflow deployedWorkflow = touch(workflowsByKey.get(key));
 
     if (deployedWorkflow != null) {
       return deployedWorkflow;
@@ -288,33 +375,46 @@ public class WorkflowPersistenceCache {
     return null;
   }
 
+  /**
+   * Returns all deployed workflows. The workflows which are not cached are read from the persisted
+   * state but not transformed until their executable workflow is accessed, since the callers are
+   * usually only interested in their metadata.
+   */
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+
+    rocksDbWrapper.foreach(
+        workflowsHandle, (key, value) -> workflows.add(readDeployedWorkflow(value)));
+
+    return workflows;
   }
 
+  /** @see #getWorkflows() */
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Int2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.EMPTY_LIST;
-  }
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
 
-  private void updateCompleteInMemoryState() {
-    // update in memory state
     rocksDbWrapper.foreach(
         workflowsHandle,
         (key, value) -> {
-          valueBuffer.putBytes(0, value);
-          final PersistedWorkflow persistedWorkflow = new PersistedWorkflow();
-          persistedWorkflow.wrap(valueBuffer, 0, value.length);
-          updateInMemoryState(persistedWorkflow);
+          final DeployedWorkflow deployedWorkflow = readDeployedWorkflow(value);
+          if (BufferUtil.equals(bpmnProcessId, deployedWorkflow.getBpmnProcessId())) {
+            workflows.add(deployedWorkflow);
+          }
         });
+
+    return workflows;
+  }
+
+  private DeployedWorkflow readDeployedWorkflow(byte[] value) {
+    final PersistedWorkflow persistedWorkflow = new PersistedWorkflow();
+    persistedWorkflow.wrap(new UnsafeBuffer(value), 0, value.length);
+
+    final DeployedWorkflow cachedWorkflow = workflowsByKey.get(persistedWorkflow.getKey());
+    if (cachedWorkflow != null) {
+      return cachedWorkflow;
+    } else {
+      return new DeployedWorkflow(persistedWorkflow, this::transformWorkflow);
+    }
   }
 }
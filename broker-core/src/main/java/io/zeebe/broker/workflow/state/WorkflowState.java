@@ -19,7 +19,10 @@ package io.zeebe.broker.workflow.state;
 
 import io.zeebe.broker.subscription.message.data.WorkflowInstanceSubscriptionRecord;
 import io.zeebe.broker.subscription.message.state.SubscriptionState;
+import io.zeebe.broker.subscription.message.state.SubscriptionState.SubscriptionVisitor;
 import io.zeebe.broker.util.KeyStateController;
+import io.zeebe.broker.workflow.model.ExecutableWorkflow;
+import io.zeebe.logstreams.rocksdb.ZbRocksDb;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.util.buffer.BufferUtil;
 import java.io.File;
@@ -28,8 +31,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
 import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
 
 public class WorkflowState extends KeyStateController {
   private static final byte[] WORKFLOW_KEY_FAMILY_NAME = "workflowKey".getBytes();
@@ -40,6 +46,7 @@ public class WorkflowState extends KeyStateController {
 
   private static final byte[] LATEST_WORKFLOW_KEY = "latestWorkflowKey".getBytes();
 
+  private ZbRocksDb db;
   private ColumnFamilyHandle workflowKeyHandle;
   private ColumnFamilyHandle workflowVersionHandle;
   private NextValueManager nextValueManager;
@@ -65,12 +72,20 @@ public class WorkflowState extends KeyStateController {
 
     nextValueManager = new NextValueManager(this);
     workflowPersistenceCache = new WorkflowPersistenceCache(this);
-    subscriptionState = new SubscriptionState<>(this, WorkflowSubscription.class);
+    subscriptionState = new SubscriptionState<>(this, db, WorkflowSubscription.class);
     elementInstanceState = new ElementInstanceState(this);
 
     return rocksDB;
   }
 
+  @Override
+  protected RocksDB openDb(DBOptions dbOptions) throws RocksDBException {
+    db =
+        ZbRocksDb.open(
+            dbOptions, dbDirectory.getAbsolutePath(), columnFamilyDescriptors, columnFamilyHandles);
+    return db;
+  }
+
   public long getNextWorkflowKey() {
     return nextValueManager.getNextValue(workflowKeyHandle, LATEST_WORKFLOW_KEY);
   }
@@ -83,6 +98,14 @@ public class WorkflowState extends KeyStateController {
     return workflowPersistenceCache.putDeployment(deploymentKey, deploymentRecord);
   }
 
+  public boolean putDeployment(
+      long deploymentKey,
+      DeploymentRecord deploymentRecord,
+      Long2ObjectHashMap<ExecutableWorkflow> executableWorkflows) {
+    return workflowPersistenceCache.putDeployment(
+        deploymentKey, deploymentRecord, executableWorkflows);
+  }
+
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
       DirectBuffer bpmnProcessId, int version) {
     return workflowPersistenceCache.getWorkflowByProcessIdAndVersion(bpmnProcessId, version);
@@ -125,6 +148,11 @@ public class WorkflowState extends KeyStateController {
     return subscriptionState.findSubscriptionBefore(time);
   }
 
+  public void visitSubscriptionsBefore(
+      long time, SubscriptionVisitor<WorkflowSubscription> visitor) {
+    subscriptionState.visitSubscriptionBefore(time, visitor);
+  }
+
   public boolean remove(WorkflowInstanceSubscriptionRecord record) {
     final WorkflowSubscription persistedSubscription = findSubscription(record);
 
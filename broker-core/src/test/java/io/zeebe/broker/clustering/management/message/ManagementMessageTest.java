@@ -24,9 +24,12 @@ import io.zeebe.broker.clustering.api.FetchSnapshotChunkRequest;
 import io.zeebe.broker.clustering.api.FetchSnapshotChunkResponse;
 import io.zeebe.broker.clustering.api.ListSnapshotsRequest;
 import io.zeebe.broker.clustering.api.ListSnapshotsResponse;
+import io.zeebe.broker.system.management.deployment.PushDeploymentRequest;
+import io.zeebe.broker.system.management.deployment.PushDeploymentResponse;
 import io.zeebe.clustering.management.ErrorResponseCode;
 import io.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
 import org.junit.Test;
 
 public class ManagementMessageTest {
@@ -44,9 +47,11 @@ public class ManagementMessageTest {
     final long length = 3L;
     final long position = 2L;
     final ListSnapshotsResponse response =
-        new ListSnapshotsResponse().addSnapshot(name, position, checksum, length);
+        new ListSnapshotsResponse()
+            .setFirstLogPosition(1L)
+            .addSnapshot(name, position, checksum, length);
 
-    assertEqualFieldsAfterWriteAndRead(response, "snapshots");
+    assertEqualFieldsAfterWriteAndRead(response, "firstLogPosition", "snapshots");
   }
 
   @Test
@@ -78,4 +83,31 @@ public class ManagementMessageTest {
 
     assertEqualFieldsAfterWriteAndRead(response, "code", "data");
   }
+
+  @Test
+  public void testPushDeploymentRequest() {
+    final IntArrayList partitionIds = new IntArrayList();
+    partitionIds.addInt(2);
+    partitionIds.addInt(5);
+
+    final PushDeploymentRequest request =
+        new PushDeploymentRequest()
+            .deploymentKey(123L)
+            .partitionIds(partitionIds)
+            .deployment(BufferUtil.wrapString("deployment"));
+
+    assertEqualFieldsAfterWriteAndRead(request, "deploymentKey", "partitionIds", "deployment");
+  }
+
+  @Test
+  public void testPushDeploymentResponse() {
+    final IntArrayList partitionIds = new IntArrayList();
+    partitionIds.addInt(2);
+    partitionIds.addInt(5);
+
+    final PushDeploymentResponse response =
+        new PushDeploymentResponse().deploymentKey(123L).partitionIds(partitionIds);
+
+    assertEqualFieldsAfterWriteAndRead(response, "deploymentKey", "partitionIds");
+  }
 }
@@ -56,6 +56,7 @@ import io.zeebe.exporter.record.value.MessageSubscriptionRecordValue;
 import io.zeebe.exporter.record.value.RaftRecordValue;
 import io.zeebe.exporter.record.value.WorkflowInstanceRecordValue;
 import io.zeebe.exporter.record.value.WorkflowInstanceSubscriptionRecordValue;
+import io.zeebe.exporter.spi.ExporterBackpressureException;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.impl.record.RecordMetadata;
@@ -302,6 +303,37 @@ public class ExporterStreamProcessorTest {
     }
   }
 
+  @Test
+  public void shouldRetryExportingOnBackpressure() {
+    final ExporterStreamProcessor processor = createStreamProcessor(3);
+
+    final AtomicLong failCount = new AtomicLong(3);
+    exporters
+        .get(1)
+        .onExport(
+            e -> {
+              if (failCount.getAndDecrement() > 0) {
+                throw new ExporterBackpressureException("Exporter is busy (expected)");
+              }
+            });
+
+    // when
+    final StreamProcessorControl control = rule.initStreamProcessor(e -> processor);
+    final long lowestPosition = writeEvent();
+    final long highestPosition = writeEvent();
+
+    control.blockAfterEvent(e -> e.getPosition() == highestPosition);
+    control.start();
+    TestUtil.waitUntil(control::isBlocked);
+
+    // then
+    for (final ControlledTestExporter exporter : exporters) {
+      assertThat(exporter.getExportedRecords())
+          .extracting("position")
+          .containsExactly(lowestPosition, highestPosition);
+    }
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws InterruptedException {
     // given
@@ -44,9 +44,12 @@ import org.junit.Test;
 public class IncidentStreamProcessorTest {
   @Rule public StreamProcessorRule rule = new StreamProcessorRule();
 
+  private TypedStreamProcessor streamProcessor;
+
   private TypedStreamProcessor buildStreamProcessor(TypedStreamEnvironment env) {
     final IncidentStreamProcessor factory = new IncidentStreamProcessor();
-    return factory.createStreamProcessor(env);
+    streamProcessor = factory.createStreamProcessor(env);
+    return streamProcessor;
   }
 
   /**
@@ -129,6 +132,40 @@ public class IncidentStreamProcessorTest {
             tuple(RecordType.EVENT, IncidentIntent.DELETED));
   }
 
+  @Test
+  public void shouldRequirePositionOfFailureEventUntilIncidentIsDeleted() {
+    // given
+    final long workflowInstanceKey = 1L;
+    final long activityInstanceKey = 2L;
+
+    rule.runStreamProcessor(this::buildStreamProcessor);
+
+    final WorkflowInstanceRecord activityInstance = new WorkflowInstanceRecord();
+    activityInstance.setWorkflowInstanceKey(workflowInstanceKey);
+
+    final long position =
+        rule.writeEvent(
+            activityInstanceKey, WorkflowInstanceIntent.ELEMENT_READY, activityInstance);
+
+    final IncidentRecord incident = new IncidentRecord();
+    incident.setWorkflowInstanceKey(workflowInstanceKey);
+    incident.setActivityInstanceKey(activityInstanceKey);
+    incident.setFailureEventPosition(position);
+
+    rule.writeCommand(IncidentIntent.CREATE, incident);
+    waitForEventWithIntent(IncidentIntent.CREATED);
+
+    waitUntil(() -> streamProcessor.getLowestRequiredPosition() == position);
+
+    // when
+    rule.writeEvent(
+        activityInstanceKey, WorkflowInstanceIntent.ELEMENT_TERMINATED, activityInstance);
+
+    // then
+    waitForEventWithIntent(IncidentIntent.DELETED);
+    waitUntil(() -> streamProcessor.getLowestRequiredPosition() == Long.MAX_VALUE);
+  }
+
   private JobRecord job(int retries) {
     final JobRecord event = new JobRecord();
 
@@ -21,6 +21,7 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.broker.job.JobStateController.State;
+import io.zeebe.broker.util.DeadlineScheduler;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
@@ -104,6 +105,53 @@ public class JobStateControllerTest {
     refuteListedAsTimedOut(key, jobRecord.getDeadline() + 1);
   }
 
+  @Test
+  public void shouldReturnNextDeadline() {
+    // given
+    final JobRecord firstJob = newJobRecord().setDeadline(100L);
+    final JobRecord secondJob = newJobRecord().setDeadline(200L);
+
+    stateController.create(1L, firstJob);
+    stateController.activate(1L, firstJob);
+    stateController.create(2L, secondJob);
+    stateController.activate(2L, secondJob);
+
+    // when
+    final List<Long> timedOutKeys = new ArrayList<>();
+    final long nextDeadline =
+        stateController.forEachTimedOutEntry(150L, (k, e, c) -> timedOutKeys.add(k));
+
+    // then
+    assertThat(timedOutKeys).containsExactly(1L);
+    assertThat(nextDeadline).isEqualTo(200L);
+    assertThat(stateController.forEachTimedOutEntry(250L, (k, e, c) -> {}))
+        .isEqualTo(DeadlineScheduler.NO_DEADLINE);
+  }
+
+  @Test
+  public void shouldSkipTimedOutJobsBeforeGivenDeadlineAndKey() {
+    // given
+    final JobRecord firstJob = newJobRecord().setDeadline(100L);
+    final JobRecord secondJob = newJobRecord().setDeadline(100L);
+    final JobRecord thirdJob = newJobRecord().setDeadline(200L);
+
+    stateController.create(1L, firstJob);
+    stateController.activate(1L, firstJob);
+    stateController.create(2L, secondJob);
+    stateController.activate(2L, secondJob);
+    stateController.create(3L, thirdJob);
+    stateController.activate(3L, thirdJob);
+
+    // when
+    final List<Long> timedOutKeys = new ArrayList<>();
+    final long nextDeadline =
+        stateController.forEachTimedOutEntry(250L, 100L, 2L, (k, e, c) -> timedOutKeys.add(k));
+
+    // then
+    assertThat(timedOutKeys).containsExactly(2L, 3L);
+    assertThat(nextDeadline).isEqualTo(DeadlineScheduler.NO_DEADLINE);
+  }
+
   @Test
   public void shouldDeleteActivatableJob() {
     // given
@@ -115,6 +115,28 @@ public class JobTimeOutTest {
     assertNoMoreJobsReceived();
   }
 
+  @Test
+  public void shouldTimeOutJobWhenDeadlineIsReached() {
+    // given
+    brokerRule.getClock().pinCurrentTime();
+    final Duration timeout = Duration.ofSeconds(1);
+    final String jobType = "jobType";
+
+    final long jobKey = createJob(jobType);
+
+    apiRule.openJobSubscription(apiRule.getDefaultPartitionId(), jobType, timeout.toMillis());
+
+    waitUntil(() -> apiRule.numSubscribedEventsAvailable() == 1);
+    apiRule.moveMessageStreamToTail();
+
+    // when
+    brokerRule.getClock().addTime(timeout.plusMillis(1));
+
+    // then the job is activated again before the polling interval is over
+    waitUntil(() -> apiRule.numSubscribedEventsAvailable() == 1);
+    assertThat(apiRule.subscribedEvents().findFirst().get().key()).isEqualTo(jobKey);
+  }
+
   @Test
   public void shouldTimeOutJob() {
     // given
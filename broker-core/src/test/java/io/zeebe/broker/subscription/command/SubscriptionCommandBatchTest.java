@@ -0,0 +1,113 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.subscription.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SubscriptionCommandBatchTest {
+
+  private final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+  private final SubscriptionCommandBatch readBatch = new SubscriptionCommandBatch();
+
+  private final List<Long> workflowInstanceKeys = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    batch.add(correlateCommand(1L));
+    batch.add(correlateCommand(2L));
+    batch.add(correlateCommand(3L));
+
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    batch.write(buffer, 0);
+    readBatch.wrap(buffer, 0, batch.getLength());
+  }
+
+  @Test
+  public void shouldReadCommands() {
+    // when
+    final int nextCommand = readBatch.forEachCommand(0, this::readCommand);
+
+    // then
+    assertThat(readBatch.getCommandCount()).isEqualTo(3);
+    assertThat(nextCommand).isEqualTo(3);
+    assertThat(workflowInstanceKeys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldReadCommandsFromIndex() {
+    // when
+    final int nextCommand = readBatch.forEachCommand(1, this::readCommand);
+
+    // then
+    assertThat(nextCommand).isEqualTo(3);
+    assertThat(workflowInstanceKeys).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldStopIfCommandIsNotAccepted() {
+    // when
+    final int nextCommand =
+        readBatch.forEachCommand(
+            0,
+            (buffer, offset, length) -> {
+              readCommand(buffer, offset, length);
+              return false;
+            });
+
+    // then
+    assertThat(nextCommand).isEqualTo(0);
+    assertThat(workflowInstanceKeys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldBeEmptyAfterReset() {
+    // when
+    batch.reset();
+
+    // then
+    assertThat(batch.isEmpty()).isTrue();
+    assertThat(batch.forEachCommand(0, this::readCommand)).isEqualTo(0);
+    assertThat(workflowInstanceKeys).isEmpty();
+  }
+
+  private boolean readCommand(final DirectBuffer buffer, final int offset, final int length) {
+    final CorrelateMessageSubscriptionCommand command = new CorrelateMessageSubscriptionCommand();
+    command.wrap(buffer, offset, length);
+
+    workflowInstanceKeys.add(command.getWorkflowInstanceKey());
+    return true;
+  }
+
+  private CorrelateMessageSubscriptionCommand correlateCommand(final long workflowInstanceKey) {
+    final CorrelateMessageSubscriptionCommand command = new CorrelateMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(1);
+    command.setWorkflowInstancePartitionId(2);
+    command.setWorkflowInstanceKey(workflowInstanceKey);
+    command.setActivityInstanceKey(4L);
+    command.getMessageName().wrap(wrapString("message"));
+    return command;
+  }
+}
@@ -40,6 +40,7 @@ import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.intent.MessageIntent;
 import io.zeebe.protocol.intent.MessageSubscriptionIntent;
 import io.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -236,7 +237,8 @@ public class MessageStreamProcessorTest {
     message
         .setName(wrapString("order canceled"))
         .setCorrelationKey(wrapString("order-123"))
-        .setTimeToLive(1L)
+        // the message must not expire when the clock is moved forward to trigger the retry
+        .setTimeToLive(Duration.ofMinutes(5).toMillis())
         .setPayload(asMsgPack("orderId", "order-123"));
 
     return message;
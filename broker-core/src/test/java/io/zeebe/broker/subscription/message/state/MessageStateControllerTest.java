@@ -21,6 +21,8 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.broker.subscription.message.data.MessageSubscriptionRecord;
+import io.zeebe.broker.util.DeadlineScheduler;
+import io.zeebe.logstreams.rocksdb.ZbRocksDb;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +32,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.ColumnFamilyHandle;
 
 public class MessageStateControllerTest {
 
@@ -238,6 +241,108 @@ public class MessageStateControllerTest {
     assertSubscription(subscription3, otherSubscriptions.get(0), 1234, 3, 2, 3);
   }
 
+  @Test
+  public void shouldVisitSubscriptionsUntilNotAccepted() {
+    // given
+    final MessageSubscription subscription =
+        new MessageSubscription(
+            "messageName", "correlationKey", "{\"foo\":\"bar\"}", 1, 2, 3, 1234);
+    final MessageSubscription subscription2 =
+        new MessageSubscription(
+            "messageName", "correlationKey", "{\"foo\":\"bar\"}", 2, 2, 3, 1234);
+    final MessageSubscription subscription3 =
+        new MessageSubscription("otherName", "correlationKey", "{\"foo\":\"bar\"}", 3, 2, 3, 1234);
+    stateController.put(subscription);
+    stateController.put(subscription2);
+    stateController.put(subscription3);
+
+    // when
+    final List<Integer> visitedPartitionIds = new ArrayList<>();
+    stateController.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> {
+          visitedPartitionIds.add(s.getWorkflowInstancePartitionId());
+          return false;
+        });
+
+    // then
+    assertThat(visitedPartitionIds).containsExactly(1);
+  }
+
+  @Test
+  public void shouldNotFindSubscriptionWithSameConcatenatedNameAndCorrelationKey() {
+    // given
+    final MessageSubscription subscription =
+        new MessageSubscription("message", "NameKey", "{\"foo\":\"bar\"}", 1, 2, 3, 1234);
+    stateController.put(subscription);
+
+    // when
+    final List<MessageSubscription> readSubscriptions =
+        stateController.findSubscriptions(wrapString("messageName"), wrapString("Key"));
+
+    // then
+    assertThat(readSubscriptions).isEmpty();
+  }
+
+  @Test
+  public void shouldRebuildMissingIndexOfSubscriptions() {
+    // given
+    final MessageSubscription subscription =
+        new MessageSubscription(
+            "messageName", "correlationKey", "{\"foo\":\"bar\"}", 1, 2, 3, 1234);
+    stateController.put(subscription);
+
+    final ColumnFamilyHandle indexHandle =
+        stateController.getColumnFamilyHandle(
+            SubscriptionState.SUB_NAME_AND_CORRELATION_KEY_NAME);
+    stateController.foreach(
+        indexHandle, (key, value) -> stateController.remove(indexHandle, key, 0, key.length));
+
+    // when
+    final SubscriptionState<MessageSubscription> subscriptionState =
+        new SubscriptionState<>(
+            stateController, (ZbRocksDb) stateController.getDb(), MessageSubscription.class);
+
+    // then
+    final List<MessageSubscription> readSubscriptions =
+        subscriptionState.findSubscriptions(
+            wrapString("messageName"), wrapString("correlationKey"));
+    assertThat(readSubscriptions).hasSize(1);
+    assertSubscription(subscription, readSubscriptions.get(0));
+  }
+
+  @Test
+  public void shouldVisitSubscriptionsWhichAreUpdatedByVisitor() {
+    // given
+    final MessageSubscription subscription =
+        new MessageSubscription(
+            "messageName", "correlationKey", "{\"foo\":\"bar\"}", 1, 2, 3, 1234);
+    final MessageSubscription subscription2 =
+        new MessageSubscription(
+            "messageName", "correlationKey", "{\"foo\":\"bar\"}", 2, 2, 3, 1234);
+    stateController.put(subscription);
+    stateController.put(subscription2);
+
+    // when
+    final List<Integer> visitedPartitionIds = new ArrayList<>();
+    stateController.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> {
+          visitedPartitionIds.add(s.getWorkflowInstancePartitionId());
+          stateController.updateCommandSentTime(s);
+          return true;
+        });
+
+    // then
+    assertThat(visitedPartitionIds).containsExactly(1, 2);
+    assertThat(
+            stateController.findSubscriptions(
+                wrapString("messageName"), wrapString("correlationKey")))
+        .hasSize(2);
+  }
+
   @Test
   public void shouldFindSubscriptionWithMessageStored() {
     // given
@@ -371,6 +476,51 @@ public class MessageStateControllerTest {
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldReturnDeadlineOfNextMessage() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "nr1", 1000);
+    final Message message2 = createMessage(2L, "name", "correlationKey", "{}", "nr2", 5000);
+
+    stateController.put(message);
+    stateController.put(message2);
+
+    // when
+    final List<Long> readMessage = new ArrayList<>();
+    final long nextDeadline =
+        stateController.findMessagesWithDeadlineBefore(
+            message.getDeadline(), m -> readMessage.add(m.getKey()));
+
+    // then
+    assertThat(readMessage).containsExactly(1L);
+    assertThat(nextDeadline).isEqualTo(message2.getDeadline());
+    assertThat(stateController.findMessagesWithDeadlineBefore(message2.getDeadline(), m -> true))
+        .isEqualTo(DeadlineScheduler.NO_DEADLINE);
+  }
+
+  @Test
+  public void shouldSkipMessagesBeforeGivenDeadlineAndKey() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "nr1", 1000);
+    final Message message2 = createMessage(2L, "name", "correlationKey", "{}", "nr2", 5000);
+
+    stateController.put(message);
+    stateController.put(message2);
+
+    // when
+    final List<Long> readMessage = new ArrayList<>();
+    final long nextDeadline =
+        stateController.findMessagesWithDeadlineBefore(
+            message.getDeadline(),
+            message.getDeadline(),
+            message.getKey() + 1,
+            m -> readMessage.add(m.getKey()));
+
+    // then
+    assertThat(readMessage).isEmpty();
+    assertThat(nextDeadline).isEqualTo(message2.getDeadline());
+  }
+
   @Test
   public void shouldFindMessageSubscriptionBeforeTime() {
     // given
@@ -425,6 +575,33 @@ public class MessageStateControllerTest {
         .containsExactly(2L, 4L);
   }
 
+  @Test
+  public void shouldVisitMessageSubscriptionBeforeTimeUntilNotAccepted() {
+    // given
+    final MessageSubscription subscription =
+        new MessageSubscription(
+            "messageName", "correlationKey", "{\"foo\":\"bar\"}", 1, 2, 3, 1234);
+    final MessageSubscription subscription2 =
+        new MessageSubscription("otherName", "otherKey", "{\"foo\":\"bar\"}", 1, 4, 4, 2000);
+
+    stateController.put(subscription);
+    stateController.put(subscription2);
+
+    // when
+    final List<MessageSubscription> visitedSubscriptions = new ArrayList<>();
+    stateController.visitSubscriptionBefore(
+        3_000L,
+        s -> {
+          visitedSubscriptions.add(s);
+          return false;
+        });
+
+    // then
+    assertThat(visitedSubscriptions)
+        .extracting(s -> s.getWorkflowInstanceKey())
+        .containsExactly(2L);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
@@ -39,6 +39,7 @@ import io.zeebe.broker.system.configuration.ClusterCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.broker.system.configuration.Environment;
 import io.zeebe.broker.system.configuration.ExporterCfg;
+import io.zeebe.broker.system.configuration.MetricsCfg;
 import io.zeebe.broker.system.configuration.NetworkCfg;
 import io.zeebe.broker.system.configuration.SocketBindingClientApiCfg;
 import io.zeebe.broker.system.configuration.SocketBindingManagementCfg;
@@ -120,6 +121,20 @@ public class ConfigurationTest {
     assertPorts("specific-ports-offset", 1 + offset, 2 + offset, 3 + offset, 4 + offset);
   }
 
+  @Test
+  public void shouldUseDefaultMetricsHttpSettings() {
+    final MetricsCfg metrics = readConfig("default").getMetrics();
+    assertThat(metrics.isHttpEnabled()).isFalse();
+    assertThat(metrics.getHttpHost()).isEqualTo(NetworkCfg.DEFAULT_HOST);
+    assertThat(metrics.getHttpPort()).isEqualTo(MetricsCfg.DEFAULT_HTTP_PORT);
+  }
+
+  @Test
+  public void shouldUsePortOffsetForMetricsHttpPort() {
+    final MetricsCfg metrics = readConfig("port-offset").getMetrics();
+    assertThat(metrics.getHttpPort()).isEqualTo(MetricsCfg.DEFAULT_HTTP_PORT + 50);
+  }
+
   @Test
   public void shouldUsePortOffsetFromEnvironment() {
     environment.put(ENV_PORT_OFFSET, "5");
@@ -0,0 +1,101 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.system.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.StreamUtil;
+import io.zeebe.util.metrics.Histogram;
+import io.zeebe.util.metrics.MetricsManager;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MetricsHttpServerTest {
+  private final MetricsManager metricsManager = new MetricsManager();
+  private MetricsHttpServer server;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new MetricsHttpServer(new InetSocketAddress("localhost", 0), metricsManager);
+    server.start();
+  }
+
+  @After
+  public void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  public void shouldServeMetrics() throws Exception {
+    // given
+    metricsManager.newMetric("counter").label("label", "value").create().incrementOrdered();
+
+    final Histogram histogram = metricsManager.newHistogram("latency").buckets(10).create();
+    histogram.record(5);
+
+    // when
+    final HttpURLConnection connection = openConnection(MetricsHttpServer.METRICS_PATH);
+
+    // then
+    assertThat(connection.getResponseCode()).isEqualTo(200);
+    assertThat(connection.getContentType()).startsWith("text/plain");
+    assertThat(readBody(connection))
+        .contains("zb_counter{label=\"value\"} 1 ")
+        .contains("zb_latency_bucket{le=\"10\"} 1 ")
+        .contains("zb_latency_bucket{le=\"+Inf\"} 1 ")
+        .contains("zb_latency_sum{} 5 ")
+        .contains("zb_latency_count{} 1 ");
+  }
+
+  @Test
+  public void shouldRejectNonGetRequests() throws Exception {
+    // given
+    final HttpURLConnection connection = openConnection(MetricsHttpServer.METRICS_PATH);
+    connection.setRequestMethod("DELETE");
+
+    // then
+    assertThat(connection.getResponseCode()).isEqualTo(405);
+  }
+
+  @Test
+  public void shouldNotServeUnknownPath() throws Exception {
+    // given
+    final HttpURLConnection connection = openConnection("/foo");
+
+    // then
+    assertThat(connection.getResponseCode()).isEqualTo(404);
+  }
+
+  private HttpURLConnection openConnection(String path) throws Exception {
+    final InetSocketAddress address = server.getAddress();
+    final URL url = new URL("http", address.getHostString(), address.getPort(), path);
+    return (HttpURLConnection) url.openConnection();
+  }
+
+  private static String readBody(HttpURLConnection connection) throws Exception {
+    try (InputStream inputStream = connection.getInputStream()) {
+      return new String(StreamUtil.read(inputStream), StandardCharsets.UTF_8);
+    }
+  }
+}
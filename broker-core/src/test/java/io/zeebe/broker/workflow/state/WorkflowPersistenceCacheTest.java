@@ -0,0 +1,155 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.workflow.state;
+
+import static io.zeebe.broker.workflow.state.WorkflowStateTest.creatingDeploymentRecord;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.broker.workflow.deployment.transform.DeploymentTransformer;
+import io.zeebe.broker.workflow.model.ExecutableWorkflow;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.zeebe.protocol.impl.record.value.deployment.ResourceType;
+import java.util.Collection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WorkflowPersistenceCacheTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private WorkflowState workflowState;
+  private WorkflowPersistenceCache cache;
+
+  @Before
+  public void setUp() throws Exception {
+    workflowState = new WorkflowState();
+    workflowState.open(folder.newFolder("rocksdb"), false);
+
+    cache = new WorkflowPersistenceCache(workflowState, 2);
+  }
+
+  @After
+  public void tearDown() {
+    workflowState.close();
+  }
+
+  @Test
+  public void shouldCacheWorkflow() {
+    // given
+    cache.putDeployment(1, creatingDeploymentRecord(workflowState));
+
+    // when
+    final DeployedWorkflow workflow = cache.getWorkflowByKey(1);
+
+    // then
+    assertThat(cache.getWorkflowByKey(1)).isSameAs(workflow);
+    assertThat(cache.getWorkflowByProcessIdAndVersion(wrapString("processId"), 1))
+        .isSameAs(workflow);
+    assertThat(cache.getLatestWorkflowVersionByProcessId(wrapString("processId")))
+        .isSameAs(workflow);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflow() {
+    // given
+    cache.putDeployment(1, creatingDeploymentRecord(workflowState));
+    cache.putDeployment(2, creatingDeploymentRecord(workflowState));
+    cache.putDeployment(3, creatingDeploymentRecord(workflowState));
+
+    final DeployedWorkflow firstWorkflow = cache.getWorkflowByKey(1);
+    final DeployedWorkflow secondWorkflow = cache.getWorkflowByKey(2);
+    cache.getWorkflowByKey(1);
+
+    // when
+    cache.getWorkflowByKey(3);
+
+    // then
+    assertThat(cache.getWorkflowByKey(1)).isSameAs(firstWorkflow);
+
+    final DeployedWorkflow reloadedWorkflow = cache.getWorkflowByKey(2);
+    assertThat(reloadedWorkflow).isNotSameAs(secondWorkflow);
+    assertThat(reloadedWorkflow.getKey()).isEqualTo(2L);
+    assertThat(reloadedWorkflow.getWorkflow().getElementById(wrapString("test"))).isNotNull();
+  }
+
+  @Test
+  public void shouldGetWorkflowsBeyondCacheCapacity() {
+    // given
+    cache.putDeployment(1, creatingDeploymentRecord(workflowState));
+    cache.putDeployment(2, creatingDeploymentRecord(workflowState));
+    cache.putDeployment(3, creatingDeploymentRecord(workflowState, "otherId"));
+
+    // when
+    final Collection<DeployedWorkflow> workflows = cache.getWorkflows();
+
+    // then
+    assertThat(workflows).extracting(DeployedWorkflow::getKey).containsOnly(1L, 2L, 3L);
+    assertThat(workflows)
+        .allSatisfy(
+            workflow ->
+                assertThat(workflow.getWorkflow().getElementById(wrapString("test")))
+                    .isNotNull());
+  }
+
+  @Test
+  public void shouldReturnCachedWorkflowOnGetWorkflows() {
+    // given
+    cache.putDeployment(1, creatingDeploymentRecord(workflowState));
+    final DeployedWorkflow workflow = cache.getWorkflowByKey(1);
+
+    // when
+    final Collection<DeployedWorkflow> workflows =
+        cache.getWorkflowsByBpmnProcessId(wrapString("processId"));
+
+    // then
+    assertThat(workflows).containsExactly(workflow);
+  }
+
+  @Test
+  public void shouldCacheExecutableWorkflowsOfDeployment() {
+    // given
+    final DeploymentRecord deploymentRecord = new DeploymentRecord();
+    deploymentRecord
+        .resources()
+        .add()
+        .setResourceName(wrapString("process.bpmn"))
+        .setResource(
+            wrapString(
+                Bpmn.convertToString(
+                    Bpmn.createExecutableProcess("processId").startEvent().endEvent().done())))
+        .setResourceType(ResourceType.BPMN_XML);
+
+    final DeploymentTransformer deploymentTransformer = new DeploymentTransformer(workflowState);
+    deploymentTransformer.transform(deploymentRecord);
+
+    final ExecutableWorkflow executableWorkflow =
+        deploymentTransformer.getExecutableWorkflows().get(1L);
+
+    // when
+    cache.putDeployment(1, deploymentRecord, deploymentTransformer.getExecutableWorkflows());
+
+    // then
+    assertThat(executableWorkflow).isNotNull();
+    assertThat(cache.getWorkflowByKey(1).getWorkflow()).isSameAs(executableWorkflow);
+  }
+}
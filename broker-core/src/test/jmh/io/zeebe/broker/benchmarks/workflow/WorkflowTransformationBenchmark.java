@@ -0,0 +1,63 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.benchmarks.workflow;
+
+import io.zeebe.broker.workflow.model.ExecutableWorkflow;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.BpmnModelInstance;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading and transforming a workflow at deployment, where the resource is validated
+ * against the BPMN schema, with reading it again from the state, where it is not.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class WorkflowTransformationBenchmark {
+
+  @Benchmark
+  @Threads(1)
+  public List<ExecutableWorkflow> transformWithValidation(
+      final WorkflowTransformationContext ctx) {
+    final BpmnModelInstance modelInstance =
+        Bpmn.readModelFromStream(new ByteArrayInputStream(ctx.getResource()));
+
+    return ctx.getTransformer().transformDefinitions(modelInstance);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public List<ExecutableWorkflow> transformWithoutValidation(
+      final WorkflowTransformationContext ctx) {
+    final BpmnModelInstance modelInstance =
+        Bpmn.readModelFromStreamWithoutValidation(new ByteArrayInputStream(ctx.getResource()));
+
+    return ctx.getTransformer().transformDefinitions(modelInstance);
+  }
+}
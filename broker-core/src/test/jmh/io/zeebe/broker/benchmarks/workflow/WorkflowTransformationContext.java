@@ -0,0 +1,57 @@
+/*
+ * Zeebe Broker Core
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.zeebe.broker.benchmarks.workflow;
+
+import io.zeebe.broker.workflow.model.transformation.BpmnTransformer;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import java.nio.charset.StandardCharsets;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class WorkflowTransformationContext {
+
+  @Param({"10", "100", "1000"})
+  protected int taskCount;
+
+  protected final BpmnTransformer transformer = new BpmnTransformer();
+
+  protected byte[] resource;
+
+  @Setup
+  public void setUp() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("process").startEvent();
+
+    for (int i = 0; i < taskCount; i++) {
+      builder = builder.serviceTask("task-" + i, t -> t.zeebeTaskType("type").zeebeTaskRetries(3));
+    }
+
+    resource = Bpmn.convertToString(builder.endEvent().done()).getBytes(StandardCharsets.UTF_8);
+  }
+
+  public BpmnTransformer getTransformer() {
+    return transformer;
+  }
+
+  public byte[] getResource() {
+    return resource;
+  }
+}
@@ -20,6 +20,7 @@ import static io.zeebe.dispatcher.impl.PositionUtil.partitionOffset;
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
 
+import io.zeebe.dispatcher.impl.DispatcherMetrics;
 import io.zeebe.dispatcher.impl.log.LogBuffer;
 import io.zeebe.dispatcher.impl.log.LogBufferAppender;
 import io.zeebe.dispatcher.impl.log.LogBufferPartition;
@@ -29,6 +30,7 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.FutureUtil;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
 import java.util.Arrays;
 import org.agrona.DirectBuffer;
 
@@ -37,6 +39,8 @@ public class Dispatcher extends Actor implements AutoCloseable {
   public static final int MODE_PUB_SUB = 1;
   public static final int MODE_PIPELINE = 2;
 
+  private static final Duration METRICS_SAMPLE_INTERVAL = Duration.ofSeconds(1);
+
   protected final LogBuffer logBuffer;
   protected final LogBufferAppender logAppender;
 
@@ -46,6 +50,9 @@ public class Dispatcher extends Actor implements AutoCloseable {
   protected final String[] defaultSubscriptionNames;
   protected Subscription[] subscriptions;
 
+  protected final DispatcherMetrics metrics;
+  protected Metric[] subscriptionLagMetrics;
+
   protected final int maxFrameLength;
   protected final int partitionSize;
   protected int logWindowLength;
@@ -85,6 +92,9 @@ public class Dispatcher extends Actor implements AutoCloseable {
 
     this.subscriptions = new Subscription[0];
     this.defaultSubscriptionNames = subscriptionNames;
+
+    this.metrics = new DispatcherMetrics(metricsManager, name, partitionSize);
+    this.subscriptionLagMetrics = new Metric[0];
   }
 
   @Override
@@ -95,11 +105,37 @@ public class Dispatcher extends Actor implements AutoCloseable {
   private void runBackgroundTask() {
     updatePublisherLimit();
     logBuffer.cleanPartitions();
+
+    if (subscriptions.length > 0) {
+      metrics.onConsumed(getLastSubscriberPosition());
+    }
+  }
+
+  private long getLastSubscriberPosition() {
+    long lastSubscriberPosition = Long.MAX_VALUE;
+
+    for (int i = 0; i < subscriptions.length; i++) {
+      lastSubscriberPosition = Math.min(lastSubscriberPosition, subscriptions[i].getPosition());
+    }
+
+    return lastSubscriberPosition;
+  }
+
+  private void sampleMetrics() {
+    final long position = publisherPosition.get();
+
+    metrics.samplePublisher(position, publisherLimit.get());
+
+    for (int i = 0; i < subscriptions.length; i++) {
+      metrics.sampleSubscription(
+          subscriptionLagMetrics[i], position, subscriptions[i].getPosition());
+    }
   }
 
   @Override
   protected void onActorStarted() {
     dataConsumed = actor.onCondition("data-consumed", backgroundTask);
+    actor.runAtFixedRate(METRICS_SAMPLE_INTERVAL, this::sampleMetrics);
     openDefaultSubscriptions();
   }
 
@@ -115,6 +151,7 @@ public class Dispatcher extends Actor implements AutoCloseable {
     }
 
     logBuffer.close();
+    metrics.close();
     isClosed = true;
   }
 
@@ -197,12 +234,21 @@ public class Dispatcher extends Actor implements AutoCloseable {
 
         publisherPosition.proposeMaxOrdered(newPosition);
         signalSubsciptions();
+        onClaimed(length, newPosition);
+      } else {
+        metrics.onClaimRejected();
       }
     }
 
     return newPosition;
   }
 
+  private void onClaimed(int length, long newPosition) {
+    if (newPosition > 0) {
+      metrics.onClaimed(length, newPosition);
+    }
+  }
+
   private void signalSubsciptions() {
     final Subscription[] subscriptions = this.subscriptions;
     for (int i = 0; i < subscriptions.length; i++) {
@@ -257,6 +303,9 @@ public class Dispatcher extends Actor implements AutoCloseable {
       newPosition = updatePublisherPosition(activePartitionId, newOffset);
       publisherPosition.proposeMaxOrdered(newPosition);
       signalSubsciptions();
+      onClaimed(length, newPosition);
+    } else {
+      metrics.onClaimRejected();
     }
     return newPosition;
   }
@@ -298,6 +347,9 @@ public class Dispatcher extends Actor implements AutoCloseable {
 
         publisherPosition.proposeMaxOrdered(newPosition);
         signalSubsciptions();
+        onClaimed(batchLength, newPosition);
+      } else {
+        metrics.onClaimRejected();
       }
     }
 
@@ -399,7 +451,12 @@ public class Dispatcher extends Actor implements AutoCloseable {
 
     newSubscriptions[subscriberId] = subscription;
 
+    final Metric[] newSubscriptionLagMetrics =
+        Arrays.copyOf(subscriptionLagMetrics, subscriberId + 1);
+    newSubscriptionLagMetrics[subscriberId] = metrics.newSubscriptionLagMetric(subscriptionName);
+
     this.subscriptions = newSubscriptions;
+    this.subscriptionLagMetrics = newSubscriptionLagMetrics;
 
     onConsumption.signal();
 
@@ -490,22 +547,25 @@ public class Dispatcher extends Actor implements AutoCloseable {
       }
     }
 
-    Subscription[] newSubscriptions = null;
+    subscriptionLagMetrics[index].close();
 
+    this.subscriptions = removeAt(subscriptions, index);
+    this.subscriptionLagMetrics = removeAt(subscriptionLagMetrics, index);
+
+    // ensuring that the publisher limit is updated
+    dataConsumed.signal();
+  }
+
+  private static <T> T[] removeAt(T[] array, int index) {
+    final int len = array.length;
     final int numMoved = len - index - 1;
 
-    if (numMoved == 0) {
-      newSubscriptions = Arrays.copyOf(subscriptions, len - 1);
-    } else {
-      newSubscriptions = new Subscription[len - 1];
-      System.arraycopy(subscriptions, 0, newSubscriptions, 0, index);
-      System.arraycopy(subscriptions, index + 1, newSubscriptions, index, numMoved);
+    final T[] newArray = Arrays.copyOf(array, len - 1);
+    if (numMoved > 0) {
+      System.arraycopy(array, index + 1, newArray, index, numMoved);
     }
 
-    this.subscriptions = newSubscriptions;
-
-    // ensuring that the publisher limit is updated
-    dataConsumed.signal();
+    return newArray;
   }
 
   /**
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.dispatcher.impl;
+
+import static io.zeebe.dispatcher.impl.PositionUtil.partitionId;
+import static io.zeebe.dispatcher.impl.PositionUtil.partitionOffset;
+
+import io.zeebe.util.metrics.Histogram;
+import io.zeebe.util.metrics.Metric;
+import io.zeebe.util.metrics.MetricsManager;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a dispatcher. The publisher side is updated by the publishing threads on every claim,
+ * so it only uses atomic counters and histograms which don't allocate. The positions are sampled by
+ * the dispatcher actor.
+ *
+ * <p>The time a fragment stays in the buffer is measured for a sample of the fragments: every
+ * {@link #SAMPLE_INTERVAL}th published fragment is marked with the current time, if no other
+ * fragment is marked, and the time is recorded when all subscriptions consumed it.
+ */
+public class DispatcherMetrics {
+  public static final int SAMPLE_INTERVAL = 64;
+
+  private static final long NO_PROBE = -1;
+  private static final long PROBE_PENDING = -2;
+
+  private final MetricsManager metricsManager;
+  private final String bufferName;
+  private final int partitionSize;
+
+  private final Metric claimsRejected;
+  private final Metric publisherRemainingBytes;
+  private final Histogram fragmentLength;
+  private final Histogram timeInBuffer;
+
+  private final AtomicLong probePosition = new AtomicLong(NO_PROBE);
+  private long probeTimeNanos;
+
+  // not thread-safe on purpose, concurrent publishers only shift the sampled fragments
+  private int sampleCountdown = SAMPLE_INTERVAL;
+
+  public DispatcherMetrics(MetricsManager metricsManager, String bufferName, int partitionSize) {
+    this.metricsManager = metricsManager;
+    this.bufferName = bufferName;
+    this.partitionSize = partitionSize;
+
+    claimsRejected =
+        metricsManager
+            .newMetric("buffer_claims_rejected")
+            .type("counter")
+            .description("Number of claims which failed because the publisher limit was reached")
+            .label("buffer", bufferName)
+            .create();
+
+    publisherRemainingBytes =
+        metricsManager
+            .newMetric("buffer_publisher_remaining_bytes")
+            .type("gauge")
+            .description("Number of bytes which can be published until the publisher limit")
+            .label("buffer", bufferName)
+            .create();
+
+    fragmentLength =
+        metricsManager
+            .newHistogram("buffer_fragment_length_bytes")
+            .description("Length of the published fragments")
+            .buckets(Histogram.exponentialBuckets(64, 2, 14))
+            .label("buffer", bufferName)
+            .create();
+
+    timeInBuffer =
+        metricsManager
+            .newHistogram("buffer_time_in_buffer_micros")
+            .description("Time from claiming a fragment until it is consumed by all subscriptions")
+            .buckets(Histogram.exponentialBuckets(10, 2, 18))
+            .label("buffer", bufferName)
+            .create();
+  }
+
+  public Metric newSubscriptionLagMetric(String subscriptionName) {
+    return metricsManager
+        .newMetric("buffer_subscription_lag_bytes")
+        .type("gauge")
+        .description("Number of published bytes which are not consumed by the subscription")
+        .label("buffer", bufferName)
+        .label("subscription", subscriptionName)
+        .create();
+  }
+
+  public void onClaimRejected() {
+    claimsRejected.increment();
+  }
+
+  /**
+   * Must be called after a fragment or batch was claimed successfully.
+   *
+   * @param length the length of the fragment or batch
+   * @param position the publisher position after the fragment
+   */
+  public void onClaimed(int length, long position) {
+    fragmentLength.record(length);
+
+    if (--sampleCountdown <= 0) {
+      sampleCountdown = SAMPLE_INTERVAL;
+
+      if (probePosition.compareAndSet(NO_PROBE, PROBE_PENDING)) {
+        probeTimeNanos = System.nanoTime();
+        // publishes the time to the dispatcher actor
+        probePosition.set(position);
+      }
+    }
+  }
+
+  /**
+   * Must be called by the dispatcher actor.
+   *
+   * @param consumedPosition the position up to which all subscriptions consumed the fragments
+   */
+  public void onConsumed(long consumedPosition) {
+    final long position = probePosition.get();
+
+    if (position >= 0 && consumedPosition >= position) {
+      final long nanos = System.nanoTime() - probeTimeNanos;
+      timeInBuffer.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+
+      probePosition.set(NO_PROBE);
+    }
+  }
+
+  /** Must be called by the dispatcher actor. */
+  public void samplePublisher(long publisherPosition, long publisherLimit) {
+    publisherRemainingBytes.setOrdered(Math.max(distance(publisherLimit, publisherPosition), 0));
+  }
+
+  /** Must be called by the dispatcher actor. */
+  public void sampleSubscription(
+      Metric subscriptionLag, long publisherPosition, long subscriptionPosition) {
+    subscriptionLag.setOrdered(Math.max(distance(publisherPosition, subscriptionPosition), 0));
+  }
+
+  /** @return the number of bytes from the second to the first position */
+  private long distance(long position, long previousPosition) {
+    final long partitions = partitionId(position) - partitionId(previousPosition);
+    return partitions * partitionSize
+        + partitionOffset(position)
+        - partitionOffset(previousPosition);
+  }
+
+  public void close() {
+    claimsRejected.close();
+    publisherRemainingBytes.close();
+    fragmentLength.close();
+    timeInBuffer.close();
+  }
+}
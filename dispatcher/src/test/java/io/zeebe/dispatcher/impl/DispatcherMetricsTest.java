@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.dispatcher.impl;
+
+import static io.zeebe.dispatcher.impl.PositionUtil.position;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.metrics.Metric;
+import io.zeebe.util.metrics.MetricsManager;
+import org.agrona.ExpandableArrayBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DispatcherMetricsTest {
+  private static final int PARTITION_SIZE = 1024;
+
+  private MetricsManager metricsManager;
+  private DispatcherMetrics metrics;
+
+  @Before
+  public void setUp() {
+    metricsManager = new MetricsManager();
+    metrics = new DispatcherMetrics(metricsManager, "test", PARTITION_SIZE);
+  }
+
+  @Test
+  public void shouldCountRejectedClaims() {
+    // when
+    metrics.onClaimRejected();
+    metrics.onClaimRejected();
+
+    // then
+    assertThat(dump()).contains("zb_buffer_claims_rejected{buffer=\"test\"} 2 100\n");
+  }
+
+  @Test
+  public void shouldRecordFragmentLength() {
+    // when
+    metrics.onClaimed(50, position(0, 64));
+    metrics.onClaimed(100, position(0, 192));
+
+    // then
+    assertThat(dump())
+        .contains("zb_buffer_fragment_length_bytes_bucket{buffer=\"test\",le=\"64\"} 1 100\n")
+        .contains("zb_buffer_fragment_length_bytes_sum{buffer=\"test\"} 150 100\n")
+        .contains("zb_buffer_fragment_length_bytes_count{buffer=\"test\"} 2 100\n");
+  }
+
+  @Test
+  public void shouldRecordTimeInBufferOfSampledFragment() {
+    // given
+    long position = 0;
+    for (int i = 0; i < DispatcherMetrics.SAMPLE_INTERVAL; i++) {
+      position += 64;
+      metrics.onClaimed(64, position);
+    }
+
+    // when
+    metrics.onConsumed(position - 64);
+
+    // then
+    assertThat(dump()).contains("zb_buffer_time_in_buffer_micros_count{buffer=\"test\"} 0 100\n");
+
+    // when
+    metrics.onConsumed(position);
+    metrics.onConsumed(position);
+
+    // then
+    assertThat(dump()).contains("zb_buffer_time_in_buffer_micros_count{buffer=\"test\"} 1 100\n");
+  }
+
+  @Test
+  public void shouldSampleRemainingBytesAcrossPartitions() {
+    // when
+    metrics.samplePublisher(position(1, 1000), position(2, 200));
+
+    // then
+    assertThat(dump()).contains("zb_buffer_publisher_remaining_bytes{buffer=\"test\"} 224 100\n");
+  }
+
+  @Test
+  public void shouldSampleSubscriptionLag() {
+    // given
+    final Metric lag = metrics.newSubscriptionLagMetric("sub");
+
+    // when
+    metrics.sampleSubscription(lag, position(0, 512), position(0, 128));
+
+    // then
+    assertThat(dump())
+        .contains(
+            "zb_buffer_subscription_lag_bytes{buffer=\"test\",subscription=\"sub\"} 384 100\n");
+  }
+
+  @Test
+  public void shouldRemoveMetricsOnClose() {
+    // given
+    metrics.newSubscriptionLagMetric("sub").close();
+
+    // when
+    metrics.close();
+
+    // then
+    assertThat(dump()).isEmpty();
+  }
+
+  private String dump() {
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    final int length = metricsManager.dump(buffer, 0, 100);
+
+    return BufferUtil.bufferAsString(buffer, 0, length);
+  }
+}
@@ -66,6 +66,10 @@ public interface Exporter {
    * called indefinitely until it terminates without any exception. It is up to the implementation
    * to handle errors properly, to implement retry strategies, etc.
    *
+   * <p>If the exporter can't accept the record at the moment, it should throw an {@link
+   * ExporterBackpressureException} instead of blocking. The method is then called again with the
+   * same record later, without the failure being logged.
+   *
    * @param record the record to export
    */
   void export(final Record record);
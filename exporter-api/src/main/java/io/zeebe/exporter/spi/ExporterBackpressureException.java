@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.spi;
+
+/**
+ * Thrown by {@link Exporter#export(io.zeebe.exporter.record.Record)} to signal that the exporter
+ * can't accept the record right now, e.g. because its buffers are full until pending requests are
+ * answered. The record is not logged as failed but passed to the exporter again later.
+ *
+ * <p>As the exception is used for flow control, it doesn't fill in its stack trace and the same
+ * instance may be thrown repeatedly.
+ */
+public class ExporterBackpressureException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public ExporterBackpressureException(final String message) {
+    super(message, null, false, false);
+  }
+}
@@ -23,10 +23,14 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Map;
+import java.util.function.LongConsumer;
 import org.apache.http.HttpHost;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.admin.indices.template.put.PutIndexTemplateRequest;
 import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
@@ -47,14 +51,27 @@ public class ElasticsearchClient {
 
   private final ElasticsearchExporterConfiguration configuration;
   private final Logger log;
+  private final LongConsumer acknowledgedPositionConsumer;
   protected final RestHighLevelClient client;
   private BulkRequest bulkRequest;
 
+  // bulks which are sent or failed, in the order of their positions; guarded by this
+  private final Deque<PendingBulk> pendingBulks = new ArrayDeque<>();
+  private int inFlightRequests;
+
   private final DateTimeFormatter formatter;
 
-  public ElasticsearchClient(final ElasticsearchExporterConfiguration configuration, Logger log) {
+  /**
+   * @param acknowledgedPositionConsumer invoked with the highest position up to which all bulks are
+   *     acknowledged by Elasticsearch, may be invoked by the thread of the rest client
+   */
+  public ElasticsearchClient(
+      final ElasticsearchExporterConfiguration configuration,
+      final Logger log,
+      final LongConsumer acknowledgedPositionConsumer) {
     this.configuration = configuration;
     this.log = log;
+    this.acknowledgedPositionConsumer = acknowledgedPositionConsumer;
     this.client = createClient();
     this.bulkRequest = new BulkRequest();
     this.formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
@@ -71,28 +88,87 @@ public class ElasticsearchClient {
     bulk(request);
   }
 
-  public void bulk(final IndexRequest indexRequest) {
+  public synchronized void bulk(final IndexRequest indexRequest) {
     bulkRequest.add(indexRequest);
   }
 
-  /** @return true if all bulk records where flushed successfully */
-  public boolean flush() {
-    boolean success = true;
-    if (bulkRequest.numberOfActions() > 0) {
-      try {
-        final BulkResponse responses = client.bulk(bulkRequest, RequestOptions.DEFAULT);
-        success = checkBulkResponses(responses);
-      } catch (IOException e) {
-        throw new ElasticsearchExporterException("Failed to flush bulk", e);
+  /**
+   * Sends the current bulk asynchronously, if the maximum number of in-flight bulk requests is not
+   * reached yet. Failed bulks are sent again. The given position is acknowledged when the bulk and
+   * all previous bulks are acknowledged by Elasticsearch.
+   *
+   * @param position the position of the last record which is covered by the current bulk
+   * @return true if the current bulk was sent, false if it must be flushed again later
+   */
+  public synchronized boolean flush(final long position) {
+    retryFailedBulks();
+
+    if (bulkRequest.numberOfActions() == 0) {
+      // no records to index, the position is acknowledged together with the previous bulks
+      final PendingBulk lastBulk = pendingBulks.peekLast();
+      if (lastBulk != null) {
+        lastBulk.position = Math.max(lastBulk.position, position);
+      } else {
+        acknowledgedPositionConsumer.accept(position);
+      }
+      return true;
+    } else if (inFlightRequests < configuration.bulk.maxInFlight) {
+      final PendingBulk bulk = new PendingBulk(bulkRequest, position);
+      bulkRequest = new BulkRequest();
+
+      pendingBulks.add(bulk);
+      send(bulk);
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  private void retryFailedBulks() {
+    for (final PendingBulk bulk : pendingBulks) {
+      if (inFlightRequests >= configuration.bulk.maxInFlight) {
+        break;
       }
 
-      if (success) {
-        // all records where flushed, create new bulk request, otherwise retry next time
-        bulkRequest = new BulkRequest();
+      if (bulk.isFailed) {
+        bulk.isFailed = false;
+        send(bulk);
       }
     }
+  }
 
-    return success;
+  private void send(final PendingBulk bulk) {
+    inFlightRequests += 1;
+
+    client.bulkAsync(
+        bulk.request,
+        RequestOptions.DEFAULT,
+        ActionListener.wrap(
+            response -> onBulkResponse(bulk, checkBulkResponses(response)),
+            error -> {
+              log.warn("Failed to flush bulk", error);
+              onBulkResponse(bulk, false);
+            }));
+  }
+
+  private synchronized void onBulkResponse(final PendingBulk bulk, final boolean success) {
+    inFlightRequests -= 1;
+
+    if (success) {
+      bulk.isAcknowledged = true;
+
+      long acknowledgedPosition = -1;
+      while (!pendingBulks.isEmpty() && pendingBulks.peekFirst().isAcknowledged) {
+        acknowledgedPosition = pendingBulks.pollFirst().position;
+      }
+
+      if (acknowledgedPosition >= 0) {
+        acknowledgedPositionConsumer.accept(acknowledgedPosition);
+      }
+    } else {
+      // retry on next flush
+      bulk.isFailed = true;
+    }
   }
 
   private boolean checkBulkResponses(final BulkResponse responses) {
@@ -106,8 +182,18 @@ public class ElasticsearchClient {
     return true;
   }
 
-  public boolean shouldFlush() {
-    return bulkRequest.numberOfActions() >= configuration.bulk.size;
+  public synchronized boolean shouldFlush() {
+    return bulkRequest.numberOfActions() >= configuration.bulk.size || isMemoryLimitReached();
+  }
+
+  /** @return true if the current bulk must be sent before more records can be added */
+  public synchronized boolean isMemoryLimitReached() {
+    return bulkRequest.estimatedSizeInBytes() >= configuration.bulk.memoryLimit;
+  }
+
+  /** @return the number of bulk requests which are sent but not answered yet */
+  public synchronized int getInFlightRequests() {
+    return inFlightRequests;
   }
 
   /** @return true if request was acknowledged */
@@ -206,4 +292,16 @@ public class ElasticsearchClient {
   private static String indexTemplateForValueType(final ValueType valueType) {
     return String.format(INDEX_TEMPLATE_FILENAME_PATTERN, valueTypeToString(valueType));
   }
+
+  private static class PendingBulk {
+    private final BulkRequest request;
+    private long position;
+    private boolean isAcknowledged;
+    private boolean isFailed;
+
+    PendingBulk(final BulkRequest request, final long position) {
+      this.request = request;
+      this.position = position;
+    }
+  }
 }
@@ -21,6 +21,7 @@ import io.zeebe.exporter.context.Controller;
 import io.zeebe.exporter.record.Record;
 import io.zeebe.exporter.record.RecordMetadata;
 import io.zeebe.exporter.spi.Exporter;
+import io.zeebe.exporter.spi.ExporterBackpressureException;
 import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.ValueType;
 import java.time.Duration;
@@ -29,6 +30,9 @@ import org.slf4j.Logger;
 public class ElasticsearchExporter implements Exporter {
 
   public static final String ZEEBE_RECORD_TEMPLATE_JSON = "/zeebe-record-template.json";
+  private static final ExporterBackpressureException BULK_FULL =
+      new ExporterBackpressureException(
+          "Bulk memory limit and maximum number of in-flight bulks reached");
 
   private Logger log;
   private Controller controller;
@@ -57,11 +61,13 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   protected ElasticsearchClient createClient() {
-    return new ElasticsearchClient(configuration, log);
+    return new ElasticsearchClient(
+        configuration, log, controller::updateLastExportedRecordPosition);
   }
 
   @Override
   public void close() {
+    // bulks which are not acknowledged until the client is closed are exported again on restart
     flush();
 
     try {
@@ -74,6 +80,12 @@ public class ElasticsearchExporter implements Exporter {
 
   @Override
   public void export(Record record) {
+    if (client.isMemoryLimitReached() && !client.flush(lastPosition)) {
+      // the current bulk is full and can't be sent while the maximum number of bulks is in-flight,
+      // so the record is exported again once a bulk is answered
+      throw BULK_FULL;
+    }
+
     if (shouldIndexRecord(record)) {
       client.index(record);
     }
@@ -93,10 +105,9 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    if (client.flush()) {
-      controller.updateLastExportedRecordPosition(lastPosition);
-    } else {
-      log.warn("Failed to flush bulk completely");
+    // the last exported position is updated asynchronously when the bulk is acknowledged
+    if (!client.flush(lastPosition)) {
+      log.debug("Maximum number of in-flight bulks reached, continue to fill current bulk");
     }
   }
 
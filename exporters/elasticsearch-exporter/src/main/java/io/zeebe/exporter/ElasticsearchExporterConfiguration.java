@@ -98,10 +98,23 @@ public class ElasticsearchExporterConfiguration {
     public int delay = 5;
     // bulk size before flush
     public int size = 1_000;
+    // bulk size in bytes before flush
+    public int memoryLimit = 10 * 1024 * 1024;
+    // maximum number of bulk requests which are sent but not acknowledged yet
+    public int maxInFlight = 2;
 
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", memoryLimit="
+          + memoryLimit
+          + ", maxInFlight="
+          + maxInFlight
+          + '}';
     }
   }
 }
@@ -204,7 +204,7 @@ public class ElasticsearchExporterIT {
   public static class ElasticsearchTestClient extends ElasticsearchClient {
 
     public ElasticsearchTestClient(ElasticsearchExporterConfiguration configuration, Logger log) {
-      super(configuration, log);
+      super(configuration, log, position -> {});
     }
 
     // used in tests
@@ -17,7 +17,9 @@ package io.zeebe.exporter;
 
 import static io.zeebe.exporter.ElasticsearchExporter.ZEEBE_RECORD_TEMPLATE_JSON;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -29,6 +31,7 @@ import io.zeebe.exporter.context.Context;
 import io.zeebe.exporter.context.Controller;
 import io.zeebe.exporter.record.Record;
 import io.zeebe.exporter.record.RecordMetadata;
+import io.zeebe.exporter.spi.ExporterBackpressureException;
 import io.zeebe.protocol.clientapi.RecordType;
 import io.zeebe.protocol.clientapi.ValueType;
 import io.zeebe.util.ZbLogger;
@@ -244,6 +247,43 @@ public class ElasticsearchExporterTest {
     assertThat(lastExportedRecordPosition).isEqualTo(position);
   }
 
+  @Test
+  public void shouldApplyBackpressureIfBulkIsFullAndCannotBeFlushed() {
+    // given
+    config.index.event = true;
+    config.index.workflowInstance = true;
+    final ElasticsearchExporter exporter = createExporter(config);
+    when(esClient.isMemoryLimitReached()).thenReturn(true);
+    when(esClient.flush(anyLong())).thenReturn(false);
+
+    final Record record = mockRecord(ValueType.WORKFLOW_INSTANCE, RecordType.EVENT);
+
+    // when
+    assertThatThrownBy(() -> exporter.export(record))
+        .isInstanceOf(ExporterBackpressureException.class);
+
+    // then
+    verify(esClient, never()).index(record);
+  }
+
+  @Test
+  public void shouldExportIfFullBulkIsFlushed() {
+    // given
+    config.index.event = true;
+    config.index.workflowInstance = true;
+    final ElasticsearchExporter exporter = createExporter(config);
+    when(esClient.isMemoryLimitReached()).thenReturn(true);
+    when(esClient.flush(anyLong())).thenReturn(true);
+
+    final Record record = mockRecord(ValueType.WORKFLOW_INSTANCE, RecordType.EVENT);
+
+    // when
+    exporter.export(record);
+
+    // then
+    verify(esClient).index(record);
+  }
+
   @Test
   public void shouldFlushOnClose() {
     // given
@@ -253,7 +293,7 @@ public class ElasticsearchExporterTest {
     exporter.close();
 
     // then
-    verify(esClient).flush();
+    verify(esClient).flush(anyLong());
   }
 
   private ElasticsearchExporter createExporter(
@@ -316,7 +356,12 @@ public class ElasticsearchExporterTest {
 
   private ElasticsearchClient mockElasticsearchClient() {
     final ElasticsearchClient client = mock(ElasticsearchClient.class);
-    when(client.flush()).thenReturn(true);
+    when(client.flush(anyLong()))
+        .thenAnswer(
+            invocation -> {
+              lastExportedRecordPosition = invocation.getArgument(0);
+              return true;
+            });
     when(client.putIndexTemplate(any(ValueType.class))).thenReturn(true);
     when(client.putIndexTemplate(anyString(), anyString())).thenReturn(true);
     return client;
@@ -23,6 +23,7 @@ import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
@@ -50,6 +51,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateWorkflowInstancePayloadRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateWorkflowInstancePayloadResponse;
+import java.time.Duration;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
@@ -58,11 +60,28 @@ public class EndpointManager extends GatewayGrpc.GatewayImplBase {
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
+  private final LongPollingActivateJobsHandler longPollingHandler;
 
   public EndpointManager(final BrokerClient brokerClient) {
+    this(brokerClient, Duration.ZERO);
+  }
+
+  /**
+   * @param longPollingTimeout the maximum time an activate jobs request waits for jobs to become
+   *     available, or zero to complete the request immediately if no jobs are available
+   */
+  public EndpointManager(final BrokerClient brokerClient, final Duration longPollingTimeout) {
     this.brokerClient = brokerClient;
     this.topologyManager = brokerClient.getTopologyManager();
     this.activateJobsHandler = new ActivateJobsHandler(brokerClient);
+
+    if (longPollingTimeout.isZero()) {
+      longPollingHandler = null;
+    } else {
+      longPollingHandler =
+          new LongPollingActivateJobsHandler(activateJobsHandler, longPollingTimeout);
+      brokerClient.submitActor(longPollingHandler);
+    }
   }
 
   @Override
@@ -104,7 +123,12 @@ public class EndpointManager extends GatewayGrpc.GatewayImplBase {
     sendRequest(
         request,
         RequestMapper::toCreateJobRequest,
-        ResponseMapper::toCreateJobResponse,
+        (key, response) -> {
+          if (longPollingHandler != null) {
+            longPollingHandler.onJobsAvailable(request.getJobType());
+          }
+          return ResponseMapper.toCreateJobResponse(key, response);
+        },
         responseObserver);
   }
 
@@ -194,9 +218,15 @@ public class EndpointManager extends GatewayGrpc.GatewayImplBase {
   public void activateJobs(
       ActivateJobsRequest request, StreamObserver<ActivateJobsResponse> responseObserver) {
     topologyManager.withTopology(
-        topology ->
+        topology -> {
+          if (longPollingHandler != null) {
+            longPollingHandler.activateJobs(
+                topology.getPartitionsCount(), request, responseObserver);
+          } else {
             activateJobsHandler.activateJobs(
-                topology.getPartitionsCount(), request, responseObserver));
+                topology.getPartitionsCount(), request, responseObserver);
+          }
+        });
   }
 
   private <GrpcRequestT, BrokerResponseT, GrpcResponseT> void sendRequest(
@@ -22,6 +22,7 @@ import io.zeebe.gateway.impl.ZeebeClientBuilderImpl;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 
@@ -34,6 +35,7 @@ public class Gateway {
 
   private Server server;
   private String brokerContactPoint = "0.0.0.0:26501";
+  private Duration longPollingTimeout = Duration.ZERO;
   private BrokerClient brokerClient;
 
   private final Supplier<ServerBuilder> serverBuilderFactory;
@@ -81,10 +83,22 @@ public class Gateway {
     this.brokerContactPoint = brokerContactPoint;
   }
 
+  /**
+   * Sets the maximum time an activate jobs request waits for jobs to become available. If zero, the
+   * request is completed immediately if no jobs are available.
+   */
+  public void setLongPollingTimeout(final Duration longPollingTimeout) {
+    this.longPollingTimeout = longPollingTimeout;
+  }
+
   public void start() throws IOException {
     brokerClient = buildBrokerClient();
 
-    server = serverBuilderFactory.get().addService(new EndpointManager(brokerClient)).build();
+    server =
+        serverBuilderFactory
+            .get()
+            .addService(new EndpointManager(brokerClient, longPollingTimeout))
+            .build();
 
     server.start();
 
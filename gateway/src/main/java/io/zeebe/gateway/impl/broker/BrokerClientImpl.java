@@ -31,6 +31,7 @@ import io.zeebe.transport.Transports;
 import io.zeebe.transport.impl.memory.NonBlockingMemoryPool;
 import io.zeebe.transport.impl.memory.UnboundedMemoryPool;
 import io.zeebe.util.ByteValue;
+import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
@@ -198,6 +199,11 @@ public class BrokerClientImpl implements BrokerClient {
     return topologyManager;
   }
 
+  @Override
+  public ActorFuture<Void> submitActor(Actor actor) {
+    return actorScheduler.submitActor(actor);
+  }
+
   public ZeebeClientConfiguration getConfiguration() {
     return configuration;
   }
@@ -24,12 +24,13 @@ import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
 
 public class ActivateJobsHandler {
 
-  private final Map<String, Integer> jobTypeToNextPartitionId = new HashMap<>();
+  private final Map<String, Integer> jobTypeToNextPartitionId = new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
 
   public ActivateJobsHandler(BrokerClient brokerClient) {
@@ -40,20 +41,43 @@ public class ActivateJobsHandler {
       int partitionsCount,
       ActivateJobsRequest request,
       StreamObserver<ActivateJobsResponse> responseObserver) {
+    activateJobs(
+        partitionsCount,
+        request,
+        responseObserver,
+        activatedJobs -> responseObserver.onCompleted());
+  }
+
+  /**
+   * Activates jobs on the partitions one after another until the requested amount of jobs is
+   * activated or all partitions were visited. The activated jobs are sent to the response observer,
+   * but the observer is not completed.
+   *
+   * @param completionHandler invoked with the total amount of activated jobs when done
+   */
+  public void activateJobs(
+      int partitionsCount,
+      ActivateJobsRequest request,
+      StreamObserver<ActivateJobsResponse> responseObserver,
+      IntConsumer completionHandler) {
     activateJobs(
         RequestMapper.toActivateJobsRequest(request),
         partitionIdIteratorForType(request.getType(), partitionsCount),
         request.getAmount(),
+        0,
         request.getType(),
-        responseObserver);
+        responseObserver,
+        completionHandler);
   }
 
   private void activateJobs(
       BrokerActivateJobsRequest request,
       PartitionIdIterator partitionIdIterator,
       int remainingAmount,
+      int activatedAmount,
       String jobType,
-      StreamObserver<ActivateJobsResponse> responseObserver) {
+      StreamObserver<ActivateJobsResponse> responseObserver,
+      IntConsumer completionHandler) {
     if (remainingAmount > 0 && partitionIdIterator.hasNext()) {
       // partitions to check and jobs to activate left
       request.setPartitionId(partitionIdIterator.next());
@@ -71,8 +95,10 @@ public class ActivateJobsHandler {
                 request,
                 partitionIdIterator,
                 remainingAmount - jobsCount,
+                activatedAmount + jobsCount,
                 jobType,
-                responseObserver);
+                responseObserver,
+                completionHandler);
           },
           error -> {
             Loggers.BROKER_CLIENT_LOGGER.warn(
@@ -80,12 +106,19 @@ public class ActivateJobsHandler {
                 jobType,
                 partitionIdIterator.getCurrentPartitionId(),
                 error);
-            activateJobs(request, partitionIdIterator, remainingAmount, jobType, responseObserver);
+            activateJobs(
+                request,
+                partitionIdIterator,
+                remainingAmount,
+                activatedAmount,
+                jobType,
+                responseObserver,
+                completionHandler);
           });
     } else {
       // enough jobs activated or no more partitions left to check
       jobTypeToNextPartitionId.put(jobType, partitionIdIterator.getCurrentPartitionId() + 1);
-      responseObserver.onCompleted();
+      completionHandler.accept(activatedAmount);
     }
   }
 
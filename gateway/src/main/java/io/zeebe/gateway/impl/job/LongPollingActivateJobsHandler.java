@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ScheduledTimer;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Activates jobs like the {@link ActivateJobsHandler}, but if no jobs could be activated the
+ * request is parked until jobs of the type become available or the long polling timeout expires.
+ *
+ * <p>Parked requests are retried when new jobs of the type are created via the gateway, or when
+ * another request of the same type activated the full requested amount of jobs. Additionally, the
+ * oldest parked request of each type is retried periodically to pick up jobs which are created by
+ * workflow instances.
+ */
+public class LongPollingActivateJobsHandler extends Actor {
+
+  public static final Duration DEFAULT_PROBE_INTERVAL = Duration.ofMillis(100);
+
+  private final Map<String, Queue<LongPollingRequest>> parkedRequests = new HashMap<>();
+
+  private final ActivateJobsHandler activateJobsHandler;
+  private final Duration longPollingTimeout;
+  private final Duration probeInterval;
+
+  public LongPollingActivateJobsHandler(
+      ActivateJobsHandler activateJobsHandler, Duration longPollingTimeout) {
+    this(activateJobsHandler, longPollingTimeout, DEFAULT_PROBE_INTERVAL);
+  }
+
+  public LongPollingActivateJobsHandler(
+      ActivateJobsHandler activateJobsHandler,
+      Duration longPollingTimeout,
+      Duration probeInterval) {
+    this.activateJobsHandler = activateJobsHandler;
+    this.longPollingTimeout = longPollingTimeout;
+    this.probeInterval = probeInterval;
+  }
+
+  @Override
+  public String getName() {
+    return "gateway-long-polling";
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(probeInterval, this::probeParkedRequests);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    parkedRequests.values().forEach(requests -> requests.forEach(this::complete));
+    parkedRequests.clear();
+  }
+
+  public void activateJobs(
+      int partitionsCount,
+      ActivateJobsRequest request,
+      StreamObserver<ActivateJobsResponse> responseObserver) {
+    final LongPollingRequest longPollingRequest =
+        new LongPollingRequest(partitionsCount, request, responseObserver);
+
+    actor.run(
+        () -> {
+          longPollingRequest.deadline =
+              ActorClock.currentTimeMillis() + longPollingTimeout.toMillis();
+          longPollingRequest.timeoutTimer =
+              actor.runDelayed(longPollingTimeout, () -> onTimeout(longPollingRequest));
+
+          activateJobs(longPollingRequest);
+        });
+  }
+
+  /**
+   * Notifies the handler that new jobs of the given type may be available, e.g. because a job of
+   * this type was created. All parked requests of the type are retried.
+   */
+  public void onJobsAvailable(String jobType) {
+    actor.run(() -> retryParkedRequests(jobType));
+  }
+
+  private void activateJobs(LongPollingRequest request) {
+    request.isActivating = true;
+
+    activateJobsHandler.activateJobs(
+        request.partitionsCount,
+        request.request,
+        request.responseObserver,
+        activatedJobs -> actor.run(() -> onJobsActivated(request, activatedJobs)));
+  }
+
+  private void onJobsActivated(LongPollingRequest request, int activatedJobs) {
+    request.isActivating = false;
+
+    if (activatedJobs > 0) {
+      complete(request);
+
+      if (activatedJobs >= request.request.getAmount()) {
+        // the partitions may have more jobs of this type
+        retryParkedRequests(request.getJobType());
+      }
+    } else if (ActorClock.currentTimeMillis() >= request.deadline || request.isCancelled()) {
+      complete(request);
+    } else {
+      parkedRequests.computeIfAbsent(request.getJobType(), t -> new ArrayDeque<>()).add(request);
+    }
+  }
+
+  private void onTimeout(LongPollingRequest request) {
+    if (!request.isActivating && !request.isCompleted) {
+      final Queue<LongPollingRequest> requests = parkedRequests.get(request.getJobType());
+      if (requests != null) {
+        requests.remove(request);
+      }
+
+      complete(request);
+    }
+  }
+
+  private void retryParkedRequests(String jobType) {
+    final Queue<LongPollingRequest> requests = parkedRequests.remove(jobType);
+
+    if (requests != null) {
+      requests.forEach(this::activateJobs);
+    }
+  }
+
+  private void probeParkedRequests() {
+    final List<String> emptyTypes = new ArrayList<>();
+
+    parkedRequests.forEach(
+        (jobType, requests) -> {
+          LongPollingRequest request = requests.poll();
+          while (request != null && request.isCancelled()) {
+            complete(request);
+            request = requests.poll();
+          }
+
+          if (request != null) {
+            activateJobs(request);
+          }
+
+          if (requests.isEmpty()) {
+            emptyTypes.add(jobType);
+          }
+        });
+
+    emptyTypes.forEach(parkedRequests::remove);
+  }
+
+  private void complete(LongPollingRequest request) {
+    if (!request.isCompleted) {
+      request.isCompleted = true;
+
+      if (request.timeoutTimer != null) {
+        request.timeoutTimer.cancel();
+        request.timeoutTimer = null;
+      }
+
+      if (!request.isCancelled()) {
+        request.responseObserver.onCompleted();
+      }
+    }
+  }
+
+  private static class LongPollingRequest {
+    private final int partitionsCount;
+    private final ActivateJobsRequest request;
+    private final StreamObserver<ActivateJobsResponse> responseObserver;
+
+    private long deadline;
+    private ScheduledTimer timeoutTimer;
+    private boolean isActivating;
+    private boolean isCompleted;
+
+    LongPollingRequest(
+        int partitionsCount,
+        ActivateJobsRequest request,
+        StreamObserver<ActivateJobsResponse> responseObserver) {
+      this.partitionsCount = partitionsCount;
+      this.request = request;
+      this.responseObserver = responseObserver;
+    }
+
+    String getJobType() {
+      return request.getType();
+    }
+
+    boolean isCancelled() {
+      return responseObserver instanceof ServerCallStreamObserver
+          && ((ServerCallStreamObserver<?>) responseObserver).isCancelled();
+    }
+  }
+}
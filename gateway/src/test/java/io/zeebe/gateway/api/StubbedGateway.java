@@ -35,6 +35,8 @@ import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
 import io.zeebe.protocol.PartitionState;
 import io.zeebe.protocol.impl.data.cluster.TopologyResponseDto;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.util.ArrayList;
@@ -80,9 +82,18 @@ public class StubbedGateway extends Gateway {
   private class StubbedBrokerClient implements BrokerClient {
 
     BrokerTopologyManager topologyManager = new StubbedTopologyManager();
+    ActorScheduler actorScheduler;
 
     @Override
-    public void close() {}
+    public void close() {
+      if (actorScheduler != null) {
+        try {
+          actorScheduler.stop().get();
+        } catch (final Exception e) {
+          throw new RuntimeException("Failed to stop actor scheduler", e);
+        }
+      }
+    }
 
     @Override
     public <T> ActorFuture<BrokerResponse<T>> sendRequest(BrokerRequest<T> request) {
@@ -116,6 +127,15 @@ public class StubbedGateway extends Gateway {
     public BrokerTopologyManager getTopologyManager() {
       return topologyManager;
     }
+
+    @Override
+    public ActorFuture<Void> submitActor(Actor actor) {
+      if (actorScheduler == null) {
+        actorScheduler = ActorScheduler.newActorScheduler().build();
+        actorScheduler.start();
+      }
+      return actorScheduler.submitActor(actor);
+    }
   }
 
   private class StubbedTopologyManager implements BrokerTopologyManager {
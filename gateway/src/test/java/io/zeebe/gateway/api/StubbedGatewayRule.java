@@ -16,16 +16,28 @@
 package io.zeebe.gateway.api;
 
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
+import java.time.Duration;
 import org.junit.rules.ExternalResource;
 
 public class StubbedGatewayRule extends ExternalResource {
 
+  private final Duration longPollingTimeout;
+
   protected StubbedGateway gateway;
   protected GatewayBlockingStub client;
 
+  public StubbedGatewayRule() {
+    this(Duration.ZERO);
+  }
+
+  public StubbedGatewayRule(Duration longPollingTimeout) {
+    this.longPollingTimeout = longPollingTimeout;
+  }
+
   @Override
   protected void before() throws Throwable {
     gateway = new StubbedGateway();
+    gateway.setLongPollingTimeout(longPollingTimeout);
     gateway.start();
     client = gateway.buildClient();
   }
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.gateway.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.api.ActivateJobsStub;
+import io.zeebe.gateway.api.StubbedGateway;
+import io.zeebe.gateway.api.StubbedGatewayRule;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.test.util.TestUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LongPollingActivateJobsTest {
+
+  private static final Duration LONG_POLLING_TIMEOUT = Duration.ofSeconds(1);
+
+  @Rule public StubbedGatewayRule gatewayRule = new StubbedGatewayRule(LONG_POLLING_TIMEOUT);
+
+  private final ControllableActivateJobsStub stub = new ControllableActivateJobsStub();
+
+  private GatewayBlockingStub client;
+
+  @Before
+  public void setUp() {
+    final StubbedGateway gateway = gatewayRule.getGateway();
+    stub.registerWith(gateway);
+    client = gatewayRule.getClient();
+  }
+
+  @Test
+  public void shouldCompleteRequestAfterTimeout() {
+    // given
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder().setType("testJob").setAmount(3).build();
+
+    // when
+    final long start = System.currentTimeMillis();
+    final List<ActivateJobsResponse> responses = activateJobs(request);
+
+    // then
+    assertThat(responses).isEmpty();
+    assertThat(System.currentTimeMillis() - start)
+        .isGreaterThanOrEqualTo(LONG_POLLING_TIMEOUT.toMillis());
+  }
+
+  @Test
+  public void shouldActivateJobsWhenAvailable() {
+    // given
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder().setType("testJob").setAmount(3).build();
+
+    final CompletableFuture<List<ActivateJobsResponse>> responses =
+        CompletableFuture.supplyAsync(() -> activateJobs(request));
+
+    TestUtil.waitUntil(() -> stub.getRequestCount() > 0);
+
+    // when
+    stub.setJobsAvailable(true);
+
+    // then
+    final List<ActivateJobsResponse> activatedJobs = responses.join();
+    assertThat(activatedJobs).hasSize(1);
+    assertThat(activatedJobs.get(0).getJobsCount()).isEqualTo(3);
+  }
+
+  private List<ActivateJobsResponse> activateJobs(ActivateJobsRequest request) {
+    final List<ActivateJobsResponse> responses = new ArrayList<>();
+    client.activateJobs(request).forEachRemaining(responses::add);
+    return responses;
+  }
+
+  private static class ControllableActivateJobsStub extends ActivateJobsStub {
+    private final AtomicBoolean jobsAvailable = new AtomicBoolean(false);
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    @Override
+    public BrokerResponse<JobBatchRecord> handle(BrokerActivateJobsRequest request)
+        throws Exception {
+      requestCount.incrementAndGet();
+
+      if (jobsAvailable.get()) {
+        return super.handle(request);
+      } else {
+        final JobBatchRecord response = new JobBatchRecord();
+        response.setType(request.getRequestWriter().getType());
+        return new BrokerResponse<>(response, 0, JOB_BATCH_KEY);
+      }
+    }
+
+    void setJobsAvailable(boolean jobsAvailable) {
+      this.jobsAvailable.set(jobsAvailable);
+    }
+
+    int getRequestCount() {
+      return requestCount.get();
+    }
+  }
+}
@@ -15,8 +15,11 @@
  */
 package io.zeebe.msgpack.el;
 
+import io.zeebe.msgpack.jsonpath.JsonPathQuery;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import scala.util.parsing.combinator.Parsers.ParseResult;
@@ -48,6 +51,42 @@ public class JsonConditionFactory {
     }
   }
 
+  /**
+   * Numbers the JSON paths of the given conditions, so that equal paths of different conditions get
+   * the same id. Overrides the ids which are assigned by {@link #createCondition(String)}.
+   *
+   * @return the paths of the conditions, which can be resolved by the interpreter before the
+   *     conditions are evaluated
+   */
+  public static JsonConditionPaths indexJsonPaths(JsonCondition... conditions) {
+    final Map<String, List<JsonPath>> pathsByExpression = new LinkedHashMap<>();
+
+    for (JsonCondition condition : conditions) {
+      JsonConditionWalker.walk(
+          condition,
+          object -> {
+            if (object instanceof JsonPath) {
+              final JsonPath path = (JsonPath) object;
+              pathsByExpression.computeIfAbsent(path.value(), p -> new ArrayList<>()).add(path);
+            }
+          });
+    }
+
+    final JsonPathQuery[] queries = new JsonPathQuery[pathsByExpression.size()];
+    int id = 1;
+
+    for (List<JsonPath> paths : pathsByExpression.values()) {
+      queries[id - 1] = paths.get(0).query();
+
+      for (JsonPath path : paths) {
+        path.id(id);
+      }
+      id += 1;
+    }
+
+    return new JsonConditionPaths(queries);
+  }
+
   private static void indexJsonPathExpressions(JsonCondition condition) {
     final List<JsonPath> pathExpressions = new ArrayList<>();
 
@@ -18,12 +18,16 @@ package io.zeebe.msgpack.el;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import io.zeebe.msgpack.jsonpath.JsonPathQuery;
+import io.zeebe.msgpack.query.MsgPackPathResolver;
+import io.zeebe.msgpack.query.MsgPackPathResolver.ResultConsumer;
+import io.zeebe.msgpack.query.MsgPackPathTree;
 import io.zeebe.msgpack.query.MsgPackQueryExecutor;
 import io.zeebe.msgpack.query.MsgPackTraverser;
 import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.spec.MsgPackToken;
 import io.zeebe.msgpack.spec.MsgPackType;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
 import org.agrona.DirectBuffer;
 
 public class JsonConditionInterpreter {
@@ -35,12 +39,61 @@ public class JsonConditionInterpreter {
 
   private final JsonPathCache cache = new JsonPathCache();
 
+  private final MsgPackPathResolver pathResolver = new MsgPackPathResolver();
+  private final ResultConsumer pathResultConsumer = this::cachePathResult;
+  private int[] pathResultCounts = new int[0];
+
+  private DirectBuffer document;
+
   public boolean eval(final JsonCondition condition, final DirectBuffer json) {
     cache.wrap(json);
 
     return evalCondition(condition, json);
   }
 
+  /**
+   * Wraps the document and resolves the given paths in one pass over it, so that the conditions of
+   * the paths can be evaluated by {@link #eval(JsonCondition)} without traversing the document
+   * again.
+   */
+  public void wrap(final DirectBuffer json, final JsonConditionPaths paths) {
+    document = json;
+    cache.wrap(json);
+
+    final MsgPackPathTree pathTree = paths.getPathTree();
+    if (pathTree != null) {
+      final int pathCount = paths.size();
+      if (pathResultCounts.length < pathCount) {
+        pathResultCounts = new int[pathCount];
+      }
+      Arrays.fill(pathResultCounts, 0, pathCount, 0);
+
+      pathResolver.resolve(pathTree, json, pathResultConsumer);
+
+      for (int i = 0; i < pathCount; i++) {
+        if (pathResultCounts[i] > 1) {
+          // the query is executed again on evaluation and fails with a proper message
+          cache.remove(i + 1);
+        }
+      }
+    }
+  }
+
+  /** Evaluates the condition against the document which is given by the last wrap call. */
+  public boolean eval(final JsonCondition condition) {
+    return evalCondition(condition, document);
+  }
+
+  private boolean cachePathResult(int queryIndex, int offset, int length) {
+    if (pathResultCounts[queryIndex] == 0) {
+      cache.put(queryIndex + 1, offset, length);
+    }
+    pathResultCounts[queryIndex] += 1;
+
+    // continue to detect duplicated keys
+    return true;
+  }
+
   private boolean evalCondition(final JsonCondition condition, final DirectBuffer json) {
     boolean isFulFilled = false;
 
@@ -99,7 +152,8 @@ public class JsonConditionInterpreter {
   private MsgPackToken getPathResult(
       final JsonPath path, DirectBuffer json, MsgPackReader msgPackReader) {
     final int pathId = path.id();
-    // id > 0 if the path is used more than once in the condition
+    // id > 0 if the path is used more than once in the condition, or if it is indexed with the
+    // paths of other conditions
     final boolean cachable = pathId > 0;
 
     final DirectBuffer resultBuffer = cachable ? cache.get(pathId) : null;
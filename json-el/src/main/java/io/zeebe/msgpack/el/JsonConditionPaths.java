@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.msgpack.el;
+
+import io.zeebe.msgpack.jsonpath.JsonPathQuery;
+import io.zeebe.msgpack.query.MsgPackPathTree;
+
+/**
+ * The JSON paths of a group of conditions which are evaluated against the same document, e.g. the
+ * conditions of the outgoing sequence flows of an exclusive gateway. The paths are numbered across
+ * all conditions, so that the {@link JsonConditionInterpreter} can resolve every path once and
+ * evaluate all conditions with the results.
+ *
+ * <p>Created by {@link JsonConditionFactory#indexJsonPaths(JsonCondition...)}.
+ */
+public final class JsonConditionPaths {
+
+  private final JsonPathQuery[] queries;
+  private final MsgPackPathTree pathTree;
+
+  JsonConditionPaths(JsonPathQuery[] queries) {
+    this.queries = queries;
+    this.pathTree = MsgPackPathTree.compile(queries);
+  }
+
+  /** @return the number of distinct paths */
+  public int size() {
+    return queries.length;
+  }
+
+  /** @return the query of the path with the given id */
+  public JsonPathQuery getQuery(int pathId) {
+    return queries[pathId - 1];
+  }
+
+  /** @return the tree of the paths, or null if they can not be resolved in one pass */
+  MsgPackPathTree getPathTree() {
+    return pathTree;
+  }
+}
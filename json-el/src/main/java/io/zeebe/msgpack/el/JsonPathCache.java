@@ -17,13 +17,19 @@ package io.zeebe.msgpack.el;
 
 import java.util.Arrays;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Hashing;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Caches the location of the results of JSON paths in a document, by the id of the path. The
+ * entries are stored in an open addressing hash table with linear probing.
+ */
 public class JsonPathCache {
-  private static final int INITIAL_CAPACITY = 12;
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int NO_KEY = 0;
 
   private int size = 0;
-  private int capacity = INITIAL_CAPACITY;
+  private int mask = INITIAL_CAPACITY - 1;
 
   private int[] keys = new int[INITIAL_CAPACITY];
 
@@ -36,37 +42,68 @@ public class JsonPathCache {
   public void wrap(DirectBuffer buffer) {
     valueBuffer.wrap(buffer);
 
-    size = 0;
+    clear();
   }
 
   public DirectBuffer get(int key) {
-    for (int k = 0; k < size; k++) {
-      if (key == keys[k]) {
-        final int offset = offsets[k];
-        final int length = lengths[k];
-
-        bufferView.wrap(valueBuffer, offset, length);
+    final int index = indexOf(key);
 
-        return bufferView;
-      }
+    if (index >= 0) {
+      bufferView.wrap(valueBuffer, offsets[index], lengths[index]);
+      return bufferView;
+    } else {
+      return null;
     }
-    return null;
   }
 
+  /** @param key the id of the path, must be greater than zero */
   public void put(int key, int offset, int length) {
-    if (size > capacity) {
-      capacity = capacity * 2;
+    int index = Hashing.hash(key, mask);
 
-      keys = Arrays.copyOf(keys, capacity);
-      offsets = Arrays.copyOf(offsets, capacity);
-      lengths = Arrays.copyOf(lengths, capacity);
+    while (keys[index] != NO_KEY && keys[index] != key) {
+      index = (index + 1) & mask;
     }
 
-    keys[size] = key;
-    offsets[size] = offset;
-    lengths[size] = length;
+    if (keys[index] == NO_KEY) {
+      keys[index] = key;
+      size += 1;
+    }
+
+    offsets[index] = offset;
+    lengths[index] = length;
+
+    // keep the load factor below 0.5 to have short probe sequences
+    if (size * 2 > keys.length) {
+      increaseCapacity();
+    }
+  }
 
-    size += 1;
+  public void remove(int key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return;
+    }
+
+    keys[index] = NO_KEY;
+    size -= 1;
+
+    // move the following entries of the probe sequence, so that they can still be found
+    int next = (index + 1) & mask;
+    while (keys[next] != NO_KEY) {
+      final int nextKey = keys[next];
+      final int home = Hashing.hash(nextKey, mask);
+
+      if (((next - home) & mask) >= ((next - index) & mask)) {
+        keys[index] = nextKey;
+        offsets[index] = offsets[next];
+        lengths[index] = lengths[next];
+        keys[next] = NO_KEY;
+
+        index = next;
+      }
+
+      next = (next + 1) & mask;
+    }
   }
 
   public int size() {
@@ -74,9 +111,45 @@ public class JsonPathCache {
   }
 
   public void reset() {
-    capacity = INITIAL_CAPACITY;
-    keys = new int[INITIAL_CAPACITY];
-    offsets = new int[INITIAL_CAPACITY];
-    lengths = new int[INITIAL_CAPACITY];
+    clear();
+  }
+
+  private void clear() {
+    if (size > 0) {
+      Arrays.fill(keys, NO_KEY);
+      size = 0;
+    }
+  }
+
+  private int indexOf(int key) {
+    int index = Hashing.hash(key, mask);
+
+    while (keys[index] != NO_KEY) {
+      if (keys[index] == key) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+
+    return -1;
+  }
+
+  private void increaseCapacity() {
+    final int[] oldKeys = keys;
+    final int[] oldOffsets = offsets;
+    final int[] oldLengths = lengths;
+
+    final int capacity = oldKeys.length * 2;
+    mask = capacity - 1;
+    keys = new int[capacity];
+    offsets = new int[capacity];
+    lengths = new int[capacity];
+    size = 0;
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != NO_KEY) {
+        put(oldKeys[i], oldOffsets[i], oldLengths[i]);
+      }
+    }
   }
 }
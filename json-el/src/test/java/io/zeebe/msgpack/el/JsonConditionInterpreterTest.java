@@ -112,4 +112,15 @@ public class JsonConditionInterpreterTest {
     final boolean result = interpreter.eval(condition.getCondition(), json);
     assertThat(result).describedAs("is fulfilled").isEqualTo(isFulfilled);
   }
+
+  @Test
+  public void shouldEvaluateWithResolvedPaths() {
+    final CompiledJsonCondition condition = JsonConditionFactory.createCondition(expression);
+    final JsonConditionPaths paths = JsonConditionFactory.indexJsonPaths(condition.getCondition());
+
+    interpreter.wrap(json, paths);
+
+    final boolean result = interpreter.eval(condition.getCondition());
+    assertThat(result).describedAs("is fulfilled").isEqualTo(isFulfilled);
+  }
 }
@@ -16,11 +16,15 @@
 package io.zeebe.msgpack.el;
 
 import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -139,4 +143,63 @@ public class JsonConditionTest {
 
     interpreter.eval(condition.getCondition(), asMsgPack(c -> c.put("foo", "a").put("bar", "b")));
   }
+
+  @Test
+  public void shouldEvaluateConditionsWithResolvedPaths() {
+    final JsonCondition condition1 =
+        JsonConditionFactory.createCondition("$.foo > 2 && $.bar.baz == 'a'").getCondition();
+    final JsonCondition condition2 =
+        JsonConditionFactory.createCondition("$.foo <= 2 || $.bar.baz == $.qux[1]").getCondition();
+
+    final JsonConditionPaths paths = JsonConditionFactory.indexJsonPaths(condition1, condition2);
+    assertThat(paths.size()).isEqualTo(3);
+
+    interpreter.wrap(
+        asMsgPack(
+            c ->
+                c.put("foo", 3)
+                    .put("bar", Collections.singletonMap("baz", "b"))
+                    .put("qux", Arrays.asList("a", "b"))),
+        paths);
+
+    assertThat(interpreter.eval(condition1)).isFalse();
+    assertThat(interpreter.eval(condition2)).isTrue();
+  }
+
+  @Test
+  public void shouldFailIfResolvedJsonPathDoesntMatch() {
+    final JsonCondition condition =
+        JsonConditionFactory.createCondition("$.foo > 3").getCondition();
+    final JsonConditionPaths paths = JsonConditionFactory.indexJsonPaths(condition);
+
+    interpreter.wrap(asMsgPack("bar", 4), paths);
+
+    thrown.expect(JsonConditionException.class);
+    thrown.expectMessage("JSON path '$.foo' has no result");
+
+    interpreter.eval(condition);
+  }
+
+  @Test
+  public void shouldFailIfResolvedJsonPathHasMoreThanOneResult() {
+    final JsonCondition condition =
+        JsonConditionFactory.createCondition("$.foo > 3").getCondition();
+    final JsonConditionPaths paths = JsonConditionFactory.indexJsonPaths(condition);
+
+    final MsgPackWriter writer = new MsgPackWriter();
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[32]);
+    writer.wrap(buffer, 0);
+    writer.writeMapHeader(2);
+    writer.writeString(wrapString("foo"));
+    writer.writeInteger(4);
+    writer.writeString(wrapString("foo"));
+    writer.writeInteger(5);
+
+    interpreter.wrap(new UnsafeBuffer(buffer, 0, writer.getOffset()), paths);
+
+    thrown.expect(JsonConditionException.class);
+    thrown.expectMessage("JSON path '$.foo' has more than one result");
+
+    interpreter.eval(condition);
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.msgpack.el;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsArray;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class JsonPathCacheTest {
+
+  private final UnsafeBuffer document = new UnsafeBuffer(new byte[128]);
+
+  private final JsonPathCache cache = new JsonPathCache();
+
+  @Test
+  public void shouldGetCachedValues() {
+    // given
+    cache.wrap(document);
+
+    // when
+    for (int i = 1; i <= 100; i++) {
+      document.putByte(i, (byte) i);
+      cache.put(i, i, 1);
+    }
+
+    // then
+    assertThat(cache.size()).isEqualTo(100);
+
+    for (int i = 1; i <= 100; i++) {
+      assertThat(bufferAsArray(cache.get(i))).containsExactly((byte) i);
+    }
+    assertThat(cache.get(101)).isNull();
+  }
+
+  @Test
+  public void shouldGetValuesAfterRemove() {
+    // given
+    cache.wrap(document);
+
+    for (int i = 1; i <= 100; i++) {
+      document.putByte(i, (byte) i);
+      cache.put(i, i, 1);
+    }
+
+    // when
+    for (int i = 1; i <= 100; i += 3) {
+      cache.remove(i);
+    }
+
+    // then
+    for (int i = 1; i <= 100; i++) {
+      if (i % 3 == 1) {
+        assertThat(cache.get(i)).isNull();
+      } else {
+        assertThat(bufferAsArray(cache.get(i))).containsExactly((byte) i);
+      }
+    }
+  }
+
+  @Test
+  public void shouldClearValuesOnWrap() {
+    // given
+    cache.wrap(document);
+    cache.put(1, 0, 1);
+
+    // when
+    cache.wrap(document);
+
+    // then
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.get(1)).isNull();
+  }
+}
@@ -15,20 +15,58 @@
  */
 package io.zeebe.msgpack.mapping;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public class JsonPathPointer {
 
   private final String[] pathElements;
 
+  /** The UTF-8 encoded path elements, so they can be referenced as names in a msgpack tree. */
+  private final DirectBuffer pathBuffer;
+
+  private final int[] pathElementOffsets;
+  private final int[] pathElementLengths;
+
   public JsonPathPointer(String[] pathElements) {
     this.pathElements = pathElements;
+    this.pathElementOffsets = new int[pathElements.length];
+    this.pathElementLengths = new int[pathElements.length];
+
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    int offset = 0;
+
+    for (int i = 0; i < pathElements.length; i++) {
+      final byte[] bytes = pathElements[i].getBytes(StandardCharsets.UTF_8);
+      buffer.putBytes(offset, bytes);
+
+      pathElementOffsets[i] = offset;
+      pathElementLengths[i] = bytes.length;
+      offset += bytes.length;
+    }
+
+    this.pathBuffer = new UnsafeBuffer(buffer, 0, offset);
   }
 
   public String[] getPathElements() {
     return pathElements;
   }
 
+  public DirectBuffer getPathBuffer() {
+    return pathBuffer;
+  }
+
+  public int getPathElementOffset(int index) {
+    return pathElementOffsets[index];
+  }
+
+  public int getPathElementLength(int index) {
+    return pathElementLengths[index];
+  }
+
   @Override
   public String toString() {
     return Arrays.toString(pathElements);
@@ -71,6 +71,11 @@ public class MappingBuilder implements JsonPathTokenVisitor {
     return result;
   }
 
+  /** Builds the mappings and compiles them into a plan, which can be reused for every merge. */
+  public MappingPlan buildPlan() {
+    return new MappingPlan(build());
+  }
+
   @Override
   public void visit(
       JsonPathToken type, DirectBuffer valueBuffer, int valueOffset, int valueLength) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.msgpack.mapping;
+
+import io.zeebe.msgpack.jsonpath.JsonPathQuery;
+import io.zeebe.msgpack.query.MsgPackPathTree;
+
+/**
+ * Represents the compiled mappings of an element, which can be reused for every merge.
+ *
+ * <p>If all source queries of the mappings are definite paths (i.e. consist only of map keys and
+ * array indexes) then the queries are merged into a {@link MsgPackPathTree}. With help of this tree
+ * the {@link MsgPackDocumentExtractor} can extract the values of all mappings in a single pass over
+ * the document, which only descends into the values on the paths and skips all others. Otherwise,
+ * the source queries are executed one by one.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * Mappings:
+ *  $.foo.bar -> $.a
+ *  $.foo.baz[1] -> $.b
+ *  $.value -> $.c
+ *
+ * Path steps:
+ *          $
+ *        /   \
+ *      foo   value (c)
+ *     /   \
+ *  bar(a)  baz
+ *           \
+ *           [1] (b)
+ * }</pre>
+ */
+public class MappingPlan {
+  public static final MappingPlan EMPTY = new MappingPlan(new Mapping[0]);
+
+  private final Mapping[] mappings;
+  private final MsgPackPathTree pathTree;
+
+  public MappingPlan(Mapping[] mappings) {
+    this.mappings = mappings;
+
+    final JsonPathQuery[] sourceQueries = new JsonPathQuery[mappings.length];
+    for (int i = 0; i < mappings.length; i++) {
+      sourceQueries[i] = mappings[i].getSource();
+    }
+    this.pathTree = MsgPackPathTree.compile(sourceQueries);
+  }
+
+  public Mapping[] getMappings() {
+    return mappings;
+  }
+
+  public boolean isEmpty() {
+    return mappings.length == 0;
+  }
+
+  /** @return true, if the values of the mappings can be extracted in a single pass */
+  public boolean isSinglePass() {
+    return pathTree != null;
+  }
+
+  /**
+   * @return the tree of the source queries, or null if the mappings can't be extracted in one pass
+   */
+  MsgPackPathTree getPathTree() {
+    return pathTree;
+  }
+}
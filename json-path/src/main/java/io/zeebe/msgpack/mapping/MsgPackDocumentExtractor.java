@@ -16,8 +16,12 @@
 package io.zeebe.msgpack.mapping;
 
 import io.zeebe.msgpack.jsonpath.JsonPathQuery;
+import io.zeebe.msgpack.query.MsgPackPathResolver;
+import io.zeebe.msgpack.query.MsgPackPathResolver.ResultConsumer;
 import io.zeebe.msgpack.query.MsgPackQueryExecutor;
 import io.zeebe.msgpack.query.MsgPackTraverser;
+import io.zeebe.msgpack.spec.MsgPackCodes;
+import java.util.Arrays;
 import org.agrona.DirectBuffer;
 
 /**
@@ -26,7 +30,7 @@ import org.agrona.DirectBuffer;
  * <p>The extractor can wrap a message pack document, which is stored in a {@link DirectBuffer} and
  * extract parts of this wrapped document with help of the given {@link Mapping} objects. The
  * extracted parts are stored in a {@link MsgPackTree} object, which is returned after calling
- * {@link #extract(Mapping...)}.
+ * {@link #extract(DirectBuffer, boolean, Mapping...)}.
  *
  * <p>It is also possible that the extractor wraps an already existing {@link MsgPackTree} object
  * and a message pack document on which the extracting should be done. The extracted parts are
@@ -73,6 +77,11 @@ import org.agrona.DirectBuffer;
  *                 \
  *                 {"foo":"bar"}
  * }</pre>
+ *
+ * <p>If the mappings are given as {@link MappingPlan} which supports a single pass, then the values
+ * of all mappings are extracted in one pass over the document. Only the values on the paths of the
+ * source queries are read, all other values are skipped. If the mode is not strict then the pass
+ * ends as soon as every mapping has a result.
  */
 public final class MsgPackDocumentExtractor {
   public static final String EXCEPTION_MSG_MAPPING_DOES_NOT_MATCH = "No data found for query %s.";
@@ -84,14 +93,74 @@ public final class MsgPackDocumentExtractor {
   private final MsgPackTraverser traverser = new MsgPackTraverser();
   private final MsgPackQueryExecutor queryExecutor = new MsgPackQueryExecutor();
 
+  private final MsgPackPathResolver pathResolver = new MsgPackPathResolver();
+  private final ResultConsumer resultConsumer = this::addResult;
+
+  private int[] resultCounts = new int[0];
+  private int unresolvedMappings;
+  private boolean strictMode;
+
+  public MsgPackDiff extract(DirectBuffer document, boolean strictMode, MappingPlan plan) {
+    final Mapping[] mappings = plan.getMappings();
+
+    if (!plan.isSinglePass()) {
+      return extract(document, strictMode, mappings);
+    }
+
+    diff.init(mappings, document);
+
+    if (resultCounts.length < mappings.length) {
+      resultCounts = new int[mappings.length];
+    }
+    Arrays.fill(resultCounts, 0, mappings.length, 0);
+    unresolvedMappings = mappings.length;
+    this.strictMode = strictMode;
+
+    pathResolver.resolve(plan.getPathTree(), document, resultConsumer);
+
+    for (int i = 0; i < mappings.length; i++) {
+      final Mapping mapping = mappings[i];
+      final int resultCount = resultCounts[i];
+
+      if (resultCount == 0) {
+        if (strictMode) {
+          final DirectBuffer expression = mapping.getSource().getExpression();
+          throw new MappingException(
+              String.format(
+                  EXCEPTION_MSG_MAPPING_DOES_NOT_MATCH,
+                  expression.getStringWithoutLengthUtf8(0, expression.capacity())));
+        }
+
+        diff.setNullResult(i);
+      } else if (resultCount > 1 && strictMode) {
+        throw new IllegalStateException(EXCEPTION_MSG_MAPPING_HAS_MORE_THAN_ONE_MATCHING_SOURCE);
+      } else if (mapping.mapsToRootPath()
+          && !MsgPackCodes.isMap(document.getByte(diff.getResultOffset(i)))
+          && !strictMode) {
+        diff.setEmptyMapResult(i);
+      }
+    }
+
+    return diff;
+  }
+
+  private boolean addResult(int mappingIndex, int offset, int length) {
+    if (resultCounts[mappingIndex] == 0) {
+      diff.setResult(mappingIndex, offset, length);
+      unresolvedMappings--;
+    }
+
+    resultCounts[mappingIndex]++;
+
+    return strictMode || unresolvedMappings > 0;
+  }
+
   public MsgPackDiff extract(DirectBuffer document, boolean strictMode, Mapping... mappings) {
     diff.init(mappings, document);
     traverser.wrap(document, 0, document.capacity());
 
-    /*
-     * Optimization potential: evaluate all source queries in
-     * one pass over the document
-     */
+    // evaluates each source query in a separate pass over the document - use a single pass
+    // mapping plan to evaluate all of them together
     for (int i = 0; i < mappings.length; i++) {
 
       final Mapping mapping = mappings[i];
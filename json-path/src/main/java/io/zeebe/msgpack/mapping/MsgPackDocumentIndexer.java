@@ -19,8 +19,8 @@ import io.zeebe.msgpack.query.MsgPackTokenVisitor;
 import io.zeebe.msgpack.query.MsgPackTraverser;
 import io.zeebe.msgpack.spec.MsgPackCodes;
 import io.zeebe.msgpack.spec.MsgPackToken;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 /**
@@ -56,42 +56,17 @@ import org.agrona.DirectBuffer;
  * }
  * </pre>
  *
- * <p>Then this correspond to the following message pack tree structure:
- *
- * <pre>NodeTypes:
- * {@code
- *
- * 1object1 : MAP_NODE
- * 2field1 : LEAF
- * 2array : ARRAY_NODE
- * 1field2: LEAF
- * }
- * </pre>
- *
- * <pre>NodeChildsMap:
- * {@code
- *
- * 1object1: field1, array
- * 2array : 2array1, 2array2, 2array3,
- * }
- * </pre>
- *
- * <pre>LeafMap:
- * {@code
- *
- * 2field1: mapping
- * 2array1: mapping
- * 2array2: mapping
- * 2array3: mapping
- * 1field2: mapping
- * }
- * </pre>
+ * <p>The names of the map nodes (e.g. object1, field1) are not copied but reference the keys in the
+ * indexed document. The elements of the array are named by their index.
  */
 public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
   /** The message pack tree which is constructed via the indexing of the message pack document. */
   private final MsgPackTree msgPackTree;
 
-  private final Deque<TokenParseContext> parsingContextStack = new ArrayDeque<>();
+  /** The parse contexts are reused, the stack size is the current depth in the document. */
+  private final List<TokenParseContext> parsingContexts = new ArrayList<>();
+
+  private int parsingContextStackSize;
   private final MapEntryParseContext mapEntryContext = new MapEntryParseContext();
 
   /** The traverser which is used to index the message pack document. */
@@ -110,8 +85,7 @@ public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
       return msgPackTree;
     }
 
-    parsingContextStack.push(new TokenParseContext(ParsingMode.MAP_ENTRY, "", 1));
-    mapEntryContext.currentKey = "$";
+    pushParsingContext(ParsingMode.MAP_ENTRY, MsgPackTree.NO_NODE, 1);
     mapEntryContext.parsingMode = MapEntryParsingMode.VALUE;
 
     documentId = msgPackTree.addDocument(document);
@@ -128,88 +102,98 @@ public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
   @Override
   public void visitElement(int position, MsgPackToken currentValue) {
 
-    final TokenParseContext tokenContext = parsingContextStack.peek();
+    final TokenParseContext tokenContext = parsingContexts.get(parsingContextStackSize - 1);
     tokenContext.consumeRepetition();
 
     if (tokenContext.remainingRepetitions == 0) {
-      parsingContextStack.remove();
+      parsingContextStackSize--;
     }
 
     switch (tokenContext.parsingMode) {
       case MAP_ENTRY:
         switch (mapEntryContext.parsingMode) {
           case KEY:
-            mapEntryContext.currentKey = parseMapKey(currentValue);
+            final int keyLength = currentValue.getValueBuffer().capacity();
+            mapEntryContext.keyOffset = position + currentValue.getTotalLength() - keyLength;
+            mapEntryContext.keyLength = keyLength;
             mapEntryContext.parsingMode = MapEntryParsingMode.VALUE;
             break;
           case VALUE:
-            parseValue(tokenContext, mapEntryContext.currentKey, position, currentValue);
-            mapEntryContext.currentKey = "";
+            parseValue(
+                tokenContext,
+                documentId,
+                mapEntryContext.keyOffset,
+                mapEntryContext.keyLength,
+                position,
+                currentValue);
             mapEntryContext.parsingMode = MapEntryParsingMode.KEY;
             break;
         }
         break;
       case ARRAY_ENTRY:
         final int index = tokenContext.repetitions - tokenContext.remainingRepetitions - 1;
-        final String key = Integer.toString(index);
 
-        parseValue(tokenContext, key, position, currentValue);
+        parseValue(tokenContext, MsgPackTree.INDEX_NAME, index, 0, position, currentValue);
 
         break;
     }
   }
 
   private void parseValue(
-      TokenParseContext tokenContext, String key, int valuePosition, MsgPackToken value) {
+      TokenParseContext tokenContext,
+      int nameDocumentId,
+      int nameOffset,
+      int nameLength,
+      int valuePosition,
+      MsgPackToken value) {
+    final int parentNodeId = tokenContext.parentNodeId;
 
     switch (value.getType()) {
       case MAP:
-        parseMapValue(tokenContext, key, value);
+        final int mapNodeId =
+            msgPackTree.addMapNode(parentNodeId, nameDocumentId, nameOffset, nameLength);
+        final int mapElements = value.getSize();
+
+        if (mapElements > 0) {
+          pushParsingContext(ParsingMode.MAP_ENTRY, mapNodeId, mapElements * 2);
+        }
         break;
       case ARRAY:
-        parseArrayValue(tokenContext, key, value);
+        final int arrayNodeId =
+            msgPackTree.addArrayNode(parentNodeId, nameDocumentId, nameOffset, nameLength);
+        final int arrayElements = value.getSize();
+
+        if (arrayElements > 0) {
+          pushParsingContext(ParsingMode.ARRAY_ENTRY, arrayNodeId, arrayElements);
+        }
         break;
       default:
-        parsePrimitiveValue(tokenContext, key, valuePosition, value);
+        msgPackTree.addValueNode(
+            parentNodeId,
+            nameDocumentId,
+            nameOffset,
+            nameLength,
+            documentId,
+            valuePosition,
+            value.getTotalLength());
         break;
     }
   }
 
-  private void parsePrimitiveValue(
-      TokenParseContext tokenContext, String key, int valuePosition, MsgPackToken value) {
-    msgPackTree.addValueNode(
-        tokenContext.parentNodeId, key, documentId, valuePosition, value.getTotalLength());
-  }
-
-  private void parseArrayValue(TokenParseContext tokenContext, String key, MsgPackToken value) {
-    final String arrayNodeId = msgPackTree.addArrayNode(tokenContext.parentNodeId, key);
-    final int arrayElements = value.getSize();
-
-    if (arrayElements > 0) {
-      parsingContextStack.push(
-          new TokenParseContext(ParsingMode.ARRAY_ENTRY, arrayNodeId, arrayElements));
-    }
-  }
-
-  private void parseMapValue(TokenParseContext tokenContext, String key, MsgPackToken value) {
-    final String nodeId = msgPackTree.addMapNode(tokenContext.parentNodeId, key);
-    final int mapElements = value.getSize();
-
-    if (mapElements > 0) {
-      parsingContextStack.push(
-          new TokenParseContext(ParsingMode.MAP_ENTRY, nodeId, mapElements * 2));
+  private void pushParsingContext(ParsingMode parsingMode, int parentNodeId, int repetitions) {
+    if (parsingContextStackSize == parsingContexts.size()) {
+      parsingContexts.add(new TokenParseContext());
     }
-  }
 
-  private String parseMapKey(MsgPackToken currentValue) {
-    final DirectBuffer valueBuffer = currentValue.getValueBuffer();
+    final TokenParseContext context = parsingContexts.get(parsingContextStackSize);
+    context.wrap(parsingMode, parentNodeId, repetitions);
 
-    return valueBuffer.getStringWithoutLengthUtf8(0, valueBuffer.capacity());
+    parsingContextStackSize++;
   }
 
   /** Clears the preprocessor and resets to the initial state. */
   private void clear() {
-    parsingContextStack.clear();
+    parsingContextStackSize = 0;
     msgPackTree.clear();
   }
 
@@ -225,17 +209,18 @@ public final class MsgPackDocumentIndexer implements MsgPackTokenVisitor {
 
   static class MapEntryParseContext {
     private MapEntryParsingMode parsingMode;
-    private String currentKey;
+    private int keyOffset;
+    private int keyLength;
   }
 
   static class TokenParseContext {
-    final ParsingMode parsingMode;
-    final String parentNodeId;
-    final int repetitions;
+    ParsingMode parsingMode;
+    int parentNodeId;
+    int repetitions;
 
     int remainingRepetitions;
 
-    TokenParseContext(ParsingMode parsingMode, String parentNodeId, int repetitions) {
+    void wrap(ParsingMode parsingMode, int parentNodeId, int repetitions) {
       this.parsingMode = parsingMode;
       this.parentNodeId = parentNodeId;
       this.repetitions = repetitions;
@@ -15,14 +15,9 @@
  */
 package io.zeebe.msgpack.mapping;
 
-import static io.zeebe.msgpack.mapping.MsgPackTreeNodeIdConstructor.construct;
-
 import io.zeebe.msgpack.spec.MsgPackWriter;
-import java.util.Set;
-import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Represents an message pack document tree writer.
@@ -35,12 +30,10 @@ public class MsgPackDocumentTreeWriter {
   protected MsgPackTree documentTree;
   protected final MsgPackWriter msgPackWriter;
   protected final MutableDirectBuffer resultingBuffer;
-  protected final DirectBuffer nodeName;
 
   public MsgPackDocumentTreeWriter(int initialDocumentSize) {
     this.msgPackWriter = new MsgPackWriter();
     this.resultingBuffer = new ExpandableArrayBuffer(initialDocumentSize);
-    this.nodeName = new UnsafeBuffer(0, 0);
   }
 
   /**
@@ -54,9 +47,8 @@ public class MsgPackDocumentTreeWriter {
     this.documentTree = documentTree;
     msgPackWriter.wrap(resultingBuffer, 0);
 
-    if (documentTree.size() > 0) {
-      final String startNode = Mapping.JSON_ROOT_PATH;
-      writeNode("", startNode, false);
+    if (!documentTree.isEmpty()) {
+      writeNode(documentTree.getRootNode());
     } else {
       msgPackWriter.writeNil();
     }
@@ -67,38 +59,34 @@ public class MsgPackDocumentTreeWriter {
   /**
    * Recursive method to write the message pack document tree into the result buffer.
    *
-   * <p>The writing will start with parentId "" and "$" as nodeName, which represents the root. The
-   * parentId and the nodeName is equal to the node identifier. With help of the tree it can be
-   * determined if the current node is of type MAP, ARRAY or LEAF. If the node is of type MAP or
-   * ARRAY the map or array header will be writen with the size of existing child's. After that the
-   * child's are recursively written.
+   * <p>The writing will start with the root node. With help of the tree it can be determined if the
+   * current node is of type MAP, ARRAY or LEAF. If the node is of type MAP or ARRAY the map or
+   * array header will be writen with the size of existing child's. After that the child's are
+   * recursively written, the children of a map are prefixed by their name.
    *
    * <p>If the node is of type LEAF the leaf value is written to the result buffer.
    *
-   * @param parentId the id of the parent node
-   * @param nodeName the name of the current node
-   * @param isArray indicates if the current node belongs to an array
+   * @param nodeId the id of the current node
    */
-  private void writeNode(String parentId, String nodeName, boolean isArray) {
-    if (!parentId.isEmpty() && !isArray) {
-      this.nodeName.wrap(nodeName.getBytes());
-      msgPackWriter.writeString(this.nodeName);
-    }
-
-    final String nodeId = parentId.isEmpty() ? nodeName : construct(parentId, nodeName);
+  private void writeNode(int nodeId) {
     if (documentTree.isValueNode(nodeId)) {
       documentTree.writeValueNode(msgPackWriter, nodeId);
     } else {
       final boolean isArrayNode = documentTree.isArrayNode(nodeId);
-      final Set<String> childs = documentTree.getChildren(nodeId);
+      final int childCount = documentTree.getChildCount(nodeId);
       if (isArrayNode) {
-        msgPackWriter.writeArrayHeader(childs.size());
+        msgPackWriter.writeArrayHeader(childCount);
       } else {
-        msgPackWriter.writeMapHeader(childs.size());
+        msgPackWriter.writeMapHeader(childCount);
       }
 
-      for (String child : childs) {
-        writeNode(nodeId, child, isArrayNode);
+      for (int child = documentTree.getFirstChild(nodeId);
+          child != MsgPackTree.NO_NODE;
+          child = documentTree.getNextSibling(child)) {
+        if (!isArrayNode) {
+          documentTree.writeNodeName(msgPackWriter, child);
+        }
+        writeNode(child);
       }
     }
   }
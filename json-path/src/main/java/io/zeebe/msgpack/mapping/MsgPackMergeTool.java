@@ -72,6 +72,35 @@ public class MsgPackMergeTool {
     mergeDocument(document, true, mappings);
   }
 
+  /**
+   * Throws no mapping exceptions. Assumes default values in case a mapping has ambiguous results.
+   */
+  public void mergeDocument(DirectBuffer document, MappingPlan mappingPlan) {
+    mergeDocument(document, false, mappingPlan);
+  }
+
+  /**
+   * Throws exceptions on ambiguous mapping results
+   *
+   * @throws MappingException in case a mapping has ambiguous results
+   */
+  public void mergeDocumentStrictly(DirectBuffer document, MappingPlan mappingPlan) {
+    mergeDocument(document, true, mappingPlan);
+  }
+
+  private void mergeDocument(DirectBuffer document, boolean strictMode, MappingPlan mappingPlan) {
+    EnsureUtil.ensureNotNull("document", document);
+
+    if (!mappingPlan.isEmpty()) {
+      final MsgPackDiff diff = documentExtractor.extract(document, strictMode, mappingPlan);
+      diff.mergeInto(currentTree);
+    } else {
+      final MsgPackDiff diff = documentIndexer.index(document);
+
+      diff.mergeInto(currentTree);
+    }
+  }
+
   private void mergeDocument(DirectBuffer document, boolean strictMode, Mapping... mappings) {
     EnsureUtil.ensureNotNull("document", document);
 
@@ -15,16 +15,11 @@
  */
 package io.zeebe.msgpack.mapping;
 
-import static io.zeebe.msgpack.mapping.MsgPackTreeNodeIdConstructor.construct;
-
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.Set;
 import org.agrona.DirectBuffer;
-import org.agrona.collections.Object2IntHashMap;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * Represents a tree data structure, for a msg pack document.
@@ -36,87 +31,165 @@ import org.agrona.collections.Object2IntHashMap;
  * can be done with the {@link MsgPackDocumentIndexer}. It can also be constructed from only a port
  * of a message pack document. This can be done with the {@link MsgPackDocumentExtractor}.
  *
- * <p>The message pack tree can consist from two different message pack documents. The underlying
- * document, from which the tree is completely build and the extract document, which can be a part
- * of another message pack document. The tree representation of the extract document will be as well
- * added to the current message pack tree object.
+ * <p>The message pack tree can consist from multiple message pack documents. Since the leafs
+ * contains a mapping, which consist of document id, position and length, it is necessary that all
+ * documents are available for the message pack tree, so the leaf value can be resolved later.
+ *
+ * <p>The nodes are identified by an int id and are stored in a single int array, so that the tree
+ * can be reused without allocating new objects. The name of a node is not copied, but references
+ * the key in one of the documents (document id, offset and length). The children of an array are
+ * named by their index instead (see {@link #INDEX_NAME}). A child can be looked up by its name via
+ * a hash index on the parent id and the name.
  *
- * <p>Since the leafs contains a mapping, which consist of position and length, it is necessary that
- * both documents are available for the message pack tree, so the leaf value can be resolved later.
- * The leafs have to be distinguished, is it a leaf from the underlying document or is it from the
- * extract document. For this distinction the {@link MsgPackNodeType#EXISTING_LEAF_NODE} and {@link
- * MsgPackNodeType#EXTRACTED_LEAF_NODE} are used.
+ * <p>Nodes that are replaced are not reused until the tree is cleared, they are only detached from
+ * their parent.
  */
 public class MsgPackTree implements MsgPackDiff {
-  protected final Map<String, MsgPackNodeType> nodeTypeMap; // Bytes2LongHashIndex nodeTypeMap;
-  protected final Map<String, Set<String>> nodeChildsMap;
-  protected final Map<String, Long> leafMap; // Bytes2LongHashIndex leafMap;
-  protected final Object2IntHashMap<String> leafDocumentSources;
+  /** Id which is returned if a node does not exist. Is also used as parent id of the root node. */
+  public static final int NO_NODE = -1;
 
-  private DirectBuffer[] documents = new DirectBuffer[0];
+  /**
+   * Can be used as name document id to name a node by an array index. The index is passed as name
+   * offset, the name length is ignored.
+   */
+  public static final int INDEX_NAME = -1;
+
+  private static final int DETACHED = -2;
+
+  private static final int TYPE_OFFSET = 0;
+  private static final int PARENT_OFFSET = 1;
+  private static final int FIRST_CHILD_OFFSET = 2;
+  private static final int LAST_CHILD_OFFSET = 3;
+  private static final int PREVIOUS_SIBLING_OFFSET = 4;
+  private static final int NEXT_SIBLING_OFFSET = 5;
+  private static final int CHILD_COUNT_OFFSET = 6;
+  private static final int NAME_DOCUMENT_OFFSET = 7;
+  private static final int NAME_POSITION_OFFSET = 8;
+  private static final int NAME_LENGTH_OFFSET = 9;
+  private static final int VALUE_DOCUMENT_OFFSET = 10;
+  private static final int VALUE_POSITION_OFFSET = 11;
+  private static final int VALUE_LENGTH_OFFSET = 12;
+  private static final int NEXT_IN_INDEX_OFFSET = 13;
+  private static final int NODE_LENGTH = 14;
+
+  private static final int INITIAL_NODE_CAPACITY = 64;
+  private static final int MAX_INDEX_NAME_LENGTH = 11;
+  private static final MsgPackNodeType[] NODE_TYPES = MsgPackNodeType.values();
+
+  /** (parent id, name hash) => id of the last added child with this name hash */
+  private final Long2LongHashMap childIndex = new Long2LongHashMap(NO_NODE);
+
+  private final UnsafeBuffer nodeNameView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer lookupNameView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer nodeIndexName = new UnsafeBuffer(new byte[MAX_INDEX_NAME_LENGTH]);
+  private final UnsafeBuffer lookupIndexName = new UnsafeBuffer(new byte[MAX_INDEX_NAME_LENGTH]);
+
+  private int[] nodes = new int[INITIAL_NODE_CAPACITY * NODE_LENGTH];
+  private int nodeCount;
+  private int rootNode = NO_NODE;
+
+  private DirectBuffer[] documents = new DirectBuffer[4];
+  private int documentCount;
+
+  public boolean isEmpty() {
+    return rootNode == NO_NODE;
+  }
+
+  public void clear() {
+    nodeCount = 0;
+    rootNode = NO_NODE;
+    childIndex.clear();
 
-  public MsgPackTree() {
-    nodeTypeMap = new HashMap<>();
-    nodeChildsMap = new HashMap<>();
-    leafMap = new HashMap<>();
-    leafDocumentSources = new Object2IntHashMap<>(-1);
+    Arrays.fill(documents, 0, documentCount, null);
+    documentCount = 0;
   }
 
-  public int size() {
-    return nodeTypeMap.size();
+  public int addDocument(DirectBuffer document) {
+    if (documentCount == documents.length) {
+      documents = Arrays.copyOf(documents, documents.length * 2);
+    }
+
+    documents[documentCount] = document;
+    return documentCount++;
   }
 
-  public void clear() {
-    nodeChildsMap.clear();
-    nodeTypeMap.clear();
-    leafMap.clear();
-    leafDocumentSources.clear();
-    documents = new DirectBuffer[0];
+  public int getRootNode() {
+    return rootNode;
   }
 
-  /** @return the names (not IDs) of the child nodes */
-  public Set<String> getChildren(String nodeId) {
-    return nodeChildsMap.get(nodeId);
+  public int getChildCount(int nodeId) {
+    return nodes[nodeId * NODE_LENGTH + CHILD_COUNT_OFFSET];
   }
 
-  public int addDocument(DirectBuffer document) {
-    documents = Arrays.copyOf(documents, documents.length + 1);
-    documents[documents.length - 1] = document;
-    return documents.length - 1;
+  public int getFirstChild(int nodeId) {
+    return nodes[nodeId * NODE_LENGTH + FIRST_CHILD_OFFSET];
   }
 
-  private void addContainerNode(String nodeId, MsgPackNodeType nodeType) {
-    nodeTypeMap.put(nodeId, nodeType);
-    nodeChildsMap.put(nodeId, new LinkedHashSet<>());
+  public int getNextSibling(int nodeId) {
+    return nodes[nodeId * NODE_LENGTH + NEXT_SIBLING_OFFSET];
   }
 
-  private void addChildToNode(String parentId, String childName) {
-    if (!parentId.isEmpty()) {
-      nodeChildsMap.get(parentId).add(childName);
+  /**
+   * Looks up the child with the given name. If the parent id is {@link #NO_NODE} then the root node
+   * is returned.
+   *
+   * @return the id of the child node or {@link #NO_NODE} if it does not exist
+   */
+  public int getChild(int parentId, int nameDocumentId, int nameOffset, int nameLength) {
+    if (parentId == NO_NODE) {
+      return rootNode;
+    }
+
+    wrapName(lookupNameView, lookupIndexName, nameDocumentId, nameOffset, nameLength);
+    return findChild(parentId, lookupNameView, hash(lookupNameView));
+  }
+
+  /** @see #getChild(int, int, int, int) */
+  public int getChild(int parentId, DirectBuffer name, int nameOffset, int nameLength) {
+    if (parentId == NO_NODE) {
+      return rootNode;
     }
+
+    lookupNameView.wrap(name, nameOffset, nameLength);
+    return findChild(parentId, lookupNameView, hash(lookupNameView));
   }
 
-  public boolean isValueNode(String nodeId) {
-    return nodeTypeMap.get(nodeId) == MsgPackNodeType.VALUE;
+  /**
+   * Wraps the given buffer around the name of the node. The name of an array element is only valid
+   * until the next call.
+   */
+  public void getNodeName(int nodeId, DirectBuffer nameBuffer) {
+    wrapNodeName(nodeId);
+    nameBuffer.wrap(nodeNameView, 0, nodeNameView.capacity());
   }
 
-  public boolean isArrayNode(String nodeId) {
-    return nodeTypeMap.get(nodeId) == MsgPackNodeType.ARRAY;
+  public MsgPackNodeType getNodeType(int nodeId) {
+    return NODE_TYPES[nodes[nodeId * NODE_LENGTH + TYPE_OFFSET]];
   }
 
-  public boolean isMapNode(String nodeId) {
-    return nodeTypeMap.get(nodeId) == MsgPackNodeType.MAP;
+  public boolean isValueNode(int nodeId) {
+    return getNodeType(nodeId) == MsgPackNodeType.VALUE;
   }
 
-  public void writeValueNode(MsgPackWriter writer, String nodeId) {
-    final long mapping = leafMap.get(nodeId);
-    final int position = (int) (mapping >> 32);
-    final int length = (int) mapping;
+  public boolean isArrayNode(int nodeId) {
+    return getNodeType(nodeId) == MsgPackNodeType.ARRAY;
+  }
 
-    final int documentId = leafDocumentSources.getValue(nodeId);
-    final DirectBuffer sourceDocument = documents[documentId];
+  public boolean isMapNode(int nodeId) {
+    return getNodeType(nodeId) == MsgPackNodeType.MAP;
+  }
 
-    writer.writeRaw(sourceDocument, position, length);
+  public void writeNodeName(MsgPackWriter writer, int nodeId) {
+    wrapNodeName(nodeId);
+    writer.writeString(nodeNameView);
+  }
+
+  public void writeValueNode(MsgPackWriter writer, int nodeId) {
+    final int offset = nodeId * NODE_LENGTH;
+    final DirectBuffer sourceDocument = documents[nodes[offset + VALUE_DOCUMENT_OFFSET]];
+
+    writer.writeRaw(
+        sourceDocument, nodes[offset + VALUE_POSITION_OFFSET], nodes[offset + VALUE_LENGTH_OFFSET]);
   }
 
   /** Always replaces containers (object/array), unless it is the root object */
@@ -127,139 +200,323 @@ public class MsgPackTree implements MsgPackDiff {
      * and extraction, so optimizations should be made here.
      */
 
-    final int newDocumentOffset =
-        other.documents.length; // => so we can map other document ids to this document id
+    final int documentOffset =
+        other.documentCount; // => so we can map other document ids to this document id
+
+    for (int i = 0; i < documentCount; i++) {
+      other.addDocument(documents[i]);
+    }
 
-    for (DirectBuffer ourDocument : documents) {
-      other.addDocument(ourDocument);
+    if (rootNode == NO_NODE) {
+      return;
     }
 
-    for (Map.Entry<String, MsgPackNodeType> leafMapEntry : nodeTypeMap.entrySet()) {
-      final String key = leafMapEntry.getKey();
-      final MsgPackNodeType nodeType = leafMapEntry.getValue();
+    final int otherRootNode = other.rootNode;
+    if (otherRootNode != NO_NODE && !isValueNode(rootNode) && !other.isValueNode(otherRootNode)) {
+      final MsgPackNodeType rootType = mergedNodeType(other, otherRootNode, rootNode);
+      other.nodes[otherRootNode * NODE_LENGTH + TYPE_OFFSET] = rootType.ordinal();
 
-      // hack: do not convert maps in the current tree to arrays
-      // use case: map keys that are digits
-      if (!(other.nodeTypeMap.get(key) == MsgPackNodeType.MAP
-          && nodeType == MsgPackNodeType.ARRAY)) {
-        other.nodeTypeMap.put(key, nodeType);
+      for (int child = getFirstChild(rootNode); child != NO_NODE; child = getNextSibling(child)) {
+        copyNodeInto(other, child, otherRootNode, otherRootNode, documentOffset);
       }
+    } else {
+      copyNodeInto(other, rootNode, NO_NODE, NO_NODE, documentOffset);
+    }
+  }
+
+  /**
+   * Copies the node and its children into the other tree. The previous parent is the node of the
+   * other tree which was at the position of the parent before it was replaced. It is used to find
+   * the node which is replaced by the copy.
+   */
+  private void copyNodeInto(
+      MsgPackTree other, int nodeId, int otherParentId, int previousParentId, int documentOffset) {
+    final int offset = nodeId * NODE_LENGTH;
+    final int nameDocumentId = nodes[offset + NAME_DOCUMENT_OFFSET];
+    final int otherNameDocumentId =
+        nameDocumentId == INDEX_NAME ? INDEX_NAME : nameDocumentId + documentOffset;
+    final int namePosition = nodes[offset + NAME_POSITION_OFFSET];
+    final int nameLength = nodes[offset + NAME_LENGTH_OFFSET];
+
+    final int previousNode;
+    if (otherParentId == NO_NODE) {
+      previousNode = other.rootNode;
+    } else if (previousParentId != NO_NODE) {
+      previousNode =
+          other.getChild(previousParentId, otherNameDocumentId, namePosition, nameLength);
+    } else {
+      previousNode = NO_NODE;
+    }
+
+    final MsgPackNodeType nodeType = mergedNodeType(other, previousNode, nodeId);
 
-      other.leafMap.remove(
-          key); // => remove everything that was a leaf previously => is going to be restored by
-      // putting all leafs from the other map
+    final int copy =
+        other.addNode(otherParentId, otherNameDocumentId, namePosition, nameLength, nodeType);
 
-      final int otherDocumentSource = leafDocumentSources.getValue(key);
-      if (otherDocumentSource >= 0) {
-        other.leafDocumentSources.put(key, otherDocumentSource + newDocumentOffset);
+    if (nodeType == MsgPackNodeType.VALUE) {
+      other.setValue(
+          copy,
+          nodes[offset + VALUE_DOCUMENT_OFFSET] + documentOffset,
+          nodes[offset + VALUE_POSITION_OFFSET],
+          nodes[offset + VALUE_LENGTH_OFFSET]);
+    } else {
+      for (int child = getFirstChild(nodeId); child != NO_NODE; child = getNextSibling(child)) {
+        copyNodeInto(other, child, copy, previousNode, documentOffset);
       }
     }
-    other.leafMap.putAll(leafMap);
-
-    for (Map.Entry<String, Set<String>> nodeChildsEntry : nodeChildsMap.entrySet()) {
-      final String key = nodeChildsEntry.getKey();
-
-      // if we change the following condition to if (nodeChildsMap.containsKey(key))
-      // we get a deep merge
-      if (key.equals(Mapping.JSON_ROOT_PATH)) {
-        other
-            .nodeChildsMap
-            .computeIfAbsent(key, (k) -> new LinkedHashSet<>())
-            .addAll(nodeChildsEntry.getValue());
-      } else {
-        other.nodeChildsMap.put(key, nodeChildsEntry.getValue());
-      }
+  }
+
+  private MsgPackNodeType mergedNodeType(MsgPackTree other, int otherNodeId, int nodeId) {
+    final MsgPackNodeType nodeType = getNodeType(nodeId);
+
+    // hack: do not convert maps in the other tree to arrays
+    // use case: map keys that are digits
+    if (otherNodeId != NO_NODE
+        && nodeType == MsgPackNodeType.ARRAY
+        && other.isMapNode(otherNodeId)) {
+      return MsgPackNodeType.MAP;
+    } else {
+      return nodeType;
     }
   }
 
   /** Keeps any children, e.g. when converting MAP to ARRAY */
-  public void convertToArrayNode(String nodeId) {
-    concertToContainer(nodeId, MsgPackNodeType.ARRAY);
+  public void convertToArrayNode(int nodeId) {
+    convertToContainer(nodeId, MsgPackNodeType.ARRAY);
   }
 
   /** Keeps any children, e.g. when converting ARRAY to MAP */
-  public void convertToMapNode(String nodeId) {
-    concertToContainer(nodeId, MsgPackNodeType.MAP);
+  public void convertToMapNode(int nodeId) {
+    convertToContainer(nodeId, MsgPackNodeType.MAP);
   }
 
-  private void concertToContainer(String nodeId, MsgPackNodeType containerType) {
-    final MsgPackNodeType priorType = nodeTypeMap.get(nodeId);
-
-    if (priorType == MsgPackNodeType.VALUE) {
-      leafMap.remove(nodeId);
-      nodeChildsMap.put(nodeId, new LinkedHashSet<>());
-    }
-
-    nodeTypeMap.put(nodeId, containerType);
+  private void convertToContainer(int nodeId, MsgPackNodeType containerType) {
+    // a value node has no children, so it becomes an empty container
+    nodes[nodeId * NODE_LENGTH + TYPE_OFFSET] = containerType.ordinal();
   }
 
   /**
    * Creates or converts the addressed node to an array and appends the value as a new element.
    * Replaces a previously existing non-array node completely.
    */
-  public String appendToArray(
-      String parentId, String arrayNodeName, int documentId, int elementOffset, int elementLength) {
-
-    final String arrayNodeId = construct(parentId, arrayNodeName);
-
-    if (hasNode(arrayNodeId)) {
+  public int appendToArray(
+      int parentId,
+      int nameDocumentId,
+      int nameOffset,
+      int nameLength,
+      int documentId,
+      int elementOffset,
+      int elementLength) {
+
+    int arrayNodeId = getChild(parentId, nameDocumentId, nameOffset, nameLength);
+
+    if (arrayNodeId != NO_NODE) {
       if (!isArrayNode(arrayNodeId)) {
         clearChildren(arrayNodeId);
         convertToArrayNode(arrayNodeId);
       }
     } else {
-      addArrayNode(parentId, arrayNodeName);
+      arrayNodeId = addArrayNode(parentId, nameDocumentId, nameOffset, nameLength);
     }
 
-    final int currentArrayElements = nodeChildsMap.get(arrayNodeId).size();
-    final String nodeName = Integer.toString(currentArrayElements);
+    final int currentArrayElements = getChildCount(arrayNodeId);
+
+    return addValueNode(
+        arrayNodeId, INDEX_NAME, currentArrayElements, 0, documentId, elementOffset, elementLength);
+  }
 
-    return addValueNode(arrayNodeId, nodeName, documentId, elementOffset, elementLength);
+  public int addArrayNode(int parentId, int nameDocumentId, int nameOffset, int nameLength) {
+    return addNode(parentId, nameDocumentId, nameOffset, nameLength, MsgPackNodeType.ARRAY);
   }
 
-  public String addArrayNode(String parentId, String arrayNodeName) {
-    final String nodeId = construct(parentId, arrayNodeName);
+  public int addMapNode(int parentId, int nameDocumentId, int nameOffset, int nameLength) {
+    return addNode(parentId, nameDocumentId, nameOffset, nameLength, MsgPackNodeType.MAP);
+  }
 
-    addContainerNode(nodeId, MsgPackNodeType.ARRAY);
-    addChildToNode(parentId, arrayNodeName);
+  public int addValueNode(
+      int parentId,
+      int nameDocumentId,
+      int nameOffset,
+      int nameLength,
+      int documentId,
+      int valueOffset,
+      int valueLength) {
+    final int nodeId =
+        addNode(parentId, nameDocumentId, nameOffset, nameLength, MsgPackNodeType.VALUE);
+    setValue(nodeId, documentId, valueOffset, valueLength);
 
     return nodeId;
   }
 
-  public String addValueNode(
-      String parentId, String nodeName, int documentId, int valueOffset, int valueLength) {
-    final String nodeId = construct(parentId, nodeName);
+  public void clearChildren(int nodeId) {
+    final int offset = nodeId * NODE_LENGTH;
 
-    leafMap.put(nodeId, ((long) valueOffset << 32) | valueLength);
-    leafDocumentSources.put(nodeId, documentId);
-    nodeTypeMap.put(nodeId, MsgPackNodeType.VALUE);
+    for (int child = nodes[offset + FIRST_CHILD_OFFSET];
+        child != NO_NODE;
+        child = getNextSibling(child)) {
+      nodes[child * NODE_LENGTH + PARENT_OFFSET] = DETACHED;
+    }
 
-    addChildToNode(parentId, nodeName);
+    nodes[offset + FIRST_CHILD_OFFSET] = NO_NODE;
+    nodes[offset + LAST_CHILD_OFFSET] = NO_NODE;
+    nodes[offset + CHILD_COUNT_OFFSET] = 0;
+  }
+
+  /**
+   * Adds a new node to the parent. If the parent has already a child with the same name then the
+   * child is replaced by the new node, otherwise the new node is appended to the children. If the
+   * parent id is {@link #NO_NODE} then the root node is replaced.
+   */
+  private int addNode(
+      int parentId, int nameDocumentId, int nameOffset, int nameLength, MsgPackNodeType nodeType) {
+    final int nodeId = allocateNode();
+    final int offset = nodeId * NODE_LENGTH;
+
+    nodes[offset + TYPE_OFFSET] = nodeType.ordinal();
+    nodes[offset + PARENT_OFFSET] = parentId;
+    nodes[offset + FIRST_CHILD_OFFSET] = NO_NODE;
+    nodes[offset + LAST_CHILD_OFFSET] = NO_NODE;
+    nodes[offset + PREVIOUS_SIBLING_OFFSET] = NO_NODE;
+    nodes[offset + NEXT_SIBLING_OFFSET] = NO_NODE;
+    nodes[offset + CHILD_COUNT_OFFSET] = 0;
+    nodes[offset + NAME_DOCUMENT_OFFSET] = nameDocumentId;
+    nodes[offset + NAME_POSITION_OFFSET] = nameOffset;
+    nodes[offset + NAME_LENGTH_OFFSET] = nameLength;
+    nodes[offset + NEXT_IN_INDEX_OFFSET] = NO_NODE;
+
+    if (parentId == NO_NODE) {
+      if (rootNode != NO_NODE) {
+        nodes[rootNode * NODE_LENGTH + PARENT_OFFSET] = DETACHED;
+      }
+      rootNode = nodeId;
+      return nodeId;
+    }
+
+    wrapName(lookupNameView, lookupIndexName, nameDocumentId, nameOffset, nameLength);
+    final int nameHash = hash(lookupNameView);
+    final int existingNodeId = findChild(parentId, lookupNameView, nameHash);
+
+    if (existingNodeId != NO_NODE) {
+      replaceChild(parentId, existingNodeId, nodeId);
+    } else {
+      appendChild(parentId, nodeId);
+    }
+
+    final long indexKey = indexKey(parentId, nameHash);
+    nodes[offset + NEXT_IN_INDEX_OFFSET] = (int) childIndex.get(indexKey);
+    childIndex.put(indexKey, nodeId);
 
     return nodeId;
   }
 
-  public String addMapNode(String parentId, String nodeName) {
-    final String nodeId = construct(parentId, nodeName);
+  private void appendChild(int parentId, int nodeId) {
+    final int parentOffset = parentId * NODE_LENGTH;
+    final int lastChild = nodes[parentOffset + LAST_CHILD_OFFSET];
 
-    addContainerNode(nodeId, MsgPackNodeType.MAP);
-    addChildToNode(parentId, nodeName);
+    if (lastChild == NO_NODE) {
+      nodes[parentOffset + FIRST_CHILD_OFFSET] = nodeId;
+    } else {
+      nodes[lastChild * NODE_LENGTH + NEXT_SIBLING_OFFSET] = nodeId;
+      nodes[nodeId * NODE_LENGTH + PREVIOUS_SIBLING_OFFSET] = lastChild;
+    }
 
-    return nodeId;
+    nodes[parentOffset + LAST_CHILD_OFFSET] = nodeId;
+    nodes[parentOffset + CHILD_COUNT_OFFSET]++;
   }
 
-  private boolean isContainerNode(String nodeId) {
-    final MsgPackNodeType nodeType = nodeTypeMap.get(nodeId);
-    return nodeType == MsgPackNodeType.ARRAY || nodeType == MsgPackNodeType.MAP;
+  private void replaceChild(int parentId, int existingNodeId, int nodeId) {
+    final int parentOffset = parentId * NODE_LENGTH;
+    final int existingOffset = existingNodeId * NODE_LENGTH;
+    final int offset = nodeId * NODE_LENGTH;
+
+    final int previousSibling = nodes[existingOffset + PREVIOUS_SIBLING_OFFSET];
+    final int nextSibling = nodes[existingOffset + NEXT_SIBLING_OFFSET];
+
+    nodes[offset + PREVIOUS_SIBLING_OFFSET] = previousSibling;
+    nodes[offset + NEXT_SIBLING_OFFSET] = nextSibling;
+
+    if (previousSibling == NO_NODE) {
+      nodes[parentOffset + FIRST_CHILD_OFFSET] = nodeId;
+    } else {
+      nodes[previousSibling * NODE_LENGTH + NEXT_SIBLING_OFFSET] = nodeId;
+    }
+
+    if (nextSibling == NO_NODE) {
+      nodes[parentOffset + LAST_CHILD_OFFSET] = nodeId;
+    } else {
+      nodes[nextSibling * NODE_LENGTH + PREVIOUS_SIBLING_OFFSET] = nodeId;
+    }
+
+    // the children of the replaced node are kept, so it can still be compared on merging
+    nodes[existingOffset + PARENT_OFFSET] = DETACHED;
+  }
+
+  private void setValue(int nodeId, int documentId, int valueOffset, int valueLength) {
+    final int offset = nodeId * NODE_LENGTH;
+
+    nodes[offset + VALUE_DOCUMENT_OFFSET] = documentId;
+    nodes[offset + VALUE_POSITION_OFFSET] = valueOffset;
+    nodes[offset + VALUE_LENGTH_OFFSET] = valueLength;
+  }
+
+  private int allocateNode() {
+    if ((nodeCount + 1) * NODE_LENGTH > nodes.length) {
+      nodes = Arrays.copyOf(nodes, nodes.length * 2);
+    }
+
+    return nodeCount++;
+  }
+
+  private int findChild(int parentId, UnsafeBuffer name, int nameHash) {
+    int nodeId = (int) childIndex.get(indexKey(parentId, nameHash));
+
+    while (nodeId != NO_NODE) {
+      final int offset = nodeId * NODE_LENGTH;
+
+      if (nodes[offset + PARENT_OFFSET] == parentId) {
+        wrapNodeName(nodeId);
+
+        if (nodeNameView.equals(name)) {
+          return nodeId;
+        }
+      }
+
+      nodeId = nodes[offset + NEXT_IN_INDEX_OFFSET];
+    }
+
+    return NO_NODE;
+  }
+
+  private void wrapNodeName(int nodeId) {
+    final int offset = nodeId * NODE_LENGTH;
+
+    wrapName(
+        nodeNameView,
+        nodeIndexName,
+        nodes[offset + NAME_DOCUMENT_OFFSET],
+        nodes[offset + NAME_POSITION_OFFSET],
+        nodes[offset + NAME_LENGTH_OFFSET]);
   }
 
-  public boolean hasNode(String id) {
-    return nodeTypeMap.containsKey(id);
+  private void wrapName(
+      UnsafeBuffer view, UnsafeBuffer indexName, int documentId, int offset, int length) {
+    if (documentId == INDEX_NAME) {
+      final int indexLength = indexName.putIntAscii(0, offset);
+      view.wrap(indexName, 0, indexLength);
+    } else {
+      view.wrap(documents[documentId], offset, length);
+    }
   }
 
-  public void clearChildren(String nodeId) {
-    if (isContainerNode(nodeId)) {
-      nodeChildsMap.get(nodeId).clear();
+  private static int hash(DirectBuffer name) {
+    int hash = 0;
+    for (int i = 0; i < name.capacity(); i++) {
+      hash = 31 * hash + name.getByte(i);
     }
+    return hash;
+  }
+
+  private static long indexKey(int parentId, int nameHash) {
+    return ((long) parentId << 32) | (nameHash & 0xFFFF_FFFFL);
   }
 }
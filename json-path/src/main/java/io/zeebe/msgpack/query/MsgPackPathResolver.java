@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.msgpack.query;
+
+import io.zeebe.msgpack.query.MsgPackPathTree.PathStep;
+import io.zeebe.msgpack.spec.MsgPackFormat;
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackType;
+import org.agrona.DirectBuffer;
+
+/**
+ * Resolves the queries of a {@link MsgPackPathTree} in a single pass over a document. Only the
+ * values on the paths of the queries are read, all other values are skipped.
+ */
+public class MsgPackPathResolver {
+
+  private final MsgPackReader reader = new MsgPackReader();
+
+  private ResultConsumer resultConsumer;
+
+  /**
+   * Passes the results of the queries to the consumer, in the order of the document. A query can
+   * have more than one result if the document contains duplicated keys.
+   */
+  public void resolve(MsgPackPathTree tree, DirectBuffer document, ResultConsumer resultConsumer) {
+    this.resultConsumer = resultConsumer;
+
+    // the root query only matches a map or an array
+    if (document.capacity() > 0
+        && !MsgPackFormat.valueOf(document.getByte(0)).getType().isScalar()) {
+      reader.wrap(document, 0, document.capacity());
+
+      resolveValue(tree.getRootStep());
+    }
+
+    this.resultConsumer = null;
+  }
+
+  /**
+   * Reads the value the reader is positioned at and descends into the values of the next steps.
+   *
+   * @return false, if the consumer is done and the remaining document can be ignored
+   */
+  private boolean resolveValue(PathStep step) {
+    final int valueOffset = reader.getOffset();
+
+    if (step.hasChildren()) {
+      final MsgPackType valueType =
+          MsgPackFormat.valueOf(reader.getBuffer().getByte(valueOffset)).getType();
+
+      if (valueType == MsgPackType.MAP) {
+        final int size = reader.readMapHeader();
+
+        for (int i = 0; i < size; i++) {
+          final PathStep keyStep = readKey(step);
+
+          if (keyStep == null) {
+            reader.skipValue();
+          } else if (!resolveValue(keyStep)) {
+            return false;
+          }
+        }
+      } else if (valueType == MsgPackType.ARRAY) {
+        final int size = reader.readArrayHeader();
+
+        for (int i = 0; i < size; i++) {
+          final PathStep indexStep = step.findIndexStep(i);
+
+          if (indexStep == null) {
+            reader.skipValue();
+          } else if (!resolveValue(indexStep)) {
+            return false;
+          }
+        }
+      } else {
+        reader.skipValue();
+      }
+    } else {
+      reader.skipValue();
+    }
+
+    final int valueLength = reader.getOffset() - valueOffset;
+
+    boolean proceed = true;
+    final int[] queryIndexes = step.getQueryIndexes();
+    for (int i = 0; i < queryIndexes.length; i++) {
+      proceed &= resultConsumer.onResult(queryIndexes[i], valueOffset, valueLength);
+    }
+
+    return proceed;
+  }
+
+  /** @return the step of the value which belongs to the key, or null if there is none */
+  private PathStep readKey(PathStep step) {
+    final DirectBuffer buffer = reader.getBuffer();
+    final byte headerByte = buffer.getByte(reader.getOffset());
+
+    if (MsgPackFormat.valueOf(headerByte).getType() == MsgPackType.STRING) {
+      final int keyLength = reader.readStringLength();
+      final int keyOffset = reader.getOffset();
+      reader.skipBytes(keyLength);
+
+      return step.findKeyStep(buffer, keyOffset, keyLength);
+    } else {
+      reader.skipValue();
+      return null;
+    }
+  }
+
+  @FunctionalInterface
+  public interface ResultConsumer {
+    /**
+     * @param queryIndex the index of the query in the tree
+     * @param offset the offset of the value in the document
+     * @param length the length of the value
+     * @return false, if the remaining document can be ignored
+     */
+    boolean onResult(int queryIndex, int offset, int length);
+  }
+}
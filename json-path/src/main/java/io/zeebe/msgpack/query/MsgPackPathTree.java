@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.msgpack.query;
+
+import io.zeebe.msgpack.filter.ArrayIndexFilter;
+import io.zeebe.msgpack.filter.MapValueWithKeyFilter;
+import io.zeebe.msgpack.filter.MsgPackFilter;
+import io.zeebe.msgpack.filter.RootCollectionFilter;
+import io.zeebe.msgpack.jsonpath.JsonPathQuery;
+import io.zeebe.msgpack.util.ByteUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Merges the paths of multiple JSON path queries into a tree of path steps, so that the results of
+ * all queries can be resolved in a single pass over a document by the {@link MsgPackPathResolver}.
+ *
+ * <p>This is only possible if all queries are definite paths, i.e. consist only of map keys and
+ * array indexes.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * Queries:
+ *  (0) $.foo.bar
+ *  (1) $.foo.baz[1]
+ *  (2) $.value
+ *
+ * Path steps:
+ *          $
+ *        /   \
+ *      foo   value (2)
+ *     /   \
+ *  bar(0)  baz
+ *           \
+ *           [1] (1)
+ * }</pre>
+ */
+public final class MsgPackPathTree {
+
+  private final PathStep rootStep;
+
+  private MsgPackPathTree(PathStep rootStep) {
+    this.rootStep = rootStep;
+  }
+
+  /**
+   * @param queries the queries to merge. The index of a query in the array identifies its results.
+   * @return the tree of the queries, or null if one of the queries is not a definite path
+   */
+  public static MsgPackPathTree compile(JsonPathQuery... queries) {
+    final PathStep rootStep = new PathStep(null, -1);
+
+    for (int i = 0; i < queries.length; i++) {
+      final JsonPathQuery query = queries[i];
+
+      if (!query.isValid() || !addPathSteps(rootStep, query, i)) {
+        return null;
+      }
+    }
+
+    rootStep.compile();
+    return new MsgPackPathTree(rootStep);
+  }
+
+  PathStep getRootStep() {
+    return rootStep;
+  }
+
+  private static boolean addPathSteps(PathStep rootStep, JsonPathQuery query, int queryIndex) {
+    final MsgPackFilter[] filters = query.getFilters();
+    final MsgPackFilterContext filterInstances = query.getFilterInstances();
+
+    if (filterInstances.size() == 0) {
+      return false;
+    }
+
+    PathStep step = null;
+
+    for (int i = 0; i < filterInstances.size(); i++) {
+      filterInstances.moveTo(i);
+      final MsgPackFilter filter = filters[filterInstances.filterId()];
+      final DirectBuffer filterContext = filterInstances.dynamicContext();
+
+      if (i == 0 && filter instanceof RootCollectionFilter) {
+        step = rootStep;
+      } else if (i > 0 && filter instanceof MapValueWithKeyFilter) {
+        final int keyLength = filterContext.getInt(0);
+        final byte[] key = new byte[keyLength];
+        filterContext.getBytes(BitUtil.SIZE_OF_INT, key);
+
+        step = step.getOrAddKeyStep(new UnsafeBuffer(key));
+      } else if (i > 0 && filter instanceof ArrayIndexFilter) {
+        step = step.getOrAddIndexStep(filterContext.getInt(0));
+      } else {
+        // e.g. wildcard
+        return false;
+      }
+    }
+
+    step.addQuery(queryIndex);
+    return true;
+  }
+
+  /** A step on the path of one or more queries. */
+  static final class PathStep {
+    private static final PathStep[] NO_STEPS = new PathStep[0];
+
+    private final DirectBuffer key;
+    private final int arrayIndex;
+
+    private final List<PathStep> children = new ArrayList<>();
+    private final List<Integer> queries = new ArrayList<>();
+
+    private PathStep[] keySteps = NO_STEPS;
+    private PathStep[] indexSteps = NO_STEPS;
+    private int[] queryIndexes;
+
+    PathStep(DirectBuffer key, int arrayIndex) {
+      this.key = key;
+      this.arrayIndex = arrayIndex;
+    }
+
+    /** @return the indexes of the queries whose result is the value of this step */
+    int[] getQueryIndexes() {
+      return queryIndexes;
+    }
+
+    boolean hasChildren() {
+      return keySteps.length > 0 || indexSteps.length > 0;
+    }
+
+    PathStep findKeyStep(DirectBuffer buffer, int offset, int length) {
+      for (int i = 0; i < keySteps.length; i++) {
+        final DirectBuffer stepKey = keySteps[i].key;
+        if (ByteUtil.equal(stepKey, 0, stepKey.capacity(), buffer, offset, length)) {
+          return keySteps[i];
+        }
+      }
+      return null;
+    }
+
+    PathStep findIndexStep(int index) {
+      for (int i = 0; i < indexSteps.length; i++) {
+        if (indexSteps[i].arrayIndex == index) {
+          return indexSteps[i];
+        }
+      }
+      return null;
+    }
+
+    private PathStep getOrAddKeyStep(DirectBuffer key) {
+      for (PathStep child : children) {
+        if (child.key != null && child.key.equals(key)) {
+          return child;
+        }
+      }
+
+      final PathStep child = new PathStep(key, -1);
+      children.add(child);
+      return child;
+    }
+
+    private PathStep getOrAddIndexStep(int index) {
+      for (PathStep child : children) {
+        if (child.key == null && child.arrayIndex == index) {
+          return child;
+        }
+      }
+
+      final PathStep child = new PathStep(null, index);
+      children.add(child);
+      return child;
+    }
+
+    private void addQuery(int queryIndex) {
+      queries.add(queryIndex);
+    }
+
+    private void compile() {
+      keySteps = children.stream().filter(c -> c.key != null).toArray(PathStep[]::new);
+      indexSteps = children.stream().filter(c -> c.key == null).toArray(PathStep[]::new);
+      queryIndexes = queries.stream().mapToInt(Integer::intValue).toArray();
+
+      children.forEach(PathStep::compile);
+    }
+  }
+}
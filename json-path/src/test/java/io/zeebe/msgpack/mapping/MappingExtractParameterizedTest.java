@@ -360,4 +360,26 @@ public class MappingExtractParameterizedTest {
     // then
     assertThat(MSGPACK_MAPPER.readTree(result)).isEqualTo(JSON_MAPPER.readTree(expectedPayload));
   }
+
+  @Test
+  public void shouldExtractWithMappingPlan() throws Throwable {
+    // given payload
+    final byte[] bytes = MSGPACK_MAPPER.writeValueAsBytes(JSON_MAPPER.readTree(sourcePayload));
+    final DirectBuffer sourceDocument = new UnsafeBuffer(bytes);
+
+    // when
+    mergeTool.reset();
+    mergeTool.mergeDocument(sourceDocument, mappingPlan());
+
+    final DirectBuffer resultBuffer = mergeTool.writeResultToBuffer();
+    final byte result[] = new byte[resultBuffer.capacity()];
+    resultBuffer.getBytes(0, result, 0, result.length);
+
+    // then
+    assertThat(MSGPACK_MAPPER.readTree(result)).isEqualTo(JSON_MAPPER.readTree(expectedPayload));
+  }
+
+  private MappingPlan mappingPlan() {
+    return mappings != null ? new MappingPlan(mappings) : MappingPlan.EMPTY;
+  }
 }
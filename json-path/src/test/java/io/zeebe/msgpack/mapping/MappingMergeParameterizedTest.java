@@ -918,4 +918,33 @@ public class MappingMergeParameterizedTest {
     // then result is expected as
     assertThat(MSGPACK_MAPPER.readTree(result)).isEqualTo(JSON_MAPPER.readTree(expectedPayload));
   }
+
+  @Test
+  public void performTestWithMappingPlan() throws Throwable {
+    // given payload
+    mergeTool.reset();
+
+    final byte[] sourceBytes =
+        MSGPACK_MAPPER.writeValueAsBytes(JSON_MAPPER.readTree(sourcePayload));
+    final DirectBuffer sourceDocument = new UnsafeBuffer(sourceBytes);
+
+    final byte[] targetBytes =
+        MSGPACK_MAPPER.writeValueAsBytes(JSON_MAPPER.readTree(targetPayload));
+    final DirectBuffer targetDocument = new UnsafeBuffer(targetBytes);
+
+    // when
+    mergeTool.mergeDocument(targetDocument);
+    mergeTool.mergeDocument(sourceDocument, mappingPlan());
+
+    final DirectBuffer resultBuffer = mergeTool.writeResultToBuffer();
+    final byte result[] = new byte[resultBuffer.capacity()];
+    resultBuffer.getBytes(0, result, 0, result.length);
+
+    // then result is expected as
+    assertThat(MSGPACK_MAPPER.readTree(result)).isEqualTo(JSON_MAPPER.readTree(expectedPayload));
+  }
+
+  private MappingPlan mappingPlan() {
+    return mappings != null ? new MappingPlan(mappings) : MappingPlan.EMPTY;
+  }
 }
@@ -285,6 +285,22 @@ public class MappingMergeTest {
         .hasValue("{'att1':'val1', 'att2':'val2', 'att3':'val3'}");
   }
 
+  @Test
+  public void shouldNotConvertNestedMapWithDigitKeysToArray() {
+    // given
+    final DirectBuffer document1 = asMsgPack("{'a':{'obj':{'0':'x'}}, 'b':1}");
+    final DirectBuffer document2 = asMsgPack("{'a':{'obj':['y']}}");
+
+    // when
+    mergeTool.mergeDocument(document1);
+    mergeTool.mergeDocument(document2);
+
+    // then
+    final DirectBuffer mergedDocument = mergeTool.writeResultToBuffer();
+
+    MappingTestUtil.assertThatMsgPack(mergedDocument).hasValue("{'a':{'obj':{'0':'y'}}, 'b':1}");
+  }
+
   private static DirectBuffer asMsgPack(String json) {
     try {
       return new UnsafeBuffer(MSGPACK_MAPPER.writeValueAsBytes(JSON_MAPPER.readTree(json)));
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.msgpack.mapping;
+
+import static io.zeebe.msgpack.mapping.MappingBuilder.createMapping;
+import static io.zeebe.msgpack.mapping.MappingBuilder.createMappings;
+import static io.zeebe.msgpack.mapping.MappingTestUtil.JSON_MAPPER;
+import static io.zeebe.msgpack.mapping.MappingTestUtil.MSGPACK_MAPPER;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class MappingPlanTest {
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private final MsgPackMergeTool mergeTool = new MsgPackMergeTool(1024);
+
+  @Test
+  public void shouldExtractDefinitePathsInSinglePass() {
+    // given
+    final MappingPlan plan =
+        createMappings()
+            .mapping("$.foo.bar", "$.a")
+            .mapping("$.foo.baz[1]", "$.b")
+            .mapping("$.value", "$.c")
+            .mapping("$.foo", "$.d")
+            .buildPlan();
+
+    final DirectBuffer document =
+        asMsgPack("{'other':{'x':[1,2]}, 'foo':{'bar':1, 'baz':[2, 3]}, 'value':'v'}");
+
+    // when
+    mergeTool.mergeDocumentStrictly(document, plan);
+
+    // then
+    assertThat(plan.isSinglePass()).isTrue();
+
+    MappingTestUtil.assertThatMsgPack(mergeTool.writeResultToBuffer())
+        .hasValue("{'a':1, 'b':3, 'c':'v', 'd':{'bar':1, 'baz':[2, 3]}}");
+  }
+
+  @Test
+  public void shouldExtractWildcardQueryNotInSinglePass() {
+    // given
+    final MappingPlan plan =
+        createMappings().mapping("$.foo", "$.a").mapping("$.*", "$.b").buildPlan();
+
+    final DirectBuffer document = asMsgPack("{'foo':1}");
+
+    // when
+    mergeTool.mergeDocumentStrictly(document, plan);
+
+    // then
+    assertThat(plan.isSinglePass()).isFalse();
+
+    MappingTestUtil.assertThatMsgPack(mergeTool.writeResultToBuffer()).hasValue("{'a':1, 'b':1}");
+  }
+
+  @Test
+  public void shouldThrowExceptionIfMappingDoesNotMatchInStrictMode() {
+    // given
+    final MappingPlan plan =
+        createMappings().mapping("$.foo", "$.a").mapping("$.bar[2]", "$.b").buildPlan();
+
+    final DirectBuffer document = asMsgPack("{'foo':1, 'bar':[1, 2]}");
+
+    // expect
+    expectedException.expect(MappingException.class);
+    expectedException.expectMessage("No data found for query $.bar[2].");
+
+    // when
+    mergeTool.mergeDocumentStrictly(document, plan);
+  }
+
+  @Test
+  public void shouldThrowExceptionOnDuplicateKeysInStrictMode() {
+    // given
+    final MappingPlan plan = new MappingPlan(createMapping("$.foo", "$.a"));
+
+    final DirectBuffer document = documentWithDuplicateKey("foo", 1, 2);
+
+    // expect
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("JSON path mapping has more than one matching source.");
+
+    // when
+    mergeTool.mergeDocumentStrictly(document, plan);
+  }
+
+  @Test
+  public void shouldExtractFirstValueOfDuplicateKeys() {
+    // given
+    final MappingPlan plan = new MappingPlan(createMapping("$.foo", "$.a"));
+
+    final DirectBuffer document = documentWithDuplicateKey("foo", 1, 2);
+
+    // when
+    mergeTool.mergeDocument(document, plan);
+
+    // then
+    MappingTestUtil.assertThatMsgPack(mergeTool.writeResultToBuffer()).hasValue("{'a':1}");
+  }
+
+  private static DirectBuffer documentWithDuplicateKey(String key, int value1, int value2) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[64]);
+    final MsgPackWriter writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+
+    writer.writeMapHeader(2);
+    writer.writeString(wrapString(key));
+    writer.writeInteger(value1);
+    writer.writeString(wrapString(key));
+    writer.writeInteger(value2);
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  private static DirectBuffer asMsgPack(String json) {
+    try {
+      return new UnsafeBuffer(MSGPACK_MAPPER.writeValueAsBytes(JSON_MAPPER.readTree(json)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -15,8 +15,6 @@
  */
 package io.zeebe.msgpack.mapping;
 
-import static io.zeebe.msgpack.mapping.MsgPackTreeNodeIdConstructor.JSON_PATH_SEPARATOR;
-import static io.zeebe.msgpack.mapping.MsgPackTreeNodeIdConstructor.JSON_PATH_SEPARATOR_END;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.core.JsonParser;
@@ -25,9 +23,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.agrona.DirectBuffer;
@@ -37,6 +37,9 @@ import org.assertj.core.api.AbstractObjectAssert;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public class MappingTestUtil {
+  protected static final String JSON_PATH_SEPARATOR = "[";
+  protected static final String JSON_PATH_SEPARATOR_END = "]";
+
   protected static final String NODE_JSON_OBJECT_KEY = "jsonObject";
   protected static final String NODE_TEST_ATTR_KEY = "testAttr";
   protected static final String NODE_STRING_KEY = "string";
@@ -101,35 +104,61 @@ public class MappingTestUtil {
 
   public static void assertThatIsArrayNode(
       MsgPackTree msgPackTree, String nodeId, String... childs) {
-    assertThat(msgPackTree.isArrayNode(nodeId)).isTrue();
+    assertThat(msgPackTree.isArrayNode(findNode(msgPackTree, nodeId))).isTrue();
     assertChildNodes(msgPackTree, nodeId, childs.length, childs);
   }
 
   public static void assertThatIsMapNode(MsgPackTree msgPackTree, String nodeId, String... childs) {
-    assertThat(msgPackTree.isMapNode(nodeId)).isTrue();
+    assertThat(msgPackTree.isMapNode(findNode(msgPackTree, nodeId))).isTrue();
     assertChildNodes(msgPackTree, nodeId, childs.length, childs);
   }
 
   private static void assertChildNodes(
       MsgPackTree msgPackTree, String nodeId, int childCount, String[] childs) {
-    final Set<String> arrayValues = msgPackTree.getChildren(nodeId);
-    assertThat(arrayValues.size()).isEqualTo(childCount);
-    for (String child : childs) {
-      assertThat(arrayValues.contains(child)).isTrue();
+    final int node = findNode(msgPackTree, nodeId);
+    final UnsafeBuffer nameBuffer = new UnsafeBuffer(0, 0);
+    final Set<String> children = new HashSet<>();
+
+    for (int child = msgPackTree.getFirstChild(node);
+        child != MsgPackTree.NO_NODE;
+        child = msgPackTree.getNextSibling(child)) {
+      msgPackTree.getNodeName(child, nameBuffer);
+      children.add(nameBuffer.getStringWithoutLengthUtf8(0, nameBuffer.capacity()));
     }
+
+    assertThat(msgPackTree.getChildCount(node)).isEqualTo(childCount);
+    assertThat(children).containsOnly(childs);
   }
 
   public static void assertThatIsLeafNode(
       MsgPackTree msgPackTree, String leafId, byte[] expectedBytes) {
-    assertThat(msgPackTree.isValueNode(leafId)).isTrue();
+    final int leaf = findNode(msgPackTree, leafId);
+    assertThat(msgPackTree.isValueNode(leaf)).isTrue();
 
     WRITER.wrap(WRITE_BUFFER, 0);
-    msgPackTree.writeValueNode(WRITER, leafId);
+    msgPackTree.writeValueNode(WRITER, leaf);
 
     assertThat(WRITER.getOffset()).isEqualTo(expectedBytes.length);
     assertThat(WRITE_BUFFER.byteArray()).startsWith(expectedBytes);
   }
 
+  /** Resolves a node id which was constructed by {@link #constructNodeId(String...)}. */
+  private static int findNode(MsgPackTree msgPackTree, String nodeId) {
+    int node = msgPackTree.getRootNode();
+    int nameStart = nodeId.indexOf(JSON_PATH_SEPARATOR);
+
+    while (node != MsgPackTree.NO_NODE && nameStart >= 0) {
+      final int nameEnd = nodeId.indexOf(JSON_PATH_SEPARATOR_END, nameStart);
+      final byte[] name = nodeId.substring(nameStart + 1, nameEnd).getBytes(StandardCharsets.UTF_8);
+
+      node = msgPackTree.getChild(node, new UnsafeBuffer(name), 0, name.length);
+      nameStart = nodeId.indexOf(JSON_PATH_SEPARATOR, nameEnd);
+    }
+
+    assertThat(node).describedAs("node %s", nodeId).isNotEqualTo(MsgPackTree.NO_NODE);
+    return node;
+  }
+
   public static String constructNodeId(String... nodeNames) {
     final StringBuilder builder = new StringBuilder();
     if (nodeNames.length >= 1) {
@@ -45,4 +45,18 @@ public class MergeThroughputBenchmark {
     final DirectBuffer result = mergeTool.writeResultToBuffer();
     return result.capacity();
   }
+
+  @Benchmark
+  @Threads(1)
+  public int mergeThroughputWithMappingPlan(
+      final MappingCtx mappingCtx, final ThroughputCtx documents) {
+
+    final MsgPackMergeTool mergeTool = mappingCtx.processor;
+
+    mergeTool.mergeDocument(documents.targetDocument);
+    mergeTool.mergeDocument(documents.sourceDocument, documents.mappingPlan);
+
+    final DirectBuffer result = mergeTool.writeResultToBuffer();
+    return result.capacity();
+  }
 }
@@ -18,6 +18,7 @@ package io.zeebe.msgpack.mapping.throughput;
 import io.zeebe.msgpack.mapping.JsonGenerator;
 import io.zeebe.msgpack.mapping.Mapping;
 import io.zeebe.msgpack.mapping.MappingBuilder;
+import io.zeebe.msgpack.mapping.MappingPlan;
 import io.zeebe.msgpack.mapping.MsgPackConverter;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -45,6 +46,7 @@ public class ThroughputCtx {
   UnsafeBuffer targetDocument;
   UnsafeBuffer sourceDocument;
   Mapping[] mappings;
+  MappingPlan mappingPlan;
 
   @Setup
   public void setUp() throws Exception {
@@ -54,6 +56,7 @@ public class ThroughputCtx {
     final JsonGenerator sourceDocumentGenerator = new JsonGenerator(maxDepth, keyCount);
     sourceDocument = new UnsafeBuffer(generateMsgPack(sourceDocumentGenerator));
     mappings = generateMappings(keyCount, mappingKeyPercentage, maxDepth, mappingDepthPercentage);
+    mappingPlan = new MappingPlan(mappings);
   }
 
   private static byte[] generateMsgPack(JsonGenerator generator) throws Exception {
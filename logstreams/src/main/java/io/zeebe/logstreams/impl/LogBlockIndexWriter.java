@@ -145,6 +145,9 @@ public class LogBlockIndexWriter extends Actor {
       if (lastSnapshot != null) {
         lastSnapshot.recoverFromSnapshot(blockIndex);
 
+        // the log may have been deleted after the snapshot was taken
+        blockIndex.deleteUpToAddress(logStorage.getFirstBlockAddress());
+
         final long snapshotPosition = lastSnapshot.getPosition();
 
         final long snapshotBlockAddress = blockIndex.lookupBlockAddress(snapshotPosition);
@@ -308,6 +311,33 @@ public class LogBlockIndexWriter extends Actor {
     }
   }
 
+  /**
+   * Deletes the log storage and the block index up to the block which contains the given position.
+   * The block which contains the position and all following blocks are retained.
+   *
+   * @param position the position up to which the log can be deleted
+   * @return future which is completed when the deletion is done
+   */
+  public ActorFuture<Void> deleteUpToPosition(long position) {
+    return actor.call(
+        () -> {
+          final long blockAddress = blockIndex.lookupBlockAddress(position);
+
+          if (blockAddress > 0) {
+            logStorage.delete(blockAddress);
+
+            final int deletedBlocks =
+                blockIndex.deleteUpToAddress(logStorage.getFirstBlockAddress());
+
+            LOG.debug(
+                "Deleted log {} up to position {}, removed {} block(s) from index.",
+                name,
+                position,
+                deletedBlocks);
+          }
+        });
+  }
+
   public ActorFuture<Void> closeAsync() {
     return actor.close();
   }
@@ -22,11 +22,19 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.channel.ActorConditions;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.agrona.MutableDirectBuffer;
 import org.slf4j.Logger;
 
-/** Consume the write buffer and append the blocks on the log storage. */
+/**
+ * Consume the write buffer and append the blocks on the log storage.
+ *
+ * <p>If a flush delay is set, the appended blocks are flushed to disk as a group: the first block
+ * which is appended after a flush schedules the next flush, which syncs all blocks that are
+ * appended until then. The appender position only advances when the blocks are flushed, so that the
+ * number of syncs doesn't depend on the number of appended blocks.
+ */
 public class LogStorageAppender extends Actor {
   public static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
 
@@ -39,19 +47,42 @@ public class LogStorageAppender extends Actor {
   private final Subscription writeBufferSubscription;
   private final ActorConditions logStorageAppendConditions;
 
+  private final Duration flushDelay;
+
   private Runnable peekedBlockHandler = this::appendBlock;
   private int maxAppendBlockSize;
 
+  private boolean isFlushScheduled;
+  /** write buffer position after the last appended block */
+  private long appendedPosition;
+  /** write buffer position after the last flushed block */
+  private volatile long flushedPosition;
+
   public LogStorageAppender(
       String name,
       LogStorage logStorage,
       Subscription writeBufferSubscription,
       int maxBlockSize,
       ActorConditions logStorageAppendConditions) {
+    this(name, logStorage, writeBufferSubscription, maxBlockSize, null, logStorageAppendConditions);
+  }
+
+  /**
+   * @param flushDelay the max delay between appending a block and flushing it to disk, or null if
+   *     the blocks are not flushed explicitly
+   */
+  public LogStorageAppender(
+      String name,
+      LogStorage logStorage,
+      Subscription writeBufferSubscription,
+      int maxBlockSize,
+      Duration flushDelay,
+      ActorConditions logStorageAppendConditions) {
     this.name = name;
     this.logStorage = logStorage;
     this.writeBufferSubscription = writeBufferSubscription;
     this.maxAppendBlockSize = maxBlockSize;
+    this.flushDelay = flushDelay;
     this.logStorageAppendConditions = logStorageAppendConditions;
   }
 
@@ -62,6 +93,9 @@ public class LogStorageAppender extends Actor {
 
   @Override
   protected void onActorStarting() {
+    appendedPosition = writeBufferSubscription.getPosition();
+    flushedPosition = appendedPosition;
+
     actor.consume(writeBufferSubscription, this::peekBlock);
   }
 
@@ -80,7 +114,13 @@ public class LogStorageAppender extends Actor {
     final long address = logStorage.append(rawBuffer);
     if (address >= 0) {
       blockPeek.markCompleted();
-      logStorageAppendConditions.signalConsumers();
+
+      if (isFlushEnabled()) {
+        appendedPosition = writeBufferSubscription.getPosition();
+        scheduleFlush();
+      } else {
+        logStorageAppendConditions.signalConsumers();
+      }
     } else {
       isFailed.set(true);
 
@@ -102,6 +142,44 @@ public class LogStorageAppender extends Actor {
     actor.yield();
   }
 
+  private void scheduleFlush() {
+    if (!isFlushScheduled) {
+      isFlushScheduled = true;
+
+      if (flushDelay.isZero()) {
+        actor.submit(this::flush);
+      } else {
+        actor.runDelayed(flushDelay, this::flush);
+      }
+    }
+  }
+
+  private void flush() {
+    isFlushScheduled = false;
+
+    final long position = appendedPosition;
+    try {
+      logStorage.flush();
+
+      flushedPosition = position;
+      logStorageAppendConditions.signalConsumers();
+    } catch (Exception e) {
+      LOG.error("Failed to flush log storage, try again.", e);
+      scheduleFlush();
+    }
+  }
+
+  private boolean isFlushEnabled() {
+    return flushDelay != null;
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (isFlushEnabled() && appendedPosition > flushedPosition) {
+      flush();
+    }
+  }
+
   public ActorFuture<Void> close() {
     return actor.close();
   }
@@ -110,7 +188,15 @@ public class LogStorageAppender extends Actor {
     return isFailed.get();
   }
 
+  /**
+   * @return the write buffer position after the last appended block, or after the last flushed
+   *     block if the flush is enabled
+   */
   public long getCurrentAppenderPosition() {
-    return writeBufferSubscription.getPosition();
+    if (isFlushEnabled()) {
+      return flushedPosition;
+    } else {
+      return writeBufferSubscription.getPosition();
+    }
   }
 }
@@ -65,6 +65,7 @@ public class LogStreamBuilder {
   protected int readBlockSize = 1024;
 
   protected Duration snapshotPeriod = Duration.ofMinutes(1);
+  protected Duration logFlushDelay;
   protected SnapshotStorage snapshotStorage;
 
   protected final AtomicLongPosition commitPosition = new AtomicLongPosition();
@@ -141,6 +142,18 @@ public class LogStreamBuilder {
     return this;
   }
 
+  /**
+   * Enables flushing of the appended blocks to disk. The appender flushes all blocks which are
+   * appended within the given delay together. Only flushed blocks are reported as appended.
+   *
+   * @param logFlushDelay the max delay between appending a block and flushing it, or null to
+   *     disable flushing
+   */
+  public LogStreamBuilder logFlushDelay(final Duration logFlushDelay) {
+    this.logFlushDelay = logFlushDelay;
+    return this;
+  }
+
   public LogStreamBuilder readBlockSize(final int readBlockSize) {
     this.readBlockSize = readBlockSize;
     return this;
@@ -183,6 +196,10 @@ public class LogStreamBuilder {
     return snapshotPeriod;
   }
 
+  public Duration getLogFlushDelay() {
+    return logFlushDelay;
+  }
+
   public SnapshotStorage getSnapshotStorage() {
     return snapshotStorage;
   }
@@ -15,63 +15,101 @@
  */
 package io.zeebe.logstreams.impl.log.fs;
 
-public class FsLogSegments {
-  protected int initalSegmentId = -1;
-
-  protected FsLogSegment[] segments = new FsLogSegment[0];
+import java.util.ArrayList;
+import java.util.List;
 
-  protected volatile int segmentCount = 0;
+public class FsLogSegments {
+  /**
+   * The segments are replaced as a whole, together with the id of the first segment, so that
+   * concurrent readers always see a consistent view.
+   */
+  private volatile Segments segments = new Segments(-1, new FsLogSegment[0]);
 
   public void init(int initalSegmentId, FsLogSegment[] initialSegments) {
-    this.segments = initialSegments;
-    this.initalSegmentId = initalSegmentId;
-    this.segmentCount = initialSegments.length; // volatile store
+    this.segments = new Segments(initalSegmentId, initialSegments);
   }
 
   /** invoked by the conductor after a new segment has been allocated */
-  public void addSegment(FsLogSegment segment) {
-    final FsLogSegment[] newSegments = new FsLogSegment[segments.length + 1];
+  public synchronized void addSegment(FsLogSegment segment) {
+    final Segments segments = this.segments;
+    final FsLogSegment[] newSegments = new FsLogSegment[segments.array.length + 1];
 
-    System.arraycopy(segments, 0, newSegments, 0, segments.length);
-    newSegments[segments.length] = segment;
-    this.segments = newSegments;
+    System.arraycopy(segments.array, 0, newSegments, 0, segments.array.length);
+    newSegments[segments.array.length] = segment;
 
-    this.segmentCount = newSegments.length; // volatile store
+    this.segments = new Segments(segments.initialSegmentId, newSegments);
   }
 
-  public FsLogSegment getSegment(int segmentId) {
-    final int segmentCount = this.segmentCount; // volatile load
+  /**
+   * Removes all segments with an id lower than the given segment id. The last segment is never
+   * removed. The remaining segments are shifted to the start of the array, so it doesn't grow with
+   * the removed segments. The removed segments are not closed or deleted.
+   *
+   * @return the removed segments in ascending order of their id
+   */
+  public synchronized List<FsLogSegment> removeSegmentsUntil(int segmentId) {
+    final List<FsLogSegment> removedSegments = new ArrayList<>();
+
+    final Segments segments = this.segments;
+    final int removeCount =
+        Math.min(segmentId - segments.initialSegmentId, segments.array.length - 1);
 
-    final FsLogSegment[] segments = this.segments;
+    if (removeCount > 0) {
+      for (int i = 0; i < removeCount; i++) {
+        removedSegments.add(segments.array[i]);
+      }
 
-    final int segmentIdx = segmentId - initalSegmentId;
+      final FsLogSegment[] newSegments = new FsLogSegment[segments.array.length - removeCount];
+      System.arraycopy(segments.array, removeCount, newSegments, 0, newSegments.length);
+
+      this.segments = new Segments(segments.initialSegmentId + removeCount, newSegments);
+    }
+
+    return removedSegments;
+  }
 
-    if (0 <= segmentIdx && segmentIdx < segmentCount) {
-      return segments[segmentIdx];
+  public FsLogSegment getSegment(int segmentId) {
+    final Segments segments = this.segments; // volatile load
+
+    final int segmentIdx = segmentId - segments.initialSegmentId;
+
+    if (0 <= segmentIdx && segmentIdx < segments.array.length) {
+      return segments.array[segmentIdx];
     } else {
       return null;
     }
   }
 
   public FsLogSegment getFirst() {
-    if (segmentCount > 0) {
-      return segments[0];
+    final Segments segments = this.segments; // volatile load
+
+    if (segments.array.length > 0) {
+      return segments.array[0];
     } else {
       return null;
     }
   }
 
   public void closeAll() {
-    final FsLogSegment[] segments = this.segments;
-    for (FsLogSegment readableLogSegment : segments) {
+    final Segments segments = this.segments;
+    for (FsLogSegment readableLogSegment : segments.array) {
       readableLogSegment.closeSegment();
     }
 
-    this.segments = new FsLogSegment[0];
-    this.segmentCount = 0;
+    this.segments = new Segments(segments.initialSegmentId, new FsLogSegment[0]);
   }
 
   public int getSegmentCount() {
-    return segmentCount;
+    return segments.array.length;
+  }
+
+  private static final class Segments {
+    private final int initialSegmentId;
+    private final FsLogSegment[] array;
+
+    Segments(final int initialSegmentId, final FsLogSegment[] array) {
+      this.initialSegmentId = initialSegmentId;
+      this.array = array;
+    }
   }
 }
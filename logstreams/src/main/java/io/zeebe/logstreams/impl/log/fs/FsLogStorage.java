@@ -136,7 +136,7 @@ public class FsLogStorage implements LogStorage {
       // Do this last so readers do not attempt to advance to next segment yet
       // before it is visible
       filledSegment.setFilled();
-      segmentCountMetric.setOrdered(logSegments.getSegmentCount());
+      segmentCountMetric.incrementOrdered();
     }
   }
 
@@ -172,6 +172,32 @@ public class FsLogStorage implements LogStorage {
     initLogSegments(logDir);
   }
 
+  @Override
+  public void delete(final long address) {
+    ensureOpenedStorage();
+
+    final int segmentId = partitionId(address);
+    final List<FsLogSegment> deletedSegments = logSegments.removeSegmentsUntil(segmentId);
+
+    for (final FsLogSegment segment : deletedSegments) {
+      final int size = segment.getSize();
+
+      segment.closeSegment();
+      segment.delete();
+
+      totalBytesMetric.getAndAddOrdered(-size);
+      segmentCountMetric.getAndAddOrdered(-1);
+    }
+
+    if (!deletedSegments.isEmpty()) {
+      LOG.debug(
+          "Deleted {} log segment(s) before segment {} of log {}.",
+          deletedSegments.size(),
+          segmentId,
+          config.getPath());
+    }
+  }
+
   protected void addressCheck(final int segmentId, final int segmentOffset) {
     final FsLogSegment segment = logSegments.getSegment(segmentId);
     if (segment == null || segmentOffset < METADATA_LENGTH || segmentOffset >= segment.getSize()) {
@@ -333,8 +359,12 @@ public class FsLogStorage implements LogStorage {
     final FsLogSegment[] segmentsArray =
         readableLogSegments.toArray(new FsLogSegment[readableLogSegments.size()]);
 
+    // older segments may have been deleted, so the first existing segment may not be the initial
+    // one
+    final int firstSegmentId = segmentsArray[0].getSegmentId();
+
     final FsLogSegments logSegments = new FsLogSegments();
-    logSegments.init(config.initialSegmentId, segmentsArray);
+    logSegments.init(firstSegmentId, segmentsArray);
     segmentCountMetric.setOrdered(logSegments.getSegmentCount());
 
     this.logSegments = logSegments;
@@ -429,20 +459,29 @@ public class FsLogStorage implements LogStorage {
     state = STATE_CLOSED;
   }
 
+  /**
+   * Forces all segments which are written since the last flush to disk. The method is synchronized
+   * with marking a segment as dirty, so that a concurrent caller returns only after the blocks
+   * appended before are on disk.
+   */
   @Override
-  public void flush() throws Exception {
+  public synchronized void flush() throws Exception {
     ensureOpenedStorage();
 
     if (dirtySegmentId >= 0) {
       for (int id = dirtySegmentId; id <= currentSegment.getSegmentId(); id++) {
-        logSegments.getSegment(id).flush();
+        final FsLogSegment segment = logSegments.getSegment(id);
+        // the segment may have been deleted in the meantime
+        if (segment != null) {
+          segment.flush();
+        }
       }
 
       dirtySegmentId = -1;
     }
   }
 
-  protected void markSegmentAsDirty(final FsLogSegment segment) {
+  protected synchronized void markSegmentAsDirty(final FsLogSegment segment) {
     if (dirtySegmentId < 0) {
       dirtySegmentId = segment.getSegmentId();
     }
@@ -42,16 +42,19 @@ import org.agrona.concurrent.AtomicBuffer;
  * requested.
  */
 public class LogBlockIndex implements SnapshotSupport {
-  protected final AtomicBuffer indexBuffer;
+  private final Function<Integer, AtomicBuffer> bufferAllocator;
+
+  // replaced by a new buffer when blocks are deleted, so that concurrent lookups which still use
+  // the previous buffer see a consistent index
+  protected volatile AtomicBuffer indexBuffer;
 
   protected final int capacity;
 
   protected long lastVirtualPosition = -1;
 
   public LogBlockIndex(int capacity, Function<Integer, AtomicBuffer> bufferAllocator) {
-    final int requiredBufferCapacity = dataOffset() + (capacity * entryLength());
-
-    this.indexBuffer = bufferAllocator.apply(requiredBufferCapacity);
+    this.bufferAllocator = bufferAllocator;
+    this.indexBuffer = allocateBuffer(capacity);
     this.capacity = capacity;
 
     reset();
@@ -66,8 +69,9 @@ public class LogBlockIndex implements SnapshotSupport {
    *     virtual position
    */
   public long lookupBlockAddress(long position) {
-    final int offset = lookupOffset(position);
-    return offset >= 0 ? indexBuffer.getLong(entryAddressOffset(offset)) : offset;
+    final AtomicBuffer buffer = indexBuffer;
+    final int offset = lookupOffset(buffer, position);
+    return offset >= 0 ? buffer.getLong(entryAddressOffset(offset)) : offset;
   }
 
   /**
@@ -79,20 +83,22 @@ public class LogBlockIndex implements SnapshotSupport {
    *     position
    */
   public long lookupBlockPosition(long position) {
-    final int offset = lookupOffset(position);
-    return offset >= 0 ? indexBuffer.getLong(entryLogPositionOffset(offset)) : offset;
+    final AtomicBuffer buffer = indexBuffer;
+    final int offset = lookupOffset(buffer, position);
+    return offset >= 0 ? buffer.getLong(entryLogPositionOffset(offset)) : offset;
   }
 
   /**
    * Returns the offset of the block in which the log entry identified by the provided position
    * resides.
    *
+   * @param buffer the index buffer to look up
    * @param position a virtual log position
    * @return the offset of the block containing the log entry identified by the provided virtual
    *     position
    */
-  protected int lookupOffset(long position) {
-    final int idx = lookupIndex(position);
+  protected int lookupOffset(AtomicBuffer buffer, long position) {
+    final int idx = lookupIndex(buffer, position);
     return idx >= 0 ? entryOffset(idx) : idx;
   }
 
@@ -100,12 +106,13 @@ public class LogBlockIndex implements SnapshotSupport {
    * Returns the index of the block in which the log entry identified by the provided position
    * resides.
    *
+   * @param buffer the index buffer to look up
    * @param position a virtual log position
    * @return the index of the block containing the log entry identified by the provided virtual
    *     position
    */
-  protected int lookupIndex(long position) {
-    final int lastEntryIdx = size() - 1;
+  protected int lookupIndex(AtomicBuffer buffer, long position) {
+    final int lastEntryIdx = buffer.getIntVolatile(indexSizeOffset()) - 1;
 
     int low = 0;
     int high = lastEntryIdx;
@@ -114,7 +121,7 @@ public class LogBlockIndex implements SnapshotSupport {
 
     if (low == high) {
       final int entryOffset = entryOffset(low);
-      final long entryValue = indexBuffer.getLong(entryLogPositionOffset(entryOffset));
+      final long entryValue = buffer.getLong(entryLogPositionOffset(entryOffset));
 
       if (entryValue <= position) {
         idx = low;
@@ -131,9 +138,9 @@ public class LogBlockIndex implements SnapshotSupport {
         idx = mid;
         break;
       } else {
-        final long entryValue = indexBuffer.getLong(entryLogPositionOffset(entryOffset));
+        final long entryValue = buffer.getLong(entryLogPositionOffset(entryOffset));
         final long nextEntryValue =
-            indexBuffer.getLong(entryLogPositionOffset(entryOffset(mid + 1)));
+            buffer.getLong(entryLogPositionOffset(entryOffset(mid + 1)));
 
         if (entryValue <= position && position < nextEntryValue) {
           idx = mid;
@@ -189,6 +196,43 @@ public class LogBlockIndex implements SnapshotSupport {
     return newIndexSize;
   }
 
+  /**
+   * Invoked by the block index writer after the log storage was deleted up to the given address.
+   * Removes all blocks with a lower address from the index and copies the remaining blocks to the
+   * beginning of a new index buffer, which replaces the current one. Concurrent lookups keep using
+   * the buffer which they have started with.
+   *
+   * @param storageAddr the physical address of the first block which is retained
+   * @return the number of removed blocks
+   */
+  public int deleteUpToAddress(long storageAddr) {
+    final int currentIndexSize = indexBuffer.getInt(indexSizeOffset());
+
+    int removeCount = 0;
+    while (removeCount < currentIndexSize
+        && indexBuffer.getLong(entryAddressOffset(entryOffset(removeCount))) < storageAddr) {
+      removeCount++;
+    }
+
+    if (removeCount > 0) {
+      final int newIndexSize = currentIndexSize - removeCount;
+      final AtomicBuffer newIndexBuffer = allocateBuffer(capacity);
+
+      newIndexBuffer.putBytes(
+          entryOffset(0), indexBuffer, entryOffset(removeCount), newIndexSize * entryLength());
+      newIndexBuffer.putInt(indexSizeOffset(), newIndexSize);
+
+      indexBuffer = newIndexBuffer;
+    }
+
+    return removeCount;
+  }
+
+  private AtomicBuffer allocateBuffer(int capacity) {
+    final int requiredBufferCapacity = dataOffset() + (capacity * entryLength());
+    return bufferAllocator.apply(requiredBufferCapacity);
+  }
+
   /** @return the current size of the index */
   public int size() {
     return indexBuffer.getIntVolatile(indexSizeOffset());
@@ -24,20 +24,23 @@ import io.zeebe.servicecontainer.ServiceStartContext;
 import io.zeebe.servicecontainer.ServiceStopContext;
 import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.channel.ActorConditions;
+import java.time.Duration;
 
 public class LogStorageAppenderService implements Service<LogStorageAppender> {
   private final Injector<LogStorage> logStorageInjector = new Injector<>();
   private final Injector<Subscription> appenderSubscriptionInjector = new Injector<>();
 
   private final int maxAppendBlockSize;
+  private final Duration flushDelay;
 
   private LogStorageAppender service;
   private ActorConditions onLogStorageAppendedConditions;
 
   public LogStorageAppenderService(
-      ActorConditions onLogStorageAppendedConditions, int maxAppendBlockSize) {
+      ActorConditions onLogStorageAppendedConditions, int maxAppendBlockSize, Duration flushDelay) {
     this.onLogStorageAppendedConditions = onLogStorageAppendedConditions;
     this.maxAppendBlockSize = maxAppendBlockSize;
+    this.flushDelay = flushDelay;
   }
 
   @Override
@@ -51,6 +54,7 @@ public class LogStorageAppenderService implements Service<LogStorageAppender> {
             logStorage,
             subscription,
             maxAppendBlockSize,
+            flushDelay,
             onLogStorageAppendedConditions);
 
     startContext.async(
@@ -44,6 +44,7 @@ import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.channel.ActorConditions;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.time.Duration;
 import org.agrona.concurrent.status.Position;
 
 public class LogStreamService implements LogStream, Service<LogStream> {
@@ -63,6 +64,7 @@ public class LogStreamService implements LogStream, Service<LogStream> {
 
   private final ByteValue writeBufferSize;
   private final int maxAppendBlockSize;
+  private final Duration logFlushDelay;
 
   private final Position commitPosition;
   private volatile int term = 0;
@@ -86,6 +88,7 @@ public class LogStreamService implements LogStream, Service<LogStream> {
     this.commitPosition = builder.getCommitPosition();
     this.writeBufferSize = ByteValue.ofBytes(builder.getWriteBufferSize());
     this.maxAppendBlockSize = builder.getMaxAppendBlockSize();
+    this.logFlushDelay = builder.getLogFlushDelay();
   }
 
   @Override
@@ -133,7 +136,8 @@ public class LogStreamService implements LogStream, Service<LogStream> {
         .install();
 
     final LogStorageAppenderService appenderService =
-        new LogStorageAppenderService(onLogStorageAppendedConditions, maxAppendBlockSize);
+        new LogStorageAppenderService(
+            onLogStorageAppendedConditions, maxAppendBlockSize, logFlushDelay);
     appenderFuture =
         installOperation
             .createService(logStorageAppenderServiceName, appenderService)
@@ -218,6 +222,11 @@ public class LogStreamService implements LogStream, Service<LogStream> {
     return appender;
   }
 
+  @Override
+  public boolean isLogFlushEnabled() {
+    return logFlushDelay != null;
+  }
+
   @Override
   public long getCommitPosition() {
     return commitPosition.get();
@@ -238,6 +247,11 @@ public class LogStreamService implements LogStream, Service<LogStream> {
     }
   }
 
+  @Override
+  public ActorFuture<Void> delete(final long position) {
+    return logBlockIndexWriter.deleteUpToPosition(position);
+  }
+
   @Override
   public void setCommitPosition(final long commitPosition) {
     this.commitPosition.setOrdered(commitPosition);
@@ -72,6 +72,11 @@ public class LogStreamServiceNames {
         String.format("logstream.%s.storage.appender-root", logName), Void.class);
   }
 
+  public static final ServiceName<StreamProcessorService> streamProcessorGroupName(String logName) {
+    return ServiceName.newServiceName(
+        String.format("logstream.%s.processors", logName), StreamProcessorService.class);
+  }
+
   public static final ServiceName<StreamProcessorService> streamProcessorService(
       String logName, String processorName) {
     return ServiceName.newServiceName(
@@ -109,6 +109,12 @@ public interface LogStream extends AutoCloseable {
    */
   LogBlockIndexWriter getLogBlockIndexWriter();
 
+  /**
+   * @return true, if the appended blocks are flushed to disk before they are reported as appended
+   *     (i.e. before they count for the commit position)
+   */
+  boolean isLogFlushEnabled();
+
   /** Stops the streaming to the log storage. New events are no longer append to the log storage. */
   ActorFuture<Void> closeAppender();
 
@@ -133,6 +139,17 @@ public interface LogStream extends AutoCloseable {
    */
   void truncate(long position);
 
+  /**
+   * Deletes the log stream up to the given position. Only complete parts of the log storage which
+   * end before the block containing the given position are deleted, i.e. every event with a
+   * position equal or higher than the given one is retained. The log storage and block index are
+   * updated accordingly.
+   *
+   * @param position the position up to which the log stream can be deleted
+   * @return the future which is completed when the deletion is done
+   */
+  ActorFuture<Void> delete(long position);
+
   void registerOnCommitPositionUpdatedCondition(ActorCondition condition);
 
   void removeOnCommitPositionUpdatedCondition(ActorCondition condition);
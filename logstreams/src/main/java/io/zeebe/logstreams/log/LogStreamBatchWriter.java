@@ -33,6 +33,9 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
     /** Set the log entry key. */
     LogEntryBuilder key(long key);
 
+    /** Write the log entry without a key. */
+    LogEntryBuilder keyNull();
+
     /** Set the log entry metadata. */
     LogEntryBuilder metadata(DirectBuffer buffer, int offset, int length);
 
@@ -58,7 +61,10 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
   /** Initialize the write for the given log stream. */
   void wrap(LogStream log);
 
-  /** Set the source event for all log entries. */
+  /**
+   * Set the source event for all log entries which are added afterwards. Log entries which are
+   * already added to the batch keep their source event.
+   */
   LogStreamBatchWriter sourceRecordPosition(long position);
 
   /** Set the producer id for all log entries. */
@@ -67,6 +73,18 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
   /** Returns the builder to add a new log entry to the batch. */
   LogEntryBuilder event();
 
+  /**
+   * Returns true if a log entry with the given length (metadata and value) can be added to the
+   * batch, without exceeding the maximum length of a batch that can be written to the log stream.
+   */
+  boolean canWriteAdditionalEvent(int length);
+
+  /** Returns true if no log entry is added to the batch. */
+  boolean isEmpty();
+
+  /** Returns the number of log entries which are added to the batch. */
+  int getEventCount();
+
   /** Discard all non-written batch data. */
   void reset();
 }
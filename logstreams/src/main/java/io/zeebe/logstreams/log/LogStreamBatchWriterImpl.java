@@ -18,6 +18,7 @@ package io.zeebe.logstreams.log;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.alignedFramedLength;
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
 import static io.zeebe.logstreams.impl.LogEntryDescriptor.HEADER_BLOCK_LENGTH;
+import static io.zeebe.logstreams.impl.LogEntryDescriptor.KEY_NULL_VALUE;
 import static io.zeebe.logstreams.impl.LogEntryDescriptor.headerLength;
 import static io.zeebe.logstreams.impl.LogEntryDescriptor.metadataOffset;
 import static io.zeebe.logstreams.impl.LogEntryDescriptor.setKey;
@@ -48,7 +49,7 @@ import org.agrona.MutableDirectBuffer;
 public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryBuilder {
   private static final int INITIAL_BUFFER_CAPACITY = 1024 * 32;
 
-  private static final long POSITION_AS_KEY = -1L;
+  private static final long POSITION_AS_KEY = Long.MIN_VALUE;
 
   private final ClaimedFragmentBatch claimedBatch = new ClaimedFragmentBatch();
 
@@ -66,6 +67,7 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
   private int logId;
 
   private boolean positionAsKey;
+  private boolean keyNull;
   private long key;
 
   private int producerId;
@@ -122,6 +124,12 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
     return this;
   }
 
+  @Override
+  public LogEntryBuilder keyNull() {
+    keyNull = true;
+    return key(KEY_NULL_VALUE);
+  }
+
   @Override
   public LogEntryBuilder metadata(DirectBuffer buffer, int offset, int length) {
     metadataWriterInstance.wrap(buffer, offset, length);
@@ -160,7 +168,7 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
     // validation
     ensureNotNull("value", valueWriter);
 
-    if (!positionAsKey) {
+    if (!positionAsKey && !keyNull) {
       ensureGreaterThanOrEqual("key", key, 0);
     }
 
@@ -171,6 +179,9 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
     eventBuffer.putLong(eventBufferOffset, positionAsKey ? POSITION_AS_KEY : key);
     eventBufferOffset += SIZE_OF_LONG;
 
+    eventBuffer.putLong(eventBufferOffset, sourceEventPosition);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, metadataLength);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -191,6 +202,71 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
     return this;
   }
 
+  @Override
+  public boolean canWriteAdditionalEvent(int length) {
+    final int batchLength = eventLength + length + ((eventCount + 1) * HEADER_BLOCK_LENGTH);
+    return batchLength < logWriteBuffer.getMaxFrameLength();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return eventCount == 0;
+  }
+
+  @Override
+  public int getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * Adds all log entries of this batch to the given batch, without writing them. The log entries
+   * keep their keys but get the producer id and the source event of the given batch.
+   *
+   * @return true if the log entries are added, or false if they don't fit into the given batch
+   */
+  public boolean addEventsTo(LogStreamBatchWriter batchWriter) {
+    // all entries together must fit, the length of the first entry is already covered
+    if (eventCount > 0
+        && !batchWriter.canWriteAdditionalEvent(
+            eventLength + (eventCount - 1) * HEADER_BLOCK_LENGTH)) {
+      return false;
+    }
+
+    int offset = 0;
+    for (int i = 0; i < eventCount; i++) {
+      final long key = eventBuffer.getLong(offset);
+      offset += SIZE_OF_LONG;
+
+      // source event position
+      offset += SIZE_OF_LONG;
+
+      final int metadataLength = eventBuffer.getInt(offset);
+      offset += SIZE_OF_INT;
+
+      final int valueLength = eventBuffer.getInt(offset);
+      offset += SIZE_OF_INT;
+
+      final LogEntryBuilder entryBuilder = batchWriter.event();
+      if (key == POSITION_AS_KEY) {
+        entryBuilder.positionAsKey();
+      } else if (key == KEY_NULL_VALUE) {
+        entryBuilder.keyNull();
+      } else {
+        entryBuilder.key(key);
+      }
+
+      if (metadataLength > 0) {
+        entryBuilder.metadata(eventBuffer, offset, metadataLength);
+        offset += metadataLength;
+      }
+
+      entryBuilder.value(eventBuffer, offset, valueLength).done();
+      offset += valueLength;
+    }
+
+    return true;
+  }
+
   @Override
   public long tryWrite() {
     ensureGreaterThan("event count", eventCount, 0);
@@ -231,6 +307,9 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
       final long key = eventBuffer.getLong(eventBufferOffset);
       eventBufferOffset += SIZE_OF_LONG;
 
+      final long sourceEventPosition = eventBuffer.getLong(eventBufferOffset);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int metadataLength = eventBuffer.getInt(eventBufferOffset);
       eventBufferOffset += SIZE_OF_INT;
 
@@ -283,6 +362,7 @@ public class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryB
 
   private void resetEvent() {
     positionAsKey = false;
+    keyNull = false;
     key = -1L;
 
     metadataWriter = metadataWriterInstance;
@@ -15,6 +15,7 @@
  */
 package io.zeebe.logstreams.processor;
 
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 
 /** Process an event from a log stream. An implementation may be specified for one type of event. */
@@ -51,6 +52,20 @@ public interface EventProcessor {
     return 0;
   }
 
+  /**
+   * (Optional) Add the events that are caused by the processed event to the given batch, instead of
+   * writing them to the log stream. Used by the controller if events of multiple processed events
+   * are written together. The producer id and the source event are already set on the batch.
+   *
+   * @param batchWriter the batch which is written to the target log stream by the controller.
+   * @return <code>true</code>, if the events are added to the batch or no event needs to be
+   *     written. <code>false</code>, if the events can't be added to the batch. Then, the
+   *     controller writes the batch and calls {@link #writeEvent(LogStreamRecordWriter)} instead.
+   */
+  default boolean addEvents(LogStreamBatchWriter batchWriter) {
+    return false;
+  }
+
   /** (Optional) Update the internal state of the processor based on the processed event. */
   default void updateState() {
     // do nothing
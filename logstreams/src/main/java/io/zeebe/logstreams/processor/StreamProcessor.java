@@ -39,6 +39,18 @@ public interface StreamProcessor {
     return null;
   }
 
+  /**
+   * Returns the lowest position of the log stream which is still required by the processor, in
+   * addition to the position of its latest snapshot. The log stream may be deleted up to the lowest
+   * position which is required by all processors.
+   *
+   * @return the lowest required position, or {@link Long#MAX_VALUE} if the processor only requires
+   *     the position of its latest snapshot
+   */
+  default long getLowestRequiredPosition() {
+    return Long.MAX_VALUE;
+  }
+
   /**
    * Returns a specific processor to process the event which is read from the log stream, if
    * available.
@@ -15,12 +15,15 @@
  */
 package io.zeebe.logstreams.processor;
 
+import static io.zeebe.util.EnsureUtil.ensureGreaterThan;
+
 import io.zeebe.logstreams.impl.service.LogStreamServiceNames;
 import io.zeebe.logstreams.impl.service.StreamProcessorService;
 import io.zeebe.logstreams.impl.snapshot.fs.FsSnapshotController;
 import io.zeebe.logstreams.log.BufferedLogStreamReader;
 import io.zeebe.logstreams.log.DisabledLogStreamWriter;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriterImpl;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LogStreamWriterImpl;
@@ -56,6 +59,8 @@ public class StreamProcessorBuilder {
 
   protected boolean readOnly;
 
+  protected int processingBatchSize = 1;
+
   protected ServiceContainer serviceContainer;
   private List<ServiceName<?>> additionalDependencies;
 
@@ -107,6 +112,16 @@ public class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * @param processingBatchSize the maximum number of events which are processed before the written
+   *     events are flushed together to the log stream. If 1, the written events of each processed
+   *     event are flushed before the next event is processed.
+   */
+  public StreamProcessorBuilder processingBatchSize(int processingBatchSize) {
+    this.processingBatchSize = processingBatchSize;
+    return this;
+  }
+
   public StreamProcessorBuilder serviceContainer(ServiceContainer serviceContainer) {
     this.serviceContainer = serviceContainer;
     return this;
@@ -130,7 +145,8 @@ public class StreamProcessorBuilder {
             .dependency(LogStreamServiceNames.logStreamServiceName(logName))
             .dependency(LogStreamServiceNames.logWriteBufferServiceName(logName))
             .dependency(LogStreamServiceNames.logStorageServiceName(logName))
-            .dependency(LogStreamServiceNames.logBlockIndexServiceName(logName));
+            .dependency(LogStreamServiceNames.logBlockIndexServiceName(logName))
+            .group(LogStreamServiceNames.streamProcessorGroupName(logName));
 
     if (additionalDependencies != null) {
       additionalDependencies.forEach((d) -> serviceBuilder.dependency(d));
@@ -144,6 +160,7 @@ public class StreamProcessorBuilder {
     Objects.requireNonNull(logStream, "No log stream provided.");
     Objects.requireNonNull(actorScheduler, "No task scheduler provided.");
     Objects.requireNonNull(serviceContainer, "No service container provided.");
+    ensureGreaterThan("processing batch size", processingBatchSize, 0);
 
     // TODO: collapse once we get rid of snapshot storage
     if (snapshotStorage == null) {
@@ -187,6 +204,11 @@ public class StreamProcessorBuilder {
     }
     ctx.setLogStreamWriter(logStreamWriter);
 
+    if (!readOnly && processingBatchSize > 1) {
+      ctx.setProcessingBatchSize(processingBatchSize);
+      ctx.setLogStreamBatchWriter(new LogStreamBatchWriterImpl());
+    }
+
     return ctx;
   }
 }
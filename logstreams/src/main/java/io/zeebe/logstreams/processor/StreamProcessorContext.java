@@ -16,6 +16,7 @@
 package io.zeebe.logstreams.processor;
 
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.spi.SnapshotController;
@@ -34,6 +35,8 @@ public class StreamProcessorContext {
 
   protected LogStreamReader logStreamReader;
   protected LogStreamRecordWriter logStreamWriter;
+  protected LogStreamBatchWriter logStreamBatchWriter;
+  protected int processingBatchSize = 1;
 
   protected Duration snapshotPeriod;
   protected SnapshotController snapshotController;
@@ -102,6 +105,22 @@ public class StreamProcessorContext {
     this.logStreamWriter = logStreamWriter;
   }
 
+  public LogStreamBatchWriter getLogStreamBatchWriter() {
+    return logStreamBatchWriter;
+  }
+
+  public void setLogStreamBatchWriter(LogStreamBatchWriter logStreamBatchWriter) {
+    this.logStreamBatchWriter = logStreamBatchWriter;
+  }
+
+  public int getProcessingBatchSize() {
+    return processingBatchSize;
+  }
+
+  public void setProcessingBatchSize(int processingBatchSize) {
+    this.processingBatchSize = processingBatchSize;
+  }
+
   public Duration getSnapshotPeriod() {
     return snapshotPeriod;
   }
@@ -17,6 +17,7 @@ package io.zeebe.logstreams.processor;
 
 import io.zeebe.logstreams.impl.Loggers;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.log.LoggedEvent;
@@ -48,12 +49,17 @@ public class StreamProcessorController extends Actor {
   private static final String ERROR_MESSAGE_PROCESSING_FAILED =
       "Stream processor '{}' failed to process event. It stop processing further events.";
 
+  /** max number of events which are reprocessed in one actor job before yielding */
+  private static final int REPROCESSING_BATCH_SIZE = 1_000;
+
   private final StreamProcessor streamProcessor;
   private final StreamProcessorContext streamProcessorContext;
   private final SnapshotController snapshotController;
 
   private final LogStreamReader logStreamReader;
   private final LogStreamRecordWriter logStreamWriter;
+  private final LogStreamBatchWriter logStreamBatchWriter;
+  private final int processingBatchSize;
 
   private final Duration snapshotPeriod;
 
@@ -66,11 +72,13 @@ public class StreamProcessorController extends Actor {
 
   private final Runnable readNextEvent = this::readNextEvent;
 
-  private long snapshotPosition = -1L;
+  private volatile long snapshotPosition = -1L;
   private long lastSourceEventPosition = -1L;
   private long eventPosition = -1L;
   private long lastSuccessfulProcessedEventPosition = -1L;
   private long lastWrittenEventPosition = -1L;
+  // number of processed events whose written events are not flushed yet
+  private int batchedEventCount = 0;
 
   private LoggedEvent currentEvent;
   private EventProcessor eventProcessor;
@@ -91,6 +99,8 @@ public class StreamProcessorController extends Actor {
     this.streamProcessor = context.getStreamProcessor();
     this.logStreamReader = context.getLogStreamReader();
     this.logStreamWriter = context.getLogStreamWriter();
+    this.logStreamBatchWriter = context.getLogStreamBatchWriter();
+    this.processingBatchSize = context.getProcessingBatchSize();
     this.snapshotController = context.getSnapshotController();
     this.snapshotPeriod = context.getSnapshotPeriod();
     this.eventFilter = context.getEventFilter();
@@ -102,6 +112,23 @@ public class StreamProcessorController extends Actor {
     return streamProcessorContext.getName();
   }
 
+  /**
+   * Returns the lowest position which must be retained in the log stream to recover the processor.
+   * Can be called concurrently to the processing.
+   *
+   * @return the lowest position to retain, or -1 if the processor has no snapshot and must be
+   *     recovered from the complete log stream
+   */
+  public long getLowestRequiredPosition() {
+    final long position = snapshotPosition;
+
+    if (position < 0) {
+      return -1L;
+    } else {
+      return Math.min(position, streamProcessor.getLowestRequiredPosition());
+    }
+  }
+
   public ActorFuture<Void> openAsync() {
     if (isOpened.compareAndSet(false, true)) {
       return actorScheduler.submitActor(this, true);
@@ -124,6 +151,9 @@ public class StreamProcessorController extends Actor {
 
     logStreamReader.wrap(logStream);
     logStreamWriter.wrap(logStream);
+    if (logStreamBatchWriter != null) {
+      logStreamBatchWriter.wrap(logStream);
+    }
 
     try {
       snapshotPosition = recoverFromSnapshot(logStream.getCommitPosition(), logStream.getTerm());
@@ -156,6 +186,8 @@ public class StreamProcessorController extends Actor {
 
     logStreamReader.seekToFirstEvent(); // reset seek position
     if (!recovered.isInitial()) {
+      lastWrittenEventPosition = recovered.getLastWrittenEventPosition();
+
       final boolean found = logStreamReader.seek(snapshotPosition);
       if (found && logStreamReader.hasNext()) {
         logStreamReader.seek(snapshotPosition + 1);
@@ -187,6 +219,13 @@ public class StreamProcessorController extends Actor {
 
     if (!isReadOnlyProcessor && logStreamReader.hasNext()) {
       lastSourceEventPosition = snapshotPosition;
+
+      // events up to the last written position of the snapshot are caused by events which are
+      // already part of the snapshot - skip them
+      if (lastWrittenEventPosition > snapshotPosition) {
+        logStreamReader.seek(lastWrittenEventPosition + 1);
+      }
+
       while (logStreamReader.hasNext()) {
         final LoggedEvent newEvent = logStreamReader.next();
 
@@ -208,7 +247,14 @@ public class StreamProcessorController extends Actor {
 
   private void reprocessNextEvent() {
     try {
-      if (logStreamReader.hasNext()) {
+      // reprocess a chunk of events in one job to avoid scheduling each event separately
+      for (int i = 0; i < REPROCESSING_BATCH_SIZE; i++) {
+        if (!logStreamReader.hasNext()) {
+          throw new IllegalStateException(
+              String.format(
+                  ERROR_MESSAGE_REPROCESSING_NO_SOURCE_EVENT, getName(), lastSourceEventPosition));
+        }
+
         currentEvent = logStreamReader.next();
         if (currentEvent.getPosition() > lastSourceEventPosition) {
           throw new IllegalStateException(
@@ -217,11 +263,14 @@ public class StreamProcessorController extends Actor {
         }
 
         reprocessEvent(currentEvent);
-      } else {
-        throw new IllegalStateException(
-            String.format(
-                ERROR_MESSAGE_REPROCESSING_NO_SOURCE_EVENT, getName(), lastSourceEventPosition));
+
+        if (currentEvent.getPosition() == lastSourceEventPosition) {
+          onRecovered();
+          return;
+        }
       }
+
+      actor.submit(this::reprocessNextEvent);
     } catch (final RuntimeException e) {
       onFailure();
       throw e;
@@ -237,24 +286,11 @@ public class StreamProcessorController extends Actor {
           // don't execute side effects or write events
           eventProcessor.processEvent();
           eventProcessor.updateState();
-          onRecordReprocessed(currentEvent);
-        } else {
-          onRecordReprocessed(currentEvent);
         }
       } catch (final Exception e) {
         throw new RuntimeException(
             String.format(ERROR_MESSAGE_REPROCESSING_FAILED, getName(), currentEvent), e);
       }
-    } else {
-      onRecordReprocessed(currentEvent);
-    }
-  }
-
-  private void onRecordReprocessed(final LoggedEvent currentEvent) {
-    if (currentEvent.getPosition() == lastSourceEventPosition) {
-      onRecovered();
-    } else {
-      actor.submit(this::reprocessNextEvent);
     }
   }
 
@@ -274,16 +310,21 @@ public class StreamProcessorController extends Actor {
   }
 
   private void readNextEvent() {
-    if (isOpened() && !isSuspended() && logStreamReader.hasNext() && eventProcessor == null) {
-      currentEvent = logStreamReader.next();
+    if (isOpened() && eventProcessor == null) {
+      if (!isSuspended() && logStreamReader.hasNext()) {
+        currentEvent = logStreamReader.next();
 
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        processEvent(currentEvent);
-      } else {
-        // continue with the next event
-        actor.submit(readNextEvent);
+        if (eventFilter == null || eventFilter.applies(currentEvent)) {
+          processEvent(currentEvent);
+        } else {
+          // continue with the next event
+          actor.submit(readNextEvent);
 
-        metrics.incrementEventsSkippedCount();
+          metrics.incrementEventsSkippedCount();
+        }
+      } else if (batchedEventCount > 0) {
+        // no more events to process at the moment - write the events of the batch
+        actor.runUntilDone(this::writeBatch);
       }
     }
   }
@@ -315,7 +356,11 @@ public class StreamProcessorController extends Actor {
       if (success) {
         actor.done();
 
-        actor.runUntilDone(this::writeEvent);
+        if (logStreamBatchWriter != null && addEventsToBatch()) {
+          updateState();
+        } else {
+          actor.runUntilDone(this::writeEvent);
+        }
       } else if (isOpened()) {
         // try again
         actor.yield();
@@ -330,8 +375,75 @@ public class StreamProcessorController extends Actor {
     }
   }
 
+  private boolean addEventsToBatch() {
+    logStreamBatchWriter
+        .producerId(streamProcessorContext.getId())
+        .sourceRecordPosition(currentEvent.getPosition());
+
+    final int eventCount = logStreamBatchWriter.getEventCount();
+
+    final boolean added = eventProcessor.addEvents(logStreamBatchWriter);
+    if (added) {
+      eventPosition = 0;
+
+      // the processor may not have any event to write
+      if (logStreamBatchWriter.getEventCount() > eventCount) {
+        batchedEventCount += 1;
+
+        metrics.incrementEventsWrittenCount();
+      }
+    }
+    return added;
+  }
+
+  private void writeBatch() {
+    try {
+      if (tryWriteBatch()) {
+        actor.done();
+
+        // continue with next event
+        actor.submit(readNextEvent);
+      } else if (isOpened()) {
+        // try again
+        actor.yield();
+      } else {
+        actor.done();
+      }
+    } catch (final Exception e) {
+      actor.done();
+
+      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED, getName(), e);
+      onFailure();
+    }
+  }
+
+  /** @return true, if the events of the batch are written or the batch is empty */
+  private boolean tryWriteBatch() {
+    if (batchedEventCount > 0 && !logStreamBatchWriter.isEmpty()) {
+      final long position = logStreamBatchWriter.tryWrite();
+      if (position < 0) {
+        return false;
+      }
+
+      lastWrittenEventPosition = position;
+    }
+
+    batchedEventCount = 0;
+    return true;
+  }
+
   private void writeEvent() {
     try {
+      // the events of the previous processed events must be written first
+      if (!tryWriteBatch()) {
+        if (isOpened()) {
+          actor.yield();
+        } else {
+          actor.done();
+        }
+        return;
+      }
+
       logStreamWriter
           .producerId(streamProcessorContext.getId())
           .sourceRecordPosition(currentEvent.getPosition());
@@ -369,9 +481,14 @@ public class StreamProcessorController extends Actor {
         lastWrittenEventPosition = eventPosition;
       }
 
-      // continue with next event
       eventProcessor = null;
-      actor.submit(readNextEvent);
+
+      if (batchedEventCount >= processingBatchSize) {
+        actor.runUntilDone(this::writeBatch);
+      } else {
+        // continue with next event
+        actor.submit(readNextEvent);
+      }
     } catch (final Exception e) {
       LOG.error(ERROR_MESSAGE_PROCESSING_FAILED, getName(), e);
       onFailure();
@@ -389,7 +506,11 @@ public class StreamProcessorController extends Actor {
   }
 
   private void doCreateSnapshot() {
-    if (currentEvent != null) {
+    // the state must not contain changes whose events are not written yet
+    final boolean isBatchWritten = tryWriteBatch();
+    if (!isBatchWritten) {
+      LOG.debug("Stream processor '{}' skips snapshot. Failed to write pending events.", getName());
+    } else if (currentEvent != null) {
       final long commitPosition = streamProcessorContext.getLogStream().getCommitPosition();
       final long lastWrittenPosition =
           lastWrittenEventPosition > lastSuccessfulProcessedEventPosition
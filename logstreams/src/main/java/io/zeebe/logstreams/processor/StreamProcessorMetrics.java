@@ -15,6 +15,7 @@
  */
 package io.zeebe.logstreams.processor;
 
+import io.zeebe.util.metrics.Histogram;
 import io.zeebe.util.metrics.Metric;
 import io.zeebe.util.metrics.MetricsManager;
 
@@ -24,6 +25,7 @@ public class StreamProcessorMetrics {
   private final Metric eventsSkippedCountMetric;
   private final Metric snapshotSizeMetric;
   private final Metric snapshotTimeMillisMetric;
+  private final Histogram snapshotDurationHistogram;
 
   public StreamProcessorMetrics(
       final MetricsManager metricsManager, final String processorName, final String partitionId) {
@@ -69,6 +71,15 @@ public class StreamProcessorMetrics {
             .label("processor", processorName)
             .label("partition", partitionId)
             .create();
+
+    snapshotDurationHistogram =
+        metricsManager
+            .newHistogram("streamprocessor_snapshot_duration_millis")
+            .description("Time to create a snapshot")
+            .buckets(Histogram.exponentialBuckets(1, 2, 16))
+            .label("processor", processorName)
+            .label("partition", partitionId)
+            .create();
   }
 
   public void close() {
@@ -77,6 +88,7 @@ public class StreamProcessorMetrics {
     eventsWrittenCountMetric.close();
     snapshotTimeMillisMetric.close();
     snapshotSizeMetric.close();
+    snapshotDurationHistogram.close();
   }
 
   public void incrementEventsProcessedCount() {
@@ -97,5 +109,6 @@ public class StreamProcessorMetrics {
 
   public void recordSnapshotCreationTime(final long creationTime) {
     snapshotTimeMillisMetric.setOrdered(creationTime);
+    snapshotDurationHistogram.record(creationTime);
   }
 }
@@ -16,7 +16,6 @@
 package io.zeebe.logstreams.rocksdb;
 
 import static io.zeebe.logstreams.rocksdb.ZeebeStateConstants.STATE_BYTE_ORDER;
-import static io.zeebe.util.buffer.BufferUtil.startsWith;
 
 import io.zeebe.util.EnsureUtil;
 import io.zeebe.util.buffer.BufferUtil;
@@ -246,32 +245,59 @@ public class ZbRocksDb extends RocksDB {
   }
 
   /**
-   * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on iterators
-   * at the moment, so using prefixes seem to be mostly related to skipping files that do not
-   * contain keys with the given prefix (which is useful anyway), but it will still iterate over all
-   * keys contained in those files, so we still need to make sure the key actually matches the
-   * prefix. Or I misunderstood how to do it, which is equally as likely.
+   * Iterates over all keys which start with the given prefix, in the order of the keys. As no
+   * prefix extractor is configured, seek(prefix) only positions the cursor to the first key which
+   * is equal or greater than the prefix. Since the keys are sorted, the iteration stops at the
+   * first key which doesn't match the prefix.
    *
-   * <p>My understanding is seek(prefix) simply positions the cursor to the first key (allowing to
-   * skip previous keys), but while iterating over subsequent keys we have to validate it.
+   * <p>A new entry is passed to the callback for each key. The value of an entry is read from the
+   * database only when {@link ZbRocksEntry#getValue()} is called inside the callback.
    */
   public void forEachPrefixed(
       ColumnFamilyHandle columnFamily, DirectBuffer prefix, IteratorCallback callback) {
-    try (ReadOptions options =
-            new ReadOptions().setPrefixSameAsStart(true).setTotalOrderSeek(false);
+    // clone buffer to not interfere when keyBuffer is reused inside callback
+    final DirectBuffer clonedPrefix = BufferUtil.cloneBuffer(prefix);
+    forEachPrefixed(
+        columnFamily, clonedPrefix.byteArray(), clonedPrefix.capacity(), callback, false);
+  }
+
+  /**
+   * Same as {@link #forEachPrefixed(ColumnFamilyHandle, DirectBuffer, IteratorCallback)}, but
+   * doesn't copy the prefix. The caller must not modify the prefix bytes inside the callback. The
+   * entry which is passed to the callback, and the buffers of its key and value, are reused for all
+   * keys of the iteration.
+   */
+  public void forEachPrefixed(
+      ColumnFamilyHandle columnFamily, byte[] prefix, int prefixLength, IteratorCallback callback) {
+    forEachPrefixed(columnFamily, prefix, prefixLength, callback, true);
+  }
+
+  private void forEachPrefixed(
+      final ColumnFamilyHandle columnFamily,
+      final byte[] prefix,
+      final int prefixLength,
+      final IteratorCallback callback,
+      final boolean reuseEntry) {
+    try (ReadOptions options = new ReadOptions().setTotalOrderSeek(true);
         ZbRocksIterator iterator = newIterator(columnFamily, options)) {
       final IteratorControl control = new IteratorControl();
-      // clone buffer to not interfere when keyBuffer is reused inside callback
-      prefix = BufferUtil.cloneBuffer(prefix);
+      IteratorEntry entry = new IteratorEntry(iterator);
+
+      for (iterator.seek(prefix, prefixLength); iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (!startsWith(key, prefix, prefixLength)) {
+          // all following keys are greater, so none of them can match the prefix
+          break;
+        }
 
-      for (iterator.seek(prefix); iterator.isValid(); iterator.next()) {
-        if (startsWith(iterator.keyBuffer(), prefix)) {
-          final ZbRocksEntry entry = new ZbRocksEntry(iterator.keyBuffer(), iterator.valueBuffer());
-          callback.accept(entry, control);
+        if (!reuseEntry) {
+          entry = new IteratorEntry(iterator);
+        }
 
-          if (control.shouldStop()) {
-            break;
-          }
+        callback.accept(entry.wrap(key), control);
+
+        if (control.shouldStop()) {
+          break;
         }
       }
     }
@@ -323,6 +349,21 @@ public class ZbRocksDb extends RocksDB {
         iteratorCF(nativeHandle_, getNativeHandle(columnFamily), getNativeHandle(readOptions)));
   }
 
+  private static boolean startsWith(
+      final byte[] key, final byte[] prefix, final int prefixLength) {
+    if (key.length < prefixLength) {
+      return false;
+    }
+
+    for (int i = 0; i < prefixLength; i++) {
+      if (key[i] != prefix[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   private void setKey(final long key) {
     longKeyBuffer.putLong(0, key, STATE_BYTE_ORDER);
   }
@@ -335,6 +376,45 @@ public class ZbRocksDb extends RocksDB {
     }
   }
 
+  /** Entry of the current iterator position which reads the value only on demand. */
+  private static final class IteratorEntry extends ZbRocksEntry {
+    private final ZbRocksIterator iterator;
+    private final UnsafeBuffer keyBuffer = new UnsafeBuffer(0, 0);
+    private final UnsafeBuffer valueBuffer = new UnsafeBuffer(0, 0);
+    private boolean isValueRead;
+
+    IteratorEntry(final ZbRocksIterator iterator) {
+      this.iterator = iterator;
+    }
+
+    IteratorEntry wrap(final byte[] key) {
+      keyBuffer.wrap(key);
+      isValueRead = false;
+      return this;
+    }
+
+    @Override
+    public DirectBuffer getKey() {
+      return keyBuffer;
+    }
+
+    @Override
+    public DirectBuffer getValue() {
+      if (!isValueRead) {
+        valueBuffer.wrap(iterator.value());
+        isValueRead = true;
+      }
+      return valueBuffer;
+    }
+
+    @Override
+    public DirectBuffer setValue(final DirectBuffer value) {
+      valueBuffer.wrap(value);
+      isValueRead = true;
+      return valueBuffer;
+    }
+  }
+
   @FunctionalInterface
   public interface IteratorCallback extends BiConsumer<ZbRocksEntry, IteratorControl> {}
 
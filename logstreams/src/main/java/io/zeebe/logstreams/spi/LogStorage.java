@@ -71,6 +71,18 @@ public interface LogStorage {
    */
   void truncate(long address);
 
+  /**
+   * Deletes the log storage up to the given address. Implementations may only delete complete units
+   * of storage (e.g. segments) which end before the given address, therefore the block at the given
+   * address and all following blocks are always retained.
+   *
+   * <p>This method is invoked concurrently to the append operation and to consumer threads which
+   * read the log. The caller must guarantee that no consumer reads below the given address anymore.
+   *
+   * @param address the address up to which the log can be deleted
+   */
+  void delete(long address);
+
   /**
    * Naive implementation of the {@link #read(ByteBuffer, long, ReadResultProcessor)} method. Does
    * not process the bytes which are read.
@@ -19,11 +19,13 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
+import org.rocksdb.WriteOptions;
 
 public class RocksDbInternal {
 
   static Field columnFamilyHandle;
   static Field rocksDbNativeHandle;
+  static Field writeOptionsNativeHandle;
 
   static Method putMethod;
   static Method putWithHandle;
@@ -63,6 +65,9 @@ public class RocksDbInternal {
 
     rocksDbNativeHandle = RocksDB.class.getSuperclass().getDeclaredField("nativeHandle_");
     rocksDbNativeHandle.setAccessible(true);
+
+    writeOptionsNativeHandle = WriteOptions.class.getSuperclass().getDeclaredField("nativeHandle_");
+    writeOptionsNativeHandle.setAccessible(true);
   }
 
   private static void putMethod() throws NoSuchMethodException {
@@ -70,6 +75,7 @@ public class RocksDbInternal {
         RocksDB.class.getDeclaredMethod(
             "put",
             Long.TYPE,
+            Long.TYPE,
             byte[].class,
             Integer.TYPE,
             Integer.TYPE,
@@ -84,6 +90,7 @@ public class RocksDbInternal {
         RocksDB.class.getDeclaredMethod(
             "put",
             Long.TYPE,
+            Long.TYPE,
             byte[].class,
             Integer.TYPE,
             Integer.TYPE,
@@ -126,14 +133,14 @@ public class RocksDbInternal {
   private static void removeMethod() throws NoSuchMethodException {
     removeMethod =
         RocksDB.class.getDeclaredMethod(
-            "delete", Long.TYPE, byte[].class, Integer.TYPE, Integer.TYPE);
+            "delete", Long.TYPE, Long.TYPE, byte[].class, Integer.TYPE, Integer.TYPE);
     removeMethod.setAccessible(true);
   }
 
   private static void removeWithHandle() throws NoSuchMethodException {
     removeWithHandle =
         RocksDB.class.getDeclaredMethod(
-            "delete", Long.TYPE, byte[].class, Integer.TYPE, Integer.TYPE, Long.TYPE);
+            "delete", Long.TYPE, Long.TYPE, byte[].class, Integer.TYPE, Integer.TYPE, Long.TYPE);
     removeWithHandle.setAccessible(true);
   }
 }
@@ -18,6 +18,7 @@ package io.zeebe.logstreams.state;
 import static io.zeebe.logstreams.rocksdb.ZeebeStateConstants.STATE_BYTE_ORDER;
 
 import io.zeebe.logstreams.impl.Loggers;
+import io.zeebe.logstreams.rocksdb.ZbWriteBatch;
 import io.zeebe.util.ByteValue;
 import io.zeebe.util.LangUtil;
 import io.zeebe.util.buffer.BufferWriter;
@@ -43,13 +44,14 @@ import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 import org.rocksdb.Env;
 import org.rocksdb.Filter;
-import org.rocksdb.MemTableConfig;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.SkipListMemTableConfig;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
 /**
@@ -80,6 +82,12 @@ public class StateController implements AutoCloseable {
 
   private long nativeHandle_;
 
+  private StateResources resources;
+
+  private WriteOptions writeOptions;
+  private long writeOptionsHandle;
+  private ZbWriteBatch writeBatch;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -94,6 +102,7 @@ public class StateController implements AutoCloseable {
                 .setErrorIfExists(!reopen)
                 .setCreateIfMissing(!reopen);
         closeables.add(options);
+        createWriteResources();
         db = openDb(options);
         closeables.add(db);
         isOpened = true;
@@ -110,6 +119,20 @@ public class StateController implements AutoCloseable {
     return db;
   }
 
+  /**
+   * The write-ahead log is disabled for all writes: the log stream is the source of truth, the
+   * runtime database is always recovered from a snapshot (whose checkpoint flushes the memtables)
+   * and the remaining events are reprocessed.
+   */
+  private void createWriteResources() throws IllegalAccessException {
+    writeOptions = new WriteOptions().setDisableWAL(true);
+    closeables.add(writeOptions);
+    writeOptionsHandle = (long) RocksDbInternal.writeOptionsNativeHandle.get(writeOptions);
+
+    writeBatch = new ZbWriteBatch();
+    closeables.add(writeBatch);
+  }
+
   protected RocksDB openDb(final Options options) throws RocksDBException {
     return RocksDB.open(options, dbDirectory.getAbsolutePath());
   }
@@ -124,14 +147,20 @@ public class StateController implements AutoCloseable {
 
         this.dbDirectory = dbDirectory;
 
+        // column families which were added after the snapshot was taken are created on reopen
         final DBOptions dbOptions =
             new DBOptions()
                 .setEnv(getDbEnv())
-                .setCreateMissingColumnFamilies(!reopen)
+                .setCreateMissingColumnFamilies(true)
                 .setErrorIfExists(!reopen)
                 .setCreateIfMissing(!reopen);
 
+        if (resources != null) {
+          dbOptions.setStatistics(resources.getStatistics());
+        }
+
         closeables.add(dbOptions);
+        createWriteResources();
         db = openDb(dbOptions);
         closeables.add(db);
         isOpened = true;
@@ -184,52 +213,73 @@ public class StateController implements AutoCloseable {
   }
 
   protected Options createOptions() {
-    final Filter filter = new BloomFilter();
-    closeables.add(filter);
-
-    final Cache cache = new ClockCache(ByteValue.ofMegabytes(16).toBytes(), 10);
-    closeables.add(cache);
-
-    final TableFormatConfig sstTableConfig =
-        new BlockBasedTableConfig()
-            .setBlockCache(cache)
-            .setBlockSize(ByteValue.ofKilobytes(16).toBytes())
-            .setChecksumType(ChecksumType.kCRC32c)
-            .setFilter(filter);
-    final MemTableConfig memTableConfig = new SkipListMemTableConfig();
+    final Options options =
+        new Options()
+            .setEnv(getDbEnv())
+            .setWriteBufferSize(getWriteBufferSize())
+            .setMemTableConfig(new SkipListMemTableConfig())
+            .setTableFormatConfig(createTableFormatConfig());
+
+    if (resources != null) {
+      options.setStatistics(resources.getStatistics());
+    }
 
-    return new Options()
-        .setEnv(getDbEnv())
-        .setWriteBufferSize(ByteValue.ofMegabytes(64).toBytes())
-        .setMemTableConfig(memTableConfig)
-        .setTableFormatConfig(sstTableConfig);
+    return options;
   }
 
   protected ColumnFamilyOptions createColumnFamilyOptions() {
-    final Filter filter = new BloomFilter();
-    closeables.add(filter);
-
-    final Cache cache = new ClockCache(ByteValue.ofMegabytes(16).toBytes(), 10);
-    closeables.add(cache);
-
-    final TableFormatConfig sstTableConfig =
-        new BlockBasedTableConfig()
-            .setBlockCache(cache)
-            .setBlockSize(ByteValue.ofKilobytes(16).toBytes())
-            .setChecksumType(ChecksumType.kCRC32c)
-            .setFilter(filter);
-    final MemTableConfig memTableConfig = new SkipListMemTableConfig();
-
     final ColumnFamilyOptions columnFamilyOptions =
         new ColumnFamilyOptions()
             .optimizeUniversalStyleCompaction()
-            .setWriteBufferSize(ByteValue.ofMegabytes(64).toBytes())
-            .setMemTableConfig(memTableConfig)
-            .setTableFormatConfig(sstTableConfig);
+            .setWriteBufferSize(getWriteBufferSize())
+            .setMemTableConfig(new SkipListMemTableConfig())
+            .setTableFormatConfig(createTableFormatConfig());
     closeables.add(columnFamilyOptions);
     return columnFamilyOptions;
   }
 
+  protected TableFormatConfig createTableFormatConfig() {
+    final Cache cache;
+    final Filter filter;
+
+    if (resources != null) {
+      cache = resources.getBlockCache();
+      filter = resources.getFilter();
+    } else {
+      cache = new ClockCache(ByteValue.ofMegabytes(16).toBytes(), 10);
+      closeables.add(cache);
+
+      filter = new BloomFilter();
+      closeables.add(filter);
+    }
+
+    return new BlockBasedTableConfig()
+        .setBlockCache(cache)
+        .setBlockSize(ByteValue.ofKilobytes(16).toBytes())
+        .setChecksumType(ChecksumType.kCRC32c)
+        .setFilter(filter);
+  }
+
+  protected long getWriteBufferSize() {
+    if (resources != null) {
+      return resources.getWriteBufferSize();
+    } else {
+      return StateResources.DEFAULT_WRITE_BUFFER_SIZE;
+    }
+  }
+
+  /**
+   * Sets the resources (e.g. block cache) which are shared with other state controllers. Must be
+   * set before the database is opened; if not set, the controller allocates its own resources.
+   */
+  public void setResources(final StateResources resources) {
+    this.resources = resources;
+  }
+
+  public StateResources getResources() {
+    return resources;
+  }
+
   protected Env getDbEnv() {
     return Env.getDefault();
   }
@@ -280,6 +330,32 @@ public class StateController implements AutoCloseable {
     return db;
   }
 
+  public WriteOptions getWriteOptions() {
+    return writeOptions;
+  }
+
+  /**
+   * @return a batch which is reused for all writes of this controller, to stage multiple changes
+   *     and write them together via {@link #write(WriteBatch)}
+   */
+  public ZbWriteBatch getWriteBatch() {
+    return writeBatch;
+  }
+
+  /**
+   * Writes all changes of the given batch atomically and clears the batch afterwards, so that it
+   * can be reused.
+   */
+  public void write(final WriteBatch batch) {
+    try {
+      db.write(writeOptions, batch);
+    } catch (final RocksDBException e) {
+      LangUtil.rethrowUnchecked(e);
+    } finally {
+      batch.clear();
+    }
+  }
+
   private void setKey(final long key) {
     dbLongBuffer.putLong(0, key, STATE_BYTE_ORDER);
   }
@@ -287,7 +363,7 @@ public class StateController implements AutoCloseable {
   public void put(final long key, final byte[] valueBuffer) {
     setKey(key);
     try {
-      db.put(dbLongBuffer.byteArray(), valueBuffer);
+      db.put(writeOptions, dbLongBuffer.byteArray(), valueBuffer);
     } catch (final RocksDBException e) {
       LangUtil.rethrowUnchecked(e);
     }
@@ -323,6 +399,7 @@ public class StateController implements AutoCloseable {
       RocksDbInternal.putWithHandle.invoke(
           db,
           nativeHandle_,
+          writeOptionsHandle,
           key,
           keyOffset,
           keyLength,
@@ -350,7 +427,15 @@ public class StateController implements AutoCloseable {
       final int valueLength) {
     try {
       RocksDbInternal.putMethod.invoke(
-          db, nativeHandle_, key, keyOffset, keyLength, value, valueOffset, valueLength);
+          db,
+          nativeHandle_,
+          writeOptionsHandle,
+          key,
+          keyOffset,
+          keyLength,
+          value,
+          valueOffset,
+          valueLength);
     } catch (final Exception ex) {
       throw new RuntimeException(ex);
     }
@@ -371,7 +456,7 @@ public class StateController implements AutoCloseable {
     valueWriter.write(buffer, 0);
 
     try {
-      db.put(dbLongBuffer.byteArray(), bytes);
+      db.put(writeOptions, dbLongBuffer.byteArray(), bytes);
     } catch (final RocksDBException e) {
       LangUtil.rethrowUnchecked(e);
     }
@@ -379,7 +464,7 @@ public class StateController implements AutoCloseable {
 
   public void put(final byte[] key, final byte[] valueBuffer) {
     try {
-      db.put(key, valueBuffer);
+      db.put(writeOptions, key, valueBuffer);
     } catch (final RocksDBException e) {
       LangUtil.rethrowUnchecked(e);
     }
@@ -388,7 +473,7 @@ public class StateController implements AutoCloseable {
   public void delete(final long key) {
     setKey(key);
     try {
-      db.delete(dbLongBuffer.byteArray());
+      db.delete(writeOptions, dbLongBuffer.byteArray());
     } catch (final RocksDBException e) {
       LangUtil.rethrowUnchecked(e);
     }
@@ -396,7 +481,7 @@ public class StateController implements AutoCloseable {
 
   public void delete(final byte[] key) {
     try {
-      db.delete(key);
+      db.delete(writeOptions, key);
     } catch (final RocksDBException e) {
       LangUtil.rethrowUnchecked(e);
     }
@@ -532,7 +617,8 @@ public class StateController implements AutoCloseable {
 
   public void remove(final byte[] key, final int offset, final int length) {
     try {
-      RocksDbInternal.removeMethod.invoke(db, nativeHandle_, key, offset, length);
+      RocksDbInternal.removeMethod.invoke(
+          db, nativeHandle_, writeOptionsHandle, key, offset, length);
     } catch (final Exception ex) {
       throw new RuntimeException(ex);
     }
@@ -542,7 +628,8 @@ public class StateController implements AutoCloseable {
       final ColumnFamilyHandle handle, final byte[] key, final int offset, final int length) {
     try {
       final long nativeHandle = (long) RocksDbInternal.columnFamilyHandle.get(handle);
-      RocksDbInternal.removeWithHandle.invoke(db, nativeHandle_, key, offset, length, nativeHandle);
+      RocksDbInternal.removeWithHandle.invoke(
+          db, nativeHandle_, writeOptionsHandle, key, offset, length, nativeHandle);
     } catch (final Exception ex) {
       throw new RuntimeException(ex);
     }
@@ -553,7 +640,13 @@ public class StateController implements AutoCloseable {
     try {
       final long nativeHandle = (long) RocksDbInternal.columnFamilyHandle.get(handle);
       RocksDbInternal.removeWithHandle.invoke(
-          db, nativeHandle_, dbLongBuffer.byteArray(), 0, dbLongBuffer.capacity(), nativeHandle);
+          db,
+          nativeHandle_,
+          writeOptionsHandle,
+          dbLongBuffer.byteArray(),
+          0,
+          dbLongBuffer.capacity(),
+          nativeHandle);
     } catch (final Exception ex) {
       throw new RuntimeException(ex);
     }
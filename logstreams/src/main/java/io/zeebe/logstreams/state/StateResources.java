@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.state;
+
+import io.zeebe.util.ByteValue;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.Filter;
+import org.rocksdb.LRUCache;
+import org.rocksdb.RocksDB;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+/**
+ * RocksDB resources which are shared by multiple state controllers, e.g. by the databases of all
+ * stream processors of a broker. Sharing the block cache bounds the memory used for cached blocks,
+ * independent of the number of databases and column families, and lets frequently used databases
+ * use a bigger portion of it.
+ *
+ * <p>The resources must only be closed after all state controllers which use them are closed.
+ */
+public class StateResources implements AutoCloseable {
+  public static final long DEFAULT_BLOCK_CACHE_SIZE = ByteValue.ofMegabytes(512).toBytes();
+  public static final long DEFAULT_WRITE_BUFFER_SIZE = ByteValue.ofMegabytes(64).toBytes();
+
+  private final Cache blockCache;
+  private final Filter filter;
+  private final Statistics statistics;
+  private final long writeBufferSize;
+
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  public StateResources() {
+    this(DEFAULT_BLOCK_CACHE_SIZE, DEFAULT_WRITE_BUFFER_SIZE);
+  }
+
+  /**
+   * @param blockCacheSize the capacity of the shared block cache in bytes
+   * @param writeBufferSize the size of a memtable of a single column family in bytes
+   */
+  public StateResources(final long blockCacheSize, final long writeBufferSize) {
+    this.blockCache = new LRUCache(blockCacheSize);
+    this.filter = new BloomFilter();
+    this.statistics = new Statistics();
+    this.writeBufferSize = writeBufferSize;
+  }
+
+  public Cache getBlockCache() {
+    return blockCache;
+  }
+
+  public Filter getFilter() {
+    return filter;
+  }
+
+  public Statistics getStatistics() {
+    return statistics;
+  }
+
+  public long getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  public long getBlockCacheHits() {
+    return statistics.getTickerCount(TickerType.BLOCK_CACHE_HIT);
+  }
+
+  public long getBlockCacheMisses() {
+    return statistics.getTickerCount(TickerType.BLOCK_CACHE_MISS);
+  }
+
+  @Override
+  public void close() {
+    statistics.close();
+    filter.close();
+    blockCache.close();
+  }
+}
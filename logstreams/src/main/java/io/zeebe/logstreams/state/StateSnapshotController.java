@@ -18,23 +18,37 @@ package io.zeebe.logstreams.state;
 import io.zeebe.logstreams.impl.Loggers;
 import io.zeebe.logstreams.spi.SnapshotController;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 import org.rocksdb.Checkpoint;
-import org.rocksdb.RocksDB;
 import org.slf4j.Logger;
 
-/** Controls how snapshot/recovery operations are performed on a StateController */
+/**
+ * Controls how snapshot/recovery operations are performed on a StateController.
+ *
+ * <p>Snapshots are RocksDB checkpoints which hard link the immutable SST files of the database
+ * instead of copying them. On recovery, the SST files of the snapshot are hard linked into the
+ * runtime directory as well, so that only the small mutable files (e.g. manifest, WAL) are copied.
+ */
 public class StateSnapshotController implements SnapshotController {
   private static final Logger LOG = Loggers.ROCKSDB_LOGGER;
 
+  private static final String SST_FILE_EXTENSION = ".sst";
+
   private final StateController controller;
   private final StateStorage storage;
 
   public StateSnapshotController(final StateController controller, final StateStorage storage) {
     this.controller = controller;
     this.storage = storage;
+
+    if (controller.getResources() == null) {
+      controller.setResources(storage.getResources());
+    }
   }
 
   @Override
@@ -101,14 +115,33 @@ public class StateSnapshotController implements SnapshotController {
     return storage.getSnapshotDirectoryFor(metadata).exists();
   }
 
-  private void copySnapshot(File runtimeDirectory, File snapshotPath) throws Exception {
-    try {
-      final RocksDB snapshotDB = controller.open(snapshotPath, true);
-      try (Checkpoint checkpoint = Checkpoint.create(snapshotDB)) {
-        checkpoint.createCheckpoint(runtimeDirectory.getAbsolutePath());
+  private void copySnapshot(File runtimeDirectory, File snapshotPath) throws IOException {
+    final File[] files = snapshotPath.listFiles();
+    if (files == null) {
+      throw new IOException("Failed to list files of snapshot " + snapshotPath);
+    }
+
+    Files.createDirectories(runtimeDirectory.toPath());
+
+    for (final File file : files) {
+      final Path source = file.toPath();
+      final Path target = runtimeDirectory.toPath().resolve(file.getName());
+
+      if (file.getName().endsWith(SST_FILE_EXTENSION)) {
+        linkOrCopyFile(source, target);
+      } else {
+        Files.copy(source, target);
       }
-    } finally {
-      controller.close();
+    }
+  }
+
+  private void linkOrCopyFile(Path source, Path target) throws IOException {
+    try {
+      // SST files are immutable and can be shared between the snapshot and the runtime database
+      Files.createLink(target, source);
+    } catch (UnsupportedOperationException | IOException e) {
+      LOG.debug("Failed to create link for file {}, copy it instead", source, e);
+      Files.copy(source, target);
     }
   }
 }
@@ -29,10 +29,17 @@ public class StateStorage {
   private static final String SEPARATOR = "_";
   private final File runtimeDirectory;
   private final File snapshotsDirectory;
+  private final StateResources resources;
 
   public StateStorage(final File runtimeDirectory, final File snapshotsDirectory) {
+    this(runtimeDirectory, snapshotsDirectory, null);
+  }
+
+  public StateStorage(
+      final File runtimeDirectory, final File snapshotsDirectory, final StateResources resources) {
     this.runtimeDirectory = runtimeDirectory;
     this.snapshotsDirectory = snapshotsDirectory;
+    this.resources = resources;
   }
 
   public File getRuntimeDirectory() {
@@ -43,6 +50,11 @@ public class StateStorage {
     return snapshotsDirectory;
   }
 
+  /** @return the resources shared by the databases of this storage, or null if there are none */
+  public StateResources getResources() {
+    return resources;
+  }
+
   public File getSnapshotDirectoryFor(final StateSnapshotMetadata metadata) {
     if (metadata == null) {
       throw new NullPointerException();
@@ -16,10 +16,12 @@
 package io.zeebe.logstreams.fs.log;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import io.zeebe.logstreams.impl.log.fs.FsLogSegment;
 import io.zeebe.logstreams.impl.log.fs.FsLogSegments;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -109,6 +111,47 @@ public class FsLogSegmentsTest {
     assertThat(fsLogSegments.getSegment(1)).isNotNull().isEqualTo(secondSegment);
   }
 
+  @Test
+  public void shouldRemoveSegmentsUntil() {
+    final FsLogSegments fsLogSegments = new FsLogSegments();
+
+    fsLogSegments.init(0, new FsLogSegment[] {firstSegment, secondSegment});
+
+    final List<FsLogSegment> removedSegments = fsLogSegments.removeSegmentsUntil(1);
+
+    assertThat(removedSegments).containsExactly(firstSegment);
+    assertThat(fsLogSegments.getSegment(0)).isNull();
+    assertThat(fsLogSegments.getSegment(1)).isEqualTo(secondSegment);
+    assertThat(fsLogSegments.getFirst()).isEqualTo(secondSegment);
+  }
+
+  @Test
+  public void shouldNotRemoveLastSegment() {
+    final FsLogSegments fsLogSegments = new FsLogSegments();
+
+    fsLogSegments.init(0, new FsLogSegment[] {firstSegment, secondSegment});
+
+    final List<FsLogSegment> removedSegments = fsLogSegments.removeSegmentsUntil(5);
+
+    assertThat(removedSegments).containsExactly(firstSegment);
+    assertThat(fsLogSegments.getFirst()).isEqualTo(secondSegment);
+  }
+
+  @Test
+  public void shouldShiftRemainingSegmentsOnRemove() {
+    final FsLogSegments fsLogSegments = new FsLogSegments();
+    final FsLogSegment thirdSegment = mock(FsLogSegment.class);
+
+    fsLogSegments.init(0, new FsLogSegment[] {firstSegment, secondSegment});
+    fsLogSegments.removeSegmentsUntil(1);
+
+    fsLogSegments.addSegment(thirdSegment);
+
+    assertThat(fsLogSegments.getSegmentCount()).isEqualTo(2);
+    assertThat(fsLogSegments.getSegment(1)).isEqualTo(secondSegment);
+    assertThat(fsLogSegments.getSegment(2)).isEqualTo(thirdSegment);
+  }
+
   @Test
   public void shouldCloseAllSegments() {
     final FsLogSegments fsLogSegments = new FsLogSegments();
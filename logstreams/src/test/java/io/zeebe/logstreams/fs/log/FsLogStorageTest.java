@@ -224,6 +224,65 @@ public class FsLogStorageTest {
     fsLogStorage.close();
   }
 
+  @Test
+  public void shouldDeleteSegmentsBeforeAddress() {
+    // given
+    final byte[] oneSegment = new byte[SEGMENT_SIZE - FsLogSegmentDescriptor.METADATA_LENGTH];
+    fsLogStorage.open();
+
+    fsLogStorage.append(ByteBuffer.wrap(oneSegment));
+    fsLogStorage.append(ByteBuffer.wrap(oneSegment));
+    final long address = fsLogStorage.append(ByteBuffer.wrap(oneSegment));
+
+    // when
+    fsLogStorage.delete(address);
+
+    // then
+    assertThat(new File(fsStorageConfig.fileName(0))).doesNotExist();
+    assertThat(new File(fsStorageConfig.fileName(1))).doesNotExist();
+    assertThat(new File(fsStorageConfig.fileName(2))).exists();
+
+    assertThat(fsLogStorage.getFirstBlockAddress()).isEqualTo(address);
+
+    final ByteBuffer readBuffer = ByteBuffer.allocate(SEGMENT_SIZE);
+    assertThat(fsLogStorage.read(readBuffer, address)).isGreaterThan(address);
+  }
+
+  @Test
+  public void shouldNotDeleteCurrentSegment() {
+    // given
+    fsLogStorage.open();
+    final long address = fsLogStorage.append(ByteBuffer.wrap(MSG));
+
+    // when
+    fsLogStorage.delete(PositionUtil.position(5, 0));
+
+    // then
+    assertThat(new File(fsStorageConfig.fileName(0))).exists();
+    assertThat(fsLogStorage.getFirstBlockAddress()).isEqualTo(address);
+  }
+
+  @Test
+  public void shouldRestoreLogAfterDeletion() {
+    // given
+    final byte[] oneSegment = new byte[SEGMENT_SIZE - FsLogSegmentDescriptor.METADATA_LENGTH];
+    fsLogStorage.open();
+
+    fsLogStorage.append(ByteBuffer.wrap(oneSegment));
+    final long address = fsLogStorage.append(ByteBuffer.wrap(oneSegment));
+    fsLogStorage.delete(address);
+
+    // when
+    fsLogStorage.close();
+    fsLogStorage.open();
+
+    // then
+    assertThat(fsLogStorage.getFirstBlockAddress()).isEqualTo(address);
+
+    final long nextAddress = fsLogStorage.append(ByteBuffer.wrap(MSG));
+    assertThat(PositionUtil.partitionId(nextAddress)).isEqualTo(2);
+  }
+
   @Test
   public void shouldNotAppendBlockIfNotOpen() {
     thrown.expect(IllegalStateException.class);
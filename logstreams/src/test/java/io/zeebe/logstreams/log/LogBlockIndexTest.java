@@ -118,6 +118,57 @@ public class LogBlockIndexTest {
     blockIndex.addBlock(9, 0);
   }
 
+  @Test
+  public void shouldDeleteBlocksUpToAddress() {
+    // given
+    blockIndex.addBlock(10, 1000);
+    blockIndex.addBlock(20, 2000);
+    blockIndex.addBlock(30, 3000);
+
+    // when
+    final int deletedBlocks = blockIndex.deleteUpToAddress(2000);
+
+    // then
+    assertThat(deletedBlocks).isEqualTo(1);
+    assertThat(blockIndex.size()).isEqualTo(2);
+    assertThat(blockIndex.getLogPosition(0)).isEqualTo(20);
+    assertThat(blockIndex.getAddress(0)).isEqualTo(2000);
+    assertThat(blockIndex.getLogPosition(1)).isEqualTo(30);
+    assertThat(blockIndex.getAddress(1)).isEqualTo(3000);
+
+    assertThat(blockIndex.lookupBlockAddress(15)).isEqualTo(-1);
+    assertThat(blockIndex.lookupBlockAddress(25)).isEqualTo(2000);
+    assertThat(blockIndex.lookupBlockAddress(35)).isEqualTo(3000);
+  }
+
+  @Test
+  public void shouldAddBlockAfterDeletion() {
+    // given
+    blockIndex.addBlock(10, 1000);
+    blockIndex.addBlock(20, 2000);
+    blockIndex.deleteUpToAddress(2000);
+
+    // when
+    blockIndex.addBlock(30, 3000);
+
+    // then
+    assertThat(blockIndex.size()).isEqualTo(2);
+    assertThat(blockIndex.lookupBlockAddress(35)).isEqualTo(3000);
+  }
+
+  @Test
+  public void shouldNotDeleteBlocksIfAddressIsLower() {
+    // given
+    blockIndex.addBlock(10, 1000);
+
+    // when
+    final int deletedBlocks = blockIndex.deleteUpToAddress(500);
+
+    // then
+    assertThat(deletedBlocks).isEqualTo(0);
+    assertThat(blockIndex.size()).isEqualTo(1);
+  }
+
   @Test
   public void shouldReturnMinusOneForEmptyBlockIndex() {
     assertThat(blockIndex.lookupBlockAddress(-1)).isEqualTo(-1);
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.log;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.zeebe.logstreams.impl.LogStorageAppender;
+import io.zeebe.logstreams.spi.LogStorage;
+import io.zeebe.logstreams.util.LogStreamRule;
+import io.zeebe.logstreams.util.LogStreamWriterRule;
+import java.time.Duration;
+import org.agrona.DirectBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public class LogStorageAppenderFlushTest {
+  private static final DirectBuffer EVENT = wrapString("FOO");
+  private static final Duration FLUSH_DELAY = Duration.ofSeconds(1);
+
+  private TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private LogStreamRule logStreamRule =
+      new LogStreamRule(
+          temporaryFolder,
+          b -> {
+            b.logStorageStubber(logStorage -> spy(logStorage)).logFlushDelay(FLUSH_DELAY);
+          });
+
+  private LogStreamWriterRule writer = new LogStreamWriterRule(logStreamRule);
+
+  @Rule
+  public RuleChain ruleChain =
+      RuleChain.outerRule(temporaryFolder).around(logStreamRule).around(writer);
+
+  private LogStream logStream;
+  private LogStorage logStorageSpy;
+  private LogStorageAppender appender;
+
+  @Before
+  public void setup() {
+    logStream = logStreamRule.getLogStream();
+    logStorageSpy = logStream.getLogStorage();
+    appender = logStream.getLogStorageAppender();
+  }
+
+  @Test
+  public void shouldUpdateAppenderPositionWhenFlushed() throws Exception {
+    // given
+    final long positionBefore = appender.getCurrentAppenderPosition();
+
+    // when
+    final long position = writer.tryWrite(EVENT);
+    verify(logStorageSpy, timeout(5_000)).append(any());
+
+    // then
+    assertThat(logStream.isLogFlushEnabled()).isTrue();
+    assertThat(appender.getCurrentAppenderPosition()).isEqualTo(positionBefore);
+    verify(logStorageSpy, never()).flush();
+
+    // when
+    logStreamRule.getClock().addTime(FLUSH_DELAY);
+
+    // then
+    writer.waitForPositionToBeAppended(position);
+    verify(logStorageSpy).flush();
+  }
+
+  @Test
+  public void shouldFlushAppendedBlocksTogether() throws Exception {
+    // given
+    long lastPosition = -1;
+    for (int i = 0; i < 10; i++) {
+      lastPosition = writer.tryWrite(EVENT);
+    }
+
+    final long lastEventPosition = lastPosition;
+    try (BufferedLogStreamReader reader = new BufferedLogStreamReader(logStream, true)) {
+      waitUntil(() -> reader.seek(lastEventPosition));
+    }
+
+    // when
+    logStreamRule.getClock().addTime(FLUSH_DELAY);
+
+    // then
+    writer.waitForPositionToBeAppended(lastPosition);
+    verify(logStorageSpy, times(1)).flush();
+  }
+}
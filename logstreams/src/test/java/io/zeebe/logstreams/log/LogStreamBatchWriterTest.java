@@ -359,6 +359,126 @@ public class LogStreamBatchWriterTest {
     assertThat(events.get(1).getSourceEventPosition()).isEqualTo(123L);
   }
 
+  @Test
+  public void shouldWriteEventWithNullKey() {
+    // when
+    final long position =
+        writer
+            .event()
+            .keyNull()
+            .value(EVENT_VALUE_1)
+            .done()
+            .event()
+            .key(123L)
+            .value(EVENT_VALUE_2)
+            .done()
+            .tryWrite();
+
+    // then
+    assertThat(getWrittenEvents(position))
+        .extracting(LoggedEvent::getKey)
+        .containsExactly(-1L, 123L);
+  }
+
+  @Test
+  public void shouldWriteEventsWithDifferentSourceEvents() {
+    // when
+    final long position =
+        writer
+            .sourceRecordPosition(123L)
+            .event()
+            .positionAsKey()
+            .value(EVENT_VALUE_1)
+            .done()
+            .sourceRecordPosition(456L)
+            .event()
+            .positionAsKey()
+            .value(EVENT_VALUE_2)
+            .done()
+            .tryWrite();
+
+    // then
+    assertThat(getWrittenEvents(position))
+        .extracting(LoggedEvent::getSourceEventPosition)
+        .containsExactly(123L, 456L);
+  }
+
+  @Test
+  public void shouldAddEventsToOtherBatch() {
+    // given
+    final LogStreamBatchWriterImpl otherWriter =
+        new LogStreamBatchWriterImpl(logStreamRule.getLogStream());
+    otherWriter
+        .event()
+        .positionAsKey()
+        .metadata(EVENT_METADATA_1)
+        .value(EVENT_VALUE_1)
+        .done()
+        .event()
+        .keyNull()
+        .value(EVENT_VALUE_2)
+        .done();
+
+    writer.sourceRecordPosition(123L).event().key(456L).value(EVENT_VALUE_1).done();
+
+    // when
+    final boolean added = otherWriter.addEventsTo(writer);
+    final long position = writer.tryWrite();
+
+    // then
+    assertThat(added).isTrue();
+
+    final List<LoggedEvent> events = getWrittenEvents(position);
+    assertThat(events).hasSize(3);
+    assertThat(events)
+        .extracting(LoggedEvent::getSourceEventPosition)
+        .containsExactly(123L, 123L, 123L);
+
+    assertThat(events.get(0).getKey()).isEqualTo(456L);
+    assertThat(events.get(1).getKey()).isEqualTo(events.get(1).getPosition());
+    assertThat(events.get(2).getKey()).isEqualTo(-1L);
+
+    assertThat(getMetadataBuffer(events.get(1))).isEqualTo(EVENT_METADATA_1);
+    assertThat(getValueBuffer(events.get(1))).isEqualTo(EVENT_VALUE_1);
+    assertThat(getValueBuffer(events.get(2))).isEqualTo(EVENT_VALUE_2);
+  }
+
+  @Test
+  public void shouldNotAddEventsToOtherBatchIfMaxLengthIsExceeded() {
+    // given
+    final int maxFrameLength = logStreamRule.getLogStream().getWriteBuffer().getMaxFrameLength();
+    final DirectBuffer largeValue = new UnsafeBuffer(new byte[maxFrameLength / 2]);
+
+    final LogStreamBatchWriterImpl otherWriter =
+        new LogStreamBatchWriterImpl(logStreamRule.getLogStream());
+    otherWriter.event().positionAsKey().value(largeValue).done();
+
+    writer.event().positionAsKey().value(largeValue).done();
+
+    // when
+    final boolean added = otherWriter.addEventsTo(writer);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(writer.canWriteAdditionalEvent(EVENT_VALUE_1.capacity())).isTrue();
+    assertThat(writer.canWriteAdditionalEvent(largeValue.capacity())).isFalse();
+  }
+
+  @Test
+  public void shouldBeEmptyAfterWrite() {
+    // given
+    assertThat(writer.isEmpty()).isTrue();
+    writer.event().positionAsKey().value(EVENT_VALUE_1).done();
+    assertThat(writer.isEmpty()).isFalse();
+
+    // when
+    final long position = writer.tryWrite();
+
+    // then
+    assertThat(position).isGreaterThan(0);
+    assertThat(writer.isEmpty()).isTrue();
+  }
+
   @Test
   public void shouldWriteEventWithoutSourceEvent() {
     // when
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.zeebe.dispatcher.Dispatcher;
 import io.zeebe.logstreams.impl.LogStreamBuilder;
+import io.zeebe.logstreams.impl.log.fs.FsLogStorage;
 import io.zeebe.servicecontainer.testing.ServiceContainerRule;
 import io.zeebe.test.util.AutoCloseableRule;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
@@ -309,6 +310,43 @@ public class LogStreamTest {
         .hasMessage("Truncation failed! Position " + nonExistingPosition + " was not found.");
   }
 
+  @Test
+  public void shouldDeleteLogStorageUpToPosition() {
+    // given
+    final LogStream logStream =
+        buildLogStream(
+            b -> b.logSegmentSize(1024 * 16).maxAppendBlockSize(1024).indexBlockSize(256));
+
+    logStream.openAppender().join();
+    closeables.manage(logStream);
+
+    final LogStreamWriterImpl writer = new LogStreamWriterImpl(logStream);
+    long position = -1L;
+    for (int i = 0; i < 1_000; i++) {
+      position = -1L;
+      while (position < 0) {
+        position = writer.positionAsKey().value(wrapString("event")).tryWrite();
+      }
+    }
+    final long lastPosition = position;
+    waitUntil(() -> logStream.getLogStorageAppender().getCurrentAppenderPosition() > lastPosition);
+    logStream.setCommitPosition(lastPosition);
+
+    waitUntil(() -> logStream.getLogBlockIndex().lookupBlockPosition(lastPosition) > 0);
+    final long deletePosition = logStream.getLogBlockIndex().lookupBlockPosition(lastPosition);
+
+    // when
+    logStream.delete(deletePosition).join();
+
+    // then
+    final FsLogStorage logStorage = (FsLogStorage) logStream.getLogStorage();
+    assertThat(new File(logStorage.getConfig().fileName(0))).doesNotExist();
+    assertThat(events(logStream).findFirst().get().getPosition())
+        .isGreaterThan(0)
+        .isLessThanOrEqualTo(deletePosition);
+    assertThat(events(logStream).filter(e -> e.getPosition() == lastPosition).count()).isEqualTo(1);
+  }
+
   private Stream<LoggedEvent> events(final LogStream stream) {
     final BufferedLogStreamReader reader = new BufferedLogStreamReader(stream, true);
     closeables.manage(reader);
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.logstreams.processor;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.zeebe.logstreams.LogStreams;
+import io.zeebe.logstreams.impl.LoggedEventImpl;
+import io.zeebe.logstreams.log.BufferedLogStreamReader;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.logstreams.util.LogStreamRule;
+import io.zeebe.logstreams.util.LogStreamWriterRule;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.DirectBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.junit.rules.TemporaryFolder;
+
+public class StreamProcessorBatchingTest {
+  private static final String PROCESSOR_NAME = "test";
+  private static final int PROCESSOR_ID = 1;
+
+  private static final DirectBuffer EVENT = wrapString("FOO");
+  private static final DirectBuffer FOLLOW_UP_EVENT = wrapString("BAR");
+
+  private TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private LogStreamRule logStreamRule = new LogStreamRule(temporaryFolder);
+  private LogStreamWriterRule writer = new LogStreamWriterRule(logStreamRule);
+
+  @Rule
+  public RuleChain ruleChain =
+      RuleChain.outerRule(temporaryFolder).around(logStreamRule).around(writer);
+
+  private RecordingStreamProcessor streamProcessor;
+  private EventProcessor eventProcessor;
+
+  @Before
+  public void init() {
+    streamProcessor = RecordingStreamProcessor.createSpy();
+    eventProcessor = streamProcessor.getEventProcessorSpy();
+  }
+
+  @Test
+  public void shouldWriteEventsOfMultipleProcessedEventsTogether() {
+    // given
+    final long eventPosition1 = writer.writeEvent(EVENT, true);
+    final long eventPosition2 = writer.writeEvent(EVENT, true);
+    final long eventPosition3 = writer.writeEvent(EVENT, true);
+
+    doAnswer(
+            inv -> {
+              final LogStreamBatchWriter batchWriter = inv.getArgument(0);
+              if (isSourceEvent(lastProcessedEvent())) {
+                batchWriter.event().key(1L).value(FOLLOW_UP_EVENT).done();
+              }
+              return true;
+            })
+        .when(eventProcessor)
+        .addEvents(any());
+
+    // when
+    openStreamProcessorController(3);
+    waitUntil(() -> streamProcessor.getProcessedEventCount() == 3);
+
+    // then
+    waitUntil(() -> getWrittenEvents().size() == 3);
+
+    assertThat(getWrittenEvents())
+        .extracting(LoggedEvent::getSourceEventPosition)
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+
+    verify(eventProcessor, times(3)).executeSideEffects();
+    verify(eventProcessor, never()).writeEvent(any());
+  }
+
+  @Test
+  public void shouldWriteBatchBeforeEventWhichIsNotAddedToBatch() {
+    // given
+    final long eventPosition1 = writer.writeEvent(EVENT, true);
+    final long eventPosition2 = writer.writeEvent(EVENT, true);
+    final long eventPosition3 = writer.writeEvent(EVENT, true);
+
+    final AtomicInteger invocations = new AtomicInteger();
+    doAnswer(
+            inv -> {
+              final LogStreamBatchWriter batchWriter = inv.getArgument(0);
+              if (!isSourceEvent(lastProcessedEvent())) {
+                return true;
+              } else if (invocations.incrementAndGet() == 2) {
+                // second event can't be added to the batch
+                return false;
+              } else {
+                batchWriter.event().key(1L).value(FOLLOW_UP_EVENT).done();
+                return true;
+              }
+            })
+        .when(eventProcessor)
+        .addEvents(any());
+
+    doAnswer(
+            inv -> {
+              final LogStreamRecordWriter writer = inv.getArgument(0);
+              return writer.key(2L).value(FOLLOW_UP_EVENT).tryWrite();
+            })
+        .when(eventProcessor)
+        .writeEvent(any());
+
+    // when
+    openStreamProcessorController(3);
+    waitUntil(() -> streamProcessor.getProcessedEventCount() == 3);
+
+    // then
+    waitUntil(() -> getWrittenEvents().size() == 3);
+
+    final List<LoggedEvent> writtenEvents = getWrittenEvents();
+    assertThat(writtenEvents)
+        .extracting(LoggedEvent::getSourceEventPosition)
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+    assertThat(writtenEvents).extracting(LoggedEvent::getKey).containsExactly(1L, 2L, 1L);
+
+    verify(eventProcessor, times(1)).writeEvent(any());
+  }
+
+  private void openStreamProcessorController(int processingBatchSize) {
+    LogStreams.createStreamProcessor(PROCESSOR_NAME, PROCESSOR_ID, streamProcessor)
+        .logStream(logStreamRule.getLogStream())
+        .snapshotStorage(logStreamRule.getSnapshotStorage())
+        .actorScheduler(logStreamRule.getActorScheduler())
+        .serviceContainer(logStreamRule.getServiceContainer())
+        .processingBatchSize(processingBatchSize)
+        .build()
+        .join();
+  }
+
+  private LoggedEvent lastProcessedEvent() {
+    final List<LoggedEvent> events = streamProcessor.getEvents();
+    return events.get(events.size() - 1);
+  }
+
+  private boolean isSourceEvent(LoggedEvent event) {
+    return event.getProducerId() != PROCESSOR_ID;
+  }
+
+  private List<LoggedEvent> getWrittenEvents() {
+    final List<LoggedEvent> events = new ArrayList<>();
+
+    try (BufferedLogStreamReader reader =
+        new BufferedLogStreamReader(logStreamRule.getLogStream(), true)) {
+      while (reader.hasNext()) {
+        final LoggedEvent event = reader.next();
+        if (!isSourceEvent(event)) {
+          events.add(copyEvent(event));
+        }
+      }
+    }
+
+    return events;
+  }
+
+  private static LoggedEvent copyEvent(LoggedEvent event) {
+    final LoggedEventImpl original = (LoggedEventImpl) event;
+
+    final LoggedEventImpl copy = new LoggedEventImpl();
+    copy.wrap(BufferUtil.cloneBuffer(original.getBuffer()), original.getFragmentOffset());
+    return copy;
+  }
+}
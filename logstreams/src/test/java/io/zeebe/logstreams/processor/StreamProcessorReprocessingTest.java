@@ -198,6 +198,25 @@ public class StreamProcessorReprocessingTest {
     verify(eventProcessor, times(3)).updateState();
   }
 
+  @Test
+  public void shouldReprocessMoreEventsThanFitInOneBatch() {
+    // given [1|S:-] --> ... --> [2500|S:-] --> [2501|S:2500]
+    final int eventCount = 2_500;
+    final long lastSourceEventPosition = writer.writeEvents(eventCount, EVENT, true);
+    writeEventWith(w -> w.producerId(PROCESSOR_ID).sourceRecordPosition(lastSourceEventPosition));
+
+    // when
+    openStreamProcessorController();
+
+    waitUntil(() -> streamProcessor.getProcessedEventCount() == eventCount + 1);
+
+    // then
+    verify(eventProcessor, times(eventCount + 1)).processEvent();
+    verify(eventProcessor, times(1)).executeSideEffects();
+    verify(eventProcessor, times(1)).writeEvent(any());
+    verify(eventProcessor, times(eventCount + 1)).updateState();
+  }
+
   @Test
   public void shouldSkipEventIfNoEventProcessorIsProvided() {
     // given [1|S:-] --> [2|S:-] --> [3|S:2]
@@ -100,6 +100,31 @@ public class ZbRocksDbTest {
     assertThat(recorder.get(wrapString("1-second")).byteArray()).isEqualTo(secondValue);
   }
 
+  @Test
+  public void shouldIterateOverPrefixWithReusedEntry() throws RocksDBException {
+    // given
+    final byte[] prefix = getBytes("1");
+    final Map<String, String> recorder = new HashMap<>();
+
+    // when
+    db.put(getBytes("0-test"), NULL.byteArray());
+    db.put(getBytes("1-first"), getBytes("first"));
+    db.put(getBytes("1-second"), getBytes("second"));
+    db.put(getBytes("2-other"), NULL.byteArray());
+    db.forEachPrefixed(
+        db.getDefaultColumnFamily(),
+        prefix,
+        prefix.length,
+        (entry, c) ->
+            recorder.put(bufferAsString(entry.getKey()), bufferAsString(entry.getValue())));
+
+    // then
+    assertThat(recorder)
+        .hasSize(2)
+        .containsEntry("1-first", "first")
+        .containsEntry("1-second", "second");
+  }
+
   @Test
   public void shouldStopIteratingWhenControlStopIsTrue() throws RocksDBException {
     // given
@@ -26,6 +26,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -134,4 +135,46 @@ public class StateControllerTest {
     assertThat(controller.isOpened()).isFalse();
     assertThat(openedDB.isOwningHandle()).isFalse();
   }
+
+  @Test
+  public void shouldUseSharedResources() throws Exception {
+    // given
+    final StateResources resources = new StateResources();
+    autoCloseableRule.manage(resources);
+
+    final StateController otherController = new StateController();
+    autoCloseableRule.manage(otherController);
+    controller.setResources(resources);
+    otherController.setResources(resources);
+
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    final RocksDBWrapper otherWrapper = new RocksDBWrapper();
+
+    // when
+    wrapper.wrap(controller.open(storage.getRuntimeDirectory(), false));
+    otherWrapper.wrap(otherController.open(tempFolderRule.newFolder("other"), false));
+
+    wrapper.putInt("foo", 1);
+    otherWrapper.putInt("bar", 2);
+    flush(controller.getDb());
+    flush(otherController.getDb());
+
+    // then
+    assertThat(wrapper.getInt("foo")).isEqualTo(1);
+    assertThat(otherWrapper.getInt("bar")).isEqualTo(2);
+    assertThat(resources.getBlockCacheHits() + resources.getBlockCacheMisses()).isGreaterThan(0);
+
+    // when
+    controller.close();
+
+    // then
+    assertThat(resources.getBlockCache().isOwningHandle()).isTrue();
+    assertThat(otherWrapper.getInt("bar")).isEqualTo(2);
+  }
+
+  private void flush(final RocksDB db) throws RocksDBException {
+    try (FlushOptions options = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(options);
+    }
+  }
 }
@@ -18,10 +18,12 @@ package io.zeebe.logstreams.state;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.zeebe.logstreams.rocksdb.ZbWriteBatch;
 import io.zeebe.logstreams.util.RocksDBWrapper;
 import io.zeebe.test.util.AutoCloseableRule;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.function.Predicate;
 import org.junit.Before;
 import org.junit.Rule;
@@ -96,6 +98,34 @@ public class StateSnapshotControllerTest {
     assertThat(wrapper.getInt(key)).isEqualTo(value);
   }
 
+  @Test
+  public void shouldTakeSnapshotOfChangesWrittenWithoutWriteAheadLog() throws Exception {
+    // given
+    final File dbDir = storage.getRuntimeDirectory();
+    final StateSnapshotMetadata metadata = new StateSnapshotMetadata(1, 1, 1, false);
+    controller.open(dbDir, false);
+
+    // when
+    controller.put(1L, new byte[] {1});
+
+    final ZbWriteBatch batch = controller.getWriteBatch();
+    batch.put(controller.getDb().getDefaultColumnFamily(), 2L, new byte[] {2}, 1);
+    controller.write(batch);
+
+    snapshotController.takeSnapshot(metadata);
+
+    // then
+    assertThat(controller.getWriteOptions().disableWAL()).isTrue();
+    assertThat(batch.count()).isEqualTo(0);
+
+    final StateController snapshotDb = new StateController();
+    autoCloseableRule.manage(snapshotDb);
+    snapshotDb.open(storage.getSnapshotDirectoryFor(metadata), true);
+
+    assertThat(snapshotDb.get(1L)).containsExactly(1);
+    assertThat(snapshotDb.get(2L)).containsExactly(2);
+  }
+
   @Test
   public void shouldOpenNewDatabaseIfNoSnapshotsToRecoverFrom() throws Exception {
     // given
@@ -197,6 +227,38 @@ public class StateSnapshotControllerTest {
     assertThat(wrapper.getInt(key)).isEqualTo(value);
   }
 
+  @Test
+  public void shouldShareSstFilesOfSnapshotOnRecover() throws Exception {
+    // given
+    final File dbDir = storage.getRuntimeDirectory();
+    final String key = "test";
+    final int value = 3;
+    final StateSnapshotMetadata metadata = new StateSnapshotMetadata(1, 1, 1, false);
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+
+    wrapper.wrap(controller.open(dbDir, false));
+    wrapper.putInt(key, value);
+    snapshotController.takeSnapshot(metadata);
+    controller.close();
+
+    // when
+    snapshotController.recover(
+        metadata.getLastWrittenEventPosition(), metadata.getLastWrittenEventTerm(), TRUISM);
+    wrapper.wrap(controller.getDb());
+
+    // then
+    assertThat(wrapper.getInt(key)).isEqualTo(value);
+
+    final File[] snapshotSstFiles =
+        storage.getSnapshotDirectoryFor(metadata).listFiles((d, n) -> n.endsWith(".sst"));
+    assertThat(snapshotSstFiles).isNotEmpty();
+
+    for (final File snapshotSstFile : snapshotSstFiles) {
+      final File runtimeSstFile = new File(dbDir, snapshotSstFile.getName());
+      assertThat(Files.isSameFile(snapshotSstFile.toPath(), runtimeSstFile.toPath())).isTrue();
+    }
+  }
+
   @Test
   public void shouldPurgeAllOtherSnapshots() throws Exception {
     // given
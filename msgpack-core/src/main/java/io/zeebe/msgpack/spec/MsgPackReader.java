@@ -408,11 +408,11 @@ public class MsgPackReader {
           break;
         case BIN8:
         case STR8:
-          offset += 1 + buffer.getByte(offset);
+          offset += 1 + (buffer.getByte(offset) & 0xff);
           break;
         case BIN16:
         case STR16:
-          offset += 2 + buffer.getShort(offset, BYTE_ORDER);
+          offset += 2 + (buffer.getShort(offset, BYTE_ORDER) & 0xffff);
           break;
         case BIN32:
         case STR32:
@@ -434,16 +434,16 @@ public class MsgPackReader {
           offset += 17;
           break;
         case EXT8:
-          offset += 1 + 1 + buffer.getByte(offset);
+          offset += 1 + 1 + (buffer.getByte(offset) & 0xff);
           break;
         case EXT16:
-          offset += 1 + 2 + buffer.getShort(offset, BYTE_ORDER);
+          offset += 1 + 2 + (buffer.getShort(offset, BYTE_ORDER) & 0xffff);
           break;
         case EXT32:
           offset += 1 + 4 + buffer.getInt(offset, BYTE_ORDER);
           break;
         case ARRAY16:
-          count += buffer.getShort(offset, BYTE_ORDER);
+          count += buffer.getShort(offset, BYTE_ORDER) & 0xffff;
           offset += 2;
           break;
         case ARRAY32:
@@ -451,7 +451,7 @@ public class MsgPackReader {
           offset += 4;
           break;
         case MAP16:
-          count += buffer.getShort(offset, BYTE_ORDER) * 2;
+          count += (buffer.getShort(offset, BYTE_ORDER) & 0xffff) * 2;
           offset += 2;
           break;
         case MAP32:
@@ -83,15 +83,27 @@ public class MsgPackSkippingTest {
           {
             "str 8", given((b) -> b.add(0xd9, 0x01, 0xff)) // length 1
           },
+          {
+            "str 8 with unsigned length",
+            given((b) -> b.add(0xd9, 0xc8).add(new byte[200])) // length 200
+          },
           {
             "str 16", given((b) -> b.add(0xda, 0x00, 0x01, 0xff)) // length 1
           },
+          {
+            "str 16 with unsigned length",
+            given((b) -> b.add(0xda, 0x88, 0xb8).add(new byte[35000])) // length 35000
+          },
           {
             "str 32", given((b) -> b.add(0xdb, 0x00, 0x00, 0x00, 0x01, 0xff)) // length 1
           },
           {
             "array 16", given((b) -> b.add(0xdc, 0x00, 0x01, 0xc0)) // length 1, value nil
           },
+          {
+            "array 16 with unsigned length",
+            given((b) -> b.add(0xdc, 0x88, 0xb8).add(new byte[35000])) // length 35000, fixints
+          },
           {
             "array 32",
             given((b) -> b.add(0xdd, 0x00, 0x00, 0x00, 0x01, 0xc0)) // length 1, value nil
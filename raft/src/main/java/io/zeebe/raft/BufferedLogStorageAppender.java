@@ -48,6 +48,10 @@ public class BufferedLogStorageAppender {
 
   private final DeferredAck deferredAck = new DeferredAck();
 
+  // ack of the last event of a request which is already appended, sent once per request
+  private final DeferredAck matchedAck = new DeferredAck();
+  private long matchedPosition;
+
   // event buffer and offset
   private AllocatedBuffer allocatedBuffer;
   private final MutableDirectBuffer buffer = new UnsafeBuffer(0, 0);
@@ -125,12 +129,22 @@ public class BufferedLogStorageAppender {
     }
   }
 
-  public void appendEvent(final AppendRequest appendRequest, final LoggedEventImpl event) {
+  /**
+   * Appends the event of the request which follows the given previous event to the buffer.
+   *
+   * @return true if the event was appended, false if the request was rejected or the event does
+   *     not follow the last event, in which case the following events of the request are discarded
+   */
+  public boolean appendEvent(
+      final AppendRequest appendRequest,
+      final long previousPosition,
+      final int previousTerm,
+      final LoggedEventImpl event) {
     deferredAck.reset();
+    matchedAck.reset();
 
     if (event != null) {
-      final long previousPosition = appendRequest.getPreviousEventPosition();
-      final long previousTerm = appendRequest.getPreviousEventTerm();
+      final boolean isAppended;
 
       if (previousPosition == lastWrittenPosition && previousTerm == lastWrittenTerm) {
         discardBufferedEvents();
@@ -142,7 +156,7 @@ public class BufferedLogStorageAppender {
           if (!flushBufferedEvents()) {
             // unable to flush events, abort and try again with last buffered position
             rejectAppendRequest(lastBufferedPosition, appendRequest.getNodeId());
-            return;
+            return false;
           } else {
             acceptAppendRequest(
                 lastWrittenPosition, appendRequest.getCommitPosition(), appendRequest.getNodeId());
@@ -166,7 +180,11 @@ public class BufferedLogStorageAppender {
           event.readValue(configuration);
           raft.replaceMembersOnConfigurationChange(configuration.members());
         }
+
+        isAppended = true;
       } else {
+        isAppended = false;
+
         LOG.warn(
             "Event to append does not follow previous event {}/{} != {}/{}",
             lastBufferedPosition,
@@ -178,20 +196,32 @@ public class BufferedLogStorageAppender {
       if (lastWrittenPosition != lastBufferedPosition) {
         deferredAck.deferAck(appendRequest);
       }
+
+      return isAppended;
     } else {
       acceptAppendRequest(
           lastWrittenPosition, appendRequest.getCommitPosition(), appendRequest.getNodeId());
+      return true;
     }
   }
 
-  public void truncateLog(final AppendRequest appendRequest, final LoggedEventImpl event) {
+  /**
+   * Truncates the log after the given previous event, if the event of the request is not already
+   * appended, and appends the event.
+   *
+   * @return true if the event was appended or is already appended, false if the request was
+   *     rejected, in which case the following events of the request are discarded
+   */
+  public boolean truncateLog(
+      final AppendRequest appendRequest,
+      final long previousEventPosition,
+      final int previousEventTerm,
+      final LoggedEventImpl event) {
     deferredAck.reset();
+    matchedAck.reset();
 
     final long currentCommit = logStream.getCommitPosition();
 
-    final long previousEventPosition = appendRequest.getPreviousEventPosition();
-    final int previousEventTerm = appendRequest.getPreviousEventTerm();
-
     if (previousEventPosition >= lastBufferedPosition) {
       // event is either after our last position or the log stream controller
       // is still appendEvent, which does not allow to truncate the log
@@ -214,9 +244,11 @@ public class BufferedLogStorageAppender {
             final int eventTerm = event.getRaftTerm();
 
             if (nextEventPosition == eventPosition && nextEventTerm == eventTerm) {
-              // not truncating the log as the event is already appended
-              acceptAppendRequest(
-                  nextEventPosition, appendRequest.getCommitPosition(), appendRequest.getNodeId());
+              // not truncating the log as the event is already appended - the request is
+              // accepted by acceptMatchedEvents() if no following event is appended
+              matchedAck.deferAck(appendRequest);
+              matchedPosition = nextEventPosition;
+              return true;
             } else {
               // truncate log and append event
               logStream.truncate(nextEventPosition);
@@ -228,7 +260,7 @@ public class BufferedLogStorageAppender {
               lastBufferedPosition = lastWrittenPosition;
               lastBufferedTerm = lastWrittenTerm;
 
-              appendEvent(appendRequest, event);
+              return appendEvent(appendRequest, previousEventPosition, previousEventTerm, event);
             }
           }
         } else {
@@ -236,6 +268,7 @@ public class BufferedLogStorageAppender {
               writtenEvent.getPosition(),
               appendRequest.getCommitPosition(),
               appendRequest.getNodeId());
+          return true;
         }
       } else {
         rejectAppendRequest(writtenEvent.getPosition() - 1, appendRequest.getNodeId());
@@ -243,6 +276,19 @@ public class BufferedLogStorageAppender {
     } else {
       rejectAppendRequest(lastWrittenPosition, appendRequest.getNodeId());
     }
+
+    return false;
+  }
+
+  /**
+   * Accepts the append request if its last processed event was already appended. Sends one response
+   * per request for the last of these events, instead of one per event.
+   */
+  public void acceptMatchedEvents() {
+    if (matchedAck.hasDeferredAck()) {
+      acceptAppendRequest(matchedPosition, matchedAck.commitPosition, matchedAck.nodeId);
+      matchedAck.reset();
+    }
   }
 
   private void allocateMemory(final int capacity) {
@@ -284,7 +330,9 @@ public class BufferedLogStorageAppender {
         lastWrittenTerm = lastBufferedTerm;
 
         discardBufferedEvents();
-        return true;
+
+        // the events are acknowledged as written, so they must be on disk if the flush is enabled
+        return !logStream.isLogFlushEnabled() || flushLogStorage();
       } else {
         byteBuffer.clear();
         return false;
@@ -294,6 +342,16 @@ public class BufferedLogStorageAppender {
     return true;
   }
 
+  private boolean flushLogStorage() {
+    try {
+      logStream.getLogStorage().flush();
+      return true;
+    } catch (Exception e) {
+      LOG.error("Failed to flush log storage", e);
+      return false;
+    }
+  }
+
   protected void acceptAppendRequest(long position, long commitPosition, int nodeId) {
     final long currentCommitPosition = logStream.getCommitPosition();
     final long nextCommitPosition = Math.min(position, commitPosition);
@@ -533,6 +533,28 @@ public class Raft extends Actor
     return raftMembers.getMemberSize();
   }
 
+  /**
+   * Returns the lowest position which was acknowledged by all other members of the raft. Only a
+   * leader knows the positions of the other members.
+   *
+   * @return future which is completed with the lowest acknowledged position, with {@link
+   *     Long#MAX_VALUE} if the raft has no other members, or with -1 if this node is not the leader
+   */
+  public ActorFuture<Long> getLowestMemberMatchPosition() {
+    return actor.call(
+        () -> {
+          if (getState() != RaftState.LEADER) {
+            return -1L;
+          }
+
+          long lowestPosition = Long.MAX_VALUE;
+          for (final RaftMember member : raftMembers.getMemberList()) {
+            lowestPosition = Math.min(lowestPosition, member.getMatchPosition());
+          }
+          return lowestPosition;
+        });
+  }
+
   /** Replace existing members know by this node with new list of members */
   public void replaceMembersOnConfigurationChange(
       final ValueArray<RaftConfigurationEventMember> members) {
@@ -17,11 +17,13 @@ package io.zeebe.raft;
 
 import io.zeebe.util.DurationUtil;
 import java.time.Duration;
+import java.util.Locale;
 
 public class RaftConfiguration {
   private String heartbeatInterval = "250ms";
   private String electionInterval = "1s";
   private String leaveTimeout = "1s";
+  private String replicationCompression = CompressionType.NONE.name();
 
   public String getHeartbeatInterval() {
     return heartbeatInterval;
@@ -62,6 +64,19 @@ public class RaftConfiguration {
     return this;
   }
 
+  public String getReplicationCompression() {
+    return replicationCompression;
+  }
+
+  public CompressionType getReplicationCompressionType() {
+    return CompressionType.valueOf(replicationCompression.toUpperCase(Locale.ENGLISH));
+  }
+
+  public RaftConfiguration setReplicationCompression(final String replicationCompression) {
+    this.replicationCompression = replicationCompression;
+    return this;
+  }
+
   @Override
   public String toString() {
     return "RaftConfiguration{"
@@ -74,6 +89,9 @@ public class RaftConfiguration {
         + ", leaveTimeout='"
         + leaveTimeout
         + '\''
+        + ", replicationCompression='"
+        + replicationCompression
+        + '\''
         + '}';
   }
 }
@@ -31,13 +31,13 @@ public class RaftMember {
     return nodeId;
   }
 
-  public void onFollowerHasAcknowledgedPosition(long position) {
+  public void onFollowerHasAcknowledgedPosition(long position, int receiveBufferCapacity) {
     matchPosition = position;
-    replicationController.onFollowerHasAcknowledgedPosition(position);
+    replicationController.onFollowerHasAcknowledgedPosition(position, receiveBufferCapacity);
   }
 
-  public void onFollowerHasFailedPosition(long position) {
-    replicationController.onFollowerHasFailedPosition(position);
+  public void onFollowerHasFailedPosition(long position, int receiveBufferCapacity) {
+    replicationController.onFollowerHasFailedPosition(position, receiveBufferCapacity);
   }
 
   public long getMatchPosition() {
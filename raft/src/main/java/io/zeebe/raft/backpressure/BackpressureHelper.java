@@ -39,6 +39,16 @@ public class BackpressureHelper {
    * @param remoteBufferSize size of the remote buffer in bytes
    */
   public BackpressureHelper(int remoteBufferSize) {
+    setRemoteBufferSize(remoteBufferSize);
+  }
+
+  /**
+   * Updates the size of the remote buffer, e.g. when the follower advertises its buffer capacity.
+   * Events which are already in flight are not affected.
+   *
+   * @param remoteBufferSize size of the remote buffer in bytes
+   */
+  public void setRemoteBufferSize(int remoteBufferSize) {
     this.remoteBufferSize = remoteBufferSize - (int) (remoteBufferSize * 0.2);
   }
 
@@ -65,6 +75,11 @@ public class BackpressureHelper {
     isFirstEventAcknowledged = false;
   }
 
+  /** @return the number of bytes which can be sent before the remote buffer is full */
+  public int getRemainingCapacity() {
+    return Math.max(remoteBufferSize - currentInFlight, 0);
+  }
+
   public boolean canSend(int bytes) {
     if (!isFirstEventSent) {
       return true;
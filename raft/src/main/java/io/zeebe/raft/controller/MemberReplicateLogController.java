@@ -28,6 +28,7 @@ import io.zeebe.raft.Raft;
 import io.zeebe.raft.RaftMember;
 import io.zeebe.raft.backpressure.BackpressureHelper;
 import io.zeebe.raft.protocol.AppendRequest;
+import io.zeebe.raft.protocol.EventCodec;
 import io.zeebe.servicecontainer.Service;
 import io.zeebe.servicecontainer.ServiceStartContext;
 import io.zeebe.servicecontainer.ServiceStopContext;
@@ -42,9 +43,15 @@ import org.slf4j.Logger;
 
 /** Per-follower replication controller */
 public class MemberReplicateLogController extends Actor implements Service<Void> {
-  /** TODO: remove constant, follower should tell us on join or other request */
+  /**
+   * The default size of the buffer which receives the append requests on a follower. It is used
+   * until the follower advertises the capacity of its buffer in an append response.
+   */
   public static final int REMOTE_BUFFER_SIZE = 1024 * 1024 * 2;
 
+  /** The maximum length of the events which are replicated in a single append request */
+  public static final int MAX_BATCH_LENGTH = 1024 * 64;
+
   private static final Logger LOG = Loggers.RAFT_LOGGER;
   private static final boolean IS_TRACE_ENABLED = LOG.isTraceEnabled();
 
@@ -67,6 +74,12 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
   private long previousPosition;
   private int previousTerm;
 
+  // the append request was not sent yet and contains events which have to be sent next
+  private boolean isRequestPending;
+  private long lastBatchPosition;
+  private int lastBatchTerm;
+  private int maxBatchLength = getMaxBatchLength(REMOTE_BUFFER_SIZE);
+
   private ActorCondition appenderCondition;
   private final String name;
 
@@ -85,6 +98,10 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
     this.clientOutput = clientTransport.getOutput();
     this.logStream = raft.getLogStream();
     this.reader = new BufferedLogStreamReader(logStream, true);
+
+    // every member has its own codec as the compression state is not shared between actors
+    appendRequest.setCodec(
+        EventCodec.newCodec(raft.getConfiguration().getReplicationCompressionType()));
   }
 
   @Override
@@ -133,6 +150,7 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
     }
 
     reader.close();
+    appendRequest.close();
   }
 
   private void onHeartbeatTimerFired() {
@@ -151,23 +169,25 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
     actor.runUntilDone(sendNextEventsFn);
   }
 
-  public void onFollowerHasAcknowledgedPosition(long position) {
+  public void onFollowerHasAcknowledgedPosition(long position, int receiveBufferCapacity) {
     actor.run(
         () -> {
           if (IS_TRACE_ENABLED) {
             LOG.trace("follower acknowledged position {}", position);
           }
+          updateRemoteBufferCapacity(receiveBufferCapacity);
           backpressureHelper.onEventAcknowledged(position);
           actor.runUntilDone(sendNextEventsFn);
         });
   }
 
-  public void onFollowerHasFailedPosition(long position) {
+  public void onFollowerHasFailedPosition(long position, int receiveBufferCapacity) {
     actor.run(
         () -> {
           if (IS_TRACE_ENABLED) {
             LOG.trace("follower failed position {}", position);
           }
+          updateRemoteBufferCapacity(receiveBufferCapacity);
           backpressureHelper.reset();
           resetToPosition(position);
           actor.runUntilDone(sendNextEventsFn);
@@ -181,31 +201,39 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
 
     actor.setPriority(ActorPriority.REGULAR);
 
-    final LoggedEventImpl nextEvent = getNextEvent();
+    if (!isRequestPending) {
+      appendRequest
+          .reset()
+          .setPreviousEventPosition(previousPosition)
+          .setPreviousEventTerm(previousTerm);
 
-    appendRequest
-        .reset()
-        .setRaft(raft)
-        .setPreviousEventPosition(previousPosition)
-        .setPreviousEventTerm(previousTerm)
-        .setEvent(nextEvent);
+      addNextEvents();
+    }
+
+    // refresh term and commit position of a pending request
+    appendRequest.setRaft(raft);
 
+    final boolean hasEvents = appendRequest.getEventCount() > 0;
     final int requestSize = appendRequest.getLength();
     final long now = ActorClock.currentTimeMillis();
     final boolean isHeartbeatTimeout = now - lastRequestTimestamp >= heartbeatInterval.toMillis();
     final boolean isBackpressured = !backpressureHelper.canSend(requestSize);
-    final boolean trySend = isHeartbeatTimeout || (nextEvent != null && !isBackpressured);
+    final boolean trySend = isHeartbeatTimeout || (hasEvents && !isBackpressured);
 
     if (trySend && !isClosing) {
       if (clientOutput.sendMessage(nodeId, appendRequest)) {
         lastRequestTimestamp = now;
+        isRequestPending = false;
+
+        if (hasEvents) {
+          backpressureHelper.onEventSent(lastBatchPosition, requestSize);
 
-        if (nextEvent != null) {
-          backpressureHelper.onEventSent(nextEvent.getPosition(), requestSize);
-          setPreviousEvent(nextEvent);
+          // the buffered event (if any) follows the last event of the batch
+          previousPosition = lastBatchPosition;
+          previousTerm = lastBatchTerm;
         }
       } else {
-        setBufferedEvent(nextEvent);
+        isRequestPending = hasEvents;
 
         if (isHeartbeatTimeout) {
           actor.setPriority(ActorPriority.HIGH);
@@ -216,10 +244,52 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
         actor.yield();
       }
     } else {
+      isRequestPending = hasEvents;
       actor.done();
     }
   }
 
+  /**
+   * Adds the next contiguous events to the append request, as long as they fit into a batch and
+   * into the remote buffer. The first event which doesn't fit anymore is buffered for the next
+   * request.
+   */
+  private void addNextEvents() {
+    LoggedEventImpl event = getNextEvent();
+
+    while (event != null) {
+      appendRequest.addEvent(event);
+      lastBatchPosition = event.getPosition();
+      lastBatchTerm = event.getRaftTerm();
+
+      event = null;
+
+      if (reader.hasNext()) {
+        final LoggedEventImpl nextEvent = (LoggedEventImpl) reader.next();
+        final int batchLength = appendRequest.getEventsLength() + nextEvent.getFragmentLength();
+
+        if (batchLength <= maxBatchLength && backpressureHelper.canSend(batchLength)) {
+          event = nextEvent;
+        } else {
+          setBufferedEvent(nextEvent);
+        }
+      }
+    }
+  }
+
+  private void updateRemoteBufferCapacity(final int receiveBufferCapacity) {
+    if (receiveBufferCapacity > 0) {
+      backpressureHelper.setRemoteBufferSize(receiveBufferCapacity);
+      maxBatchLength = getMaxBatchLength(receiveBufferCapacity);
+    }
+  }
+
+  private static int getMaxBatchLength(final int receiveBufferCapacity) {
+    // a ring buffer rejects messages which are larger than 1/8 of its capacity,
+    // leave some space for the header of the append request
+    return Math.min(MAX_BATCH_LENGTH, receiveBufferCapacity / 8 - 1024);
+  }
+
   private void setBufferedEvent(final LoggedEventImpl bufferedEvent) {
     this.bufferedEvent = bufferedEvent;
   }
@@ -317,6 +387,7 @@ public class MemberReplicateLogController extends Actor implements Service<Void>
 
   private void setPreviousEvent(final LoggedEvent previousEvent) {
     discardBufferedEvent();
+    isRequestPending = false;
 
     if (previousEvent != null) {
       previousPosition = previousEvent.getPosition();
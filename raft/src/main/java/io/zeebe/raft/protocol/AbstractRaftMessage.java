@@ -22,14 +22,24 @@ import io.zeebe.util.buffer.BufferWriter;
 import org.agrona.DirectBuffer;
 
 public abstract class AbstractRaftMessage implements BufferReader, BufferWriter {
+  /** the oldest schema version which can still be read */
+  public static final int MIN_VERSION = 1;
 
   protected final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
   protected final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
 
+  /**
+   * Wraps the message if the buffer contains a message of this type. Messages of a previous schema
+   * version are accepted too, fields which were added later are read as null values.
+   *
+   * @return true if the message was wrapped
+   */
   public boolean tryWrap(final DirectBuffer buffer, final int offset, final int length) {
     headerDecoder.wrap(buffer, offset);
 
-    if (headerDecoder.version() != getVersion()
+    final int version = headerDecoder.version();
+    if (version < MIN_VERSION
+        || version > getVersion()
         || headerDecoder.schemaId() != getSchemaId()
         || headerDecoder.templateId() != getTemplateId()) {
       return false;
@@ -27,12 +27,21 @@ import io.zeebe.logstreams.impl.LoggedEventImpl;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.raft.AppendRequestDecoder;
 import io.zeebe.raft.AppendRequestEncoder;
+import io.zeebe.raft.CompressionType;
 import io.zeebe.raft.Raft;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Replicates a contiguous range of events to a follower. The events are written back to back as
+ * aligned log fragments, so the follower can iterate them with {@link #getEvent()} and {@link
+ * #nextEvent()}.
+ */
 public class AppendRequest extends AbstractRaftMessage implements HasNodeId, HasTerm, HasPartition {
+  /** event data smaller than this is not worth compressing */
+  public static final int MIN_COMPRESSION_LENGTH = 256;
 
   protected final AppendRequestDecoder bodyDecoder = new AppendRequestDecoder();
   protected final AppendRequestEncoder bodyEncoder = new AppendRequestEncoder();
@@ -48,9 +57,18 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
   // read
   protected final DirectBuffer readData = new UnsafeBuffer(0, 0);
   protected final LoggedEventImpl readEvent = new LoggedEventImpl();
+  private int readEventOffset;
+  private final ExpandableArrayBuffer decompressedData = new ExpandableArrayBuffer();
+  private EventCodec readCodec;
 
   // write
-  private LoggedEventImpl writeEvent;
+  private final ExpandableArrayBuffer writeData = new ExpandableArrayBuffer();
+  private int writeDataLength;
+  private int writeEventCount;
+  private EventCodec writeCodec;
+  private final ExpandableArrayBuffer compressedData = new ExpandableArrayBuffer();
+  private int compressedLength;
+  private boolean isCompressionPending;
 
   public AppendRequest() {
     reset();
@@ -66,12 +84,38 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
 
     readData.wrap(0, 0);
     readEvent.wrap(null, -1);
+    readEventOffset = 0;
+
+    writeDataLength = 0;
+    writeEventCount = 0;
+    compressedLength = -1;
+    isCompressionPending = false;
 
-    writeEvent = null;
+    return this;
+  }
 
+  /**
+   * Sets the codec used to compress the event data of the following requests, the codec is not
+   * reset by {@link #reset()}. The receiver decompresses the data according to the compression type
+   * of the request, so it is not required to configure a codec to read compressed requests.
+   */
+  public AppendRequest setCodec(final EventCodec codec) {
+    this.writeCodec = codec;
     return this;
   }
 
+  public void close() {
+    if (writeCodec != null) {
+      writeCodec.close();
+      writeCodec = null;
+    }
+
+    if (readCodec != null) {
+      readCodec.close();
+      readCodec = null;
+    }
+  }
+
   @Override
   protected int getVersion() {
     return bodyDecoder.sbeSchemaVersion();
@@ -124,19 +168,92 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
     return nodeId;
   }
 
+  /** @return the first event of the request, or null if the request is a heartbeat */
   public LoggedEventImpl getEvent() {
+    return readEventAt(0);
+  }
+
+  /**
+   * Moves to the event after the one returned by the last call of {@link #getEvent()} or {@link
+   * #nextEvent()}. The same event instance is reused, so its values have to be read before.
+   *
+   * @return the next event of the request, or null if there are no more events
+   */
+  public LoggedEventImpl nextEvent() {
     if (readEvent.getBuffer() != null) {
+      return readEventAt(readEventOffset + readEvent.getFragmentLength());
+    } else {
+      return null;
+    }
+  }
+
+  private LoggedEventImpl readEventAt(final int offset) {
+    readEventOffset = offset;
+
+    if (offset < readData.capacity()) {
+      readEvent.wrap(readData, offset);
       return readEvent;
     } else {
       return null;
     }
   }
 
+  /** Replaces the events of the request by the given event, or none if the event is null. */
   public AppendRequest setEvent(final LoggedEventImpl event) {
-    writeEvent = event;
+    writeDataLength = 0;
+    writeEventCount = 0;
+    compressedLength = -1;
+    isCompressionPending = false;
+
+    if (event != null) {
+      addEvent(event);
+    }
+
+    return this;
+  }
+
+  /**
+   * Appends the event to the events of the request. The event must directly follow the previously
+   * added event in the log. The event data is copied, so the event can be reused afterwards.
+   */
+  public AppendRequest addEvent(final LoggedEventImpl event) {
+    final int fragmentLength = event.getFragmentLength();
+
+    writeData.putBytes(
+        writeDataLength, event.getBuffer(), event.getFragmentOffset(), fragmentLength);
+    writeDataLength += fragmentLength;
+    writeEventCount += 1;
+
+    isCompressionPending = writeCodec != null;
+
     return this;
   }
 
+  public int getEventCount() {
+    return writeEventCount;
+  }
+
+  /** @return the uncompressed length of all events added to the request */
+  public int getEventsLength() {
+    return writeDataLength;
+  }
+
+  public boolean isCompressed() {
+    compressIfPending();
+    return compressedLength >= 0;
+  }
+
+  private void compressIfPending() {
+    if (isCompressionPending) {
+      isCompressionPending = false;
+      compressedLength = -1;
+
+      if (writeDataLength >= MIN_COMPRESSION_LENGTH) {
+        compressedLength = writeCodec.compress(writeData, 0, writeDataLength, compressedData);
+      }
+    }
+  }
+
   public AppendRequest setRaft(final Raft raft) {
     final LogStream logStream = raft.getLogStream();
 
@@ -152,8 +269,10 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
   public int getLength() {
     int length = headerEncoder.encodedLength() + bodyEncoder.sbeBlockLength() + dataHeaderLength();
 
-    if (writeEvent != null) {
-      length += writeEvent.getFragmentLength();
+    if (isCompressed()) {
+      length += compressedLength;
+    } else {
+      length += writeDataLength;
     }
 
     return length;
@@ -177,13 +296,22 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
     commitPosition = bodyDecoder.commitPosition();
     nodeId = bodyDecoder.nodeId();
 
-    offset += bodyDecoder.sbeBlockLength();
+    final CompressionType compression = bodyDecoder.compression();
+    final int uncompressedLength = bodyDecoder.uncompressedLength();
+
+    // the block of a previous schema version is shorter
+    offset += headerDecoder.blockLength();
 
     offset += wrapVarData(buffer, offset, readData, dataHeaderLength(), bodyDecoder.dataLength());
     bodyDecoder.limit(offset);
 
     if (readData.capacity() > 0) {
-      readEvent.wrap(readData, 0);
+      // requests of a previous schema version are never compressed
+      if (compression != CompressionType.NONE && compression != CompressionType.NULL_VAL) {
+        decompress(compression, uncompressedLength);
+      }
+
+      readEventAt(0);
     }
 
     assert bodyDecoder.limit() == frameEnd
@@ -214,9 +342,29 @@ public class AppendRequest extends AbstractRaftMessage implements HasNodeId, Has
         .commitPosition(commitPosition)
         .nodeId(nodeId);
 
-    if (writeEvent != null) {
-      bodyEncoder.putData(
-          writeEvent.getBuffer(), writeEvent.getFragmentOffset(), writeEvent.getFragmentLength());
+    if (isCompressed()) {
+      bodyEncoder
+          .compression(writeCodec.getType())
+          .uncompressedLength(writeDataLength)
+          .putData(compressedData, 0, compressedLength);
+    } else {
+      bodyEncoder
+          .compression(CompressionType.NONE)
+          .uncompressedLength(writeDataLength)
+          .putData(writeData, 0, writeDataLength);
     }
   }
+
+  private void decompress(final CompressionType compression, final int uncompressedLength) {
+    if (readCodec == null || readCodec.getType() != compression) {
+      if (readCodec != null) {
+        readCodec.close();
+      }
+      readCodec = EventCodec.newCodec(compression);
+    }
+
+    decompressedData.checkLimit(uncompressedLength);
+    readCodec.decompress(readData, 0, readData.capacity(), decompressedData, uncompressedLength);
+    readData.wrap(decompressedData, 0, uncompressedLength);
+  }
 }
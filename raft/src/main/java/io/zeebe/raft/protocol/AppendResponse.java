@@ -18,6 +18,7 @@ package io.zeebe.raft.protocol;
 import static io.zeebe.raft.AppendResponseEncoder.nodeIdNullValue;
 import static io.zeebe.raft.AppendResponseEncoder.partitionIdNullValue;
 import static io.zeebe.raft.AppendResponseEncoder.previousEventPositionNullValue;
+import static io.zeebe.raft.AppendResponseEncoder.receiveBufferCapacityNullValue;
 import static io.zeebe.raft.AppendResponseEncoder.termNullValue;
 
 import io.zeebe.logstreams.log.LogStream;
@@ -39,6 +40,7 @@ public class AppendResponse extends AbstractRaftMessage
   protected boolean succeeded;
   protected long previousEventPosition;
   protected int nodeId;
+  protected int receiveBufferCapacity;
 
   public AppendResponse() {
     reset();
@@ -50,6 +52,7 @@ public class AppendResponse extends AbstractRaftMessage
     succeeded = false;
     previousEventPosition = previousEventPositionNullValue();
     nodeId = nodeIdNullValue();
+    receiveBufferCapacity = receiveBufferCapacityNullValue();
 
     return this;
   }
@@ -102,12 +105,21 @@ public class AppendResponse extends AbstractRaftMessage
     return nodeId;
   }
 
+  /**
+   * @return the capacity of the buffer which receives the append requests on the follower, or a
+   *     negative value if it is unknown
+   */
+  public int getReceiveBufferCapacity() {
+    return receiveBufferCapacity != receiveBufferCapacityNullValue() ? receiveBufferCapacity : -1;
+  }
+
   public AppendResponse setRaft(final Raft raft) {
     final LogStream logStream = raft.getLogStream();
 
     partitionId = logStream.getPartitionId();
     term = raft.getTerm();
     nodeId = raft.getNodeId();
+    receiveBufferCapacity = raft.getMessageReceiveBuffer().capacity();
 
     return this;
   }
@@ -133,6 +145,7 @@ public class AppendResponse extends AbstractRaftMessage
     succeeded = bodyDecoder.succeeded() == BooleanType.TRUE;
     previousEventPosition = bodyDecoder.previousEventPosition();
     nodeId = bodyDecoder.nodeId();
+    receiveBufferCapacity = bodyDecoder.receiveBufferCapacity();
 
     assert bodyDecoder.limit() == frameEnd
         : "Decoder read only to position "
@@ -159,6 +172,7 @@ public class AppendResponse extends AbstractRaftMessage
         .term(term)
         .succeeded(succeeded ? BooleanType.TRUE : BooleanType.FALSE)
         .previousEventPosition(previousEventPosition)
-        .nodeId(nodeId);
+        .nodeId(nodeId)
+        .receiveBufferCapacity(receiveBufferCapacity);
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.raft.protocol;
+
+import io.zeebe.raft.CompressionType;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public class DeflateEventCodec implements EventCodec {
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+  private final Inflater inflater = new Inflater(true);
+
+  private byte[] input = new byte[0];
+  private byte[] output = new byte[0];
+
+  @Override
+  public CompressionType getType() {
+    return CompressionType.DEFLATE;
+  }
+
+  @Override
+  public int compress(
+      final DirectBuffer source,
+      final int offset,
+      final int length,
+      final MutableDirectBuffer destination) {
+    final byte[] input = copyInput(source, offset, length);
+    final byte[] output = ensureOutputCapacity(length);
+
+    deflater.reset();
+    deflater.setInput(input, 0, length);
+    deflater.finish();
+
+    final int compressedLength = deflater.deflate(output, 0, length);
+
+    if (!deflater.finished() || compressedLength >= length) {
+      return -1;
+    }
+
+    destination.putBytes(0, output, 0, compressedLength);
+    return compressedLength;
+  }
+
+  @Override
+  public void decompress(
+      final DirectBuffer source,
+      final int offset,
+      final int length,
+      final MutableDirectBuffer destination,
+      final int decompressedLength) {
+    final byte[] input = copyInput(source, offset, length);
+    final byte[] output = ensureOutputCapacity(decompressedLength);
+
+    inflater.reset();
+    inflater.setInput(input, 0, length);
+
+    final int inflatedLength;
+    try {
+      inflatedLength = inflater.inflate(output, 0, decompressedLength);
+    } catch (final DataFormatException e) {
+      throw new IllegalStateException("Failed to decompress event data", e);
+    }
+
+    if (inflatedLength != decompressedLength || !inflater.finished()) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected event data to decompress to %d bytes but got %d",
+              decompressedLength, inflatedLength));
+    }
+
+    destination.putBytes(0, output, 0, decompressedLength);
+  }
+
+  @Override
+  public void close() {
+    deflater.end();
+    inflater.end();
+  }
+
+  private byte[] copyInput(final DirectBuffer source, final int offset, final int length) {
+    if (input.length < length) {
+      input = new byte[length];
+    }
+    source.getBytes(offset, input, 0, length);
+    return input;
+  }
+
+  private byte[] ensureOutputCapacity(final int length) {
+    if (output.length < length) {
+      output = new byte[length];
+    }
+    return output;
+  }
+}
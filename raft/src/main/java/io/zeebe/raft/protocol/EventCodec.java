@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.raft.protocol;
+
+import io.zeebe.raft.CompressionType;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/** Compresses the event data of an {@link AppendRequest} before it is sent to a follower. */
+public interface EventCodec {
+
+  CompressionType getType();
+
+  /**
+   * Compresses the given data into the destination buffer.
+   *
+   * @return the compressed length, or a negative value if the compressed data would not be smaller
+   *     than the given data
+   */
+  int compress(DirectBuffer source, int offset, int length, MutableDirectBuffer destination);
+
+  /**
+   * Decompresses the given data into the destination buffer.
+   *
+   * @throws IllegalStateException if the data does not decompress to the expected length
+   */
+  void decompress(
+      DirectBuffer source,
+      int offset,
+      int length,
+      MutableDirectBuffer destination,
+      int decompressedLength);
+
+  /** Releases the native resources of the codec. */
+  void close();
+
+  static EventCodec newCodec(final CompressionType type) {
+    switch (type) {
+      case NONE:
+        return null;
+      case DEFLATE:
+        return new DeflateEventCodec();
+      default:
+        throw new IllegalArgumentException("Unsupported compression type: " + type);
+    }
+  }
+}
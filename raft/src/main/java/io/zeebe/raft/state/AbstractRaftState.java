@@ -109,6 +109,7 @@ public abstract class AbstractRaftState implements Service<AbstractRaftState>, M
     messageBufferSubscription.cancel();
     reader.close();
     appender.close();
+    appendRequest.close();
   }
 
   private void consumeRequest() {
@@ -59,17 +59,31 @@ public class FollowerState extends AbstractRaftState {
   public void appendRequest(final AppendRequest appendRequest) {
     raft.mayStepDown(appendRequest);
 
-    final long previousEventPosition = appendRequest.getPreviousEventPosition();
-    final int previousEventTerm = appendRequest.getPreviousEventTerm();
-    final LoggedEventImpl event = appendRequest.getEvent();
-
     if (!appender.isClosed() && raft.isTermCurrent(appendRequest)) {
-      final boolean lastEvent = appender.isLastEvent(previousEventPosition, previousEventTerm);
-      if (lastEvent) {
-        appender.appendEvent(appendRequest, event);
-      } else {
-        appender.truncateLog(appendRequest, event);
-      }
+      long previousEventPosition = appendRequest.getPreviousEventPosition();
+      int previousEventTerm = appendRequest.getPreviousEventTerm();
+      LoggedEventImpl event = appendRequest.getEvent();
+
+      boolean isAppended;
+      do {
+        final boolean lastEvent = appender.isLastEvent(previousEventPosition, previousEventTerm);
+        if (lastEvent) {
+          isAppended =
+              appender.appendEvent(appendRequest, previousEventPosition, previousEventTerm, event);
+        } else {
+          isAppended =
+              appender.truncateLog(appendRequest, previousEventPosition, previousEventTerm, event);
+        }
+
+        if (event != null) {
+          // the events of a request are contiguous, each one follows the one before
+          previousEventPosition = event.getPosition();
+          previousEventTerm = event.getRaftTerm();
+          event = appendRequest.nextEvent();
+        }
+      } while (isAppended && event != null);
+
+      appender.acceptMatchedEvents();
     } else {
       rejectAppendRequest(appendRequest, appender.getLastPosition());
     }
@@ -151,15 +151,16 @@ public class LeaderState extends AbstractRaftState {
     if (!raft.mayStepDown(appendResponse)) {
       final boolean succeeded = appendResponse.isSucceeded();
       final long eventPosition = appendResponse.getPreviousEventPosition();
+      final int receiveBufferCapacity = appendResponse.getReceiveBufferCapacity();
 
       final RaftMember member = raftMembers.getMember(appendResponse.getNodeId());
 
       if (member != null) {
         if (succeeded) {
-          member.onFollowerHasAcknowledgedPosition(eventPosition);
+          member.onFollowerHasAcknowledgedPosition(eventPosition, receiveBufferCapacity);
           commit();
         } else {
-          member.onFollowerHasFailedPosition(eventPosition);
+          member.onFollowerHasFailedPosition(eventPosition, receiveBufferCapacity);
         }
       }
     }
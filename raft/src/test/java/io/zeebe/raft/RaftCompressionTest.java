@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.raft;
+
+import io.zeebe.raft.util.EventInfo;
+import io.zeebe.raft.util.RaftClusterRule;
+import io.zeebe.raft.util.RaftRule;
+import io.zeebe.servicecontainer.testing.ServiceContainerRule;
+import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftCompressionTest {
+  public ActorSchedulerRule actorScheduler = new ActorSchedulerRule();
+  public ServiceContainerRule serviceContainerRule = new ServiceContainerRule(actorScheduler);
+
+  public RaftRule raft1 = new RaftRule(serviceContainerRule, 1, 0);
+  public RaftRule raft2 = new RaftRule(serviceContainerRule, 2, 0, raft1);
+  public RaftRule raft3 = new RaftRule(serviceContainerRule, 3, 0, raft1);
+
+  @Rule
+  public RaftClusterRule cluster =
+      new RaftClusterRule(actorScheduler, serviceContainerRule, raft1, raft2, raft3);
+
+  {
+    // the followers decompress the events independently of their own configuration
+    raft1.getConfiguration().setReplicationCompression("deflate");
+    raft2.getConfiguration().setReplicationCompression("deflate");
+  }
+
+  @Test
+  public void shouldReplicateCompressedEvents() {
+    // given
+    final RaftRule leader = cluster.awaitLeader();
+
+    final String event1 = largeEvent("foo");
+    final String event2 = largeEvent("bar");
+
+    // when
+    final EventInfo eventInfo = leader.writeEvents(event1, event2, "end");
+
+    // then
+    cluster.awaitEventCommittedOnAll(eventInfo);
+    cluster.awaitEventsCommittedOnAll(event1, event2, "end");
+  }
+
+  @Test
+  public void shouldReplicateCompressedEventsToNewLeader() {
+    // given
+    final RaftRule oldLeader = cluster.awaitLeader();
+    final String event1 = largeEvent("foo");
+    final EventInfo eventInfo = oldLeader.writeEvents(event1);
+    cluster.awaitEventCommittedOnAll(eventInfo);
+
+    // when
+    cluster.removeRaft(oldLeader);
+    final RaftRule newLeader = cluster.awaitLeader();
+
+    final String event2 = largeEvent("bar");
+    final EventInfo newEventInfo = newLeader.writeEvents(event2, "end");
+
+    // then
+    cluster.awaitEventCommittedOnAll(newEventInfo);
+    cluster.awaitEventsCommittedOnAll(event1, event2, "end");
+  }
+
+  private static String largeEvent(final String content) {
+    // larger than the minimum length of compressed events
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      builder.append(content);
+    }
+    return builder.toString();
+  }
+}
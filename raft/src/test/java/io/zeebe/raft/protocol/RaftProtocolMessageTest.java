@@ -21,11 +21,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.zeebe.dispatcher.impl.log.DataFrameDescriptor;
 import io.zeebe.logstreams.impl.LoggedEventImpl;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.raft.AppendRequestEncoder;
+import io.zeebe.raft.MessageHeaderEncoder;
 import io.zeebe.raft.Raft;
 import io.zeebe.raft.util.RaftClusterRule;
 import io.zeebe.raft.util.RaftRule;
 import io.zeebe.servicecontainer.testing.ServiceContainerRule;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.Random;
 import org.agrona.BitUtil;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -200,6 +203,172 @@ public class RaftProtocolMessageTest {
     assertThat(actual.getBuffer()).isEqualTo(data);
   }
 
+  @Test
+  public void shouldReadAppendRequestOfPreviousVersion() {
+    // given
+    final int msgLength = BitUtil.SIZE_OF_LONG;
+
+    final MutableDirectBuffer data =
+        new UnsafeBuffer(new byte[DataFrameDescriptor.alignedFramedLength(msgLength)]);
+    data.putInt(DataFrameDescriptor.lengthOffset(0), DataFrameDescriptor.framedLength(msgLength));
+    data.putLong(DataFrameDescriptor.messageOffset(0), 123L);
+
+    final LoggedEventImpl event = new LoggedEventImpl();
+    event.wrap(data, 0);
+
+    final AppendRequest appendRequestV2 =
+        new AppendRequest()
+            .setRaft(raft)
+            .setPreviousEventPosition(111)
+            .setPreviousEventTerm(222)
+            .setEvent(event);
+
+    final UnsafeBuffer bufferV2 = new UnsafeBuffer(new byte[appendRequestV2.getLength()]);
+    appendRequestV2.write(bufferV2, 0);
+
+    // version 1 has no compression and uncompressed length in the block
+    final int headerLength = MessageHeaderEncoder.ENCODED_LENGTH;
+    final int blockLengthV1 = AppendRequestEncoder.compressionEncodingOffset();
+    final int blockLengthV2 = AppendRequestEncoder.BLOCK_LENGTH;
+    final int varDataLength = bufferV2.capacity() - headerLength - blockLengthV2;
+
+    final UnsafeBuffer bufferV1 =
+        new UnsafeBuffer(new byte[headerLength + blockLengthV1 + varDataLength]);
+    bufferV1.putBytes(0, bufferV2, 0, headerLength + blockLengthV1);
+    bufferV1.putBytes(
+        headerLength + blockLengthV1, bufferV2, headerLength + blockLengthV2, varDataLength);
+    new MessageHeaderEncoder().wrap(bufferV1, 0).blockLength(blockLengthV1).version(1);
+
+    // when
+    final AppendRequest appendRequest = new AppendRequest();
+    final boolean wrapped = appendRequest.tryWrap(bufferV1, 0, bufferV1.capacity());
+
+    // then
+    assertThat(wrapped).isTrue();
+    assertPartition(appendRequest);
+    assertTerm(appendRequest);
+    assertNodeId(appendRequest);
+    assertThat(appendRequest.getPreviousEventPosition()).isEqualTo(111);
+    assertThat(appendRequest.getPreviousEventTerm()).isEqualTo(222);
+
+    final LoggedEventImpl actual = appendRequest.getEvent();
+    assertThat(actual).isNotNull();
+    assertThat(actual.getBuffer()).isEqualTo(data);
+  }
+
+  @Test
+  public void shouldReadAndWriteAppendRequestWithMultipleEvents() {
+    // given
+    final int msgLength = BitUtil.SIZE_OF_LONG;
+    final int fragmentLength = DataFrameDescriptor.alignedFramedLength(msgLength);
+
+    final MutableDirectBuffer data = new UnsafeBuffer(new byte[3 * fragmentLength]);
+    final LoggedEventImpl event = new LoggedEventImpl();
+
+    AppendRequest appendRequest =
+        new AppendRequest().setRaft(raft).setPreviousEventPosition(111).setPreviousEventTerm(222);
+
+    for (int i = 0; i < 3; i++) {
+      final int offset = i * fragmentLength;
+      data.putInt(
+          DataFrameDescriptor.lengthOffset(offset), DataFrameDescriptor.framedLength(msgLength));
+      data.putLong(DataFrameDescriptor.messageOffset(offset), i);
+
+      event.wrap(data, offset);
+      appendRequest.addEvent(event);
+    }
+
+    assertThat(appendRequest.getEventCount()).isEqualTo(3);
+    assertThat(appendRequest.getEventsLength()).isEqualTo(3 * fragmentLength);
+
+    // when
+    appendRequest = writeAndRead(appendRequest);
+
+    // then
+    assertThat(appendRequest.getPreviousEventPosition()).isEqualTo(111);
+    assertThat(appendRequest.getPreviousEventTerm()).isEqualTo(222);
+
+    LoggedEventImpl actual = appendRequest.getEvent();
+    for (int i = 0; i < 3; i++) {
+      assertThat(actual).isNotNull();
+      assertThat(actual.getFragmentOffset()).isEqualTo(i * fragmentLength);
+      assertThat(
+              actual
+                  .getBuffer()
+                  .getLong(DataFrameDescriptor.messageOffset(actual.getFragmentOffset())))
+          .isEqualTo(i);
+
+      actual = appendRequest.nextEvent();
+    }
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  public void shouldReadAndWriteAppendRequestWithCompressedEvent() {
+    // given
+    final int msgLength = 1024;
+
+    final MutableDirectBuffer data =
+        new UnsafeBuffer(new byte[DataFrameDescriptor.alignedFramedLength(msgLength)]);
+    data.putInt(DataFrameDescriptor.lengthOffset(0), DataFrameDescriptor.framedLength(msgLength));
+    data.setMemory(DataFrameDescriptor.messageOffset(0), msgLength, (byte) 'a');
+
+    final LoggedEventImpl event = new LoggedEventImpl();
+    event.wrap(data, 0);
+
+    AppendRequest appendRequest =
+        new AppendRequest()
+            .setCodec(new DeflateEventCodec())
+            .setRaft(raft)
+            .setPreviousEventPosition(111)
+            .setPreviousEventTerm(222)
+            .setEvent(event);
+
+    assertThat(appendRequest.isCompressed()).isTrue();
+    assertThat(appendRequest.getLength()).isLessThan(msgLength);
+
+    // when
+    appendRequest = writeAndRead(appendRequest);
+
+    // then
+    assertThat(appendRequest.getPreviousEventPosition()).isEqualTo(111);
+    assertThat(appendRequest.getPreviousEventTerm()).isEqualTo(222);
+
+    final LoggedEventImpl actual = appendRequest.getEvent();
+    assertThat(actual).isNotNull();
+    assertThat(actual.getBuffer()).isEqualTo(data);
+  }
+
+  @Test
+  public void shouldNotCompressEventIfNotSmaller() {
+    // given
+    final int msgLength = 1024;
+
+    final MutableDirectBuffer data =
+        new UnsafeBuffer(new byte[DataFrameDescriptor.alignedFramedLength(msgLength)]);
+    data.putInt(DataFrameDescriptor.lengthOffset(0), DataFrameDescriptor.framedLength(msgLength));
+    final Random random = new Random(42);
+    for (int i = 0; i < msgLength; i++) {
+      data.putByte(DataFrameDescriptor.messageOffset(i), (byte) random.nextInt());
+    }
+
+    final LoggedEventImpl event = new LoggedEventImpl();
+    event.wrap(data, 0);
+
+    AppendRequest appendRequest =
+        new AppendRequest().setCodec(new DeflateEventCodec()).setRaft(raft).setEvent(event);
+
+    assertThat(appendRequest.isCompressed()).isFalse();
+
+    // when
+    appendRequest = writeAndRead(appendRequest);
+
+    // then
+    final LoggedEventImpl actual = appendRequest.getEvent();
+    assertThat(actual).isNotNull();
+    assertThat(actual.getBuffer()).isEqualTo(data);
+  }
+
   @Test
   public void shouldReadWriteAppendResponse() {
     // given
@@ -215,6 +384,8 @@ public class RaftProtocolMessageTest {
     assertNodeId(appendResponse);
     assertThat(appendResponse.getPreviousEventPosition()).isEqualTo(111);
     assertThat(appendResponse.isSucceeded()).isTrue();
+    assertThat(appendResponse.getReceiveBufferCapacity())
+        .isEqualTo(raft.getMessageReceiveBuffer().capacity());
   }
 
   protected void assertPartition(final HasPartition hasPartition) {
@@ -170,11 +170,12 @@ public class TransportChannel {
     return bytesReceived;
   }
 
-  public int write(ByteBuffer buffer) {
-    int bytesWritten = -1;
+  /** Writes the remaining bytes of the given buffers with a single gathering write. */
+  public long write(ByteBuffer[] buffers, int offset, int length) {
+    long bytesWritten = -1;
 
     try {
-      bytesWritten = media.write(buffer);
+      bytesWritten = media.write(buffers, offset, length);
       metrics.transmitBytes.getAndAddOrdered(bytesWritten);
     } catch (IOException e) {
       doClose();
@@ -56,6 +56,8 @@ public class OutgoingRequest {
 
   private boolean isTimedout;
 
+  private boolean isWriteQueued;
+
   public OutgoingRequest(
       Supplier<RemoteAddress> remoteAddressSupplier,
       Predicate<DirectBuffer> retryPredicate,
@@ -154,4 +156,13 @@ public class OutgoingRequest {
   public boolean isTimedout() {
     return isTimedout;
   }
+
+  /** @return true if the request buffer is queued to be written to a channel */
+  public boolean isWriteQueued() {
+    return isWriteQueued;
+  }
+
+  public void setWriteQueued(boolean isWriteQueued) {
+    this.isWriteQueued = isWriteQueued;
+  }
 }
@@ -24,17 +24,17 @@ import io.zeebe.transport.impl.RemoteAddressImpl;
 import io.zeebe.transport.impl.TransportChannel;
 import io.zeebe.transport.impl.actor.ActorContext;
 import io.zeebe.transport.impl.memory.TransportMemoryPool;
-import io.zeebe.util.ByteValue;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.channel.ConcurrentQueueChannel;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.agrona.DeadlineTimerWheel;
@@ -43,13 +43,13 @@ import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
-import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 public class Sender extends Actor implements TimerHandler {
   private static final int MAX_REQUEST_CONSUME_BATCH_SIZE = 100;
 
-  private static final int DEFAULT_BATCH_SIZE = (int) ByteValue.ofKilobytes(128).toBytes();
+  /** the max number of frames which are written to a channel with one gathering write */
+  private static final int MAX_GATHERED_WRITES = 64;
 
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
 
@@ -69,8 +69,6 @@ public class Sender extends Actor implements TimerHandler {
   private final Int2ObjectHashMap<ChannelWriteQueue> channelMap = new Int2ObjectHashMap<>();
   private final List<ChannelWriteQueue> channelList = new ArrayList<>();
 
-  private final Deque<Batch> recycledBuffers = new LinkedList<>();
-
   private DeadlineTimerWheel requestTimeouts;
 
   private final Runnable sendNext = this::sendNext;
@@ -164,15 +162,13 @@ public class Sender extends Actor implements TimerHandler {
         shouldRetry = !request.tryComplete(response);
       } catch (Exception e) {
         request.fail(e);
-        reclaimRequestBuffer(request.getRequestBuffer().byteBuffer());
-        return;
       }
 
       if (shouldRetry) {
         // retry after delay
         actor.runDelayed(Duration.ofMillis(1), () -> submittedRequests.offer(request));
       } else {
-        reclaimRequestBuffer(request.getRequestBuffer().byteBuffer());
+        reclaimRequestBuffer(request);
 
         final long timerId = request.getTimerId();
 
@@ -193,7 +189,10 @@ public class Sender extends Actor implements TimerHandler {
       requestsByTimeoutIds.put(timerId, request);
     }
 
-    if (!request.isTimedout()) {
+    if (request.isWriteQueued()) {
+      // the buffer is still queued to be written, so its header must not be changed yet
+      actor.runDelayed(Duration.ofMillis(1), () -> submittedRequests.offer(request));
+    } else if (!request.isTimedout()) {
       final RemoteAddress remoteAddress = request.getNextRemoteAddress();
 
       if (remoteAddress != null) {
@@ -216,11 +215,8 @@ public class Sender extends Actor implements TimerHandler {
     final int remoteStreamId = message.getRemoteStreamId();
     final ChannelWriteQueue sendQueue = channelMap.get(remoteStreamId);
     if (sendQueue != null) {
-      try {
-        sendQueue.offer(message);
-      } finally {
-        reclaimMessageBuffer(message.getAllocatedBuffer());
-      }
+      // the buffer is reclaimed when the message is written
+      sendQueue.offer(message);
     } else if (ActorClock.currentTimeMillis() < message.getDeadline()) {
       // channel not open, retry
       actor.runDelayed(Duration.ofMillis(10), () -> submittedMessages.offer(message));
@@ -259,180 +255,155 @@ public class Sender extends Actor implements TimerHandler {
   }
 
   public class ChannelWriteQueue {
-    private final Deque<Batch> pendingWrites = new LinkedList<>();
+    private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
 
-    private final TransportChannel channel;
+    private final ByteBuffer[] gatheredBuffers = new ByteBuffer[MAX_GATHERED_WRITES];
 
-    private Batch currentWrite;
+    private final TransportChannel channel;
 
     public ChannelWriteQueue(TransportChannel channel) {
       this.channel = channel;
     }
 
     public boolean hasPending() {
-      return currentWrite != null || !pendingWrites.isEmpty();
+      return !pendingWrites.isEmpty();
     }
 
+    /**
+     * Writes the pending frames directly from their buffers. All frames which are queued since the
+     * last write are written together with one gathering write.
+     */
     public void write() {
       if (hasPending()) {
-        if (currentWrite == null) {
-          currentWrite = pendingWrites.poll();
-          currentWrite.prepareWrite();
+        int count = 0;
+
+        final Iterator<PendingWrite> iterator = pendingWrites.iterator();
+        while (count < MAX_GATHERED_WRITES && iterator.hasNext()) {
+          gatheredBuffers[count] = iterator.next().buffer;
+          count += 1;
         }
 
-        currentWrite.writeTo(channel);
+        channel.write(gatheredBuffers, 0, count);
 
-        if (!currentWrite.hasRemaining()) {
-          currentWrite.recycle();
-          currentWrite = null;
-        }
-      }
-    }
+        Arrays.fill(gatheredBuffers, 0, count, null);
 
-    public void offer(OutgoingRequest request) {
-      // try to fit into last pending batch
-      final Batch existingBatch = pendingWrites.peekLast();
-
-      if (existingBatch == null || !existingBatch.addToBatch(request, channel)) {
-        // try to recycle existing batch
-        final Iterator<Batch> recycledBuffersIterator = recycledBuffers.iterator();
-        while (recycledBuffersIterator.hasNext()) {
-          final Batch batch = recycledBuffersIterator.next();
-
-          if (batch.addToBatch(request, channel)) {
-            recycledBuffersIterator.remove();
-            pendingWrites.addLast(batch);
-            return;
-          }
+        while (!pendingWrites.isEmpty() && !pendingWrites.peekFirst().buffer.hasRemaining()) {
+          pendingWrites.pollFirst().onWritten();
         }
-
-        // allocate new batch
-        final Batch batch =
-            new Batch(Math.max(DEFAULT_BATCH_SIZE, request.getRequestBuffer().capacity()));
-        batch.addToBatch(request, channel);
-        pendingWrites.addLast(batch);
       }
     }
 
-    public void offer(OutgoingMessage message) {
-      // try to fit into last pending batch
-      Batch batch = pendingWrites.peekLast();
+    public void offer(OutgoingRequest request) {
+      final long requestId = ++nextRequestId;
 
-      if (batch == null || !batch.addToBatch(message)) {
-        boolean hasRecycled = false;
+      request.setLastRequestId(requestId);
 
-        // try to recycle existing batch
-        final Iterator<Batch> recycledBuffersIterator = recycledBuffers.iterator();
-        while (recycledBuffersIterator.hasNext()) {
-          batch = recycledBuffersIterator.next();
+      request.getHeaderWriter().setStreamId(channel.getStreamId()).setRequestId(requestId);
 
-          if (batch.addToBatch(message)) {
-            recycledBuffersIterator.remove();
-            hasRecycled = true;
-            break;
-          }
-        }
+      inFlightRequests.put(requestId, request);
 
-        if (!hasRecycled) {
-          // allocate new batch
-          batch = new Batch(Math.max(DEFAULT_BATCH_SIZE, message.getBuffer().capacity()));
-          batch.addToBatch(message);
-        }
+      request.setWriteQueued(true);
+      pendingWrites.addLast(new PendingRequest(request));
+    }
 
-        pendingWrites.addLast(batch);
-      }
+    public void offer(OutgoingMessage message) {
+      pendingWrites.addLast(new PendingMessage(message));
     }
 
-    public Deque<Batch> getPendingWrites() {
+    public Deque<PendingWrite> getPendingWrites() {
       return pendingWrites;
     }
-  }
 
-  private class Batch {
-    final List<OutgoingRequest> requestsInBatch = new ArrayList<>();
+    private void onChannelClosed() {
+      pendingWrites.forEach(PendingWrite::onChannelClosed);
+      pendingWrites.clear();
+    }
+  }
 
-    final UnsafeBuffer view = new UnsafeBuffer();
-    final ByteBuffer batchBuffer;
-    int writeOffset = 0;
+  /** A frame which is written to the channel from the buffer it was allocated in. */
+  private abstract static class PendingWrite {
+    final ByteBuffer buffer;
 
-    Batch(int size) {
-      batchBuffer = ByteBuffer.allocateDirect(size);
-      view.wrap(batchBuffer);
+    PendingWrite(ByteBuffer buffer) {
+      this.buffer = buffer;
     }
 
-    public boolean addToBatch(OutgoingRequest request, TransportChannel channel) {
-      final DirectBuffer requestBuffer = request.getRequestBuffer();
-      final int requestLength = requestBuffer.capacity();
+    static ByteBuffer viewOf(DirectBuffer allocatedFrame) {
+      // use a view, so that the position of the allocated buffer is not changed
+      final ByteBuffer view = allocatedFrame.byteBuffer().duplicate();
+      view.position(0).limit(allocatedFrame.capacity());
+      return view;
+    }
 
-      if (writeOffset + requestLength <= batchBuffer.capacity()) {
-        final long requestId = ++nextRequestId;
+    abstract void onWritten();
 
-        request.setLastRequestId(requestId);
+    abstract void onChannelClosed();
+  }
 
-        request.getHeaderWriter().setStreamId(channel.getStreamId()).setRequestId(requestId);
+  private class PendingRequest extends PendingWrite {
+    private final OutgoingRequest request;
 
-        requestBuffer.getBytes(0, batchBuffer, writeOffset, requestLength);
-        writeOffset += requestLength;
-        requestsInBatch.add(request);
+    PendingRequest(OutgoingRequest request) {
+      super(viewOf(request.getRequestBuffer()));
+      this.request = request;
+    }
 
-        inFlightRequests.put(requestId, request);
+    @Override
+    void onWritten() {
+      request.setWriteQueued(false);
 
-        return true;
-      } else {
-        return false;
+      // otherwise, the buffer is reclaimed when the request is completed or timed out
+      if (request.getResponseFuture().isDone()) {
+        reclaimRequestBuffer(request);
       }
     }
 
-    public boolean addToBatch(OutgoingMessage message) {
-      final DirectBuffer buffer = message.getBuffer();
-      final int requiredLength = buffer.capacity();
-
-      if (writeOffset + requiredLength <= batchBuffer.capacity()) {
-        buffer.getBytes(0, batchBuffer, writeOffset, requiredLength);
-        writeOffset += requiredLength;
+    @Override
+    void onChannelClosed() {
+      request.setWriteQueued(false);
 
-        return true;
+      if (request.getResponseFuture().isDone()) {
+        reclaimRequestBuffer(request);
       } else {
-        return false;
+        // re-submit the request so that it can be retried
+        submitRequest(request);
       }
     }
+  }
 
-    public boolean writeTo(TransportChannel channel) {
-      return channel.write(batchBuffer) > 0;
-    }
-
-    public void prepareWrite() {
-      batchBuffer.position(0);
-      batchBuffer.limit(writeOffset);
-    }
+  private class PendingMessage extends PendingWrite {
+    private final OutgoingMessage message;
 
-    public boolean hasRemaining() {
-      return batchBuffer.hasRemaining();
+    PendingMessage(OutgoingMessage message) {
+      super(viewOf(message.getBuffer()));
+      this.message = message;
     }
 
-    public void recycle() {
-      writeOffset = 0;
-      view.setMemory(0, view.capacity(), (byte) 0);
-      requestsInBatch.clear();
-      recycledBuffers.push(this);
+    @Override
+    void onWritten() {
+      reclaimMessageBuffer(message.getAllocatedBuffer());
     }
 
-    public void onChannelClosed() {
-      requestsInBatch.forEach(Sender.this::submitRequest);
-      recycle();
+    @Override
+    void onChannelClosed() {
+      reclaimMessageBuffer(message.getAllocatedBuffer());
     }
   }
 
-  class ControlMessage extends Batch {
+  static class ControlMessage extends PendingWrite {
     ControlMessage(DirectBuffer controlMessageTemplate) {
-      super(controlMessageTemplate.capacity());
-      view.putBytes(0, controlMessageTemplate, 0, controlMessageTemplate.capacity());
-      this.writeOffset = controlMessageTemplate.capacity();
+      super(ByteBuffer.allocate(controlMessageTemplate.capacity()));
+      controlMessageTemplate.getBytes(0, buffer, 0, controlMessageTemplate.capacity());
+    }
+
+    @Override
+    void onWritten() {
+      // nothing to reclaim
     }
 
     @Override
-    public void recycle() {
-      // don't do it
+    void onChannelClosed() {
+      // don't retry
     }
   }
 
@@ -469,7 +440,7 @@ public class Sender extends Actor implements TimerHandler {
           if (sendQueue != null) {
             channelList.remove(sendQueue);
             // re-submit pending requests so that they can be retried
-            sendQueue.pendingWrites.forEach(Batch::onChannelClosed);
+            sendQueue.onChannelClosed();
           }
         });
   }
@@ -479,8 +450,8 @@ public class Sender extends Actor implements TimerHandler {
     final OutgoingRequest request = requestsByTimeoutIds.get(timerId);
 
     if (request != null) {
-      reclaimRequestBuffer(request.getRequestBuffer().byteBuffer());
       request.timeout();
+      reclaimRequestBuffer(request);
       inFlightRequests.remove(request.getLastRequestId());
     }
 
@@ -503,5 +474,12 @@ public class Sender extends Actor implements TimerHandler {
     requestMemoryPool.reclaim(allocatedBuffer);
   }
 
+  private void reclaimRequestBuffer(OutgoingRequest request) {
+    // a queued buffer is reclaimed when it is written or the channel is closed
+    if (!request.isWriteQueued()) {
+      reclaimRequestBuffer(request.getRequestBuffer().byteBuffer());
+    }
+  }
+
   public void failPendingRequestsToRemote(RemoteAddressImpl remoteAddress, String reason) {}
 }
@@ -623,6 +623,38 @@ public class ClientTransportTest {
     waitUntil(() -> messageHandler.numReceivedMessages() == 10);
   }
 
+  @Test
+  public void shouldSendMessagesInOrder() {
+    // given
+    final RecordingMessageHandler messageHandler = new RecordingMessageHandler();
+
+    buildServerTransport(
+        b -> b.bindAddress(SERVER_ADDRESS1.toInetSocketAddress()).build(messageHandler, null));
+
+    clientTransport.registerEndpoint(NODE_ID1, SERVER_ADDRESS1);
+
+    // messages are retried out of order until the channel is open
+    final UnsafeBuffer message = new UnsafeBuffer(new byte[4]);
+    message.putInt(0, -1);
+    clientTransport.getOutput().sendMessage(NODE_ID1, writerFor(message));
+    waitUntil(() -> messageHandler.numReceivedMessages() == 1);
+
+    final int messageCount = 500;
+
+    // when
+    for (int i = 0; i < messageCount; i++) {
+      message.putInt(0, i);
+      clientTransport.getOutput().sendMessage(NODE_ID1, writerFor(message));
+    }
+
+    // then
+    waitUntil(() -> messageHandler.numReceivedMessages() == messageCount + 1);
+
+    for (int i = 0; i < messageCount; i++) {
+      assertThat(messageHandler.getMessage(i + 1).getBuffer().getInt(0)).isEqualTo(i);
+    }
+  }
+
   @Test
   public void shouldTimeoutRequest() {
     // given
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.util.metrics;
+
+import static io.zeebe.util.metrics.Metric.CLOSING_CURLY_BRACE;
+import static io.zeebe.util.metrics.Metric.COMMA;
+import static io.zeebe.util.metrics.Metric.DOUBLE_QUOTE;
+import static io.zeebe.util.metrics.Metric.EQUALS;
+import static io.zeebe.util.metrics.Metric.NEW_LINE;
+import static io.zeebe.util.metrics.Metric.OPENING_CURLY_BRACE;
+import static io.zeebe.util.metrics.Metric.WHITESPACE;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Histogram with fixed bucket boundaries. Recording a value is lock-free and doesn't allocate, so
+ * it can be used on actor threads.
+ *
+ * <p>The histogram is dumped in the prometheus format, i.e. as cumulative buckets with an upper
+ * bound label ({@code le}), a sum and a count.
+ */
+public class Histogram {
+  private static final byte[] BUCKET_SUFFIX = "_bucket".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] SUM_SUFFIX = "_sum".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] COUNT_SUFFIX = "_count".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] BOUND_LABEL = "le".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] INFINITY = "+Inf".getBytes(StandardCharsets.UTF_8);
+
+  private final byte[] name;
+  private final byte[] description;
+  private final byte[][] labelNames;
+  private final byte[][] labelValues;
+  private final Consumer<Histogram> onClose;
+
+  private final long[] bucketBounds;
+  private final byte[][] bucketBoundLabels;
+  /** one counter per bucket and one for the values which are greater than the last bound */
+  private final AtomicLongArray bucketCounts;
+
+  private final AtomicLong sum = new AtomicLong();
+
+  public Histogram(
+      String name,
+      String description,
+      Map<String, String> labels,
+      long[] bucketBounds,
+      Consumer<Histogram> onClose) {
+    if (bucketBounds.length == 0) {
+      throw new IllegalArgumentException("Histogram must have at least one bucket");
+    }
+
+    this.name = name.getBytes(StandardCharsets.UTF_8);
+    this.description = description.getBytes(StandardCharsets.UTF_8);
+    this.onClose = onClose;
+
+    this.labelNames = new byte[labels.size()][];
+    this.labelValues = new byte[labels.size()][];
+    int i = 0;
+    for (Entry<String, String> label : labels.entrySet()) {
+      labelNames[i] = label.getKey().getBytes(StandardCharsets.UTF_8);
+      labelValues[i] = label.getValue().getBytes(StandardCharsets.UTF_8);
+      i++;
+    }
+
+    this.bucketBounds = Arrays.copyOf(bucketBounds, bucketBounds.length);
+    Arrays.sort(this.bucketBounds);
+
+    this.bucketBoundLabels = new byte[this.bucketBounds.length + 1][];
+    for (int b = 0; b < this.bucketBounds.length; b++) {
+      bucketBoundLabels[b] = Long.toString(this.bucketBounds[b]).getBytes(StandardCharsets.UTF_8);
+    }
+    bucketBoundLabels[this.bucketBounds.length] = INFINITY;
+
+    this.bucketCounts = new AtomicLongArray(this.bucketBounds.length + 1);
+  }
+
+  /**
+   * Creates bucket bounds which grow exponentially, e.g. {@code exponentialBuckets(1, 2, 4)}
+   * returns the bounds 1, 2, 4, 8.
+   */
+  public static long[] exponentialBuckets(long start, int factor, int count) {
+    final long[] bounds = new long[count];
+    long bound = start;
+    for (int i = 0; i < count; i++) {
+      bounds[i] = bound;
+      bound *= factor;
+    }
+    return bounds;
+  }
+
+  public void record(long value) {
+    int bucket = Arrays.binarySearch(bucketBounds, value);
+    if (bucket < 0) {
+      // insertion point = index of the first bound which is greater than the value
+      bucket = -bucket - 1;
+    }
+
+    bucketCounts.incrementAndGet(bucket);
+    sum.addAndGet(value);
+  }
+
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < bucketCounts.length(); i++) {
+      count += bucketCounts.get(i);
+    }
+    return count;
+  }
+
+  public long getSum() {
+    return sum.get();
+  }
+
+  /**
+   * @return the number of recorded values which are less than or equal to the given bucket bound
+   */
+  public long getCumulativeCount(long bucketBound) {
+    long count = 0;
+    for (int i = 0; i < bucketBounds.length && bucketBounds[i] <= bucketBound; i++) {
+      count += bucketCounts.get(i);
+    }
+    return count;
+  }
+
+  public String getName() {
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
+  public String getDescription() {
+    return new String(description, StandardCharsets.UTF_8);
+  }
+
+  public int dump(MutableDirectBuffer buffer, int offset, long now) {
+    final byte[] timestamp = Long.toString(now).getBytes(StandardCharsets.UTF_8);
+
+    long count = 0;
+    for (int i = 0; i < bucketBoundLabels.length; i++) {
+      count += bucketCounts.get(i);
+
+      offset = writeArray(buffer, offset, name);
+      offset = writeArray(buffer, offset, BUCKET_SUFFIX);
+      offset = writeLabels(buffer, offset, bucketBoundLabels[i]);
+      offset = writeValue(buffer, offset, count, timestamp);
+    }
+
+    offset = writeArray(buffer, offset, name);
+    offset = writeArray(buffer, offset, SUM_SUFFIX);
+    offset = writeLabels(buffer, offset, null);
+    offset = writeValue(buffer, offset, sum.get(), timestamp);
+
+    offset = writeArray(buffer, offset, name);
+    offset = writeArray(buffer, offset, COUNT_SUFFIX);
+    offset = writeLabels(buffer, offset, null);
+    offset = writeValue(buffer, offset, count, timestamp);
+
+    return offset;
+  }
+
+  private int writeLabels(MutableDirectBuffer buffer, int offset, byte[] bucketBound) {
+    offset = writeArray(buffer, offset, OPENING_CURLY_BRACE);
+    for (int i = 0; i < labelNames.length; i++) {
+      if (i != 0) {
+        offset = writeArray(buffer, offset, COMMA);
+      }
+      offset = writeLabel(buffer, offset, labelNames[i], labelValues[i]);
+    }
+
+    if (bucketBound != null) {
+      if (labelNames.length > 0) {
+        offset = writeArray(buffer, offset, COMMA);
+      }
+      offset = writeLabel(buffer, offset, BOUND_LABEL, bucketBound);
+    }
+    return writeArray(buffer, offset, CLOSING_CURLY_BRACE);
+  }
+
+  private int writeLabel(MutableDirectBuffer buffer, int offset, byte[] name, byte[] value) {
+    offset = writeArray(buffer, offset, name);
+    offset = writeArray(buffer, offset, EQUALS);
+    offset = writeArray(buffer, offset, DOUBLE_QUOTE);
+    offset = writeArray(buffer, offset, value);
+    return writeArray(buffer, offset, DOUBLE_QUOTE);
+  }
+
+  private int writeValue(MutableDirectBuffer buffer, int offset, long value, byte[] timestamp) {
+    offset = writeArray(buffer, offset, WHITESPACE);
+    offset = writeArray(buffer, offset, Long.toString(value).getBytes(StandardCharsets.UTF_8));
+    offset = writeArray(buffer, offset, WHITESPACE);
+    offset = writeArray(buffer, offset, timestamp);
+    return writeArray(buffer, offset, NEW_LINE);
+  }
+
+  private int writeArray(MutableDirectBuffer buffer, int offset, byte[] array) {
+    buffer.putBytes(offset, array);
+    return offset + array.length;
+  }
+
+  public void close() {
+    onClose.accept(this);
+  }
+}
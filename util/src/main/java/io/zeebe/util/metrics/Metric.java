@@ -83,6 +83,11 @@ public class Metric {
     return value.incrementOrdered();
   }
 
+  /** Increments the value atomically, for metrics which are updated by multiple threads. */
+  public long increment() {
+    return value.increment();
+  }
+
   public void setOrdered(long value) {
     this.value.setOrdered(value);
   }
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.util.sched;
+
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.SleepingIdleStrategy;
+import org.agrona.concurrent.YieldingIdleStrategy;
+
+/** Controls what an {@link ActorThread} does while there are no tasks to execute. */
+public enum ActorIdleStrategy {
+  /** Spins, then yields and finally parks the thread. This is the default. */
+  BACKOFF(true) {
+    @Override
+    public IdleStrategy newIdleStrategy() {
+      return new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+  },
+
+  /**
+   * Spins without giving up the CPU. Gives the lowest latency but occupies a core per thread, so
+   * it should only be used on dedicated hosts.
+   */
+  BUSY_SPIN(false) {
+    @Override
+    public IdleStrategy newIdleStrategy() {
+      return new BusySpinIdleStrategy();
+    }
+  },
+
+  /** Yields the CPU to other threads without parking. */
+  YIELD(false) {
+    @Override
+    public IdleStrategy newIdleStrategy() {
+      return new YieldingIdleStrategy();
+    }
+  },
+
+  /**
+   * Parks the thread immediately for up to one millisecond at a time, without spinning or yielding
+   * first. The thread is woken up early when new work is submitted. Saves CPU on shared hosts at
+   * the cost of the wake-up latency.
+   */
+  PARK(true) {
+    @Override
+    public IdleStrategy newIdleStrategy() {
+      return new SleepingIdleStrategy(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+  };
+
+  private final boolean isParking;
+
+  ActorIdleStrategy(boolean isParking) {
+    this.isParking = isParking;
+  }
+
+  public abstract IdleStrategy newIdleStrategy();
+
+  /** @return true if an idle thread is parked and must be unparked when work is submitted */
+  public boolean isParking() {
+    return isParking;
+  }
+}
@@ -161,10 +161,12 @@ public class ActorScheduler {
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
     private double[] priorityQuotas = new double[] {0.60, 0.30, 0.10};
+    private ActorIdleStrategy cpuBoundIdleStrategy = ActorIdleStrategy.BACKOFF;
 
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
     private int[] ioDeviceConcurrency = new int[] {2};
+    private ActorIdleStrategy ioBoundIdleStrategy = ActorIdleStrategy.BACKOFF;
 
     private ActorThreadFactory actorThreadFactory;
     private ThreadPoolExecutor blockingTasksRunner;
@@ -198,6 +200,16 @@ public class ActorScheduler {
       return this;
     }
 
+    public ActorSchedulerBuilder setCpuBoundIdleStrategy(ActorIdleStrategy idleStrategy) {
+      this.cpuBoundIdleStrategy = idleStrategy;
+      return this;
+    }
+
+    public ActorSchedulerBuilder setIoBoundIdleStrategy(ActorIdleStrategy idleStrategy) {
+      this.ioBoundIdleStrategy = idleStrategy;
+      return this;
+    }
+
     public ActorSchedulerBuilder setPriorityQuotas(double[] priorityQuotas) {
       this.priorityQuotas = priorityQuotas;
       return this;
@@ -257,6 +269,14 @@ public class ActorScheduler {
       return ioBoundThreadsCount;
     }
 
+    public ActorIdleStrategy getCpuBoundIdleStrategy() {
+      return cpuBoundIdleStrategy;
+    }
+
+    public ActorIdleStrategy getIoBoundIdleStrategy() {
+      return ioBoundIdleStrategy;
+    }
+
     public double[] getPriorityQuotas() {
       return priorityQuotas;
     }
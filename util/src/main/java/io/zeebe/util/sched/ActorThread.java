@@ -42,7 +42,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.agrona.UnsafeAccess;
-import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.slf4j.MDC;
 import sun.misc.Unsafe;
@@ -57,6 +57,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   private static final long STATE_OFFSET;
 
+  /** the max time after which the runtime of a busy or idle period is recorded in the metrics */
+  private static final long RUNTIME_RECORD_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(100);
+
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
 
   public final ManyToManyConcurrentArrayQueue<Runnable> submittedCallbacks =
@@ -81,7 +84,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
 
-  protected ActorTaskRunnerIdleStrategy idleStrategy = new ActorTaskRunnerIdleStrategy();
+  protected ActorTaskRunnerIdleStrategy idleStrategy;
 
   ActorTask currentTask;
 
@@ -101,6 +104,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     this.actorThreadGroup = threadGroup;
     this.metrics = metrics;
     this.taskScheduler = taskScheduler;
+    this.idleStrategy = new ActorTaskRunnerIdleStrategy();
   }
 
   @Override
@@ -128,6 +132,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       timerJobQueue.processExpiredTimers(clock);
     }
 
+    idleStrategy.recordRuntime();
+
     currentTask = taskScheduler.getNextTask(clock);
 
     if (currentTask != null) {
@@ -188,8 +194,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   protected class ActorTaskRunnerIdleStrategy {
-    final BackoffIdleStrategy backoff =
-        new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
+    final ActorIdleStrategy type =
+        actorThreadGroup != null ? actorThreadGroup.getIdleStrategy() : ActorIdleStrategy.BACKOFF;
+    final IdleStrategy backoff = type.newIdleStrategy();
     boolean isIdle;
 
     long idleTimeStart;
@@ -201,7 +208,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      // a spinning thread picks up the work without being woken up
+      if (type.isParking()) {
+        LockSupport.unpark(ActorThread.this);
+      }
     }
 
     protected void onIdle() {
@@ -215,6 +225,24 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       backoff.idle();
     }
 
+    /**
+     * Records the runtime of the current busy or idle period in intervals, so that the metrics are
+     * updated while the thread doesn't change between busy and idle.
+     */
+    void recordRuntime() {
+      final long now = clock.getNanoTime();
+
+      if (isIdle) {
+        if (now - idleTimeStart >= RUNTIME_RECORD_INTERVAL_NS) {
+          metrics.recordRunnerIdleTime(now - idleTimeStart);
+          idleTimeStart = now;
+        }
+      } else if (now - busyTimeStart >= RUNTIME_RECORD_INTERVAL_NS) {
+        metrics.recordRunnerBusyTime(now - busyTimeStart);
+        busyTimeStart = now;
+      }
+    }
+
     protected void onTaskExecuted() {
       backoff.reset();
 
@@ -29,13 +29,20 @@ public abstract class ActorThreadGroup {
 
   protected int numOfThreads;
 
+  protected final ActorIdleStrategy idleStrategy;
+
   protected final ActorThread[] threads;
   protected final MultiLevelWorkstealingGroup tasks;
 
   public ActorThreadGroup(
-      String groupName, int numOfThreads, int numOfQueuesPerThread, ActorSchedulerBuilder builder) {
+      String groupName,
+      int numOfThreads,
+      int numOfQueuesPerThread,
+      ActorIdleStrategy idleStrategy,
+      ActorSchedulerBuilder builder) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    this.idleStrategy = idleStrategy;
 
     this.tasks = new MultiLevelWorkstealingGroup(numOfThreads, numOfQueuesPerThread);
 
@@ -89,6 +96,10 @@ public abstract class ActorThreadGroup {
     return numOfThreads;
   }
 
+  public ActorIdleStrategy getIdleStrategy() {
+    return idleStrategy;
+  }
+
   public void start() {
     for (ActorThread actorThread : threads) {
       actorThread.start();
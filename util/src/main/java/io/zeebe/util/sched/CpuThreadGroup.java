@@ -25,6 +25,7 @@ public class CpuThreadGroup extends ActorThreadGroup {
         String.format("%s-%s", builder.getSchedulerName(), "zb-actors"),
         builder.getCpuBoundActorThreadCount(),
         builder.getPriorityQuotas().length,
+        builder.getCpuBoundIdleStrategy(),
         builder);
   }
 
@@ -17,15 +17,24 @@ package io.zeebe.util.sched.metrics;
 
 import io.zeebe.util.metrics.Metric;
 import io.zeebe.util.metrics.MetricsManager;
+import java.util.concurrent.TimeUnit;
 
 /** Actor runner metrics */
 public class ActorThreadMetrics implements AutoCloseable {
+  /** the runtime after which the busy ratio is updated */
+  private static final long BUSY_RATIO_WINDOW_NS = TimeUnit.SECONDS.toNanos(1);
+
   private final Metric threadIdleTime;
   private final Metric threadBusyTime;
+  private final Metric threadBusyRatio;
   private final Metric jobExecutionCount;
   private final Metric taskStealCount;
   private final Metric taskExecutionCount;
 
+  // busy and idle time since the busy ratio was updated, only accessed by the actor thread
+  private long windowIdleTime;
+  private long windowBusyTime;
+
   public ActorThreadMetrics(String threadName, MetricsManager metricsManager) {
     threadIdleTime =
         metricsManager
@@ -43,6 +52,13 @@ public class ActorThreadMetrics implements AutoCloseable {
             .label("mode", "busy")
             .create();
 
+    threadBusyRatio =
+        metricsManager
+            .newMetric("scheduler_thread_busy_ratio_percent")
+            .type("gauge")
+            .label("thread", threadName)
+            .create();
+
     jobExecutionCount =
         metricsManager
             .newMetric("scheduler_thread_job_count")
@@ -81,10 +97,25 @@ public class ActorThreadMetrics implements AutoCloseable {
 
   public void recordRunnerIdleTime(long time) {
     threadIdleTime.getAndAddOrdered(time);
+    windowIdleTime += time;
+    updateBusyRatio();
   }
 
   public void recordRunnerBusyTime(long time) {
     threadBusyTime.getAndAddOrdered(time);
+    windowBusyTime += time;
+    updateBusyRatio();
+  }
+
+  private void updateBusyRatio() {
+    final long windowTime = windowIdleTime + windowBusyTime;
+
+    if (windowTime >= BUSY_RATIO_WINDOW_NS) {
+      threadBusyRatio.setOrdered(windowBusyTime * 100 / windowTime);
+
+      windowIdleTime = 0;
+      windowBusyTime = 0;
+    }
   }
 
   @Override
@@ -93,6 +124,7 @@ public class ActorThreadMetrics implements AutoCloseable {
     taskStealCount.close();
     threadIdleTime.close();
     threadBusyTime.close();
+    threadBusyRatio.close();
     taskExecutionCount.close();
   }
 }
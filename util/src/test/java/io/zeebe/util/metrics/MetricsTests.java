@@ -133,6 +133,49 @@ public class MetricsTests {
     assertThat(dump).isEqualTo("bz_metric1{broker=\"node1\",label1=\"value1\"} 0 100\n");
   }
 
+  @Test
+  public void shouldRecordHistogram() {
+    final MetricsManager metricsManager = new MetricsManager();
+
+    final Histogram histogram =
+        metricsManager.newHistogram("latency").label("label1", "value1").buckets(10, 100).create();
+
+    histogram.record(5);
+    histogram.record(10);
+    histogram.record(50);
+    histogram.record(500);
+
+    assertThat(histogram.getCount()).isEqualTo(4);
+    assertThat(histogram.getSum()).isEqualTo(565);
+    assertThat(histogram.getCumulativeCount(10)).isEqualTo(2);
+    assertThat(histogram.getCumulativeCount(100)).isEqualTo(3);
+
+    final String dump = dumpAsString(metricsManager, 100);
+    assertThat(dump)
+        .isEqualTo(
+            "zb_latency_bucket{label1=\"value1\",le=\"10\"} 2 100\n"
+                + "zb_latency_bucket{label1=\"value1\",le=\"100\"} 3 100\n"
+                + "zb_latency_bucket{label1=\"value1\",le=\"+Inf\"} 4 100\n"
+                + "zb_latency_sum{label1=\"value1\"} 565 100\n"
+                + "zb_latency_count{label1=\"value1\"} 4 100\n");
+  }
+
+  @Test
+  public void shouldCloseHistogram() {
+    final MetricsManager metricsManager = new MetricsManager();
+
+    final Histogram histogram = metricsManager.newHistogram("latency").buckets(10).create();
+    histogram.close();
+
+    final String dump = dumpAsString(metricsManager, 100);
+    assertThat(dump).isEqualTo("");
+  }
+
+  @Test
+  public void shouldCreateExponentialBuckets() {
+    assertThat(Histogram.exponentialBuckets(1, 2, 4)).containsExactly(1, 2, 4, 8);
+  }
+
   private static String dumpAsString(MetricsManager metricsManager, long now) {
     final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
     final int length = metricsManager.dump(buffer, 0, now);
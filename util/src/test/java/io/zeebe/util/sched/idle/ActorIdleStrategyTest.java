@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.util.sched.idle;
+
+import static io.zeebe.util.sched.SchedulingHints.ioBound;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorIdleStrategy;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.ActorThread;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ActorIdleStrategyTest {
+
+  @Parameters(name = "{0}")
+  public static Object[] idleStrategies() {
+    return ActorIdleStrategy.values();
+  }
+
+  @Parameter public ActorIdleStrategy idleStrategy;
+
+  private ActorScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setCpuBoundIdleStrategy(idleStrategy)
+            .setIoBoundActorThreadCount(1)
+            .setIoBoundIdleStrategy(idleStrategy)
+            .build();
+
+    scheduler.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    scheduler.stop().get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldRunCpuBoundActorAfterIdle() throws Exception {
+    // given
+    final CallableActor actor = new CallableActor();
+    scheduler.submitActor(actor).join();
+
+    // when
+    Thread.sleep(10);
+    final ActorFuture<ActorIdleStrategy> future = actor.getIdleStrategy();
+
+    // then
+    assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(idleStrategy);
+  }
+
+  @Test
+  public void shouldRunIoBoundActorAfterIdle() throws Exception {
+    // given
+    final CallableActor actor = new CallableActor();
+    scheduler.submitActor(actor, false, ioBound()).join();
+
+    // when
+    Thread.sleep(10);
+    final ActorFuture<ActorIdleStrategy> future = actor.getIdleStrategy();
+
+    // then
+    assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(idleStrategy);
+  }
+
+  class CallableActor extends Actor {
+    ActorFuture<ActorIdleStrategy> getIdleStrategy() {
+      return actor.call(() -> ActorThread.current().getActorThreadGroup().getIdleStrategy());
+    }
+  }
+}